@@ -0,0 +1,4 @@
+-- Replicates the database of the mysql service of mysql.yml, from the start of its binary log
+CREATE DATABASE IF NOT EXISTS majprof;
+CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'mysql', SOURCE_PORT = 3306, SOURCE_USER = 'root', SOURCE_PASSWORD = '', SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
@@ -1,13 +1,20 @@
 package net.jakebrennan;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import net.jakebrennan.config.ApplicationProperties;
 import net.jakebrennan.config.CRLFLogConverter;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.service.DatasetSeedService;
+import net.jakebrennan.service.DatasetSnapshotService;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,6 +22,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.Environment;
 import tech.jhipster.config.DefaultProfileUtil;
 import tech.jhipster.config.JHipsterConstants;
@@ -25,6 +33,13 @@ public class MajProfApp {
 
     private static final Logger log = LoggerFactory.getLogger(MajProfApp.class);
 
+    private static final String EXPORT_PARQUET_ARG = "--export-parquet=";
+
+    private static final String SEED_CSV_ARG = "--seed-csv=";
+
+    // the security configuration needs a web application context, so a command keeps one without opening its port
+    private static final Map<String, String> COMMAND_PROPERTIES = Map.of("server.port", "-1", "application.journal.enabled", "false");
+
     private final Environment env;
 
     public MajProfApp(Environment env) {
@@ -61,16 +76,64 @@ public class MajProfApp {
 
     /**
      * Main method, used to run the application.
+     * <p>
+     * Two commands start the application without opening its HTTP port, run, and exit:
+     * {@code --export-parquet=<directory>} writes the players, games, scores and profiles as Parquet files into the
+     * directory, and {@code --seed-csv=<directory>} seeds the empty game tables from the CSV files of the directory. A
+     * command runs with the {@code command} profile, which leaves out the in-memory indexes loaded on startup, and with
+     * the journal off, so it leaves the journal of the running application alone.
      *
      * @param args the command line arguments.
      */
     public static void main(String[] args) {
+        Optional<String> parquetDirectory = argument(args, EXPORT_PARQUET_ARG);
+        Optional<String> seedDirectory = argument(args, SEED_CSV_ARG);
         SpringApplication app = new SpringApplication(MajProfApp.class);
         DefaultProfileUtil.addDefaultProfile(app);
+        if (parquetDirectory.isPresent()) {
+            Path directory = Path.of(parquetDirectory.orElseThrow());
+            runCommand(app, args, "Parquet export to " + directory, context ->
+                context.getBean(DatasetSnapshotService.class).exportParquet(directory)
+            );
+            return;
+        }
+        if (seedDirectory.isPresent()) {
+            Path directory = Path.of(seedDirectory.orElseThrow());
+            runCommand(app, args, "Seed from " + directory, context -> context.getBean(DatasetSeedService.class).seed(directory));
+            return;
+        }
         Environment env = app.run(args).getEnvironment();
         logApplicationStartup(env);
     }
 
+    @FunctionalInterface
+    private interface Command {
+        void run(ConfigurableApplicationContext context) throws IOException;
+    }
+
+    private static Optional<String> argument(String[] args, String prefix) {
+        return Arrays.stream(args).filter(arg -> arg.startsWith(prefix)).map(arg -> arg.substring(prefix.length())).findFirst();
+    }
+
+    private static void runCommand(SpringApplication app, String[] args, String description, Command command) {
+        app.setAdditionalProfiles(Constants.SPRING_PROFILE_COMMAND);
+        // a restart by the devtools runs main again with these arguments, so they replace any previous value
+        String[] commandArgs = Stream.concat(
+            Arrays.stream(args).filter(arg -> COMMAND_PROPERTIES.keySet().stream().noneMatch(name -> arg.startsWith("--" + name + "="))),
+            COMMAND_PROPERTIES.entrySet().stream().map(property -> "--" + property.getKey() + "=" + property.getValue())
+        ).toArray(String[]::new);
+        ConfigurableApplicationContext context = app.run(commandArgs);
+        int exitCode = 0;
+        try {
+            command.run(context);
+        } catch (IOException | RuntimeException e) {
+            log.error("{} failed", description, e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
     private static void logApplicationStartup(Environment env) {
         String protocol = Optional.ofNullable(env.getProperty("server.ssl.key-store")).map(key -> "https").orElse("http");
         String applicationName = env.getProperty("spring.application.name");
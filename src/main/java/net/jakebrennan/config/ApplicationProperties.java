@@ -1,6 +1,12 @@
 package net.jakebrennan.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Maj Prof.
@@ -13,12 +19,60 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Bulk bulk = new Bulk();
+
+    private final Rating rating = new Rating();
+
+    private final Projection projection = new Projection();
+
+    private final Rollup rollup = new Rollup();
+
+    private final Journal journal = new Journal();
+
+    private final Seed seed = new Seed();
+
+    private final Replica replica = new Replica();
+
+    private final Cache cache = new Cache();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public Rating getRating() {
+        return rating;
+    }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public Rollup getRollup() {
+        return rollup;
+    }
+
+    public Journal getJournal() {
+        return journal;
+    }
+
+    public Seed getSeed() {
+        return seed;
+    }
+
+    public Replica getReplica() {
+        return replica;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +87,413 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Bulk {
+
+        /**
+         * Number of NDJSON lines committed per transaction by the bulk endpoints.
+         */
+        private int chunkSize = 1000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class Rating {
+
+        /**
+         * Rating of a player before its first game.
+         */
+        private double initialRating = 1500;
+
+        /**
+         * Largest change of a rating in a single game.
+         */
+        private double k = 32;
+
+        public double getInitialRating() {
+            return initialRating;
+        }
+
+        public void setInitialRating(double initialRating) {
+            this.initialRating = initialRating;
+        }
+
+        public double getK() {
+            return k;
+        }
+
+        public void setK(double k) {
+            this.k = k;
+        }
+    }
+
+    public static class Projection {
+
+        /**
+         * Number of seasons simulated per projection.
+         */
+        private int simulations = 20_000;
+
+        /**
+         * Number of games each player plays in a season.
+         */
+        private int seasonGames = 40;
+
+        /**
+         * Number of players promoted from each league but the highest at the end of a season.
+         */
+        private int promotionPlaces = 2;
+
+        /**
+         * Number of players relegated from each league but the lowest at the end of a season.
+         */
+        private int relegationPlaces = 2;
+
+        /**
+         * Number of threads running the simulations; 0 uses every available processor.
+         */
+        private int parallelism = 0;
+
+        public int getSimulations() {
+            return simulations;
+        }
+
+        public void setSimulations(int simulations) {
+            this.simulations = simulations;
+        }
+
+        public int getSeasonGames() {
+            return seasonGames;
+        }
+
+        public void setSeasonGames(int seasonGames) {
+            this.seasonGames = seasonGames;
+        }
+
+        public int getPromotionPlaces() {
+            return promotionPlaces;
+        }
+
+        public void setPromotionPlaces(int promotionPlaces) {
+            this.promotionPlaces = promotionPlaces;
+        }
+
+        public int getRelegationPlaces() {
+            return relegationPlaces;
+        }
+
+        public void setRelegationPlaces(int relegationPlaces) {
+            this.relegationPlaces = relegationPlaces;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    public static class Rollup {
+
+        /**
+         * Cron expression of the job rebuilding every score rollup from the raw scores.
+         */
+        private String repairCron = "0 30 3 * * ?";
+
+        public String getRepairCron() {
+            return repairCron;
+        }
+
+        public void setRepairCron(String repairCron) {
+            this.repairCron = repairCron;
+        }
+    }
+
+    public static class Journal {
+
+        /**
+         * Whether committed game results are appended to the game journal.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory of the segment files of the game journal.
+         */
+        private String directory = "journal";
+
+        /**
+         * Size of each segment file of the game journal, in bytes.
+         */
+        private int segmentSize = 64 * 1024 * 1024;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+    }
+
+    public static class Seed {
+
+        /**
+         * Directory of CSV files to seed the empty game tables from once the application is ready, or none.
+         */
+        private String directory;
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+
+    public static class Replica {
+
+        /**
+         * Whether read-only transactions are sent to the read replicas.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The read replicas, whose pools share the settings of the primary pool.
+         */
+        private List<Node> nodes = new ArrayList<>();
+
+        /**
+         * Replication lag beyond which a replica is not read from.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        /**
+         * How long the reads of a user, or of a thread, stay on the primary after a write of theirs.
+         */
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+        /**
+         * Interval between two checks of the replication lag of the replicas.
+         */
+        private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Node> getNodes() {
+            return nodes;
+        }
+
+        public void setNodes(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getReadYourWritesWindow() {
+            return readYourWritesWindow;
+        }
+
+        public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+            this.readYourWritesWindow = readYourWritesWindow;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public static class Node {
+
+            /**
+             * JDBC URL of the replica.
+             */
+            private String url;
+
+            /**
+             * Login of the replica, the one of the primary if not set.
+             */
+            private String username;
+
+            /**
+             * Password of the replica, the one of the primary if not set.
+             */
+            private String password;
+
+            public String getUrl() {
+                return url;
+            }
+
+            public void setUrl(String url) {
+                this.url = url;
+            }
+
+            public String getUsername() {
+                return username;
+            }
+
+            public void setUsername(String username) {
+                this.username = username;
+            }
+
+            public String getPassword() {
+                return password;
+            }
+
+            public void setPassword(String password) {
+                this.password = password;
+            }
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Directory of the disk tiers of the caches, whose entries do not outlive the application.
+         */
+        private String storageDirectory = "cache";
+
+        /**
+         * Settings of the caches by name, as {@code '[<name>]'}; the settings left out are those of
+         * {@code jhipster.cache.ehcache}.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+
+        public String getStorageDirectory() {
+            return storageDirectory;
+        }
+
+        public void setStorageDirectory(String storageDirectory) {
+            this.storageDirectory = storageDirectory;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+
+        public static class Region {
+
+            /**
+             * Number of entries kept on the heap.
+             */
+            private Long heapEntries;
+
+            /**
+             * Size of the entries kept on the heap, measured by walking their object graphs, instead of their number.
+             */
+            private DataSize heapSize;
+
+            /**
+             * Size of the serialized entries kept off the heap, in direct memory, or none for no off-heap tier.
+             */
+            private DataSize offHeap;
+
+            /**
+             * Size of the serialized entries kept on disk, under the storage directory, or none for no disk tier.
+             */
+            private DataSize disk;
+
+            /**
+             * How long an entry stays in the cache after it is written.
+             */
+            private Duration timeToLive;
+
+            /**
+             * How long an entry stays in the cache after it is last read or written, instead of the time to live.
+             */
+            private Duration timeToIdle;
+
+            public Long getHeapEntries() {
+                return heapEntries;
+            }
+
+            public void setHeapEntries(Long heapEntries) {
+                this.heapEntries = heapEntries;
+            }
+
+            public DataSize getHeapSize() {
+                return heapSize;
+            }
+
+            public void setHeapSize(DataSize heapSize) {
+                this.heapSize = heapSize;
+            }
+
+            public DataSize getOffHeap() {
+                return offHeap;
+            }
+
+            public void setOffHeap(DataSize offHeap) {
+                this.offHeap = offHeap;
+            }
+
+            public DataSize getDisk() {
+                return disk;
+            }
+
+            public void setDisk(DataSize disk) {
+                this.disk = disk;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+
+            public Duration getTimeToIdle() {
+                return timeToIdle;
+            }
+
+            public void setTimeToIdle(Duration timeToIdle) {
+                this.timeToIdle = timeToIdle;
+            }
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -1,9 +1,21 @@
 package net.jakebrennan.config;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import javax.cache.Caching;
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.config.persistence.DefaultPersistenceConfiguration;
 import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
 import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -15,26 +27,59 @@ import org.springframework.context.annotation.*;
 import tech.jhipster.config.JHipsterProperties;
 import tech.jhipster.config.cache.PrefixedKeyGenerator;
 
+/**
+ * Ehcache configuration of the second-level cache regions and of the Spring caches.
+ * <p>
+ * Every cache keeps {@code jhipster.cache.ehcache.max-entries} entries on the heap for
+ * {@code jhipster.cache.ehcache.time-to-live-seconds}, unless {@code application.cache.regions} sets other limits or
+ * expiry for it. A region can also get an off-heap tier, in direct memory that the garbage collector does not scan,
+ * and a disk tier under {@code application.cache.storage-directory}; the entries of these tiers are serialized.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
 
+    /**
+     * Suffix of the region Hibernate caches the ids of an entity by natural id in, after the region of the entity.
+     */
+    private static final String NATURAL_ID_REGION_SUFFIX = "##NaturalId";
+
+    private static final ApplicationProperties.Cache.Region DEFAULT_REGION = new ApplicationProperties.Cache.Region();
+
+    private final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+    private final ApplicationProperties.Cache cacheProperties;
+    private final Set<String> createdCaches = new HashSet<>();
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        JHipsterProperties.Cache.Ehcache ehcache = jHipsterProperties.getCache().getEhcache();
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.cacheProperties = applicationProperties.getCache();
+    }
 
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(
-                Object.class,
-                Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries())
+    /**
+     * The JCache manager, created here rather than by Spring Boot so that it can store the disk tiers.
+     */
+    @Bean
+    public javax.cache.CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> cacheManagerCustomizers) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        boolean disk = cacheProperties.getRegions().values().stream().anyMatch(region -> region.getDisk() != null);
+        DefaultConfiguration configuration = disk
+            ? new DefaultConfiguration(
+                provider.getDefaultClassLoader(),
+                new DefaultPersistenceConfiguration(new File(cacheProperties.getStorageDirectory()))
             )
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build()
-        );
+            : new DefaultConfiguration(provider.getDefaultClassLoader());
+        javax.cache.CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), configuration);
+        cacheManagerCustomizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+        for (String name : cacheProperties.getRegions().keySet()) {
+            if (!createdCaches.contains(name)) {
+                log.warn("No cache is named {}, the settings of application.cache.regions for it are ignored", name);
+            }
+        }
+        return cacheManager;
     }
 
     @Bean
@@ -51,9 +96,12 @@ public class CacheConfiguration {
             createCache(cm, net.jakebrennan.domain.Authority.class.getName());
             createCache(cm, net.jakebrennan.domain.User.class.getName() + ".authorities");
             createCache(cm, net.jakebrennan.domain.ArmlPlayer.class.getName());
+            createCache(cm, net.jakebrennan.domain.ArmlPlayer.class.getName() + NATURAL_ID_REGION_SUFFIX);
+            createCache(cm, net.jakebrennan.repository.ArmlPlayerRepository.PLAYER_IDS_BY_TENHOU_NAME_CACHE);
             createCache(cm, net.jakebrennan.domain.ArmlPlayer.class.getName() + ".armlGameScores");
             createCache(cm, net.jakebrennan.domain.ArmlPlayer.class.getName() + ".games");
             createCache(cm, net.jakebrennan.domain.ArmlGame.class.getName());
+            createCache(cm, net.jakebrennan.domain.ArmlGame.class.getName() + NATURAL_ID_REGION_SUFFIX);
             createCache(cm, net.jakebrennan.domain.ArmlGame.class.getName() + ".armlGameScores");
             createCache(cm, net.jakebrennan.domain.ArmlGame.class.getName() + ".players");
             createCache(cm, net.jakebrennan.domain.ArmlProfile.class.getName());
@@ -63,12 +111,34 @@ public class CacheConfiguration {
     }
 
     private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        createdCaches.add(cacheName);
         javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
         if (cache != null) {
             cache.clear();
         } else {
-            cm.createCache(cacheName, jcacheConfiguration);
+            cm.createCache(cacheName, regionConfiguration(cacheName));
+        }
+    }
+
+    private javax.cache.configuration.Configuration<Object, Object> regionConfiguration(String cacheName) {
+        ApplicationProperties.Cache.Region region = cacheProperties.getRegions().getOrDefault(cacheName, DEFAULT_REGION);
+        ResourcePoolsBuilder resourcePools = region.getHeapSize() != null
+            ? ResourcePoolsBuilder.newResourcePoolsBuilder().heap(region.getHeapSize().toBytes(), MemoryUnit.B)
+            : ResourcePoolsBuilder.heap(region.getHeapEntries() != null ? region.getHeapEntries() : ehcache.getMaxEntries());
+        if (region.getOffHeap() != null) {
+            resourcePools = resourcePools.offheap(region.getOffHeap().toBytes(), MemoryUnit.B);
+        }
+        if (region.getDisk() != null) {
+            resourcePools = resourcePools.disk(region.getDisk().toBytes(), MemoryUnit.B, false);
         }
+        ExpiryPolicy<Object, Object> expiry = region.getTimeToIdle() != null
+            ? ExpiryPolicyBuilder.timeToIdleExpiration(region.getTimeToIdle())
+            : ExpiryPolicyBuilder.timeToLiveExpiration(
+                region.getTimeToLive() != null ? region.getTimeToLive() : Duration.ofSeconds(ehcache.getTimeToLiveSeconds())
+            );
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools).withExpiry(expiry).build()
+        );
     }
 
     @Autowired(required = false)
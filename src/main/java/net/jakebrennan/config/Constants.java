@@ -11,5 +11,11 @@ public final class Constants {
     public static final String SYSTEM = "system";
     public static final String DEFAULT_LANGUAGE = "en";
 
+    // Profile of the command line modes of MajProfApp, which run a single command and exit
+    public static final String SPRING_PROFILE_COMMAND = "command";
+
+    // Condition of the listeners loading the in-memory state on startup and after a restore, which a command does not use
+    public static final String NOT_IN_COMMAND = "!@environment.matchesProfiles('" + SPRING_PROFILE_COMMAND + "')";
+
     private Constants() {}
 }
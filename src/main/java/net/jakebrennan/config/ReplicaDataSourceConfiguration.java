@@ -0,0 +1,78 @@
+package net.jakebrennan.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends the read-only transactions to the read replicas of {@code application.replica}, and everything else to the
+ * primary of {@code spring.datasource}.
+ * <p>
+ * The connections of a transaction are only fetched once it runs its first statement, by which time the transaction
+ * manager has marked the connection as read-only or not: read-only ones come from the {@link ReplicaRoutingDataSource},
+ * the others from the primary pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        ApplicationProperties applicationProperties
+    ) {
+        ApplicationProperties.Replica properties = applicationProperties.getReplica();
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (ApplicationProperties.Replica.Node node : properties.getNodes()) {
+            replicas.add(new HikariDataSource(replicaConfig(primaryDataSource, node, replicas.size())));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.getMaxLag(), properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource.recordingWrites());
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * @return the settings of the pool of a replica: those of the primary pool, with the URL and credentials of the
+     * replica.
+     */
+    private static HikariConfig replicaConfig(HikariDataSource primary, ApplicationProperties.Replica.Node node, int index) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(primary.getPoolName() + "-replica-" + index);
+        config.setDriverClassName(primary.getDriverClassName());
+        config.setJdbcUrl(node.getUrl());
+        config.setUsername(node.getUsername() != null ? node.getUsername() : primary.getUsername());
+        config.setPassword(node.getPassword() != null ? node.getPassword() : primary.getPassword());
+        config.setAutoCommit(primary.isAutoCommit());
+        config.setMaximumPoolSize(primary.getMaximumPoolSize());
+        config.setMinimumIdle(primary.getMinimumIdle());
+        config.setConnectionTimeout(primary.getConnectionTimeout());
+        config.setIdleTimeout(primary.getIdleTimeout());
+        config.setMaxLifetime(primary.getMaxLifetime());
+        config.setDataSourceProperties(primary.getDataSourceProperties());
+        config.setReadOnly(true);
+        // a replica that is down must not keep the application from starting: reads go to the primary until it is back
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+}
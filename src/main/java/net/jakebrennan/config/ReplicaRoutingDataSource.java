@@ -0,0 +1,210 @@
+package net.jakebrennan.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.sql.DataSource;
+import net.jakebrennan.security.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out the connections of read-only transactions, from the read replica with the least replication lag within
+ * the allowed lag, or from the primary when none is within it.
+ * <p>
+ * The lag of each replica is read from {@code SHOW REPLICA STATUS} at a fixed interval; a replica whose replication is
+ * stopped, that is not replicating from any source (e.g. a misconfigured URL pointing at the primary or at a promoted
+ * replica), or that cannot be reached is not read from until its next check. Replicas with the same lag take turns.
+ * <p>
+ * Reads stay on the primary for a while after a write, so that a user reads what they just wrote: the transactions
+ * that write through {@link #recordingWrites()} mark their user, and their thread for the listeners running
+ * after the commit, as having written.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final long UNAVAILABLE = Long.MAX_VALUE;
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+
+    private final List<? extends DataSource> replicas;
+
+    private final AtomicLongArray lagSeconds;
+
+    private final long maxLagSeconds;
+
+    private final long readYourWritesWindowNanos;
+
+    private final Set<Integer> notReplicating = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Long> lastWriteByLogin = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Long> lastWriteOfThread = new ThreadLocal<>();
+
+    private final AtomicInteger turn = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        List<? extends DataSource> replicas,
+        Duration maxLag,
+        Duration readYourWritesWindow
+    ) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.lagSeconds = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            lagSeconds.set(i, UNAVAILABLE);
+        }
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int replica = chooseReplica();
+        if (replica >= 0) {
+            try {
+                return replicas.get(replica).getConnection();
+            } catch (SQLException e) {
+                log.warn("Read replica {} is unavailable, reading from the primary: {}", replica, e.getMessage());
+                lagSeconds.set(replica, UNAVAILABLE);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the credentials of their pool");
+    }
+
+    /**
+     * @return the index of the replica to read from, or -1 to read from the primary.
+     */
+    int chooseReplica() {
+        if (hasRecentWrite()) {
+            return -1;
+        }
+        int chosen = -1;
+        long chosenLag = UNAVAILABLE;
+        int start = Math.floorMod(turn.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            int replica = (start + offset) % replicas.size();
+            long lag = lagSeconds.get(replica);
+            if (lag <= maxLagSeconds && lag < chosenLag) {
+                chosen = replica;
+                chosenLag = lag;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Reads the replication lag of every replica, and forgets the writes older than the read-your-writes window.
+     */
+    @Scheduled(fixedDelayString = "${application.replica.lag-check-interval:PT2S}")
+    public void checkLag() {
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            long lag = readLag(replica);
+            long previous = lagSeconds.getAndSet(replica, lag);
+            if (lag <= maxLagSeconds && previous > maxLagSeconds) {
+                log.info("Read replica {} is in use, with a lag of {} s", replica, lag);
+            } else if (lag > maxLagSeconds && previous <= maxLagSeconds) {
+                String reason = lag == UNAVAILABLE ? "as it is unavailable" : "with a lag of " + lag + " s";
+                log.warn("Read replica {} is out of use, {}", replica, reason);
+            }
+        }
+        long now = System.nanoTime();
+        lastWriteByLogin.values().removeIf(time -> now - time > readYourWritesWindowNanos);
+    }
+
+    /**
+     * @return a data source handing out the connections of the primary, and marking the transactions that write with
+     * them as having written once they commit.
+     */
+    public DataSource recordingWrites() {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (
+                    TransactionSynchronizationManager.isSynchronizationActive() &&
+                    !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ) {
+                    TransactionSynchronizationManager.registerSynchronization(
+                        new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                recordWrite();
+                            }
+                        }
+                    );
+                }
+                return super.getConnection();
+            }
+        };
+    }
+
+    void recordWrite() {
+        long now = System.nanoTime();
+        lastWriteOfThread.set(now);
+        SecurityUtils.getCurrentUserLogin().ifPresent(login -> lastWriteByLogin.put(login, now));
+    }
+
+    private boolean hasRecentWrite() {
+        long now = System.nanoTime();
+        Long threadWrite = lastWriteOfThread.get();
+        if (threadWrite != null && now - threadWrite <= readYourWritesWindowNanos) {
+            return true;
+        }
+        Long userWrite = SecurityUtils.getCurrentUserLogin().map(lastWriteByLogin::get).orElse(null);
+        return userWrite != null && now - userWrite <= readYourWritesWindowNanos;
+    }
+
+    private long readLag(int replica) {
+        try (
+            Connection connection = replicas.get(replica).getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery("show replica status")
+        ) {
+            if (!rs.next()) {
+                if (notReplicating.add(replica)) {
+                    log.warn("Read replica {} is not replicating from any source, it will not be read from", replica);
+                }
+                return UNAVAILABLE;
+            }
+            if (notReplicating.remove(replica)) {
+                log.info("Read replica {} is replicating again", replica);
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? UNAVAILABLE : lag;
+        } catch (SQLException e) {
+            log.debug("Cannot read the replication lag of read replica {}: {}", replica, e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -4,10 +4,13 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * A ArmlGame.
@@ -15,20 +18,33 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Entity
 @Table(name = "games")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class ArmlGame implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The number of players, and so of scores, of a complete game.
+     */
+    public static final int PLAYERS_PER_GAME = 4;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long id;
 
     @NotNull
+    @NaturalId(mutable = true)
     @Column(name = "game_id", nullable = false, unique = true)
     private Long gameID;
 
+    /**
+     * When the game was played; defaults to when it was recorded. Unknown for the games recorded before it was.
+     */
+    @Column(name = "played_at")
+    private Instant playedAt;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "armlGame")
     @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JsonIgnoreProperties(value = { "armlGame", "armlPlayer" }, allowSetters = true)
@@ -67,6 +83,26 @@ public class ArmlGame implements Serializable {
         this.gameID = gameID;
     }
 
+    public Instant getPlayedAt() {
+        return this.playedAt;
+    }
+
+    public ArmlGame playedAt(Instant playedAt) {
+        this.setPlayedAt(playedAt);
+        return this;
+    }
+
+    public void setPlayedAt(Instant playedAt) {
+        this.playedAt = playedAt;
+    }
+
+    @PrePersist
+    public void prePersist() {
+        if (playedAt == null) {
+            playedAt = Instant.now();
+        }
+    }
+
     public Set<ArmlGameScore> getArmlGameScores() {
         return this.armlGameScores;
     }
@@ -154,6 +190,7 @@ public class ArmlGame implements Serializable {
         return "ArmlGame{" +
             "id=" + getId() +
             ", gameID=" + getGameID() +
+            ", playedAt='" + getPlayedAt() + "'" +
             "}";
     }
 }
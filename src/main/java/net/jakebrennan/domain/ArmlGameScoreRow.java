@@ -0,0 +1,20 @@
+package net.jakebrennan.domain;
+
+import java.io.Serializable;
+
+/**
+ * A flat, read-only view of a single row of the {@code scores} table.
+ * <p>
+ * Used wherever only the ids and the score are needed, so that the lazy {@link ArmlGame} and
+ * {@link ArmlPlayer} associations of {@link ArmlGameScore} never have to be hydrated.
+ */
+public record ArmlGameScoreRow(Long id, Long gameId, Long playerId, Long score) implements Serializable {
+    public static ArmlGameScoreRow of(ArmlGameScore armlGameScore) {
+        return new ArmlGameScoreRow(
+            armlGameScore.getId(),
+            armlGameScore.getArmlGame() != null ? armlGameScore.getArmlGame().getId() : null,
+            armlGameScore.getArmlPlayer() != null ? armlGameScore.getArmlPlayer().getId() : null,
+            armlGameScore.getScore()
+        );
+    }
+}
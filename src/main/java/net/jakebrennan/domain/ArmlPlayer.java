@@ -9,6 +9,8 @@ import java.util.Set;
 import net.jakebrennan.domain.enumeration.ArmlLeague;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * A ArmlPlayer.
@@ -16,6 +18,7 @@ import org.hibernate.annotations.CacheConcurrencyStrategy;
 @Entity
 @Table(name = "players")
 @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class ArmlPlayer implements Serializable {
 
@@ -27,6 +30,7 @@ public class ArmlPlayer implements Serializable {
     private Long id;
 
     @NotNull
+    @NaturalId(mutable = true)
     @Column(name = "player_id", nullable = false, unique = true)
     private Long playerID;
 
@@ -46,6 +46,14 @@ public class ArmlProfile implements Serializable {
     @Column(name = "feed_ev")
     private Long feedEV;
 
+    @Min(value = 0)
+    @Column(name = "games_played")
+    private Integer gamesPlayed;
+
+    @Min(value = 0)
+    @Column(name = "first_places")
+    private Integer firstPlaces;
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(unique = true)
     private User user;
@@ -135,6 +143,32 @@ public class ArmlProfile implements Serializable {
         this.feedEV = feedEV;
     }
 
+    public Integer getGamesPlayed() {
+        return this.gamesPlayed;
+    }
+
+    public ArmlProfile gamesPlayed(Integer gamesPlayed) {
+        this.setGamesPlayed(gamesPlayed);
+        return this;
+    }
+
+    public void setGamesPlayed(Integer gamesPlayed) {
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    public Integer getFirstPlaces() {
+        return this.firstPlaces;
+    }
+
+    public ArmlProfile firstPlaces(Integer firstPlaces) {
+        this.setFirstPlaces(firstPlaces);
+        return this;
+    }
+
+    public void setFirstPlaces(Integer firstPlaces) {
+        this.firstPlaces = firstPlaces;
+    }
+
     public User getUser() {
         return this.user;
     }
@@ -190,6 +224,8 @@ public class ArmlProfile implements Serializable {
             ", callRate=" + getCallRate() +
             ", riiRate=" + getRiiRate() +
             ", feedEV=" + getFeedEV() +
+            ", gamesPlayed=" + getGamesPlayed() +
+            ", firstPlaces=" + getFirstPlaces() +
             "}";
     }
 }
@@ -0,0 +1,134 @@
+package net.jakebrennan.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.io.Serializable;
+
+/**
+ * The skill rating of an {@link ArmlPlayer}, sharing the id of the player.
+ * <p>
+ * Not cached in the second-level cache, as a full replay rewrites the table with plain JDBC.
+ */
+@Entity
+@Table(name = "ratings")
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ArmlRating implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @Column(name = "arml_player_id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "rating", nullable = false)
+    private Double rating;
+
+    @NotNull
+    @Min(value = 0)
+    @Column(name = "games", nullable = false)
+    private Integer games;
+
+    @Column(name = "last_game_id")
+    private Long lastGameId;
+
+    @JsonIgnoreProperties(value = { "armlGameScores", "games", "armlProfile" }, allowSetters = true)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "arml_player_id")
+    private ArmlPlayer armlPlayer;
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public ArmlRating id(Long id) {
+        this.setId(id);
+        return this;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Double getRating() {
+        return this.rating;
+    }
+
+    public ArmlRating rating(Double rating) {
+        this.setRating(rating);
+        return this;
+    }
+
+    public void setRating(Double rating) {
+        this.rating = rating;
+    }
+
+    public Integer getGames() {
+        return this.games;
+    }
+
+    public ArmlRating games(Integer games) {
+        this.setGames(games);
+        return this;
+    }
+
+    public void setGames(Integer games) {
+        this.games = games;
+    }
+
+    public Long getLastGameId() {
+        return this.lastGameId;
+    }
+
+    public ArmlRating lastGameId(Long lastGameId) {
+        this.setLastGameId(lastGameId);
+        return this;
+    }
+
+    public void setLastGameId(Long lastGameId) {
+        this.lastGameId = lastGameId;
+    }
+
+    public ArmlPlayer getArmlPlayer() {
+        return this.armlPlayer;
+    }
+
+    public void setArmlPlayer(ArmlPlayer armlPlayer) {
+        this.armlPlayer = armlPlayer;
+    }
+
+    public ArmlRating armlPlayer(ArmlPlayer armlPlayer) {
+        this.setArmlPlayer(armlPlayer);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ArmlRating)) {
+            return false;
+        }
+        return getId() != null && getId().equals(((ArmlRating) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ArmlRating{" +
+            "id=" + getId() +
+            ", rating=" + getRating() +
+            ", games=" + getGames() +
+            ", lastGameId=" + getLastGameId() +
+            "}";
+    }
+}
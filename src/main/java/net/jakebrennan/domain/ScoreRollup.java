@@ -0,0 +1,28 @@
+package net.jakebrennan.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.RollupMetric;
+
+/**
+ * A single row of the {@code score_rollups} table: the value of one metric over the scores made in one month by
+ * the players of one league, or a change to that value.
+ *
+ * @param period the month of play, in UTC, as {@code yyyyMM}.
+ */
+public record ScoreRollup(ArmlLeague league, int period, RollupMetric metric, long amount) implements Serializable {
+    public static int periodOf(Instant playedAt) {
+        return periodOf(YearMonth.from(playedAt.atOffset(ZoneOffset.UTC)));
+    }
+
+    public static int periodOf(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static YearMonth monthOf(int period) {
+        return YearMonth.of(period / 100, period % 100);
+    }
+}
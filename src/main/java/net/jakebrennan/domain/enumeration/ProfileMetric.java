@@ -0,0 +1,12 @@
+package net.jakebrennan.domain.enumeration;
+
+/**
+ * The metrics of an {@link net.jakebrennan.domain.ArmlProfile} that players are ranked by within their league.
+ */
+public enum ProfileMetric {
+    WIN_RATE,
+    FEED_RATE,
+    CALL_RATE,
+    RII_RATE,
+    FEED_EV,
+}
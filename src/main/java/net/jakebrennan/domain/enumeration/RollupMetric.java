@@ -0,0 +1,11 @@
+package net.jakebrennan.domain.enumeration;
+
+/**
+ * The metrics stored in the {@code score_rollups} table. Every metric is additive, so that rollups can be updated
+ * by deltas.
+ */
+public enum RollupMetric {
+    SCORE_COUNT,
+    SCORE_SUM,
+    SCORE_SUM_OF_SQUARES,
+}
@@ -0,0 +1,135 @@
+package net.jakebrennan.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC writes of games and scores in batches, for imports that must not go through the persistence context.
+ * <p>
+ * These writes bypass the second-level cache: callers are responsible for evicting the affected regions.
+ */
+@Repository
+public class ArmlGameBatchRepository {
+
+    private static final String INSERT_GAME = "insert into games (game_id, played_at) values (?, ?)";
+
+    private static final String INSERT_SCORE = "insert into scores (score, arml_game_id, arml_player_id) values (?, ?, ?)";
+
+    private static final String INSERT_GAME_PLAYER = "insert into rel_players__games (players_id, games_id) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ArmlGameBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return the id of every player with a {@code tenhouName}, by {@code tenhouName}.
+     */
+    public Map<String, Long> findPlayerIdsByTenhouName() {
+        Map<String, Long> playerIds = new HashMap<>();
+        jdbcTemplate.query(
+            "select id, tenhou_name from players where tenhou_name is not null",
+            (RowCallbackHandler) rs -> playerIds.put(rs.getString(2), rs.getLong(1))
+        );
+        return playerIds;
+    }
+
+    /**
+     * @return the player ids among the given ones that are stored.
+     */
+    public Set<Long> findExistingPlayerIds(Collection<Long> playerIds) {
+        Set<Long> existing = new HashSet<>();
+        if (!playerIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(
+                "select id from players where id in (:playerIds)",
+                Map.of("playerIds", playerIds),
+                (RowCallbackHandler) rs -> existing.add(rs.getLong(1))
+            );
+        }
+        return existing;
+    }
+
+    /**
+     * @return the {@code gameID}s among the given ones that are already stored.
+     */
+    public Set<Long> findExistingGameIDs(Collection<Long> gameIDs) {
+        Set<Long> existing = new HashSet<>();
+        if (!gameIDs.isEmpty()) {
+            namedParameterJdbcTemplate.query(
+                "select game_id from games where game_id in (:gameIDs)",
+                Map.of("gameIDs", gameIDs),
+                (RowCallbackHandler) rs -> existing.add(rs.getLong(1))
+            );
+        }
+        return existing;
+    }
+
+    /**
+     * Inserts one game per {@code gameID}.
+     *
+     * @param playedAt when each game was played, by {@code gameID}.
+     * @return the id of each new game, by {@code gameID}.
+     */
+    public Map<Long, Long> insertGames(Map<Long, Instant> playedAt, int batchSize) {
+        Map<Long, Long> ids = new HashMap<>();
+        if (playedAt.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.batchUpdate(INSERT_GAME, playedAt.entrySet(), batchSize, (ps, game) -> {
+            ps.setLong(1, game.getKey());
+            // stored as UTC wall-clock time, as Hibernate stores instants
+            ps.setObject(2, LocalDateTime.ofInstant(game.getValue(), ZoneOffset.UTC));
+        });
+        namedParameterJdbcTemplate.query(
+            "select id, game_id from games where game_id in (:gameIDs)",
+            Map.of("gameIDs", playedAt.keySet()),
+            (RowCallbackHandler) rs -> ids.put(rs.getLong(2), rs.getLong(1))
+        );
+        return ids;
+    }
+
+    /**
+     * Inserts the scores, and links each scoring player to its game. The ids of the rows are ignored.
+     */
+    public void insertScores(Collection<ArmlGameScoreRow> rows, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SCORE, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.score());
+            ps.setLong(2, row.gameId());
+            ps.setLong(3, row.playerId());
+        });
+        jdbcTemplate.batchUpdate(INSERT_GAME_PLAYER, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.playerId());
+            ps.setLong(2, row.gameId());
+        });
+    }
+
+    /**
+     * @return the scores of the given games.
+     */
+    public List<ArmlGameScoreRow> findRowsByGameIds(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(
+            "select id, arml_game_id, arml_player_id, score from scores where arml_game_id in (:gameIds)",
+            Map.of("gameIds", gameIds),
+            (rs, rowNum) -> new ArmlGameScoreRow(rs.getLong(1), rs.getObject(2, Long.class), rs.getObject(3, Long.class), rs.getLong(4))
+        );
+    }
+}
@@ -1,6 +1,9 @@
 package net.jakebrennan.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.stream.Stream;
 import net.jakebrennan.domain.ArmlGame;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +12,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ArmlGameRepository extends JpaRepository<ArmlGame, Long> {}
+public interface ArmlGameRepository
+    extends ArmlGameRepositoryWithNaturalId, JpaRepository<ArmlGame, Long>, JpaSpecificationExecutor<ArmlGame> {
+    /**
+     * Streams all the armlGames in id order, on a forward-only cursor of read-only entities that bypass the
+     * second-level cache. The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select armlGame from ArmlGame armlGame order by armlGame.id")
+    Stream<ArmlGame> streamAll();
+}
@@ -0,0 +1,8 @@
+package net.jakebrennan.repository;
+
+import java.util.Optional;
+import net.jakebrennan.domain.ArmlGame;
+
+public interface ArmlGameRepositoryWithNaturalId {
+    Optional<ArmlGame> findOneByGameID(Long gameID);
+}
@@ -0,0 +1,22 @@
+package net.jakebrennan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import net.jakebrennan.domain.ArmlGame;
+import org.hibernate.Session;
+
+/**
+ * Utility repository to look armlGames up by their {@code gameID}, which Hibernate resolves to the id from the
+ * natural-id cache region before loading the entity from its own region.
+ */
+public class ArmlGameRepositoryWithNaturalIdImpl implements ArmlGameRepositoryWithNaturalId {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ArmlGame> findOneByGameID(Long gameID) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(ArmlGame.class).loadOptional(gameID);
+    }
+}
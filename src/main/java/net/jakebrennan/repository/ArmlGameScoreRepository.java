@@ -1,7 +1,13 @@
 package net.jakebrennan.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
 import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +15,46 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ArmlGameScoreRepository extends JpaRepository<ArmlGameScore, Long> {}
+public interface ArmlGameScoreRepository extends JpaRepository<ArmlGameScore, Long>, JpaSpecificationExecutor<ArmlGameScore> {
+    @Query(
+        "select new net.jakebrennan.domain.ArmlGameScoreRow(armlGameScore.id, armlGameScore.armlGame.id, armlGameScore.armlPlayer.id, armlGameScore.score) " +
+        "from ArmlGameScore armlGameScore where armlGameScore.armlGame.id = :gameId"
+    )
+    List<ArmlGameScoreRow> findRowsByGameId(@Param("gameId") Long gameId);
+
+    /**
+     * Counts the games a player has a score in, as {@code ArmlProfileStatisticsService} counts them: scores with no
+     * game or no value are left out.
+     */
+    @Query(
+        "select count(distinct armlGameScore.armlGame.id) from ArmlGameScore armlGameScore " +
+        "where armlGameScore.armlPlayer.id = :playerId and armlGameScore.armlGame is not null and armlGameScore.score is not null"
+    )
+    long countGamesByPlayerId(@Param("playerId") Long playerId);
+
+    /**
+     * Counts the games where the score of a player is the highest among the scores of the game that have a player and
+     * a value, as {@code ArmlProfileStatisticsService} counts them.
+     */
+    @Query(
+        "select count(distinct armlGameScore.armlGame.id) from ArmlGameScore armlGameScore " +
+        "where armlGameScore.armlPlayer.id = :playerId and armlGameScore.score = " +
+        "(select max(other.score) from ArmlGameScore other " +
+        "where other.armlGame = armlGameScore.armlGame and other.armlPlayer is not null and other.score is not null)"
+    )
+    long countFirstPlacesByPlayerId(@Param("playerId") Long playerId);
+
+    /**
+     * Streams all the armlGameScores in id order, on a forward-only cursor of read-only entities that bypass the
+     * second-level cache. The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select armlGameScore from ArmlGameScore armlGameScore order by armlGameScore.id")
+    Stream<ArmlGameScore> streamAll();
+}
@@ -0,0 +1,95 @@
+package net.jakebrennan.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the {@code scores} table, for bulk reads that must not go through the persistence context.
+ */
+@Repository
+public class ArmlGameScoreRowRepository {
+
+    private static final String SELECT_BATCH =
+        "select id, arml_game_id, arml_player_id, score from scores where id > ? order by id limit ?";
+
+    private static final String SELECT_IN_GAME_ORDER =
+        "select id, arml_game_id, arml_player_id, score from scores where arml_game_id is not null order by arml_game_id, id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArmlGameScoreRowRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads every score in id order, one keyset-paginated batch at a time, so that memory use does not depend on
+     * the size of the table.
+     *
+     * @param batchSize the number of rows read per query.
+     * @param consumer called once per row.
+     * @return the number of rows read.
+     */
+    public long forEachRow(int batchSize, Consumer<ArmlGameScoreRow> consumer) {
+        long lastId = 0;
+        long total = 0;
+        int read;
+        do {
+            long[] batchLastId = { lastId };
+            int[] batchRead = { 0 };
+            jdbcTemplate.query(
+                SELECT_BATCH,
+                (RowCallbackHandler) rs -> {
+                    ArmlGameScoreRow row = toRow(rs);
+                    consumer.accept(row);
+                    batchLastId[0] = row.id();
+                    batchRead[0]++;
+                },
+                lastId,
+                batchSize
+            );
+            read = batchRead[0];
+            lastId = batchLastId[0];
+            total += read;
+        } while (read == batchSize);
+        return total;
+    }
+
+    /**
+     * Reads every score linked to a game, ordered by game and then by id, in a single query read through a
+     * forward-only cursor: the scores of each game arrive together, and memory use does not depend on the size of the
+     * table.
+     *
+     * @param fetchSize the number of rows fetched from the database at a time.
+     * @param consumer called once per row.
+     * @return the number of rows read.
+     */
+    public long forEachRowInGameOrder(int fetchSize, Consumer<ArmlGameScoreRow> consumer) {
+        long[] total = { 0 };
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                    SELECT_IN_GAME_ORDER,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                ps.setFetchSize(fetchSize);
+                return ps;
+            },
+            (RowCallbackHandler) rs -> {
+                consumer.accept(toRow(rs));
+                total[0]++;
+            }
+        );
+        return total[0];
+    }
+
+    private static ArmlGameScoreRow toRow(ResultSet rs) throws SQLException {
+        return new ArmlGameScoreRow(rs.getLong(1), rs.getObject(2, Long.class), rs.getObject(3, Long.class), rs.getObject(4, Long.class));
+    }
+}
@@ -1,11 +1,18 @@
 package net.jakebrennan.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,7 +22,18 @@ import org.springframework.stereotype.Repository;
  * For more information refer to https://github.com/jhipster/generator-jhipster/issues/17990.
  */
 @Repository
-public interface ArmlPlayerRepository extends ArmlPlayerRepositoryWithBagRelationships, JpaRepository<ArmlPlayer, Long> {
+public interface ArmlPlayerRepository
+    extends
+        ArmlPlayerRepositoryWithBagRelationships,
+        ArmlPlayerRepositoryWithNaturalIds,
+        JpaRepository<ArmlPlayer, Long>,
+        JpaSpecificationExecutor<ArmlPlayer> {
+    @Override
+    <S extends ArmlPlayer> S save(S armlPlayer);
+
+    @Override
+    <S extends ArmlPlayer> S saveAndFlush(S armlPlayer);
+
     default Optional<ArmlPlayer> findOneWithEagerRelationships(Long id) {
         return this.fetchBagRelationships(this.findById(id));
     }
@@ -27,4 +45,73 @@ public interface ArmlPlayerRepository extends ArmlPlayerRepositoryWithBagRelatio
     default Page<ArmlPlayer> findAllWithEagerRelationships(Pageable pageable) {
         return this.fetchBagRelationships(this.findAll(pageable));
     }
+
+    /**
+     * Locks the given armlPlayers, in id order, until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select armlPlayer from ArmlPlayer armlPlayer where armlPlayer.id in :ids order by armlPlayer.id")
+    List<ArmlPlayer> findAllByIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("select armlPlayer.id as id, armlPlayer.league as league from ArmlPlayer armlPlayer")
+    List<PlayerLeague> findAllLeagues();
+
+    @Query("select armlPlayer.id from ArmlPlayer armlPlayer where armlPlayer.league = :league")
+    List<Long> findIdsByLeague(@Param("league") ArmlLeague league);
+
+    @Query(
+        "select armlPlayer.id as id, armlPlayer.league as league, coalesce(sum(armlGameScore.score), 0L) as totalScore " +
+        "from ArmlPlayer armlPlayer left join armlPlayer.armlGameScores armlGameScore group by armlPlayer.id, armlPlayer.league"
+    )
+    List<PlayerTotalScore> findAllTotalScores();
+
+    @Query(
+        "select armlPlayer.id as id, armlPlayer.firstName as firstName, armlPlayer.lastName as lastName, " +
+        "armlPlayer.tenhouName as tenhouName from ArmlPlayer armlPlayer"
+    )
+    List<PlayerNames> findAllNames();
+
+    /**
+     * Streams all the armlPlayers in id order, on a forward-only cursor of read-only entities that bypass the
+     * second-level cache. The armlProfile is fetched in the same query, as the inverse side of a one-to-one cannot be
+     * loaded lazily. The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select armlPlayer from ArmlPlayer armlPlayer left join fetch armlPlayer.armlProfile order by armlPlayer.id")
+    Stream<ArmlPlayer> streamAll();
+
+    /**
+     * Projection of a player on its league.
+     */
+    interface PlayerLeague {
+        Long getId();
+
+        ArmlLeague getLeague();
+    }
+
+    /**
+     * Projection of a player on its league and the sum of its scores.
+     */
+    interface PlayerTotalScore extends PlayerLeague {
+        Long getTotalScore();
+    }
+
+    /**
+     * Projection of a player on its names.
+     */
+    interface PlayerNames {
+        Long getId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getTenhouName();
+    }
 }
@@ -0,0 +1,18 @@
+package net.jakebrennan.repository;
+
+import java.util.Optional;
+import net.jakebrennan.domain.ArmlPlayer;
+
+public interface ArmlPlayerRepositoryWithNaturalIds {
+    String PLAYER_IDS_BY_TENHOU_NAME_CACHE = "armlPlayerIdsByTenhouName";
+
+    Optional<ArmlPlayer> findOneWithEagerRelationshipsByPlayerID(Long playerID);
+
+    Optional<ArmlPlayer> findOneWithEagerRelationshipsByTenhouName(String tenhouName);
+
+    <S extends ArmlPlayer> S save(S armlPlayer);
+
+    <S extends ArmlPlayer> S saveAndFlush(S armlPlayer);
+
+    void evictAllTenhouNames();
+}
@@ -0,0 +1,125 @@
+package net.jakebrennan.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Objects;
+import java.util.Optional;
+import net.jakebrennan.domain.ArmlPlayer;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility repository to look armlPlayers up by the keys clients know them by, from the second-level cache when it
+ * holds them.
+ * <p>
+ * The {@code playerID} is the natural id of the entity: Hibernate resolves it to the id from the natural-id cache
+ * region, then loads the entity from its own region. The {@code tenhouName} is neither unique nor immutable, so it is
+ * resolved to the id from the {@link #PLAYER_IDS_BY_TENHOU_NAME_CACHE} cache, and a cached id is only used while its
+ * player still has that name. Saving a player evicts the name it is saved with, as the player may now be the one with
+ * the lowest id, both at once and once its transaction commits, so a lookup running in between cannot cache the former
+ * one. The games are loaded from their collection region. The armlProfile, being the inverse side of a one-to-one, is
+ * still loaded by a query.
+ */
+public class ArmlPlayerRepositoryWithNaturalIdsImpl implements ArmlPlayerRepositoryWithNaturalIds {
+
+    private static final String TENHOU_NAME_PARAMETER = "tenhouName";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CacheManager cacheManager;
+
+    public ArmlPlayerRepositoryWithNaturalIdsImpl(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Optional<ArmlPlayer> findOneWithEagerRelationshipsByPlayerID(Long playerID) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(ArmlPlayer.class).loadOptional(playerID).map(this::fetchGames);
+    }
+
+    /**
+     * Of the armlPlayers with the same {@code tenhouName}, returns the one with the lowest id.
+     */
+    @Override
+    public Optional<ArmlPlayer> findOneWithEagerRelationshipsByTenhouName(String tenhouName) {
+        Cache cache = tenhouNameCache();
+        Long cachedId = cache.get(tenhouName, Long.class);
+        if (cachedId != null) {
+            ArmlPlayer armlPlayer = entityManager.find(ArmlPlayer.class, cachedId);
+            if (armlPlayer != null && tenhouName.equals(armlPlayer.getTenhouName())) {
+                return Optional.of(fetchGames(armlPlayer));
+            }
+            cache.evict(tenhouName);
+        }
+        Optional<ArmlPlayer> armlPlayer = entityManager
+            .createQuery(
+                "select armlPlayer from ArmlPlayer armlPlayer where armlPlayer.tenhouName = :tenhouName order by armlPlayer.id",
+                ArmlPlayer.class
+            )
+            .setParameter(TENHOU_NAME_PARAMETER, tenhouName)
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst();
+        armlPlayer.ifPresent(found -> cache.put(tenhouName, found.getId()));
+        return armlPlayer.map(this::fetchGames);
+    }
+
+    @Override
+    @Transactional
+    public <S extends ArmlPlayer> S save(S armlPlayer) {
+        S saved;
+        if (armlPlayer.getId() == null) {
+            entityManager.persist(armlPlayer);
+            saved = armlPlayer;
+        } else {
+            saved = entityManager.merge(armlPlayer);
+        }
+        evictTenhouName(saved.getTenhouName());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public <S extends ArmlPlayer> S saveAndFlush(S armlPlayer) {
+        S saved = save(armlPlayer);
+        entityManager.flush();
+        return saved;
+    }
+
+    @Override
+    public void evictAllTenhouNames() {
+        tenhouNameCache().clear();
+    }
+
+    private void evictTenhouName(String tenhouName) {
+        if (tenhouName == null) {
+            return;
+        }
+        tenhouNameCache().evict(tenhouName);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tenhouNameCache().evict(tenhouName);
+                    }
+                }
+            );
+        }
+    }
+
+    private Cache tenhouNameCache() {
+        return Objects.requireNonNull(cacheManager.getCache(PLAYER_IDS_BY_TENHOU_NAME_CACHE));
+    }
+
+    private ArmlPlayer fetchGames(ArmlPlayer armlPlayer) {
+        Hibernate.initialize(armlPlayer.getGames());
+        return armlPlayer;
+    }
+}
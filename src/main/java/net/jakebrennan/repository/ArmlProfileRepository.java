@@ -1,7 +1,14 @@
 package net.jakebrennan.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 import net.jakebrennan.domain.ArmlProfile;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +16,48 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ArmlProfileRepository extends JpaRepository<ArmlProfile, Long> {}
+public interface ArmlProfileRepository extends JpaRepository<ArmlProfile, Long>, JpaSpecificationExecutor<ArmlProfile> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select armlProfile from ArmlProfile armlProfile where armlProfile.playerID.id in :playerIds")
+    List<ArmlProfile> findAllByPlayerIdsForUpdate(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Streams all the armlProfiles in id order, on a forward-only cursor of read-only entities that bypass the
+     * second-level cache. The stream must be consumed and closed inside a transaction.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select armlProfile from ArmlProfile armlProfile order by armlProfile.id")
+    Stream<ArmlProfile> streamAll();
+
+    @Query(
+        "select armlProfile.id as id, armlProfile.playerID.id as playerId, armlProfile.winRate as winRate, " +
+        "armlProfile.feedRate as feedRate, armlProfile.callRate as callRate, armlProfile.riiRate as riiRate, " +
+        "armlProfile.feedEV as feedEV from ArmlProfile armlProfile"
+    )
+    List<ProfileMetrics> findAllMetrics();
+
+    /**
+     * Projection of a profile on its player and the metrics players are ranked by.
+     */
+    interface ProfileMetrics {
+        Long getId();
+
+        Long getPlayerId();
+
+        Double getWinRate();
+
+        Double getFeedRate();
+
+        Double getCallRate();
+
+        Double getRiiRate();
+
+        Long getFeedEV();
+    }
+}
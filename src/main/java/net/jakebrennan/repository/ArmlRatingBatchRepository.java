@@ -0,0 +1,40 @@
+package net.jakebrennan.repository;
+
+import java.sql.Types;
+import java.util.Collection;
+import net.jakebrennan.domain.ArmlRating;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC writes of ratings in batches, for full replays that must not go through the persistence context.
+ */
+@Repository
+public class ArmlRatingBatchRepository {
+
+    private static final String INSERT_RATING = "insert into ratings (arml_player_id, rating, games, last_game_id) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArmlRatingBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replaces every stored rating with the given ones. The {@code armlPlayer} of the ratings is ignored: their id is
+     * the id of their player.
+     */
+    public void replaceAll(Collection<ArmlRating> ratings, int batchSize) {
+        jdbcTemplate.update("delete from ratings");
+        jdbcTemplate.batchUpdate(INSERT_RATING, ratings, batchSize, (ps, rating) -> {
+            ps.setLong(1, rating.getId());
+            ps.setDouble(2, rating.getRating());
+            ps.setInt(3, rating.getGames());
+            if (rating.getLastGameId() != null) {
+                ps.setLong(4, rating.getLastGameId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+        });
+    }
+}
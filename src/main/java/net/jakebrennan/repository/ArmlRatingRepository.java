@@ -0,0 +1,22 @@
+package net.jakebrennan.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import net.jakebrennan.domain.ArmlRating;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the ArmlRating entity.
+ */
+@Repository
+public interface ArmlRatingRepository extends JpaRepository<ArmlRating, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select armlRating from ArmlRating armlRating where armlRating.id in :playerIds")
+    List<ArmlRating> findAllByPlayerIdsForUpdate(@Param("playerIds") Collection<Long> playerIds);
+
+    List<ArmlRating> findAllByOrderByRatingDescIdAsc(Pageable pageable);
+}
@@ -0,0 +1,149 @@
+package net.jakebrennan.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC bulk inserts of seed rows into the game tables.
+ * <p>
+ * Rows are inserted in JDBC batches, which the MySQL driver rewrites into multi-row inserts. On MySQL, the foreign keys
+ * are not checked row by row during the load but once at its end, by {@link #checkForeignKeys()}.
+ */
+@Repository
+public class DatasetSeedRepository {
+
+    /**
+     * The foreign keys between the game tables, checked once the rows are loaded. The link from a profile to its user
+     * is not seeded.
+     */
+    private static final List<ForeignKey> FOREIGN_KEYS = List.of(
+        new ForeignKey("profiles", "playerid_id", "players"),
+        new ForeignKey("scores", "arml_game_id", "games"),
+        new ForeignKey("scores", "arml_player_id", "players"),
+        new ForeignKey("rel_players__games", "games_id", "games"),
+        new ForeignKey("rel_players__games", "players_id", "players")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetSeedRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private record ForeignKey(String table, String column, String referencedTable) {}
+
+    /**
+     * Inserts rows into some of the columns of a table, in a single JDBC batch.
+     *
+     * @param columns the columns to insert into.
+     * @param rows the values of each row, in the order of the columns: {@link Long}s for ids and integers,
+     * {@link Double}s, {@link String}s and {@link Instant}s, or {@code null}.
+     */
+    public void insert(DatasetSnapshotRepository.Table table, List<SnapshotColumn> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String insert =
+            "insert into " +
+            table.tableName() +
+            " (" +
+            columns.stream().map(SnapshotColumn::name).collect(Collectors.joining(", ")) +
+            ") values (" +
+            "?, ".repeat(columns.size() - 1) +
+            "?)";
+        jdbcTemplate.batchUpdate(insert, rows, rows.size(), (ps, row) -> {
+            for (int i = 0; i < columns.size(); i++) {
+                bind(columns.get(i).type(), row[i], ps, i + 1);
+            }
+        });
+    }
+
+    /**
+     * Links every player to the games it has a score in, as the scores of an import do.
+     *
+     * @return the number of links inserted.
+     */
+    public int linkPlayersToGames() {
+        return jdbcTemplate.update(
+            "insert into rel_players__games (games_id, players_id) select distinct arml_game_id, arml_player_id from scores " +
+            "where arml_game_id is not null and arml_player_id is not null"
+        );
+    }
+
+    /**
+     * Turns off the foreign key checks of the session on MySQL. H2 can only turn them off for the whole database, and
+     * commits the current transaction when doing so, so it keeps checking every row.
+     *
+     * @return whether the checks were turned off.
+     */
+    public boolean disableForeignKeyChecks() {
+        if (isH2()) {
+            return false;
+        }
+        jdbcTemplate.execute("set foreign_key_checks = 0");
+        return true;
+    }
+
+    public void enableForeignKeyChecks() {
+        jdbcTemplate.execute("set foreign_key_checks = 1");
+    }
+
+    /**
+     * Checks the references between the game tables, which turning the checks on again does not do on MySQL.
+     *
+     * @throws DataIntegrityViolationException if a row references a missing one.
+     */
+    public void checkForeignKeys() {
+        List<String> violations = new ArrayList<>();
+        for (ForeignKey key : FOREIGN_KEYS) {
+            Long orphans = jdbcTemplate.queryForObject(
+                "select count(*) from " +
+                key.table() +
+                " t where t." +
+                key.column() +
+                " is not null and not exists (select 1 from " +
+                key.referencedTable() +
+                " r where r.id = t." +
+                key.column() +
+                ")",
+                Long.class
+            );
+            if (orphans != null && orphans > 0) {
+                violations.add(orphans + " rows of " + key.table() + " reference a missing " + key.column());
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new DataIntegrityViolationException(String.join(", ", violations));
+        }
+    }
+
+    private boolean isH2() {
+        String database = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        return "H2".equals(database);
+    }
+
+    private static void bind(ColumnType type, Object value, PreparedStatement ps, int index) throws SQLException {
+        switch (type) {
+            case ID, NULLABLE_ID, LONG, NULLABLE_LONG -> ps.setObject(index, value, Types.BIGINT);
+            case NULLABLE_DOUBLE -> ps.setObject(index, value, Types.DOUBLE);
+            case STRING -> ps.setObject(index, value, Types.VARCHAR);
+            // stored as UTC wall-clock time, as Hibernate stores instants
+            case INSTANT, NULLABLE_INSTANT -> ps.setObject(index, value == null ? null : LocalDateTime.ofInstant((Instant) value, ZoneOffset.UTC));
+        }
+    }
+}
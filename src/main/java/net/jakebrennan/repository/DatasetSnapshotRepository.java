@@ -0,0 +1,336 @@
+package net.jakebrennan.repository;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import net.jakebrennan.repository.snapshot.ColumnDecoder;
+import net.jakebrennan.repository.snapshot.ColumnSink;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.RowSink;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+import net.jakebrennan.repository.snapshot.SnapshotReader;
+import net.jakebrennan.repository.snapshot.SnapshotWriter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC copy of the game tables to and from the snapshot format of {@link SnapshotWriter}. The rows are read
+ * through a {@link RowSink}, so the same cursor feeds the columnar exports.
+ * <p>
+ * Tables are copied in the order of {@link Table}, which satisfies their foreign keys. The {@code user_id} of the
+ * profiles is left out, as user accounts differ from one environment to the other. Times are stored as UTC
+ * wall-clock times, as Hibernate stores instants.
+ */
+@Repository
+public class DatasetSnapshotRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DatasetSnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A table of a snapshot, with the columns it holds.
+     */
+    public enum Table {
+        PLAYERS(
+            "players",
+            "id",
+            new SnapshotColumn("id", ColumnType.ID),
+            new SnapshotColumn("player_id", ColumnType.LONG),
+            new SnapshotColumn("first_name", ColumnType.STRING),
+            new SnapshotColumn("last_name", ColumnType.STRING),
+            new SnapshotColumn("tenhou_name", ColumnType.STRING),
+            new SnapshotColumn("league", ColumnType.STRING)
+        ),
+        GAMES(
+            "games",
+            "id",
+            new SnapshotColumn("id", ColumnType.ID),
+            new SnapshotColumn("game_id", ColumnType.LONG),
+            new SnapshotColumn("played_at", ColumnType.NULLABLE_INSTANT)
+        ),
+        PROFILES(
+            "profiles",
+            "id",
+            new SnapshotColumn("id", ColumnType.ID),
+            new SnapshotColumn("playerid_id", ColumnType.NULLABLE_ID),
+            new SnapshotColumn("win_rate", ColumnType.NULLABLE_DOUBLE),
+            new SnapshotColumn("feed_rate", ColumnType.NULLABLE_DOUBLE),
+            new SnapshotColumn("call_rate", ColumnType.NULLABLE_DOUBLE),
+            new SnapshotColumn("rii_rate", ColumnType.NULLABLE_DOUBLE),
+            new SnapshotColumn("feed_ev", ColumnType.NULLABLE_LONG),
+            new SnapshotColumn("games_played", ColumnType.NULLABLE_LONG),
+            new SnapshotColumn("first_places", ColumnType.NULLABLE_LONG)
+        ),
+        SCORES(
+            "scores",
+            "id",
+            new SnapshotColumn("id", ColumnType.ID),
+            new SnapshotColumn("arml_game_id", ColumnType.NULLABLE_ID),
+            new SnapshotColumn("arml_player_id", ColumnType.NULLABLE_ID),
+            new SnapshotColumn("score", ColumnType.LONG)
+        ),
+        PLAYER_GAMES(
+            "rel_players__games",
+            "games_id, players_id",
+            new SnapshotColumn("games_id", ColumnType.ID),
+            new SnapshotColumn("players_id", ColumnType.LONG)
+        );
+
+        private final String tableName;
+
+        private final String orderBy;
+
+        private final List<SnapshotColumn> columns;
+
+        Table(String tableName, String orderBy, SnapshotColumn... columns) {
+            this.tableName = tableName;
+            this.orderBy = orderBy;
+            this.columns = List.of(columns);
+        }
+
+        public String tableName() {
+            return tableName;
+        }
+
+        public List<SnapshotColumn> columns() {
+            return columns;
+        }
+
+        private String columnList() {
+            return columns.stream().map(SnapshotColumn::name).collect(Collectors.joining(", "));
+        }
+
+        /**
+         * @return whether the table has an identity column to move past the restored ids.
+         */
+        private boolean hasIdentity() {
+            return "id".equals(orderBy);
+        }
+    }
+
+    /**
+     * A secondary index of a snapshot table.
+     *
+     * @param columns the indexed columns, in index order.
+     */
+    public record Index(String name, String table, List<String> columns) {}
+
+    /**
+     * @return whether none of the snapshot tables holds a row.
+     */
+    public boolean isEmpty() {
+        for (Table table : Table.values()) {
+            List<Integer> any = jdbcTemplate.queryForList("select 1 from " + table.tableName + " limit 1", Integer.class);
+            if (!any.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads every row of a table in key order, in a single query read through a forward-only cursor.
+     *
+     * @param fetchSize the number of rows fetched from the database at a time.
+     * @return the number of rows read.
+     */
+    public long forEachRow(Table table, int fetchSize, RowSink sink) throws IOException {
+        long[] total = { 0 };
+        try {
+            jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                        "select " + table.columnList() + " from " + table.tableName + " order by " + table.orderBy,
+                        ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    for (int i = 0; i < table.columns.size(); i++) {
+                        encode(table.columns.get(i).type(), rs, i + 1, sink.column(i));
+                    }
+                    try {
+                        sink.endRow();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    total[0]++;
+                }
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return total[0];
+    }
+
+    /**
+     * Inserts the rows of the next table of a snapshot, one JDBC batch per row group.
+     *
+     * @return the number of rows inserted.
+     * @throws StreamCorruptedException if the next table of the snapshot is not this one, has other columns, or is
+     * damaged.
+     */
+    public long read(Table table, SnapshotReader reader) throws IOException {
+        String name = reader.nextTable();
+        if (!table.tableName.equals(name) || !table.columns.equals(reader.columns())) {
+            throw new StreamCorruptedException("Expected table " + table.tableName + " with columns " + table.columns + ", found " + name);
+        }
+        String insert =
+            "insert into " + table.tableName + " (" + table.columnList() + ") values (" + "?, ".repeat(table.columns.size() - 1) + "?)";
+        long total = 0;
+        for (int rows = reader.nextRowGroup(); rows > 0; rows = reader.nextRowGroup()) {
+            int batchSize = rows;
+            try {
+                jdbcTemplate.batchUpdate(
+                    insert,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int row) throws SQLException {
+                            for (int i = 0; i < table.columns.size(); i++) {
+                                decode(table.columns.get(i).type(), reader.column(i), ps, i + 1);
+                            }
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batchSize;
+                        }
+                    }
+                );
+            } catch (IllegalStateException e) {
+                throw new StreamCorruptedException(e.getMessage() + " of table " + table.tableName);
+            }
+            total += rows;
+        }
+        return total;
+    }
+
+    /**
+     * Finds the secondary indexes to create after a bulk load rather than maintain row by row, as the schema defines
+     * them: every index of the snapshot tables that is neither unique nor led by a column of a foreign key, as MySQL
+     * may use those to enforce it.
+     */
+    public List<Index> findDeferredIndexes() {
+        return jdbcTemplate.execute((ConnectionCallback<List<Index>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            List<Index> indexes = new ArrayList<>();
+            for (Table table : Table.values()) {
+                String tableName = metaData.storesUpperCaseIdentifiers() ? table.tableName.toUpperCase(Locale.ROOT) : table.tableName;
+                Set<String> foreignKeyColumns = new HashSet<>();
+                try (ResultSet rs = metaData.getImportedKeys(connection.getCatalog(), connection.getSchema(), tableName)) {
+                    while (rs.next()) {
+                        foreignKeyColumns.add(rs.getString("FKCOLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+                Map<String, Map<Short, String>> columnsByIndex = new TreeMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, false)) {
+                    while (rs.next()) {
+                        if (!rs.getBoolean("NON_UNIQUE") || rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) {
+                            continue;
+                        }
+                        columnsByIndex
+                            .computeIfAbsent(rs.getString("INDEX_NAME").toLowerCase(Locale.ROOT), name -> new TreeMap<>())
+                            .put(rs.getShort("ORDINAL_POSITION"), rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+                columnsByIndex.forEach((name, columns) -> {
+                    List<String> ordered = List.copyOf(columns.values());
+                    if (!foreignKeyColumns.contains(ordered.get(0))) {
+                        indexes.add(new Index(name, table.tableName, ordered));
+                    }
+                });
+            }
+            return indexes;
+        });
+    }
+
+    public void dropIndexes(List<Index> indexes) {
+        for (Index index : indexes) {
+            jdbcTemplate.execute("drop index " + index.name() + " on " + index.table());
+        }
+    }
+
+    public void createIndexes(List<Index> indexes) {
+        for (Index index : indexes) {
+            jdbcTemplate.execute(
+                "create index " + index.name() + " on " + index.table() + " (" + String.join(", ", index.columns()) + ")"
+            );
+        }
+    }
+
+    /**
+     * Moves the identity columns past the restored ids. MySQL does so on its own; H2 does not.
+     */
+    public void restartIdentities() {
+        String database = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+        );
+        if (!"H2".equals(database)) {
+            return;
+        }
+        for (Table table : Table.values()) {
+            if (table.hasIdentity()) {
+                Long max = jdbcTemplate.queryForObject("select max(id) from " + table.tableName, Long.class);
+                if (max != null) {
+                    jdbcTemplate.execute("alter table " + table.tableName + " alter column id restart with " + (max + 1));
+                }
+            }
+        }
+    }
+
+    private static void encode(ColumnType type, ResultSet rs, int index, ColumnSink sink) throws SQLException {
+        switch (type) {
+            case ID -> sink.putId(rs.getLong(index));
+            case NULLABLE_ID -> sink.putNullableId(rs.getObject(index, Long.class));
+            case LONG -> sink.putLong(rs.getLong(index));
+            case NULLABLE_LONG -> sink.putNullableLong(rs.getObject(index, Long.class));
+            case NULLABLE_DOUBLE -> sink.putNullableDouble(rs.getObject(index, Double.class));
+            case STRING -> sink.putString(rs.getString(index));
+            case INSTANT -> sink.putInstant(rs.getObject(index, LocalDateTime.class).toInstant(ZoneOffset.UTC));
+            case NULLABLE_INSTANT -> {
+                LocalDateTime value = rs.getObject(index, LocalDateTime.class);
+                sink.putNullableInstant(value != null ? value.toInstant(ZoneOffset.UTC) : null);
+            }
+        }
+    }
+
+    private static void decode(ColumnType type, ColumnDecoder decoder, PreparedStatement ps, int index) throws SQLException {
+        switch (type) {
+            case ID -> ps.setLong(index, decoder.getId());
+            case NULLABLE_ID -> ps.setObject(index, decoder.getNullableId(), Types.BIGINT);
+            case LONG -> ps.setLong(index, decoder.getLong());
+            case NULLABLE_LONG -> ps.setObject(index, decoder.getNullableLong(), Types.BIGINT);
+            case NULLABLE_DOUBLE -> ps.setObject(index, decoder.getNullableDouble(), Types.DOUBLE);
+            case STRING -> ps.setObject(index, decoder.getString(), Types.VARCHAR);
+            case INSTANT -> ps.setObject(index, LocalDateTime.ofInstant(decoder.getInstant(), ZoneOffset.UTC));
+            case NULLABLE_INSTANT -> {
+                Instant value = decoder.getNullableInstant();
+                ps.setObject(index, value != null ? LocalDateTime.ofInstant(value, ZoneOffset.UTC) : null, Types.TIMESTAMP);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.jakebrennan.repository;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@link Specification}s for keyset pagination: rows ordered by a sort key with the id as tie-breaker are read from
+ * the last row of the previous page instead of being skipped with an offset, so that every page costs the same.
+ */
+public final class KeysetSpecifications {
+
+    private static final String ID = "id";
+
+    private KeysetSpecifications() {}
+
+    /**
+     * Matches the rows coming after a given row in the order of {@code (property, id)}.
+     * <p>
+     * Null values of a nullable sort key are ordered as MySQL and H2 order them: first in ascending order, and last in
+     * descending order.
+     *
+     * @param property the sort key.
+     * @param value the sort key of the given row; {@code null} only if the sort key is nullable.
+     * @param id the id of the given row.
+     * @param direction the direction of both the sort key and the id.
+     * @param nullable whether the sort key is nullable.
+     * @param <T> the type of the entity.
+     * @return the specification.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T> Specification<T> after(String property, Comparable value, Long id, Sort.Direction direction, boolean nullable) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get(ID);
+            Predicate idAfter = direction.isAscending() ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if (ID.equals(property)) {
+                return idAfter;
+            }
+            Path<Comparable> keyPath = root.get(property);
+            if (value == null) {
+                Predicate tied = cb.and(cb.isNull(keyPath), idAfter);
+                return direction.isAscending() ? cb.or(tied, cb.isNotNull(keyPath)) : tied;
+            }
+            Predicate keyAfter = direction.isAscending() ? cb.greaterThan(keyPath, value) : cb.lessThan(keyPath, value);
+            Predicate after = cb.or(keyAfter, cb.and(cb.equal(keyPath, value), idAfter));
+            return nullable && !direction.isAscending() ? cb.or(after, cb.isNull(keyPath)) : after;
+        };
+    }
+
+    /**
+     * Returns every row once, when the other specifications joined a to-many relationship; it must come last, after
+     * the joins are made.
+     *
+     * @param <T> the type of the entity.
+     * @return the specification.
+     */
+    public static <T> Specification<T> distinctRows() {
+        return (root, query, cb) -> {
+            if (!root.getJoins().isEmpty()) {
+                query.distinct(true);
+            }
+            return null;
+        };
+    }
+}
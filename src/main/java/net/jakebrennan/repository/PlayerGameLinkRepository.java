@@ -0,0 +1,108 @@
+package net.jakebrennan.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the {@code rel_players__games} table, with the league of each player and the time of play of
+ * each game.
+ * <p>
+ * Times of play are stored as UTC wall-clock times, as Hibernate stores instants.
+ */
+@Repository
+public class PlayerGameLinkRepository {
+
+    private static final String SELECT_LINKS =
+        "select r.games_id, r.players_id, p.league, g.played_at from rel_players__games r " +
+        "join players p on p.id = r.players_id join games g on g.id = r.games_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public PlayerGameLinkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * A player linked to a game.
+     *
+     * @param league the league of the player; {@code null} if it has none.
+     * @param playedAt when the game was played; {@code null} if unknown.
+     */
+    public record Link(long gameId, long playerId, ArmlLeague league, Instant playedAt) {}
+
+    /**
+     * Reads every link in game order, in a single query read through a forward-only cursor: the links of each game
+     * arrive together, and memory use does not depend on the size of the table.
+     *
+     * @param fetchSize the number of rows fetched from the database at a time.
+     * @param consumer called once per link.
+     * @return the number of links read.
+     */
+    public long forEachLinkInGameOrder(int fetchSize, Consumer<Link> consumer) {
+        long[] total = { 0 };
+        jdbcTemplate.query(
+            connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                    SELECT_LINKS + " order by r.games_id",
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                ps.setFetchSize(fetchSize);
+                return ps;
+            },
+            (RowCallbackHandler) rs -> {
+                consumer.accept(toLink(rs));
+                total[0]++;
+            }
+        );
+        return total[0];
+    }
+
+    /**
+     * @return the links of the given games, in game order.
+     */
+    public List<Link> findByGameIds(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(
+            SELECT_LINKS + " where r.games_id in (:gameIds) order by r.games_id",
+            Map.of("gameIds", gameIds),
+            (rs, rowNum) -> toLink(rs)
+        );
+    }
+
+    /**
+     * @return the ids of the games a player is linked to.
+     */
+    public List<Long> findGameIdsByPlayerId(Long playerId) {
+        return jdbcTemplate.queryForList("select games_id from rel_players__games where players_id = ?", Long.class, playerId);
+    }
+
+    private static Link toLink(ResultSet rs) throws SQLException {
+        String league = rs.getString(3);
+        LocalDateTime playedAt = rs.getObject(4, LocalDateTime.class);
+        return new Link(
+            rs.getLong(1),
+            rs.getLong(2),
+            league != null ? ArmlLeague.valueOf(league) : null,
+            playedAt != null ? playedAt.toInstant(ZoneOffset.UTC) : null
+        );
+    }
+}
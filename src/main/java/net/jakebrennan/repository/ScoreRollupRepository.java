@@ -0,0 +1,210 @@
+package net.jakebrennan.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import net.jakebrennan.domain.ScoreRollup;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.RollupMetric;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the {@code score_rollups} table, and to the raw rows it is rolled up from.
+ * <p>
+ * Times of play are stored as UTC wall-clock times, as Hibernate stores instants.
+ */
+@Repository
+public class ScoreRollupRepository {
+
+    private static final String ADD =
+        "insert into score_rollups (league, period, metric, amount) values (?, ?, ?, ?) on duplicate key update amount = amount + ?";
+
+    private static final String INSERT = "insert into score_rollups (league, period, metric, amount) values (?, ?, ?, ?)";
+
+    private static final String AGGREGATE_PARTITION =
+        "select count(s.score), sum(s.score), sum(s.score * s.score) from scores s " +
+        "join games g on g.id = s.arml_game_id join players p on p.id = s.arml_player_id " +
+        "where p.league = ? and g.played_at >= ? and g.played_at < ? and s.score is not null";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ScoreRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return the league of each of the given players that is stored, by player id.
+     */
+    public Map<Long, ArmlLeague> findLeaguesByPlayerIds(Collection<Long> playerIds) {
+        Map<Long, ArmlLeague> leagues = new HashMap<>();
+        if (!playerIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(
+                "select id, league from players where id in (:playerIds)",
+                Map.of("playerIds", playerIds),
+                (RowCallbackHandler) rs -> leagues.put(rs.getLong(1), ArmlLeague.valueOf(rs.getString(2)))
+            );
+        }
+        return leagues;
+    }
+
+    /**
+     * @return the time of play of each of the given games that is stored, by game id.
+     */
+    public Map<Long, Instant> findPlayedAtByGameIds(Collection<Long> gameIds) {
+        Map<Long, Instant> playedAt = new HashMap<>();
+        if (!gameIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(
+                "select id, played_at from games where id in (:gameIds)",
+                Map.of("gameIds", gameIds),
+                (RowCallbackHandler) rs -> playedAt.put(rs.getLong(1), toInstant(rs.getObject(2, LocalDateTime.class)))
+            );
+        }
+        return playedAt;
+    }
+
+    /**
+     * Calls the consumer with the time of play and the value of every score of a player that is linked to a game with
+     * a known time of play.
+     */
+    public void forEachScoreOfPlayer(Long playerId, BiConsumer<Instant, Long> consumer) {
+        jdbcTemplate.query(
+            "select g.played_at, s.score from scores s join games g on g.id = s.arml_game_id " +
+            "where s.arml_player_id = ? and s.score is not null and g.played_at is not null",
+            (RowCallbackHandler) rs -> consumer.accept(toInstant(rs.getObject(1, LocalDateTime.class)), rs.getLong(2)),
+            playerId
+        );
+    }
+
+    /**
+     * Calls the consumer with the league of the player and the value of every score of a game.
+     */
+    public void forEachScoreOfGame(Long gameId, BiConsumer<ArmlLeague, Long> consumer) {
+        jdbcTemplate.query(
+            "select p.league, s.score from scores s join players p on p.id = s.arml_player_id " +
+            "where s.arml_game_id = ? and s.score is not null",
+            (RowCallbackHandler) rs -> consumer.accept(ArmlLeague.valueOf(rs.getString(1)), rs.getLong(2)),
+            gameId
+        );
+    }
+
+    /**
+     * @return the earliest time of play of the stored games, if any.
+     */
+    public Optional<Instant> findFirstPlayedAt() {
+        return Optional.ofNullable(toInstant(jdbcTemplate.queryForObject("select min(played_at) from games", LocalDateTime.class)));
+    }
+
+    /**
+     * @return the latest time of play of the stored games, if any.
+     */
+    public Optional<Instant> findLastPlayedAt() {
+        return Optional.ofNullable(toInstant(jdbcTemplate.queryForObject("select max(played_at) from games", LocalDateTime.class)));
+    }
+
+    /**
+     * Adds each change to the amount of its rollup row, creating the row if needed.
+     */
+    public void add(Collection<ScoreRollup> changes, int batchSize) {
+        jdbcTemplate.batchUpdate(ADD, changes, batchSize, (ps, change) -> {
+            ps.setString(1, change.league().name());
+            ps.setInt(2, change.period());
+            ps.setString(3, change.metric().name());
+            ps.setLong(4, change.amount());
+            ps.setLong(5, change.amount());
+        });
+    }
+
+    /**
+     * Recomputes the rollup rows of one league and month from the raw scores.
+     *
+     * @param from the start of the month, inclusive.
+     * @param to the end of the month, exclusive.
+     * @return the recomputed rows; none if no score was made in the partition.
+     */
+    public List<ScoreRollup> rebuildPartition(ArmlLeague league, int period, Instant from, Instant to) {
+        jdbcTemplate.update("delete from score_rollups where league = ? and period = ?", league.name(), period);
+        List<ScoreRollup> rows = new ArrayList<>(RollupMetric.values().length);
+        jdbcTemplate.query(
+            AGGREGATE_PARTITION,
+            (RowCallbackHandler) rs -> {
+                if (rs.getLong(1) > 0) {
+                    rows.add(new ScoreRollup(league, period, RollupMetric.SCORE_COUNT, rs.getLong(1)));
+                    rows.add(new ScoreRollup(league, period, RollupMetric.SCORE_SUM, rs.getLong(2)));
+                    rows.add(new ScoreRollup(league, period, RollupMetric.SCORE_SUM_OF_SQUARES, rs.getLong(3)));
+                }
+            },
+            league.name(),
+            toColumn(from),
+            toColumn(to)
+        );
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.league().name());
+                ps.setInt(2, row.period());
+                ps.setString(3, row.metric().name());
+                ps.setLong(4, row.amount());
+            });
+        }
+        return rows;
+    }
+
+    /**
+     * Deletes the rollup rows of the periods outside of the given range.
+     */
+    public int deleteOutside(int fromPeriod, int toPeriod) {
+        return jdbcTemplate.update("delete from score_rollups where period < ? or period > ?", fromPeriod, toPeriod);
+    }
+
+    public int deleteAll() {
+        return jdbcTemplate.update("delete from score_rollups");
+    }
+
+    /**
+     * @return the rollup rows of the periods in the given range, optionally of a single league, ordered by period
+     * and league.
+     */
+    public List<ScoreRollup> findByPeriodBetween(int fromPeriod, int toPeriod, ArmlLeague league) {
+        if (league == null) {
+            return jdbcTemplate.query(
+                "select league, period, metric, amount from score_rollups where period between ? and ? order by period, league",
+                ScoreRollupRepository::toRollup,
+                fromPeriod,
+                toPeriod
+            );
+        }
+        return jdbcTemplate.query(
+            "select league, period, metric, amount from score_rollups where period between ? and ? and league = ? order by period",
+            ScoreRollupRepository::toRollup,
+            fromPeriod,
+            toPeriod,
+            league.name()
+        );
+    }
+
+    private static ScoreRollup toRollup(ResultSet rs, int rowNum) throws SQLException {
+        return new ScoreRollup(ArmlLeague.valueOf(rs.getString(1)), rs.getInt(2), RollupMetric.valueOf(rs.getString(3)), rs.getLong(4));
+    }
+
+    private static Instant toInstant(LocalDateTime playedAt) {
+        return playedAt != null ? playedAt.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    private static LocalDateTime toColumn(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
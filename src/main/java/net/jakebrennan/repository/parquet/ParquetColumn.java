@@ -0,0 +1,310 @@
+package net.jakebrennan.repository.parquet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import net.jakebrennan.repository.snapshot.ColumnSink;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+
+/**
+ * The values of one column of the current row group, written as a column chunk of a single data page.
+ * <p>
+ * Integers, ids and instants are {@code INT64} columns, instants as UTC microseconds; doubles are {@code DOUBLE} columns;
+ * strings are {@code BYTE_ARRAY} columns, dictionary-encoded within each row group. Nullable columns are optional, with
+ * their definition levels run-length encoded. Every page is compressed with GZIP.
+ */
+class ParquetColumn implements ColumnSink {
+
+    static final int TYPE_INT64 = 2;
+
+    static final int TYPE_DOUBLE = 5;
+
+    static final int TYPE_BYTE_ARRAY = 6;
+
+    static final int ENCODING_PLAIN = 0;
+
+    static final int ENCODING_RLE = 3;
+
+    static final int ENCODING_RLE_DICTIONARY = 8;
+
+    static final int CODEC_GZIP = 2;
+
+    private static final int PAGE_DATA = 0;
+
+    private static final int PAGE_DICTIONARY = 2;
+
+    private final SnapshotColumn column;
+
+    private final boolean optional;
+
+    private final boolean[] defined;
+
+    private final long[] longs;
+
+    private final double[] doubles;
+
+    private final int[] indexes;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    private final List<byte[]> dictionaryValues = new ArrayList<>();
+
+    private int rows;
+
+    private int values;
+
+    /**
+     * A column chunk written to the file.
+     *
+     * @param dictionaryPageOffset the offset of the dictionary page, or -1 without one.
+     */
+    record Chunk(
+        SnapshotColumn column,
+        long numValues,
+        long uncompressedSize,
+        long compressedSize,
+        long dataPageOffset,
+        long dictionaryPageOffset
+    ) {}
+
+    ParquetColumn(SnapshotColumn column, int rowGroupSize) {
+        this.column = column;
+        this.optional = isOptional(column.type());
+        this.defined = new boolean[rowGroupSize];
+        this.longs = physicalType(column.type()) == TYPE_INT64 ? new long[rowGroupSize] : null;
+        this.doubles = column.type() == ColumnType.NULLABLE_DOUBLE ? new double[rowGroupSize] : null;
+        this.indexes = column.type() == ColumnType.STRING ? new int[rowGroupSize] : null;
+    }
+
+    static boolean isOptional(ColumnType type) {
+        return type != ColumnType.ID && type != ColumnType.LONG && type != ColumnType.INSTANT;
+    }
+
+    static int physicalType(ColumnType type) {
+        return switch (type) {
+            case NULLABLE_DOUBLE -> TYPE_DOUBLE;
+            case STRING -> TYPE_BYTE_ARRAY;
+            default -> TYPE_INT64;
+        };
+    }
+
+    @Override
+    public void putId(long id) {
+        putLong(id);
+    }
+
+    @Override
+    public void putNullableId(Long id) {
+        putNullableLong(id);
+    }
+
+    @Override
+    public void putLong(long value) {
+        longs[values++] = value;
+        defined[rows++] = true;
+    }
+
+    @Override
+    public void putNullableLong(Long value) {
+        if (value == null) {
+            defined[rows++] = false;
+        } else {
+            putLong(value);
+        }
+    }
+
+    @Override
+    public void putNullableDouble(Double value) {
+        if (value == null) {
+            defined[rows++] = false;
+        } else {
+            doubles[values++] = value;
+            defined[rows++] = true;
+        }
+    }
+
+    @Override
+    public void putString(String value) {
+        if (value == null) {
+            defined[rows++] = false;
+            return;
+        }
+        Integer index = dictionary.get(value);
+        if (index == null) {
+            index = dictionaryValues.size();
+            dictionary.put(value, index);
+            dictionaryValues.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        indexes[values++] = index;
+        defined[rows++] = true;
+    }
+
+    @Override
+    public void putInstant(Instant value) {
+        putLong(Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000L), value.getNano() / 1_000));
+    }
+
+    @Override
+    public void putNullableInstant(Instant value) {
+        if (value == null) {
+            defined[rows++] = false;
+        } else {
+            putInstant(value);
+        }
+    }
+
+    /**
+     * Writes the values as a column chunk, and empties the column.
+     *
+     * @param offset the offset in the file of the first byte written.
+     */
+    Chunk write(OutputStream out, long offset) throws IOException {
+        long dictionaryPageOffset = -1;
+        long[] sizes = new long[2];
+        long position = offset;
+        if (indexes != null) {
+            ByteArrayOutputStream page = new ByteArrayOutputStream();
+            for (byte[] value : dictionaryValues) {
+                writeIntLittleEndian(page, value.length);
+                page.write(value);
+            }
+            dictionaryPageOffset = position;
+            position += writePage(out, PAGE_DICTIONARY, dictionaryValues.size(), page.toByteArray(), sizes);
+        }
+
+        ByteArrayOutputStream page = new ByteArrayOutputStream();
+        if (optional) {
+            byte[] levels = definitionLevels();
+            writeIntLittleEndian(page, levels.length);
+            page.write(levels);
+        }
+        if (indexes != null) {
+            int bitWidth = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(0, dictionaryValues.size() - 1)));
+            page.write(bitWidth);
+            bitPack(page, indexes, values, bitWidth);
+        } else if (doubles != null) {
+            for (int i = 0; i < values; i++) {
+                writeLongLittleEndian(page, Double.doubleToRawLongBits(doubles[i]));
+            }
+        } else {
+            for (int i = 0; i < values; i++) {
+                writeLongLittleEndian(page, longs[i]);
+            }
+        }
+        long dataPageOffset = position;
+        writePage(out, PAGE_DATA, rows, page.toByteArray(), sizes);
+
+        Chunk chunk = new Chunk(column, rows, sizes[0], sizes[1], dataPageOffset, dictionaryPageOffset);
+        rows = 0;
+        values = 0;
+        dictionary.clear();
+        dictionaryValues.clear();
+        return chunk;
+    }
+
+    /**
+     * Writes a page header and its compressed page.
+     *
+     * @param sizes the uncompressed and compressed sizes written so far, headers included, to add the page to.
+     * @return the number of bytes written.
+     */
+    private long writePage(OutputStream out, int pageType, int numValues, byte[] page, long[] sizes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(page.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(page);
+        }
+
+        ThriftCompactWriter header = new ThriftCompactWriter();
+        header.i32(1, pageType);
+        header.i32(2, page.length);
+        header.i32(3, compressed.size());
+        if (pageType == PAGE_DATA) {
+            header.beginStruct(5);
+            header.i32(1, numValues);
+            header.i32(2, indexes != null ? ENCODING_RLE_DICTIONARY : ENCODING_PLAIN);
+            header.i32(3, ENCODING_RLE);
+            header.i32(4, ENCODING_RLE);
+            header.endStruct();
+        } else {
+            header.beginStruct(7);
+            header.i32(1, numValues);
+            header.i32(2, ENCODING_PLAIN);
+            header.endStruct();
+        }
+        header.endStruct();
+        byte[] headerBytes = header.toByteArray();
+
+        out.write(headerBytes);
+        compressed.writeTo(out);
+        sizes[0] += headerBytes.length + page.length;
+        sizes[1] += headerBytes.length + compressed.size();
+        return headerBytes.length + compressed.size();
+    }
+
+    /**
+     * @return the definition levels, as runs of the run-length / bit-packing hybrid encoding with a bit width of 1.
+     */
+    private byte[] definitionLevels() {
+        ByteArrayOutputStream levels = new ByteArrayOutputStream();
+        int start = 0;
+        while (start < rows) {
+            int end = start + 1;
+            while (end < rows && defined[end] == defined[start]) {
+                end++;
+            }
+            writeVarInt(levels, (end - start) << 1);
+            levels.write(defined[start] ? 1 : 0);
+            start = end;
+        }
+        return levels.toByteArray();
+    }
+
+    /**
+     * Writes values as a single bit-packed run of the run-length / bit-packing hybrid encoding, the last group of 8
+     * padded with zeros.
+     */
+    private static void bitPack(ByteArrayOutputStream out, int[] values, int count, int bitWidth) {
+        int groups = (count + 7) / 8;
+        writeVarInt(out, (groups << 1) | 1);
+        long buffer = 0;
+        int bufferedBits = 0;
+        for (int index = 0; index < groups * 8; index++) {
+            buffer |= (long) (index < count ? values[index] : 0) << bufferedBits;
+            bufferedBits += bitWidth;
+            while (bufferedBits >= Byte.SIZE) {
+                out.write((int) buffer);
+                buffer >>>= Byte.SIZE;
+                bufferedBits -= Byte.SIZE;
+            }
+        }
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static void writeIntLittleEndian(OutputStream out, int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private static void writeLongLittleEndian(OutputStream out, long value) throws IOException {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            out.write((int) (value >>> shift));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package net.jakebrennan.repository.parquet;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import net.jakebrennan.repository.snapshot.ColumnSink;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.RowSink;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+
+/**
+ * Writes the rows of one table as a Parquet file, one row group per batch of rows.
+ * <p>
+ * Each row group holds a single data page per column, so memory use depends on the size of a row group rather than on
+ * the size of the table. The file metadata, written by {@link #finish()}, describes every row group; the file can be
+ * read by any Parquet reader once it is finished.
+ */
+public class ParquetWriter implements RowSink {
+
+    public static final int DEFAULT_ROW_GROUP_SIZE = 65_536;
+
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int REPETITION_REQUIRED = 0;
+
+    private static final int REPETITION_OPTIONAL = 1;
+
+    private static final int CONVERTED_UTF8 = 0;
+
+    private static final int CONVERTED_TIMESTAMP_MICROS = 10;
+
+    private final OutputStream out;
+
+    private final List<SnapshotColumn> columns;
+
+    private final ParquetColumn[] buffers;
+
+    private final List<RowGroup> rowGroups = new ArrayList<>();
+
+    private final int rowGroupSize;
+
+    private long position;
+
+    private int rows;
+
+    private record RowGroup(long numRows, List<ParquetColumn.Chunk> chunks) {}
+
+    public ParquetWriter(OutputStream out, List<SnapshotColumn> columns, int rowGroupSize) throws IOException {
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.columns = columns;
+        this.rowGroupSize = rowGroupSize;
+        this.buffers = new ParquetColumn[columns.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new ParquetColumn(columns.get(i), rowGroupSize);
+        }
+        this.out.write(MAGIC);
+        position = MAGIC.length;
+    }
+
+    @Override
+    public ColumnSink column(int index) {
+        return buffers[index];
+    }
+
+    /**
+     * Ends the current row, writing the row group once it is full.
+     */
+    @Override
+    public void endRow() throws IOException {
+        if (++rows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    /**
+     * Writes the last row group and the file metadata, and flushes the file without closing the underlying stream.
+     */
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        byte[] footer = fileMetadata();
+        out.write(footer);
+        out.write(footer.length);
+        out.write(footer.length >>> 8);
+        out.write(footer.length >>> 16);
+        out.write(footer.length >>> 24);
+        out.write(MAGIC);
+        out.flush();
+    }
+
+    private void writeRowGroup() throws IOException {
+        List<ParquetColumn.Chunk> chunks = new ArrayList<>(buffers.length);
+        for (ParquetColumn buffer : buffers) {
+            ParquetColumn.Chunk chunk = buffer.write(out, position);
+            position += chunk.compressedSize();
+            chunks.add(chunk);
+        }
+        rowGroups.add(new RowGroup(rows, chunks));
+        rows = 0;
+    }
+
+    private byte[] fileMetadata() {
+        ThriftCompactWriter thrift = new ThriftCompactWriter();
+        thrift.i32(1, 1);
+
+        thrift.beginList(2, ThriftCompactWriter.TYPE_STRUCT, columns.size() + 1);
+        thrift.beginStructValue();
+        thrift.string(4, "schema");
+        thrift.i32(5, columns.size());
+        thrift.endStruct();
+        for (SnapshotColumn column : columns) {
+            writeSchemaElement(thrift, column);
+        }
+
+        thrift.i64(3, rowGroups.stream().mapToLong(RowGroup::numRows).sum());
+
+        thrift.beginList(4, ThriftCompactWriter.TYPE_STRUCT, rowGroups.size());
+        for (RowGroup rowGroup : rowGroups) {
+            thrift.beginStructValue();
+            thrift.beginList(1, ThriftCompactWriter.TYPE_STRUCT, rowGroup.chunks().size());
+            for (ParquetColumn.Chunk chunk : rowGroup.chunks()) {
+                writeColumnChunk(thrift, chunk);
+            }
+            thrift.i64(2, rowGroup.chunks().stream().mapToLong(ParquetColumn.Chunk::uncompressedSize).sum());
+            thrift.i64(3, rowGroup.numRows());
+            thrift.endStruct();
+        }
+
+        thrift.string(6, "majProf");
+        thrift.endStruct();
+        return thrift.toByteArray();
+    }
+
+    private static void writeSchemaElement(ThriftCompactWriter thrift, SnapshotColumn column) {
+        ColumnType type = column.type();
+        thrift.beginStructValue();
+        thrift.i32(1, ParquetColumn.physicalType(type));
+        thrift.i32(3, ParquetColumn.isOptional(type) ? REPETITION_OPTIONAL : REPETITION_REQUIRED);
+        thrift.string(4, column.name());
+        if (type == ColumnType.STRING) {
+            thrift.i32(6, CONVERTED_UTF8);
+            thrift.beginStruct(10);
+            // STRING
+            thrift.beginStruct(1);
+            thrift.endStruct();
+            thrift.endStruct();
+        } else if (type == ColumnType.INSTANT || type == ColumnType.NULLABLE_INSTANT) {
+            thrift.i32(6, CONVERTED_TIMESTAMP_MICROS);
+            thrift.beginStruct(10);
+            // TIMESTAMP(isAdjustedToUTC = true, unit = MICROS)
+            thrift.beginStruct(8);
+            thrift.bool(1, true);
+            thrift.beginStruct(2);
+            thrift.beginStruct(2);
+            thrift.endStruct();
+            thrift.endStruct();
+            thrift.endStruct();
+            thrift.endStruct();
+        }
+        thrift.endStruct();
+    }
+
+    private static void writeColumnChunk(ThriftCompactWriter thrift, ParquetColumn.Chunk chunk) {
+        boolean dictionary = chunk.dictionaryPageOffset() >= 0;
+        long firstPageOffset = dictionary ? chunk.dictionaryPageOffset() : chunk.dataPageOffset();
+        thrift.beginStructValue();
+        thrift.i64(2, firstPageOffset);
+        thrift.beginStruct(3);
+        thrift.i32(1, ParquetColumn.physicalType(chunk.column().type()));
+        if (dictionary) {
+            thrift.beginList(2, ThriftCompactWriter.TYPE_I32, 3);
+            thrift.i32Value(ParquetColumn.ENCODING_PLAIN);
+            thrift.i32Value(ParquetColumn.ENCODING_RLE);
+            thrift.i32Value(ParquetColumn.ENCODING_RLE_DICTIONARY);
+        } else {
+            thrift.beginList(2, ThriftCompactWriter.TYPE_I32, 2);
+            thrift.i32Value(ParquetColumn.ENCODING_PLAIN);
+            thrift.i32Value(ParquetColumn.ENCODING_RLE);
+        }
+        thrift.beginList(3, ThriftCompactWriter.TYPE_BINARY, 1);
+        thrift.stringValue(chunk.column().name());
+        thrift.i32(4, ParquetColumn.CODEC_GZIP);
+        thrift.i64(5, chunk.numValues());
+        thrift.i64(6, chunk.uncompressedSize());
+        thrift.i64(7, chunk.compressedSize());
+        thrift.i64(9, chunk.dataPageOffset());
+        if (dictionary) {
+            thrift.i64(11, chunk.dictionaryPageOffset());
+        }
+        thrift.endStruct();
+        thrift.endStruct();
+    }
+}
@@ -0,0 +1,124 @@
+package net.jakebrennan.repository.parquet;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Writes Thrift structs in the compact protocol, in which Parquet encodes its page headers and file metadata.
+ * <p>
+ * Fields must be written in increasing id order within each struct.
+ */
+class ThriftCompactWriter {
+
+    static final int TYPE_BOOLEAN_TRUE = 1;
+
+    static final int TYPE_BOOLEAN_FALSE = 2;
+
+    static final int TYPE_I32 = 5;
+
+    static final int TYPE_I64 = 6;
+
+    static final int TYPE_BINARY = 8;
+
+    static final int TYPE_LIST = 9;
+
+    static final int TYPE_STRUCT = 12;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private final Deque<Integer> lastFieldIds = new ArrayDeque<>();
+
+    private int lastFieldId;
+
+    void i32(int id, int value) {
+        fieldHeader(id, TYPE_I32);
+        varLong(zigZag(value));
+    }
+
+    void i64(int id, long value) {
+        fieldHeader(id, TYPE_I64);
+        varLong(zigZag(value));
+    }
+
+    void bool(int id, boolean value) {
+        fieldHeader(id, value ? TYPE_BOOLEAN_TRUE : TYPE_BOOLEAN_FALSE);
+    }
+
+    void string(int id, String value) {
+        fieldHeader(id, TYPE_BINARY);
+        stringValue(value);
+    }
+
+    /**
+     * Starts a struct field; its fields follow, then {@link #endStruct()}.
+     */
+    void beginStruct(int id) {
+        fieldHeader(id, TYPE_STRUCT);
+        beginStructValue();
+    }
+
+    /**
+     * Starts a struct element of a list; its fields follow, then {@link #endStruct()}.
+     */
+    void beginStructValue() {
+        lastFieldIds.push(lastFieldId);
+        lastFieldId = 0;
+    }
+
+    void endStruct() {
+        out.write(0);
+        lastFieldId = lastFieldIds.isEmpty() ? 0 : lastFieldIds.pop();
+    }
+
+    /**
+     * Starts a list field; its {@code size} elements follow.
+     */
+    void beginList(int id, int elementType, int size) {
+        fieldHeader(id, TYPE_LIST);
+        if (size < 15) {
+            out.write((size << 4) | elementType);
+        } else {
+            out.write(0xF0 | elementType);
+            varLong(size);
+        }
+    }
+
+    void i32Value(int value) {
+        varLong(zigZag(value));
+    }
+
+    void stringValue(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        varLong(utf8.length);
+        out.writeBytes(utf8);
+    }
+
+    byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private void fieldHeader(int id, int type) {
+        int delta = id - lastFieldId;
+        if (delta > 0 && delta <= 15) {
+            out.write((delta << 4) | type);
+        } else {
+            out.write(type);
+            varLong(zigZag(id));
+        }
+        lastFieldId = id;
+    }
+
+    private void varLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
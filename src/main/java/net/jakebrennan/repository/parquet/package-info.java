@@ -0,0 +1,4 @@
+/**
+ * Minimal Parquet writer for the columnar exports of the game tables.
+ */
+package net.jakebrennan.repository.parquet;
@@ -0,0 +1,114 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reads the values of one column of a row group, in the order they were written by a {@link ColumnEncoder}.
+ * <p>
+ * Reading past the end of the column throws an {@link IllegalStateException}.
+ */
+public class ColumnDecoder {
+
+    private final byte[] bytes;
+
+    private int position;
+
+    private long previousId;
+
+    private long previousSecond;
+
+    ColumnDecoder(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public long getId() {
+        previousId += getSignedVarLong();
+        return previousId;
+    }
+
+    public Long getNullableId() {
+        long value = getVarLong();
+        if (value == 0) {
+            return null;
+        }
+        previousId += unZigZag(value - 1);
+        return previousId;
+    }
+
+    public long getLong() {
+        return getSignedVarLong();
+    }
+
+    public Long getNullableLong() {
+        long value = getVarLong();
+        return value == 0 ? null : unZigZag(value - 1);
+    }
+
+    public Double getNullableDouble() {
+        if (getByte() == 0) {
+            return null;
+        }
+        long raw = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            raw |= (getByte() & 0xFFL) << shift;
+        }
+        return Double.longBitsToDouble(raw);
+    }
+
+    public String getString() {
+        long length = getVarLong();
+        if (length == 0) {
+            return null;
+        }
+        if (length - 1 > bytes.length - position) {
+            throw new IllegalStateException("Truncated snapshot column");
+        }
+        String value = new String(bytes, position, (int) (length - 1), StandardCharsets.UTF_8);
+        position += (int) (length - 1);
+        return value;
+    }
+
+    public Instant getInstant() {
+        previousSecond += getSignedVarLong();
+        return Instant.ofEpochSecond(previousSecond, getVarLong());
+    }
+
+    public Instant getNullableInstant() {
+        return getByte() == 0 ? null : getInstant();
+    }
+
+    /**
+     * @return the number of bytes left to read.
+     */
+    public int remaining() {
+        return bytes.length - position;
+    }
+
+    private long getSignedVarLong() {
+        return unZigZag(getVarLong());
+    }
+
+    private long getVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = getByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in snapshot column");
+    }
+
+    private int getByte() {
+        if (position == bytes.length) {
+            throw new IllegalStateException("Truncated snapshot column");
+        }
+        return bytes[position++];
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,154 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of the values of one column of a row group, in the encoding of their {@link ColumnType}.
+ */
+public class ColumnEncoder implements ColumnSink {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+    private int size;
+
+    private long previousId;
+
+    private long previousSecond;
+
+    @Override
+    public void putId(long id) {
+        putSignedVarLong(id - previousId);
+        previousId = id;
+    }
+
+    @Override
+    public void putNullableId(Long id) {
+        if (id == null) {
+            putVarLong(0);
+        } else {
+            putNullable(id - previousId);
+            previousId = id;
+        }
+    }
+
+    @Override
+    public void putLong(long value) {
+        putSignedVarLong(value);
+    }
+
+    @Override
+    public void putNullableLong(Long value) {
+        if (value == null) {
+            putVarLong(0);
+        } else {
+            putNullable(value);
+        }
+    }
+
+    @Override
+    public void putNullableDouble(Double value) {
+        if (value == null) {
+            putByte(0);
+            return;
+        }
+        putByte(1);
+        long raw = Double.doubleToRawLongBits(value);
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            putByte((int) (raw >>> shift));
+        }
+    }
+
+    @Override
+    public void putString(String value) {
+        if (value == null) {
+            putVarLong(0);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(utf8.length + 1L);
+        ensureCapacity(utf8.length);
+        System.arraycopy(utf8, 0, bytes, size, utf8.length);
+        size += utf8.length;
+    }
+
+    @Override
+    public void putInstant(Instant value) {
+        putSignedVarLong(value.getEpochSecond() - previousSecond);
+        putVarLong(value.getNano());
+        previousSecond = value.getEpochSecond();
+    }
+
+    @Override
+    public void putNullableInstant(Instant value) {
+        if (value == null) {
+            putByte(0);
+        } else {
+            putByte(1);
+            putInstant(value);
+        }
+    }
+
+    /**
+     * @return the number of bytes written.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Empties the buffer, keeping its capacity.
+     */
+    public void clear() {
+        size = 0;
+        previousId = 0;
+        previousSecond = 0;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    /**
+     * Writes a value of a nullable column, shifted by one so that 0 stands for {@code null}.
+     */
+    private void putNullable(long value) {
+        if (value == Long.MIN_VALUE) {
+            throw new IllegalArgumentException("Value out of range of a nullable column: " + value);
+        }
+        putVarLong(zigZag(value) + 1);
+    }
+
+    private void putSignedVarLong(long value) {
+        putVarLong(zigZag(value));
+    }
+
+    private void putVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    private void putByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
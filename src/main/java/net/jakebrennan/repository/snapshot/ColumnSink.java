@@ -0,0 +1,24 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.time.Instant;
+
+/**
+ * Receives the values of one column, one row at a time, through the method of the {@link ColumnType} of the column.
+ */
+public interface ColumnSink {
+    void putId(long id);
+
+    void putNullableId(Long id);
+
+    void putLong(long value);
+
+    void putNullableLong(Long value);
+
+    void putNullableDouble(Double value);
+
+    void putString(String value);
+
+    void putInstant(Instant value);
+
+    void putNullableInstant(Instant value);
+}
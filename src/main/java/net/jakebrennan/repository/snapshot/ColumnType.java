@@ -0,0 +1,26 @@
+package net.jakebrennan.repository.snapshot;
+
+/**
+ * The encoding of a snapshot column.
+ * <p>
+ * Integers are written as zig-zag varints, so that small values of either sign take a single byte. Ids are written
+ * as the difference with the previous id of their column, which takes a byte or two when the rows are in id order.
+ */
+public enum ColumnType {
+    /** A non-null id, as the difference with the previous one. */
+    ID,
+    /** A nullable id, as the difference with the previous non-null one. */
+    NULLABLE_ID,
+    /** A non-null integer. */
+    LONG,
+    /** A nullable integer. */
+    NULLABLE_LONG,
+    /** A nullable double, as its 8 IEEE 754 bytes. */
+    NULLABLE_DOUBLE,
+    /** A nullable string, in UTF-8. */
+    STRING,
+    /** A non-null instant, as its seconds since the previous one and its nanoseconds. */
+    INSTANT,
+    /** A nullable instant, as a presence byte followed by an instant. */
+    NULLABLE_INSTANT,
+}
@@ -0,0 +1,15 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.io.IOException;
+
+/**
+ * Receives the rows of a table, one value per column and then {@link #endRow()}.
+ */
+public interface RowSink {
+    /**
+     * @return the sink of a column of the current row.
+     */
+    ColumnSink column(int index);
+
+    void endRow() throws IOException;
+}
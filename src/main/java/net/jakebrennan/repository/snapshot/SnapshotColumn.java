@@ -0,0 +1,9 @@
+package net.jakebrennan.repository.snapshot;
+
+/**
+ * A column of a snapshot table.
+ *
+ * @param name the name of the column in the database.
+ * @param type the encoding of the column.
+ */
+public record SnapshotColumn(String name, ColumnType type) {}
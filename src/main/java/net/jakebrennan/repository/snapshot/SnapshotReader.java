@@ -0,0 +1,144 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a snapshot written by a {@link SnapshotWriter}, one row group at a time.
+ * <p>
+ * A stream that is not a snapshot, or is truncated, fails with a {@link StreamCorruptedException} or an
+ * {@link EOFException}.
+ */
+public class SnapshotReader {
+
+    // a column of a row group is at most a few megabytes; anything larger is a damaged length
+    private static final int MAX_COLUMN_SIZE = 1 << 28;
+
+    private static final int MAX_NAME_SIZE = 1 << 10;
+
+    private static final int MAX_COLUMNS = 1 << 10;
+
+    private final InputStream in;
+
+    private List<SnapshotColumn> columns;
+
+    private ColumnDecoder[] decoders;
+
+    public SnapshotReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, 1 << 16);
+        if (!Arrays.equals(this.in.readNBytes(SnapshotWriter.MAGIC.length), SnapshotWriter.MAGIC)) {
+            throw new StreamCorruptedException("Not a snapshot");
+        }
+        long version = readVarLong();
+        if (version != SnapshotWriter.VERSION) {
+            throw new StreamCorruptedException("Unsupported snapshot version " + version);
+        }
+    }
+
+    /**
+     * Moves to the next table.
+     *
+     * @return the name of the table, or {@code null} at the end of the snapshot.
+     */
+    public String nextTable() throws IOException {
+        if (columns != null) {
+            throw new IllegalStateException("The row groups of the previous table are not all read");
+        }
+        String name = readString();
+        if (name.isEmpty()) {
+            return null;
+        }
+        int count = readLength(MAX_COLUMNS);
+        columns = new ArrayList<>(count);
+        ColumnType[] types = ColumnType.values();
+        for (int i = 0; i < count; i++) {
+            String column = readString();
+            long type = readVarLong();
+            if (type >= types.length) {
+                throw new StreamCorruptedException("Unknown type of column " + column + " of table " + name);
+            }
+            columns.add(new SnapshotColumn(column, types[(int) type]));
+        }
+        decoders = new ColumnDecoder[count];
+        return name;
+    }
+
+    /**
+     * @return the columns of the current table.
+     */
+    public List<SnapshotColumn> columns() {
+        return columns;
+    }
+
+    /**
+     * Moves to the next row group of the current table.
+     *
+     * @return the number of rows of the row group, or 0 at the end of the table.
+     * @throws StreamCorruptedException if the values of the previous row group were not all read.
+     */
+    public int nextRowGroup() throws IOException {
+        for (ColumnDecoder decoder : decoders) {
+            if (decoder != null && decoder.remaining() > 0) {
+                throw new StreamCorruptedException("A column holds more values than its row group");
+            }
+        }
+        int rows = readLength(Integer.MAX_VALUE);
+        if (rows == 0) {
+            columns = null;
+            return 0;
+        }
+        for (int i = 0; i < decoders.length; i++) {
+            decoders[i] = new ColumnDecoder(readBytes(readLength(MAX_COLUMN_SIZE)));
+        }
+        return rows;
+    }
+
+    /**
+     * @return the decoder of a column of the current row group.
+     */
+    public ColumnDecoder column(int index) {
+        return decoders[index];
+    }
+
+    private String readString() throws IOException {
+        return new String(readBytes(readLength(MAX_NAME_SIZE)), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Truncated snapshot");
+        }
+        return bytes;
+    }
+
+    private int readLength(int max) throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > max) {
+            throw new StreamCorruptedException("Invalid length in snapshot: " + length);
+        }
+        return (int) length;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated snapshot");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint in snapshot");
+    }
+}
@@ -0,0 +1,112 @@
+package net.jakebrennan.repository.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes tables in the snapshot format, one row group at a time.
+ * <p>
+ * A snapshot starts with {@link #MAGIC} and the format {@link #VERSION}, followed by its tables and an empty table
+ * name. Each table is its name, its columns (name and {@link ColumnType}) and its row groups, followed by an empty
+ * row group. Each row group is its number of rows and, for each column, the length of the column and its encoded
+ * values: values of the same column are stored together, so that they encode and compress well, and memory use
+ * depends on the size of a row group rather than on the size of the table.
+ */
+public class SnapshotWriter implements RowSink {
+
+    static final byte[] MAGIC = { 'M', 'J', 'S', 'N' };
+
+    static final int VERSION = 1;
+
+    public static final int DEFAULT_ROW_GROUP_SIZE = 8192;
+
+    private final OutputStream out;
+
+    private final int rowGroupSize;
+
+    private ColumnEncoder[] columns;
+
+    private int rows;
+
+    public SnapshotWriter(OutputStream out, int rowGroupSize) throws IOException {
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.rowGroupSize = rowGroupSize;
+        this.out.write(MAGIC);
+        writeVarLong(VERSION);
+    }
+
+    public void startTable(String name, List<SnapshotColumn> tableColumns) throws IOException {
+        if (columns != null) {
+            throw new IllegalStateException("The previous table is not ended");
+        }
+        writeString(name);
+        writeVarLong(tableColumns.size());
+        columns = new ColumnEncoder[tableColumns.size()];
+        for (int i = 0; i < columns.length; i++) {
+            writeString(tableColumns.get(i).name());
+            writeVarLong(tableColumns.get(i).type().ordinal());
+            columns[i] = new ColumnEncoder();
+        }
+    }
+
+    @Override
+    public ColumnEncoder column(int index) {
+        return columns[index];
+    }
+
+    /**
+     * Ends the current row, writing the row group once it is full.
+     */
+    @Override
+    public void endRow() throws IOException {
+        if (++rows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    public void endTable() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        writeVarLong(0);
+        columns = null;
+    }
+
+    /**
+     * Ends the snapshot, and flushes it without closing the underlying stream.
+     */
+    public void finish() throws IOException {
+        if (columns != null) {
+            throw new IllegalStateException("The last table is not ended");
+        }
+        writeString("");
+        out.flush();
+    }
+
+    private void writeRowGroup() throws IOException {
+        writeVarLong(rows);
+        for (ColumnEncoder column : columns) {
+            writeVarLong(column.size());
+            column.writeTo(out);
+            column.clear();
+        }
+        rows = 0;
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length);
+        out.write(utf8);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Compact, column-grouped binary format of the table snapshots.
+ */
+package net.jakebrennan.repository.snapshot;
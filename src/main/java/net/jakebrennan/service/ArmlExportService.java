@@ -0,0 +1,103 @@
+package net.jakebrennan.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import net.jakebrennan.repository.ArmlGameRepository;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.ArmlProfileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service writing whole tables as JSON arrays, one entity at a time.
+ * <p>
+ * Entities are read from a database cursor and serialized straight to the output, and the persistence context is
+ * cleared every {@value #CLEAR_INTERVAL} entities, so the memory used does not depend on the size of the table.
+ * The opening bracket is flushed before the first row is read, so the first byte goes out right away.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArmlExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private final Logger log = LoggerFactory.getLogger(ArmlExportService.class);
+
+    private final ArmlGameRepository armlGameRepository;
+
+    private final ArmlGameScoreRepository armlGameScoreRepository;
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    private final ArmlProfileRepository armlProfileRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter objectWriter;
+
+    public ArmlExportService(
+        ArmlGameRepository armlGameRepository,
+        ArmlGameScoreRepository armlGameScoreRepository,
+        ArmlPlayerRepository armlPlayerRepository,
+        ArmlProfileRepository armlProfileRepository,
+        EntityManager entityManager,
+        ObjectMapper objectMapper
+    ) {
+        this.armlGameRepository = armlGameRepository;
+        this.armlGameScoreRepository = armlGameScoreRepository;
+        this.armlPlayerRepository = armlPlayerRepository;
+        this.armlProfileRepository = armlProfileRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // the generator is flushed once per batch rather than once per entity
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void exportArmlGames(OutputStream out) throws IOException {
+        writeArray(armlGameRepository.streamAll(), out);
+    }
+
+    public void exportArmlGameScores(OutputStream out) throws IOException {
+        writeArray(armlGameScoreRepository.streamAll(), out);
+    }
+
+    public void exportArmlPlayers(OutputStream out) throws IOException {
+        writeArray(armlPlayerRepository.streamAll(), out);
+    }
+
+    public void exportArmlProfiles(OutputStream out) throws IOException {
+        writeArray(armlProfileRepository.streamAll(), out);
+    }
+
+    private <T> void writeArray(Stream<T> entities, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        long written = 0;
+        try (Stream<T> stream = entities; JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            generator.flush();
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                objectWriter.writeValue(generator, iterator.next());
+                if (++written % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.writeEndArray();
+        }
+        log.debug("Exported {} entities in {} ms", written, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,107 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.repository.ArmlGameBatchRepository;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service writing new {@link net.jakebrennan.domain.ArmlGame}s with their scores through JDBC batches.
+ * <p>
+ * This is the shared write path of the bulk imports: it keeps the second-level cache and the state derived from
+ * scores consistent with what it writes.
+ */
+@Service
+@Transactional
+public class ArmlGameBatchService {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlGameBatchService.class);
+
+    private final ArmlGameBatchRepository armlGameBatchRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ArmlGameBatchService(
+        ArmlGameBatchRepository armlGameBatchRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        this.armlGameBatchRepository = armlGameBatchRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * A game to insert.
+     *
+     * @param gameID the {@code gameID} of the game.
+     * @param playedAt when the game was played, or {@code null} to record it as played now.
+     * @param playerIds the ids of the distinct players of the game.
+     * @param scores the score of each player, in the same order.
+     */
+    public record NewGame(long gameID, Instant playedAt, List<Long> playerIds, List<Long> scores) {}
+
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingPlayerIds(Collection<Long> playerIds) {
+        return armlGameBatchRepository.findExistingPlayerIds(playerIds);
+    }
+
+    /**
+     * Inserts the games whose {@code gameID} is not stored yet, with their scores and player links, and publishes
+     * an {@link ArmlGameScoresImportedEvent} for them.
+     *
+     * @param games the games, with distinct {@code gameID}s.
+     * @param batchSize the number of rows per JDBC batch.
+     * @return the id of each inserted game, by {@code gameID}; games that already existed are left out.
+     */
+    public Map<Long, Long> insertNew(Collection<NewGame> games, int batchSize) {
+        List<NewGame> newGames = new ArrayList<>(games);
+        Set<Long> existing = armlGameBatchRepository.findExistingGameIDs(newGames.stream().map(NewGame::gameID).toList());
+        newGames.removeIf(game -> existing.contains(game.gameID()));
+
+        Instant now = Instant.now();
+        Map<Long, Instant> playedAt = new LinkedHashMap<>();
+        newGames.forEach(game -> playedAt.put(game.gameID(), game.playedAt() != null ? game.playedAt() : now));
+        Map<Long, Long> ids = armlGameBatchRepository.insertGames(playedAt, batchSize);
+        List<ArmlGameScoreRow> rows = new ArrayList<>();
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (NewGame game : newGames) {
+            for (int seat = 0; seat < game.playerIds().size(); seat++) {
+                rows.add(new ArmlGameScoreRow(null, ids.get(game.gameID()), game.playerIds().get(seat), game.scores().get(seat)));
+            }
+            playerIds.addAll(game.playerIds());
+        }
+        armlGameBatchRepository.insertScores(rows, batchSize);
+        evictGameCollections(playerIds);
+        log.debug("Inserted a batch of {} ArmlGames", ids.size());
+
+        applicationEventPublisher.publishEvent(new ArmlGameScoresImportedEvent(armlGameBatchRepository.findRowsByGameIds(ids.values())));
+        return ids;
+    }
+
+    private void evictGameCollections(Set<Long> playerIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        for (Long playerId : playerIds) {
+            cache.evictCollectionData(ArmlPlayer.class.getName() + ".games", playerId);
+            cache.evictCollectionData(ArmlPlayer.class.getName() + ".armlGameScores", playerId);
+        }
+    }
+}
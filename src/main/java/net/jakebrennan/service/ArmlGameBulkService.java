@@ -0,0 +1,193 @@
+package net.jakebrennan.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import net.jakebrennan.config.ApplicationProperties;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.service.dto.ArmlGameBulkDTO;
+import net.jakebrennan.service.dto.ArmlGameBulkResultDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service creating {@link net.jakebrennan.domain.ArmlGame}s with their scores from newline-delimited JSON.
+ * <p>
+ * The upload is parsed one line at a time and committed in chunks of
+ * {@link ApplicationProperties.Bulk#getChunkSize()} lines, one transaction per chunk, so that memory use does not
+ * depend on the size of the upload. Invalid lines are rejected individually; the other lines of their chunk are
+ * still imported.
+ */
+@Service
+public class ArmlGameBulkService {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlGameBulkService.class);
+
+    private final ArmlGameBatchService armlGameBatchService;
+
+    private final ObjectMapper objectMapper;
+
+    private final ApplicationProperties applicationProperties;
+
+    public ArmlGameBulkService(
+        ArmlGameBatchService armlGameBatchService,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.armlGameBatchService = armlGameBatchService;
+        this.objectMapper = objectMapper;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Imports every line of an upload.
+     * <p>
+     * A line that is not well-formed JSON ends the upload, as the position of the following lines cannot be
+     * trusted; it is reported like any other rejected line.
+     *
+     * @param in the upload, one {@link ArmlGameBulkDTO} per line.
+     * @param results called once per chunk, after it is committed, with the outcome of each of its lines in order.
+     * @throws IOException if the upload cannot be read.
+     */
+    public void importGames(InputStream in, Consumer<List<ArmlGameBulkResultDTO>> results) throws IOException {
+        int chunkSize = Math.max(1, applicationProperties.getBulk().getChunkSize());
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            while (true) {
+                JsonNode node;
+                int lineNumber;
+                try {
+                    if (parser.nextToken() == null) {
+                        break;
+                    }
+                    lineNumber = parser.getTokenLocation().getLineNr();
+                    node = objectMapper.readTree(parser);
+                } catch (JsonProcessingException e) {
+                    chunk.add(new Line(e.getLocation() != null ? e.getLocation().getLineNr() : -1, null, malformed(e)));
+                    break;
+                }
+                chunk.add(read(lineNumber, node));
+                if (chunk.size() == chunkSize) {
+                    created += importChunk(chunk, results);
+                }
+            }
+        }
+        created += importChunk(chunk, results);
+        log.info("Created {} ArmlGames from a bulk upload", created);
+    }
+
+    private Line read(int lineNumber, JsonNode node) {
+        ArmlGameBulkDTO game;
+        try {
+            game = objectMapper.treeToValue(node, ArmlGameBulkDTO.class);
+        } catch (JsonProcessingException e) {
+            return new Line(lineNumber, null, malformed(e));
+        }
+        if (game == null || game.gameID() == null) {
+            return new Line(lineNumber, game, "gameID is required");
+        }
+        if (game.scores() == null || game.scores().size() != ArmlGame.PLAYERS_PER_GAME) {
+            return new Line(lineNumber, game, "A game needs exactly " + ArmlGame.PLAYERS_PER_GAME + " scores");
+        }
+        Set<Long> playerIds = new HashSet<>();
+        for (ArmlGameBulkDTO.Score score : game.scores()) {
+            if (score == null || score.playerId() == null || score.score() == null) {
+                return new Line(lineNumber, game, "Every score needs a playerId and a score");
+            }
+            if (!playerIds.add(score.playerId())) {
+                return new Line(lineNumber, game, "Duplicate playerId " + score.playerId());
+            }
+        }
+        return new Line(lineNumber, game, null);
+    }
+
+    /**
+     * @return the number of games created.
+     */
+    private int importChunk(List<Line> chunk, Consumer<List<ArmlGameBulkResultDTO>> results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Set<Long> playerIds = new HashSet<>();
+        chunk
+            .stream()
+            .filter(line -> line.error() == null)
+            .forEach(line -> line.game().scores().forEach(score -> playerIds.add(score.playerId())));
+        Set<Long> existingPlayerIds = armlGameBatchService.findExistingPlayerIds(playerIds);
+
+        List<String> errors = new ArrayList<>(chunk.size());
+        Map<Long, ArmlGameBatchService.NewGame> games = new LinkedHashMap<>();
+        for (Line line : chunk) {
+            errors.add(line.error() != null ? line.error() : accept(line.game(), existingPlayerIds, games));
+        }
+
+        Map<Long, Long> ids;
+        try {
+            ids = armlGameBatchService.insertNew(games.values(), chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not write a chunk of a bulk upload : {}", e.getMessage());
+            ids = Map.of();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (errors.get(i) == null) {
+                    errors.set(i, "The chunk of this line could not be written");
+                }
+            }
+        }
+
+        List<ArmlGameBulkResultDTO> chunkResults = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Line line = chunk.get(i);
+            Long gameID = line.game() != null ? line.game().gameID() : null;
+            String error = errors.get(i);
+            if (error == null && !ids.containsKey(gameID)) {
+                error = "A game with gameID " + gameID + " already exists";
+            }
+            chunkResults.add(
+                error == null
+                    ? ArmlGameBulkResultDTO.created(line.number(), gameID, ids.get(gameID))
+                    : ArmlGameBulkResultDTO.rejected(line.number(), gameID, error)
+            );
+        }
+        chunk.clear();
+        results.accept(chunkResults);
+        return ids.size();
+    }
+
+    /**
+     * @return why the game cannot be created, or {@code null} if it was added to the games to create.
+     */
+    private static String accept(ArmlGameBulkDTO game, Set<Long> existingPlayerIds, Map<Long, ArmlGameBatchService.NewGame> games) {
+        List<Long> playerIds = new ArrayList<>(ArmlGame.PLAYERS_PER_GAME);
+        List<Long> scores = new ArrayList<>(ArmlGame.PLAYERS_PER_GAME);
+        for (ArmlGameBulkDTO.Score score : game.scores()) {
+            if (!existingPlayerIds.contains(score.playerId())) {
+                return "Unknown playerId " + score.playerId();
+            }
+            playerIds.add(score.playerId());
+            scores.add(score.score());
+        }
+        if (games.putIfAbsent(game.gameID(), new ArmlGameBatchService.NewGame(game.gameID(), game.playedAt(), playerIds, scores)) != null) {
+            return "Duplicate gameID " + game.gameID() + " in the upload";
+        }
+        return null;
+    }
+
+    private static String malformed(JsonProcessingException e) {
+        return "Malformed line : " + e.getOriginalMessage();
+    }
+
+    private record Line(int number, ArmlGameBulkDTO game, String error) {}
+}
@@ -0,0 +1,81 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.criteria.*;
+import net.jakebrennan.domain.*;
+import net.jakebrennan.repository.ArmlGameRepository;
+import net.jakebrennan.service.criteria.ArmlGameCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link ArmlGame} entities in the database.
+ * The main input is a {@link ArmlGameCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * Every filter is translated to a predicate of a single SQL query, joining the related tables when needed, so that
+ * no entity is loaded only to be discarded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArmlGameQueryService extends QueryService<ArmlGame> {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlGameQueryService.class);
+
+    private final ArmlGameRepository armlGameRepository;
+
+    public ArmlGameQueryService(ArmlGameRepository armlGameRepository) {
+        this.armlGameRepository = armlGameRepository;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ArmlGameCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<ArmlGame> specification = createSpecification(criteria);
+        return armlGameRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ArmlGameCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    public Specification<ArmlGame> createSpecification(ArmlGameCriteria criteria) {
+        Specification<ArmlGame> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), ArmlGame_.id));
+            }
+            if (criteria.getGameID() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getGameID(), ArmlGame_.gameID));
+            }
+            if (criteria.getPlayedAt() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPlayedAt(), ArmlGame_.playedAt));
+            }
+            if (criteria.getArmlGameScoresId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlGameScoresId(), root ->
+                        root.join(ArmlGame_.armlGameScores, JoinType.LEFT).get(ArmlGameScore_.id)
+                    )
+                );
+            }
+            if (criteria.getPlayersId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getPlayersId(), root -> root.join(ArmlGame_.players, JoinType.LEFT).get(ArmlPlayer_.id))
+                );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,87 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.criteria.*;
+import net.jakebrennan.domain.*;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.service.criteria.ArmlGameScoreCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link ArmlGameScore} entities in the database.
+ * The main input is a {@link ArmlGameScoreCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * Every filter is translated to a predicate of a single SQL query, joining the related tables when needed, so that
+ * no entity is loaded only to be discarded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArmlGameScoreQueryService extends QueryService<ArmlGameScore> {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlGameScoreQueryService.class);
+
+    private final ArmlGameScoreRepository armlGameScoreRepository;
+
+    public ArmlGameScoreQueryService(ArmlGameScoreRepository armlGameScoreRepository) {
+        this.armlGameScoreRepository = armlGameScoreRepository;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ArmlGameScoreCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<ArmlGameScore> specification = createSpecification(criteria);
+        return armlGameScoreRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ArmlGameScoreCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    public Specification<ArmlGameScore> createSpecification(ArmlGameScoreCriteria criteria) {
+        Specification<ArmlGameScore> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), ArmlGameScore_.id));
+            }
+            if (criteria.getScore() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getScore(), ArmlGameScore_.score));
+            }
+            if (criteria.getArmlGameId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlGameId(), root ->
+                        root.join(ArmlGameScore_.armlGame, JoinType.LEFT).get(ArmlGame_.id)
+                    )
+                );
+            }
+            if (criteria.getArmlGamePlayedAt() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlGamePlayedAt(), root ->
+                        root.join(ArmlGameScore_.armlGame, JoinType.INNER).get(ArmlGame_.playedAt)
+                    )
+                );
+            }
+            if (criteria.getArmlPlayerId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlPlayerId(), root ->
+                        root.join(ArmlGameScore_.armlPlayer, JoinType.LEFT).get(ArmlPlayer_.id)
+                    )
+                );
+            }
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,97 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.criteria.*;
+import net.jakebrennan.domain.*;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.criteria.ArmlPlayerCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link ArmlPlayer} entities in the database.
+ * The main input is a {@link ArmlPlayerCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * Every filter is translated to a predicate of a single SQL query, joining the related tables when needed, so that
+ * no entity is loaded only to be discarded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArmlPlayerQueryService extends QueryService<ArmlPlayer> {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlPlayerQueryService.class);
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    public ArmlPlayerQueryService(ArmlPlayerRepository armlPlayerRepository) {
+        this.armlPlayerRepository = armlPlayerRepository;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ArmlPlayerCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<ArmlPlayer> specification = createSpecification(criteria);
+        return armlPlayerRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ArmlPlayerCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    public Specification<ArmlPlayer> createSpecification(ArmlPlayerCriteria criteria) {
+        Specification<ArmlPlayer> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), ArmlPlayer_.id));
+            }
+            if (criteria.getPlayerID() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPlayerID(), ArmlPlayer_.playerID));
+            }
+            if (criteria.getFirstName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getFirstName(), ArmlPlayer_.firstName));
+            }
+            if (criteria.getLastName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getLastName(), ArmlPlayer_.lastName));
+            }
+            if (criteria.getTenhouName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getTenhouName(), ArmlPlayer_.tenhouName));
+            }
+            if (criteria.getLeague() != null) {
+                specification = specification.and(buildSpecification(criteria.getLeague(), ArmlPlayer_.league));
+            }
+            if (criteria.getArmlGameScoresId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlGameScoresId(), root ->
+                        root.join(ArmlPlayer_.armlGameScores, JoinType.LEFT).get(ArmlGameScore_.id)
+                    )
+                );
+            }
+            if (criteria.getGamesId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getGamesId(), root -> root.join(ArmlPlayer_.games, JoinType.LEFT).get(ArmlGame_.id))
+                );
+            }
+            if (criteria.getArmlProfileId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getArmlProfileId(), root ->
+                        root.join(ArmlPlayer_.armlProfile, JoinType.LEFT).get(ArmlProfile_.id)
+                    )
+                );
+            }
+        }
+        return specification;
+    }
+}
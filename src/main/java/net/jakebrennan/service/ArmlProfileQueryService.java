@@ -0,0 +1,96 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.criteria.*;
+import net.jakebrennan.domain.*;
+import net.jakebrennan.repository.ArmlProfileRepository;
+import net.jakebrennan.service.criteria.ArmlProfileCriteria;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link ArmlProfile} entities in the database.
+ * The main input is a {@link ArmlProfileCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * Every filter is translated to a predicate of a single SQL query, joining the related tables when needed, so that
+ * no entity is loaded only to be discarded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArmlProfileQueryService extends QueryService<ArmlProfile> {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlProfileQueryService.class);
+
+    private final ArmlProfileRepository armlProfileRepository;
+
+    public ArmlProfileQueryService(ArmlProfileRepository armlProfileRepository) {
+        this.armlProfileRepository = armlProfileRepository;
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(ArmlProfileCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<ArmlProfile> specification = createSpecification(criteria);
+        return armlProfileRepository.count(specification);
+    }
+
+    /**
+     * Function to convert {@link ArmlProfileCriteria} to a {@link Specification}
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    public Specification<ArmlProfile> createSpecification(ArmlProfileCriteria criteria) {
+        Specification<ArmlProfile> specification = Specification.where(null);
+        if (criteria != null) {
+            // This has to be called first, because the distinct method returns null
+            if (criteria.getDistinct() != null) {
+                specification = specification.and(distinct(criteria.getDistinct()));
+            }
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), ArmlProfile_.id));
+            }
+            if (criteria.getWinRate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getWinRate(), ArmlProfile_.winRate));
+            }
+            if (criteria.getFeedRate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFeedRate(), ArmlProfile_.feedRate));
+            }
+            if (criteria.getCallRate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getCallRate(), ArmlProfile_.callRate));
+            }
+            if (criteria.getRiiRate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getRiiRate(), ArmlProfile_.riiRate));
+            }
+            if (criteria.getFeedEV() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFeedEV(), ArmlProfile_.feedEV));
+            }
+            if (criteria.getGamesPlayed() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getGamesPlayed(), ArmlProfile_.gamesPlayed));
+            }
+            if (criteria.getFirstPlaces() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getFirstPlaces(), ArmlProfile_.firstPlaces));
+            }
+            if (criteria.getUserId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getUserId(), root -> root.join(ArmlProfile_.user, JoinType.LEFT).get(User_.id))
+                );
+            }
+            if (criteria.getPlayerIDId() != null) {
+                specification = specification.and(
+                    buildSpecification(criteria.getPlayerIDId(), root ->
+                        root.join(ArmlProfile_.playerID, JoinType.LEFT).get(ArmlPlayer_.id)
+                    )
+                );
+            }
+        }
+        return specification;
+    }
+}
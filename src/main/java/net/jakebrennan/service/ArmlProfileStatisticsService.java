@@ -0,0 +1,235 @@
+package net.jakebrennan.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ArmlProfile;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.repository.ArmlProfileRepository;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.ArmlProfileChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the running counters of {@link ArmlProfile} incrementally.
+ * <p>
+ * Every score write only re-reads the scores of the game(s) it touches, works out how the placements in those
+ * games changed, and applies the difference to the profiles of the players involved. No profile is ever
+ * recomputed from the full score history on the write path.
+ * <p>
+ * Only {@code gamesPlayed}, {@code firstPlaces} and the {@code winRate} derived from them can be computed from
+ * final scores; {@code feedRate}, {@code callRate}, {@code riiRate} and {@code feedEV} need hand-level data and are
+ * left untouched.
+ */
+@Service
+@Transactional
+public class ArmlProfileStatisticsService {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlProfileStatisticsService.class);
+
+    private final ArmlGameScoreRepository armlGameScoreRepository;
+
+    private final ArmlProfileRepository armlProfileRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ArmlProfileStatisticsService(
+        ArmlGameScoreRepository armlGameScoreRepository,
+        ArmlProfileRepository armlProfileRepository,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.armlGameScoreRepository = armlGameScoreRepository;
+        this.armlProfileRepository = armlProfileRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Applies a score write to the profiles of the players of the affected games.
+     * <p>
+     * Runs synchronously inside the transaction of the write, so the counters commit or roll back together with
+     * the score. The profile rows are locked while they are updated, so concurrent writes to different games
+     * sharing a player do not lose updates.
+     *
+     * @param event the score write.
+     */
+    @EventListener
+    public void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        Map<Long, GameOutcome> delta = new HashMap<>();
+        for (Long gameId : event.affectedGameIds()) {
+            List<ArmlGameScoreRow> rowsAfter = armlGameScoreRepository.findRowsByGameId(gameId);
+            outcomes(rowsAfter).forEach((playerId, outcome) -> delta.merge(playerId, outcome, GameOutcome::plus));
+            outcomes(event.rowsBefore(gameId, rowsAfter)).forEach((playerId, outcome) ->
+                delta.merge(playerId, outcome.negate(), GameOutcome::plus)
+            );
+        }
+        apply(delta);
+    }
+
+    /**
+     * Applies scores written in bulk. The games are new, so every game of the event counts in full.
+     *
+     * @param event the bulk write.
+     */
+    @EventListener
+    public void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        Map<Long, List<ArmlGameScoreRow>> rowsByGame = new HashMap<>();
+        for (ArmlGameScoreRow row : event.rows()) {
+            rowsByGame.computeIfAbsent(row.gameId(), gameId -> new ArrayList<>()).add(row);
+        }
+        Map<Long, GameOutcome> delta = new HashMap<>();
+        for (List<ArmlGameScoreRow> rows : rowsByGame.values()) {
+            outcomes(rows).forEach((playerId, outcome) -> delta.merge(playerId, outcome, GameOutcome::plus));
+        }
+        apply(delta);
+    }
+
+    private void apply(Map<Long, GameOutcome> delta) {
+        delta.values().removeIf(GameOutcome::isZero);
+        if (delta.isEmpty()) {
+            return;
+        }
+        log.debug("Applying game counter changes to profiles : {}", delta);
+        for (ArmlProfile armlProfile : armlProfileRepository.findAllByPlayerIdsForUpdate(delta.keySet())) {
+            GameOutcome change = delta.get(armlProfile.getPlayerID().getId());
+            if (change == null) {
+                continue;
+            }
+            setCounters(
+                armlProfile,
+                valueOf(armlProfile.getGamesPlayed()) + change.played(),
+                valueOf(armlProfile.getFirstPlaces()) + change.won()
+            );
+            applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.saved(armlProfile));
+        }
+    }
+
+    /**
+     * Recomputes the counters of a single profile from the scores of its player.
+     * <p>
+     * Used when a profile is linked to a player that may already have games, e.g. on profile creation.
+     *
+     * @param armlProfile the profile to recompute, modified in place.
+     * @return the profile.
+     */
+    public ArmlProfile recompute(ArmlProfile armlProfile) {
+        if (armlProfile.getPlayerID() == null || armlProfile.getPlayerID().getId() == null) {
+            return armlProfile;
+        }
+        Long playerId = armlProfile.getPlayerID().getId();
+        log.debug("Recomputing game counters of player : {}", playerId);
+        setCounters(
+            armlProfile,
+            armlGameScoreRepository.countGamesByPlayerId(playerId),
+            armlGameScoreRepository.countFirstPlacesByPlayerId(playerId)
+        );
+        return armlProfile;
+    }
+
+    /**
+     * Keeps the counters of a profile through an update of it, as only this service writes them: the counters of the
+     * update are replaced by the stored ones, or recomputed if the update links the profile to another player.
+     *
+     * @param stored the profile as stored.
+     * @param armlProfile the update, modified in place.
+     * @return the update.
+     */
+    public ArmlProfile keepCounters(ArmlProfile stored, ArmlProfile armlProfile) {
+        if (!Objects.equals(playerIdOf(stored), playerIdOf(armlProfile))) {
+            armlProfile.setGamesPlayed(0);
+            armlProfile.setFirstPlaces(0);
+            armlProfile.setWinRate(null);
+            return recompute(armlProfile);
+        }
+        armlProfile.setGamesPlayed(stored.getGamesPlayed());
+        armlProfile.setFirstPlaces(stored.getFirstPlaces());
+        armlProfile.setWinRate(stored.getWinRate());
+        return armlProfile;
+    }
+
+    /**
+     * Recomputes the counters of every profile from the scores of a source read in game order.
+     *
+     * @return the number of profiles recomputed.
+     */
+    public int recomputeAll(ScoreRowSource source) {
+        Map<Long, GameOutcome> totals = new HashMap<>();
+        source.forEachGame(rows -> outcomes(rows).forEach((playerId, outcome) -> totals.merge(playerId, outcome, GameOutcome::plus)));
+        int recomputed = 0;
+        for (ArmlProfile armlProfile : armlProfileRepository.findAll()) {
+            if (armlProfile.getPlayerID() == null || armlProfile.getPlayerID().getId() == null) {
+                continue;
+            }
+            GameOutcome total = totals.getOrDefault(armlProfile.getPlayerID().getId(), new GameOutcome(0, 0));
+            setCounters(armlProfile, total.played(), total.won());
+            applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.saved(armlProfile));
+            recomputed++;
+        }
+        log.debug("Recomputed the game counters of {} profiles", recomputed);
+        return recomputed;
+    }
+
+    private static Long playerIdOf(ArmlProfile armlProfile) {
+        return armlProfile.getPlayerID() != null ? armlProfile.getPlayerID().getId() : null;
+    }
+
+    private static void setCounters(ArmlProfile armlProfile, long gamesPlayed, long firstPlaces) {
+        int played = Math.toIntExact(gamesPlayed);
+        int won = Math.toIntExact(firstPlaces);
+        armlProfile.setGamesPlayed(played);
+        armlProfile.setFirstPlaces(won);
+        armlProfile.setWinRate(played > 0 ? 100.0 * won / played : null);
+    }
+
+    private static int valueOf(Integer counter) {
+        return counter != null ? counter : 0;
+    }
+
+    /**
+     * Computes what a game counts for each of its players: one game played, and one first place for every player
+     * holding the highest score (ties share the first place).
+     */
+    static Map<Long, GameOutcome> outcomes(Collection<ArmlGameScoreRow> rows) {
+        long best = rows
+            .stream()
+            .filter(row -> row.playerId() != null && row.score() != null)
+            .mapToLong(ArmlGameScoreRow::score)
+            .max()
+            .orElse(Long.MIN_VALUE);
+        Map<Long, GameOutcome> outcomes = new HashMap<>();
+        for (ArmlGameScoreRow row : rows) {
+            if (row.playerId() == null || row.score() == null) {
+                continue;
+            }
+            outcomes.merge(row.playerId(), new GameOutcome(1, row.score() == best ? 1 : 0), GameOutcome::either);
+        }
+        return outcomes;
+    }
+
+    record GameOutcome(int played, int won) {
+        GameOutcome plus(GameOutcome other) {
+            return new GameOutcome(played + other.played, won + other.won);
+        }
+
+        GameOutcome either(GameOutcome other) {
+            return new GameOutcome(Math.max(played, other.played), Math.max(won, other.won));
+        }
+
+        GameOutcome negate() {
+            return new GameOutcome(-played, -won);
+        }
+
+        boolean isZero() {
+            return played == 0 && won == 0;
+        }
+    }
+}
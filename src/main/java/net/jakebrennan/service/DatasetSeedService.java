@@ -0,0 +1,247 @@
+package net.jakebrennan.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.jakebrennan.config.ApplicationProperties;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.repository.DatasetSeedRepository;
+import net.jakebrennan.repository.DatasetSnapshotRepository;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+import net.jakebrennan.service.seed.CsvReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service seeding the empty game tables from large CSV files, in the format of the Liquibase {@code fake-data} files.
+ * <p>
+ * A directory holds one {@code <table>.csv} file per table to seed: {@code players}, {@code games}, {@code profiles},
+ * {@code scores} and {@code rel_players__games}. The first record of a file names its columns, which may be any of the
+ * columns of a snapshot of the table. Columns left out get their default value, so games without a {@code played_at}
+ * have no known time of play; without a {@code rel_players__games.csv} file, every player is linked to the games it
+ * has a score in.
+ * <p>
+ * The files are streamed in JDBC batches within one transaction, with the indexes a restore defers dropped during the
+ * load, and on MySQL the foreign keys checked once at its end. The state derived from the tables is then rebuilt as
+ * after a restore.
+ * <p>
+ * A seed runs on startup when {@code application.seed.directory} is set, or from the command line with
+ * {@code --seed-csv=<directory>}.
+ */
+@Service
+public class DatasetSeedService {
+
+    private static final char SEPARATOR = ';';
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private final Logger log = LoggerFactory.getLogger(DatasetSeedService.class);
+
+    private final DatasetSeedRepository datasetSeedRepository;
+
+    private final DatasetSnapshotRepository datasetSnapshotRepository;
+
+    private final DatasetSnapshotService datasetSnapshotService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties applicationProperties;
+
+    public DatasetSeedService(
+        DatasetSeedRepository datasetSeedRepository,
+        DatasetSnapshotRepository datasetSnapshotRepository,
+        DatasetSnapshotService datasetSnapshotService,
+        TransactionTemplate transactionTemplate,
+        ApplicationProperties applicationProperties
+    ) {
+        this.datasetSeedRepository = datasetSeedRepository;
+        this.datasetSnapshotRepository = datasetSnapshotRepository;
+        this.datasetSnapshotService = datasetSnapshotService;
+        this.transactionTemplate = transactionTemplate;
+        this.applicationProperties = applicationProperties;
+    }
+
+    /**
+     * Seeds the game tables from the directory of {@code application.seed.directory}, if any, when they are empty.
+     */
+    @EventListener(classes = ApplicationReadyEvent.class, condition = Constants.NOT_IN_COMMAND)
+    public void seedOnStartup() throws IOException {
+        String directory = applicationProperties.getSeed().getDirectory();
+        if (directory == null || directory.isBlank()) {
+            return;
+        }
+        if (!datasetSnapshotRepository.isEmpty()) {
+            log.info("Not seeding the game tables from {}, as they are not empty", directory);
+            return;
+        }
+        seed(Path.of(directory));
+    }
+
+    /**
+     * Seeds the empty game tables from the CSV files of a directory.
+     *
+     * @return the number of rows inserted.
+     * @throws SchemaNotEmptyException if one of the tables holds a row.
+     * @throws IllegalArgumentException if a file names an unknown column or holds a malformed value; nothing is seeded.
+     * @throws org.springframework.dao.DataIntegrityViolationException if a row references a missing one; nothing is
+     * seeded.
+     */
+    public long seed(Path directory) throws IOException {
+        if (!datasetSnapshotRepository.isEmpty()) {
+            throw new SchemaNotEmptyException();
+        }
+        long start = System.currentTimeMillis();
+        List<DatasetSnapshotRepository.Index> deferredIndexes = datasetSnapshotRepository.findDeferredIndexes();
+        // index changes commit on their own in MySQL, so they stay out of the transaction of the rows
+        transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.dropIndexes(deferredIndexes));
+        long rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                if (!datasetSnapshotRepository.isEmpty()) {
+                    throw new SchemaNotEmptyException();
+                }
+                boolean deferred = datasetSeedRepository.disableForeignKeyChecks();
+                try {
+                    long loaded = load(directory);
+                    if (deferred) {
+                        datasetSeedRepository.checkForeignKeys();
+                    }
+                    return loaded;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    if (deferred) {
+                        datasetSeedRepository.enableForeignKeyChecks();
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.createIndexes(deferredIndexes));
+        }
+        transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.restartIdentities());
+        log.info("Seeded {} rows from {} in {} ms", rows, directory, System.currentTimeMillis() - start);
+        datasetSnapshotService.rebuildDerivedState();
+        return rows;
+    }
+
+    private long load(Path directory) throws IOException {
+        Instant now = Instant.now();
+        long rows = 0;
+        for (DatasetSnapshotRepository.Table table : DatasetSnapshotRepository.Table.values()) {
+            Path file = directory.resolve(table.tableName() + ".csv");
+            if (Files.isRegularFile(file)) {
+                long tableRows = load(table, file, now);
+                log.debug("Seeded {} rows of {}", tableRows, table.tableName());
+                rows += tableRows;
+            } else if (table == DatasetSnapshotRepository.Table.PLAYER_GAMES) {
+                rows += datasetSeedRepository.linkPlayersToGames();
+            }
+        }
+        return rows;
+    }
+
+    private long load(DatasetSnapshotRepository.Table table, Path file, Instant now) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CsvReader reader = new CsvReader(in, SEPARATOR);
+            String[] header = reader.next();
+            if (header == null) {
+                return 0;
+            }
+            Map<String, SnapshotColumn> known = table
+                .columns()
+                .stream()
+                .collect(Collectors.toMap(SnapshotColumn::name, Function.identity()));
+            List<SnapshotColumn> columns = new ArrayList<>();
+            for (String name : header) {
+                SnapshotColumn column = known.get(name);
+                if (column == null) {
+                    throw new IllegalArgumentException(file.getFileName() + ": unknown column " + name + " of " + table.tableName());
+                }
+                columns.add(column);
+            }
+            // required instants are set at insert time by the other write paths
+            List<SnapshotColumn> generated = table
+                .columns()
+                .stream()
+                .filter(column -> column.type() == ColumnType.INSTANT && !columns.contains(column))
+                .toList();
+            int parsed = columns.size();
+            columns.addAll(generated);
+
+            long rows = 0;
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            long line = reader.line();
+            for (String[] record = reader.next(); record != null; line = reader.line(), record = reader.next()) {
+                if (record.length == 1 && record[0] == null) {
+                    continue;
+                }
+                if (record.length != parsed) {
+                    throw new IllegalArgumentException(
+                        file.getFileName() + " line " + line + ": " + record.length + " fields, " + parsed + " expected"
+                    );
+                }
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < parsed; i++) {
+                    row[i] = parse(columns.get(i), record[i], file, line);
+                }
+                for (int i = parsed; i < row.length; i++) {
+                    row[i] = now;
+                }
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    datasetSeedRepository.insert(table, columns, batch);
+                    rows += batch.size();
+                    batch.clear();
+                }
+            }
+            datasetSeedRepository.insert(table, columns, batch);
+            return rows + batch.size();
+        }
+    }
+
+    private static Object parse(SnapshotColumn column, String value, Path file, long line) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return switch (column.type()) {
+                case ID, NULLABLE_ID, LONG, NULLABLE_LONG -> Long.valueOf(value.trim());
+                case NULLABLE_DOUBLE -> Double.valueOf(value.trim());
+                case STRING -> value;
+                case INSTANT, NULLABLE_INSTANT -> parseInstant(value.trim());
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException(file.getFileName() + " line " + line + ": invalid " + column.name() + " " + value, e);
+        }
+    }
+
+    /**
+     * Reads an ISO-8601 instant, or a local date-time as a UTC one.
+     */
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package net.jakebrennan.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.DatasetSeedRepository;
+import net.jakebrennan.repository.DatasetSnapshotRepository;
+import net.jakebrennan.repository.parquet.ParquetWriter;
+import net.jakebrennan.repository.snapshot.SnapshotReader;
+import net.jakebrennan.repository.snapshot.SnapshotWriter;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service copying the players, games, scores, profiles and player links to and from a binary snapshot, to clone the
+ * data of one environment into another.
+ * <p>
+ * An export reads every table within one repeatable-read transaction, so the snapshot is consistent. A restore loads
+ * an empty schema in one transaction, with the secondary indexes that no foreign key needs dropped during the load and
+ * created again afterwards, and on MySQL the foreign keys checked once at its end. It then rebuilds the ratings, the
+ * profile counters, the rollups and every in-memory index from the restored rows.
+ * <p>
+ * The players, games, scores and profiles can also be exported as Parquet files for analysis elsewhere, read from the
+ * same cursors in row groups of a fixed number of rows.
+ */
+@Service
+public class DatasetSnapshotService {
+
+    private static final int EXPORT_FETCH_SIZE = 10_000;
+
+    private static final List<DatasetSnapshotRepository.Table> PARQUET_TABLES = List.of(
+        DatasetSnapshotRepository.Table.PLAYERS,
+        DatasetSnapshotRepository.Table.GAMES,
+        DatasetSnapshotRepository.Table.SCORES,
+        DatasetSnapshotRepository.Table.PROFILES
+    );
+
+    private final Logger log = LoggerFactory.getLogger(DatasetSnapshotService.class);
+
+    private final DatasetSnapshotRepository datasetSnapshotRepository;
+
+    private final DatasetSeedRepository datasetSeedRepository;
+
+    private final RatingService ratingService;
+
+    private final ArmlProfileStatisticsService armlProfileStatisticsService;
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    private final ScoreRollupRepairJob scoreRollupRepairJob;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public DatasetSnapshotService(
+        DatasetSnapshotRepository datasetSnapshotRepository,
+        DatasetSeedRepository datasetSeedRepository,
+        RatingService ratingService,
+        ArmlProfileStatisticsService armlProfileStatisticsService,
+        ArmlGameScoreRowRepository armlGameScoreRowRepository,
+        ArmlPlayerRepository armlPlayerRepository,
+        ScoreRollupRepairJob scoreRollupRepairJob,
+        ApplicationEventPublisher applicationEventPublisher,
+        EntityManagerFactory entityManagerFactory,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.datasetSnapshotRepository = datasetSnapshotRepository;
+        this.datasetSeedRepository = datasetSeedRepository;
+        this.ratingService = ratingService;
+        this.armlProfileStatisticsService = armlProfileStatisticsService;
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlPlayerRepository = armlPlayerRepository;
+        this.scoreRollupRepairJob = scoreRollupRepairJob;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void export(OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        SnapshotWriter writer = new SnapshotWriter(out, SnapshotWriter.DEFAULT_ROW_GROUP_SIZE);
+        long rows = 0;
+        for (DatasetSnapshotRepository.Table table : DatasetSnapshotRepository.Table.values()) {
+            writer.startTable(table.tableName(), table.columns());
+            rows += datasetSnapshotRepository.forEachRow(table, EXPORT_FETCH_SIZE, writer);
+            writer.endTable();
+        }
+        writer.finish();
+        log.info("Exported a snapshot of {} rows in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Exports the players, games, scores and profiles as Parquet files, stored in a zip archive as
+     * {@code <table>.parquet}. The files are already compressed, so the archive stores them as they are.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportParquet(OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.NO_COMPRESSION);
+        long rows = 0;
+        for (DatasetSnapshotRepository.Table table : PARQUET_TABLES) {
+            zip.putNextEntry(new ZipEntry(table.tableName() + ".parquet"));
+            rows += writeParquet(table, zip);
+            zip.closeEntry();
+        }
+        zip.finish();
+        log.info("Exported {} rows as Parquet in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Exports the players, games, scores and profiles as Parquet files named {@code <table>.parquet} in a directory,
+     * replacing the files of a previous export.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportParquet(Path directory) throws IOException {
+        long start = System.currentTimeMillis();
+        Files.createDirectories(directory);
+        long rows = 0;
+        for (DatasetSnapshotRepository.Table table : PARQUET_TABLES) {
+            try (OutputStream out = Files.newOutputStream(directory.resolve(table.tableName() + ".parquet"))) {
+                rows += writeParquet(table, out);
+            }
+        }
+        log.info("Exported {} rows as Parquet to {} in {} ms", rows, directory, System.currentTimeMillis() - start);
+    }
+
+    private long writeParquet(DatasetSnapshotRepository.Table table, OutputStream out) throws IOException {
+        ParquetWriter writer = new ParquetWriter(out, table.columns(), ParquetWriter.DEFAULT_ROW_GROUP_SIZE);
+        long rows = datasetSnapshotRepository.forEachRow(table, EXPORT_FETCH_SIZE, writer);
+        writer.finish();
+        log.debug("Exported {} rows of {} as Parquet", rows, table.tableName());
+        return rows;
+    }
+
+    /**
+     * Restores a snapshot into the empty game tables.
+     *
+     * @return the number of rows restored.
+     * @throws SchemaNotEmptyException if one of the tables holds a row.
+     * @throws StreamCorruptedException if the stream is not a snapshot of these tables; nothing is restored.
+     * @throws org.springframework.dao.DataIntegrityViolationException if a row references a missing one; nothing is
+     * restored.
+     */
+    public long restore(InputStream in) throws IOException {
+        if (!datasetSnapshotRepository.isEmpty()) {
+            throw new SchemaNotEmptyException();
+        }
+        long start = System.currentTimeMillis();
+        SnapshotReader reader = new SnapshotReader(in);
+        List<DatasetSnapshotRepository.Index> deferredIndexes = datasetSnapshotRepository.findDeferredIndexes();
+        // index changes commit on their own in MySQL, so they stay out of the transaction of the rows
+        transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.dropIndexes(deferredIndexes));
+        long rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                if (!datasetSnapshotRepository.isEmpty()) {
+                    throw new SchemaNotEmptyException();
+                }
+                boolean deferred = datasetSeedRepository.disableForeignKeyChecks();
+                try {
+                    long loaded = load(reader);
+                    if (deferred) {
+                        datasetSeedRepository.checkForeignKeys();
+                    }
+                    return loaded;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    if (deferred) {
+                        datasetSeedRepository.enableForeignKeyChecks();
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.createIndexes(deferredIndexes));
+        }
+        transactionTemplate.executeWithoutResult(status -> datasetSnapshotRepository.restartIdentities());
+        log.info("Restored a snapshot of {} rows in {} ms", rows, System.currentTimeMillis() - start);
+        rebuildDerivedState();
+        return rows;
+    }
+
+    /**
+     * Rebuilds the ratings, the profile counters, the rollups and every in-memory index once the game tables have been
+     * loaded without going through the persistence context.
+     */
+    void rebuildDerivedState() {
+        long start = System.currentTimeMillis();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        armlPlayerRepository.evictAllTenhouNames();
+        ratingService.replay();
+        ScoreRowSource scores = consumer -> armlGameScoreRowRepository.forEachRowInGameOrder(EXPORT_FETCH_SIZE, consumer);
+        armlProfileStatisticsService.recomputeAll(scores);
+        scoreRollupRepairJob.repairAll();
+        applicationEventPublisher.publishEvent(new DatasetRestoredEvent());
+        log.info("Rebuilt the state derived from the game tables in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private long load(SnapshotReader reader) throws IOException {
+        long rows = 0;
+        for (DatasetSnapshotRepository.Table table : DatasetSnapshotRepository.Table.values()) {
+            long tableRows = datasetSnapshotRepository.read(table, reader);
+            log.debug("Restored {} rows of {}", tableRows, table.tableName());
+            rows += tableRows;
+        }
+        if (reader.nextTable() != null) {
+            throw new StreamCorruptedException("Unexpected table after the last one of the snapshot");
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,166 @@
+package net.jakebrennan.service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.PlayerGameLinkRepository;
+import net.jakebrennan.service.analytics.HyperLogLog;
+import net.jakebrennan.service.event.ArmlGameChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining {@link HyperLogLog} sketches over the links between players and games: the distinct opponents
+ * of each player, and the distinct players of each league in each month of play, among the games with a known time
+ * of play.
+ * <p>
+ * The sketches are built from the {@code rel_players__games} table once the application is ready. Adding a link
+ * twice changes nothing, so every committed change re-reads the links of the games it touches and adds them again.
+ * A sketch cannot forget a value: links removed, and players moved to another league, still count in the sketches
+ * they were added to until the next start.
+ */
+@Service
+public class DistinctPlayerService {
+
+    // 1 KB per player, within about 3% of the count
+    private static final int OPPONENT_PRECISION = 10;
+
+    // 4 KB per league and month, within about 1.6% of the count
+    private static final int PERIOD_PRECISION = 12;
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final Logger log = LoggerFactory.getLogger(DistinctPlayerService.class);
+
+    private final Map<Long, HyperLogLog> opponents = new HashMap<>();
+
+    private final Map<ScoreRollupService.Partition, HyperLogLog> players = new HashMap<>();
+
+    private final PlayerGameLinkRepository playerGameLinkRepository;
+
+    public DistinctPlayerService(PlayerGameLinkRepository playerGameLinkRepository) {
+        this.playerGameLinkRepository = playerGameLinkRepository;
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void load() {
+        long start = System.currentTimeMillis();
+        opponents.clear();
+        players.clear();
+        List<PlayerGameLinkRepository.Link> game = new ArrayList<>();
+        long links = playerGameLinkRepository.forEachLinkInGameOrder(LOAD_FETCH_SIZE, link -> {
+            if (!game.isEmpty() && game.get(0).gameId() != link.gameId()) {
+                addGame(game);
+                game.clear();
+            }
+            game.add(link);
+        });
+        addGame(game);
+        log.info("Loaded {} player links into the distinct player sketches in {} ms", links, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        reload(event.affectedGameIds());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        Set<Long> gameIds = new LinkedHashSet<>();
+        for (ArmlGameScoreRow row : event.rows()) {
+            if (row.gameId() != null) {
+                gameIds.add(row.gameId());
+            }
+        }
+        reload(gameIds);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameChanged(ArmlGameChangedEvent event) {
+        if (event.isPlayedAtChanged()) {
+            reload(List.of(event.current().getId()));
+        }
+    }
+
+    /**
+     * Adds the links of the games of a player, whose games or league may have changed.
+     */
+    @TransactionalEventListener
+    public synchronized void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        if (!event.isDeleted()) {
+            reload(playerGameLinkRepository.findGameIdsByPlayerId(event.id()));
+        }
+    }
+
+    /**
+     * @return the estimated number of distinct players who shared a game with a player.
+     */
+    public synchronized long distinctOpponentsOf(Long playerId) {
+        HyperLogLog sketch = opponents.get(playerId);
+        return sketch != null ? sketch.estimate() : 0;
+    }
+
+    /**
+     * @param league the league; every league if {@code null}.
+     * @return the estimated number of distinct players who played a game in the range of months, each counted once
+     * however many months and leagues they played in.
+     */
+    public synchronized long distinctPlayers(YearMonth from, YearMonth to, ArmlLeague league) {
+        HyperLogLog union = new HyperLogLog(PERIOD_PRECISION);
+        players.forEach((partition, sketch) -> {
+            if ((league == null || partition.league() == league) && !partition.month().isBefore(from) && !partition.month().isAfter(to)) {
+                union.merge(sketch);
+            }
+        });
+        return union.estimate();
+    }
+
+    private void reload(Collection<Long> gameIds) {
+        if (!gameIds.isEmpty()) {
+            playerGameLinkRepository
+                .findByGameIds(gameIds)
+                .stream()
+                .collect(Collectors.groupingBy(PlayerGameLinkRepository.Link::gameId))
+                .values()
+                .forEach(this::addGame);
+        }
+    }
+
+    /**
+     * Adds the links of a single game.
+     */
+    private void addGame(List<PlayerGameLinkRepository.Link> links) {
+        for (PlayerGameLinkRepository.Link link : links) {
+            HyperLogLog sketch = opponents.computeIfAbsent(link.playerId(), id -> new HyperLogLog(OPPONENT_PRECISION));
+            for (PlayerGameLinkRepository.Link other : links) {
+                if (other.playerId() != link.playerId()) {
+                    sketch.add(other.playerId());
+                }
+            }
+            if (link.league() != null && link.playedAt() != null) {
+                YearMonth month = YearMonth.from(link.playedAt().atOffset(ZoneOffset.UTC));
+                players
+                    .computeIfAbsent(new ScoreRollupService.Partition(link.league(), month), partition -> new HyperLogLog(PERIOD_PRECISION))
+                    .add(link.playerId());
+            }
+        }
+    }
+}
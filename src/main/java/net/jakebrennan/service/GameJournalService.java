@@ -0,0 +1,238 @@
+package net.jakebrennan.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import net.jakebrennan.config.ApplicationProperties;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.repository.ArmlGameBatchRepository;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import net.jakebrennan.service.journal.GameJournal;
+import net.jakebrennan.service.journal.JournalEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service appending every committed game result to the {@link GameJournal}, and rebuilding the state derived from
+ * the scores from it.
+ * <p>
+ * Whenever the scores of a game change, the game is re-read once the change is committed and all of its scores are
+ * appended as one {@link JournalEntry}, so that the last entry of a game holds its committed scores whatever the
+ * order in which concurrent changes commit. An empty journal is seeded with every game of the {@code scores} table
+ * once the application is ready, and cleared and seeded again when a snapshot is restored.
+ * <p>
+ * {@link #replay()} folds the journal into the last scores of every game in one sequential scan of the segments, and
+ * rebuilds the head-to-head matrix and the score histograms from them without reading the {@code scores} table.
+ * Entries are appended after their transaction commits, so a crash in between loses them: the journal only ever
+ * rebuilds state held in memory, never the ratings, profile counters or rollups stored in the database. Score writes
+ * wait while a replay runs, from before they commit until their after-commit listeners have run, so none of them
+ * lands in memory between the read of the journal and the rebuild.
+ */
+@Service
+public class GameJournalService {
+
+    private static final int SEED_FETCH_SIZE = 10_000;
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final Logger log = LoggerFactory.getLogger(GameJournalService.class);
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlGameBatchRepository armlGameBatchRepository;
+
+    private final HeadToHeadService headToHeadService;
+
+    private final ScoreHistogramService scoreHistogramService;
+
+    private final GameJournal gameJournal;
+
+    private final ReadWriteLock replayLock = new ReentrantReadWriteLock();
+
+    public GameJournalService(
+        ArmlGameScoreRowRepository armlGameScoreRowRepository,
+        ArmlGameBatchRepository armlGameBatchRepository,
+        HeadToHeadService headToHeadService,
+        ScoreHistogramService scoreHistogramService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlGameBatchRepository = armlGameBatchRepository;
+        this.headToHeadService = headToHeadService;
+        this.scoreHistogramService = scoreHistogramService;
+        ApplicationProperties.Journal properties = applicationProperties.getJournal();
+        if (!properties.isEnabled()) {
+            this.gameJournal = null;
+            return;
+        }
+        try {
+            this.gameJournal = GameJournal.open(Path.of(properties.getDirectory()), properties.getSegmentSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open the game journal in " + properties.getDirectory(), e);
+        }
+    }
+
+    /**
+     * The outcome of a {@link #replay()}.
+     *
+     * @param entries the number of journal entries read.
+     * @param games the number of games with scores.
+     */
+    public record ReplayResult(long entries, int games) {}
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (gameJournal != null) {
+            gameJournal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return gameJournal != null;
+    }
+
+    @EventListener(classes = ApplicationReadyEvent.class, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void seed() {
+        if (gameJournal == null || !gameJournal.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<JournalEntry> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        ScoreRowSource scores = consumer -> armlGameScoreRowRepository.forEachRowInGameOrder(SEED_FETCH_SIZE, consumer);
+        long games = scores.forEachGame(rows -> {
+            batch.add(JournalEntry.of(rows.get(0).gameId(), rows));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                gameJournal.append(batch);
+                batch.clear();
+            }
+        });
+        gameJournal.append(batch);
+        log.info("Seeded the game journal with {} games in {} ms", games, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Replaces the entries of the previous data with the restored games.
+     */
+    @EventListener
+    public synchronized void onDatasetRestored(DatasetRestoredEvent event) throws IOException {
+        if (gameJournal != null) {
+            gameJournal.clear();
+            seed();
+        }
+    }
+
+    /**
+     * Holds off any replay until the transaction of a score write has completed.
+     */
+    @EventListener({ ArmlGameScoreChangedEvent.class, ArmlGameScoresImportedEvent.class })
+    public void holdReplay() {
+        if (gameJournal == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        replayLock.readLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    replayLock.readLock().unlock();
+                }
+            }
+        );
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        journal(event.affectedGameIds());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        if (gameJournal == null) {
+            return;
+        }
+        // imported games are new, so the event holds all of their scores
+        Map<Long, List<ArmlGameScoreRow>> rowsByGame = event
+            .rows()
+            .stream()
+            .filter(row -> row.gameId() != null)
+            .collect(Collectors.groupingBy(ArmlGameScoreRow::gameId, TreeMap::new, Collectors.toList()));
+        List<JournalEntry> entries = new ArrayList<>(rowsByGame.size());
+        rowsByGame.forEach((gameId, rows) -> entries.add(JournalEntry.of(gameId, rows)));
+        gameJournal.append(entries);
+    }
+
+    /**
+     * Rebuilds the head-to-head matrix and the score histograms from the last journaled scores of every game, while
+     * score writes wait.
+     *
+     * @throws IllegalStateException if the journal is disabled.
+     */
+    public ReplayResult replay() {
+        if (gameJournal == null) {
+            throw new IllegalStateException("The game journal is disabled");
+        }
+        // taken before the monitor, as writes hold it while their after-commit listeners enter the monitor
+        replayLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                return replayHeld();
+            }
+        } finally {
+            replayLock.writeLock().unlock();
+        }
+    }
+
+    private ReplayResult replayHeld() {
+        long start = System.currentTimeMillis();
+        Map<Long, JournalEntry> games = new TreeMap<>();
+        long entries = gameJournal.replay(entry -> games.put(entry.gameId(), entry));
+        games.values().removeIf(entry -> entry.size() == 0);
+        log.info("Folded {} journal entries into {} games in {} ms", entries, games.size(), System.currentTimeMillis() - start);
+
+        ScoreRowSource source = consumer -> {
+            long rows = 0;
+            for (JournalEntry entry : games.values()) {
+                entry.rows().forEach(consumer);
+                rows += entry.size();
+            }
+            return rows;
+        };
+        headToHeadService.load(source);
+        scoreHistogramService.load(source);
+        log.info("Replayed the game journal in {} ms", System.currentTimeMillis() - start);
+        return new ReplayResult(entries, games.size());
+    }
+
+    private void journal(Collection<Long> gameIds) {
+        if (gameJournal == null || gameIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ArmlGameScoreRow>> rowsByGame = new TreeMap<>();
+        gameIds.forEach(gameId -> rowsByGame.put(gameId, new ArrayList<>()));
+        for (ArmlGameScoreRow row : armlGameBatchRepository.findRowsByGameIds(gameIds)) {
+            rowsByGame.get(row.gameId()).add(row);
+        }
+        List<JournalEntry> entries = new ArrayList<>(rowsByGame.size());
+        rowsByGame.forEach((gameId, rows) -> entries.add(JournalEntry.of(gameId, rows)));
+        gameJournal.append(entries);
+    }
+}
@@ -0,0 +1,150 @@
+package net.jakebrennan.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.repository.ArmlGameBatchRepository;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.service.analytics.HeadToHead;
+import net.jakebrennan.service.analytics.HeadToHeadMatrix;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining the {@link HeadToHeadMatrix} of every pair of players who shared a game.
+ * <p>
+ * The matrix is built from the {@code scores} table once the application is ready. The scores of each game, as last
+ * applied to the matrix, are kept alongside it: whenever the scores of a game change, the game is re-read and its
+ * old results are swapped for the new ones, so that the matrix converges on the committed state whatever the order
+ * in which concurrent changes commit.
+ */
+@Service
+public class HeadToHeadService {
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final Logger log = LoggerFactory.getLogger(HeadToHeadService.class);
+
+    private final HeadToHeadMatrix headToHeadMatrix = new HeadToHeadMatrix();
+
+    private final Map<Long, GameResult> appliedGames = new HashMap<>();
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlGameBatchRepository armlGameBatchRepository;
+
+    public HeadToHeadService(ArmlGameScoreRowRepository armlGameScoreRowRepository, ArmlGameBatchRepository armlGameBatchRepository) {
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlGameBatchRepository = armlGameBatchRepository;
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public void load() {
+        load(consumer -> armlGameScoreRowRepository.forEachRowInGameOrder(LOAD_FETCH_SIZE, consumer));
+    }
+
+    /**
+     * Rebuilds the matrix from the scores of a source read in game order.
+     */
+    public synchronized void load(ScoreRowSource source) {
+        long start = System.currentTimeMillis();
+        headToHeadMatrix.clear();
+        appliedGames.clear();
+        source.forEachGame(rows -> replace(rows.get(0).gameId(), rows));
+        log.info(
+            "Loaded {} games into the head-to-head matrix ({} pairs) in {} ms",
+            appliedGames.size(),
+            headToHeadMatrix.size(),
+            System.currentTimeMillis() - start
+        );
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        reload(List.copyOf(event.affectedGameIds()));
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        Map<Long, List<ArmlGameScoreRow>> rowsByGame = new HashMap<>();
+        for (ArmlGameScoreRow row : event.rows()) {
+            if (row.gameId() != null) {
+                rowsByGame.computeIfAbsent(row.gameId(), gameId -> new ArrayList<>()).add(row);
+            }
+        }
+        // imported games are new, so the event holds all of their scores
+        rowsByGame.forEach(this::replace);
+    }
+
+    public Optional<HeadToHead> between(Long playerId, Long opponentId) {
+        if (!isValidId(playerId) || !isValidId(opponentId)) {
+            return Optional.empty();
+        }
+        return headToHeadMatrix.between(playerId, opponentId);
+    }
+
+    public List<HeadToHead> rivalsOf(Long playerId) {
+        if (!isValidId(playerId)) {
+            return List.of();
+        }
+        return headToHeadMatrix.rivalsOf(playerId);
+    }
+
+    private static boolean isValidId(Long id) {
+        return id != null && id > 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private void reload(List<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ArmlGameScoreRow>> rowsByGame = new HashMap<>();
+        gameIds.forEach(gameId -> rowsByGame.put(gameId, new ArrayList<>()));
+        for (ArmlGameScoreRow row : armlGameBatchRepository.findRowsByGameIds(gameIds)) {
+            rowsByGame.get(row.gameId()).add(row);
+        }
+        rowsByGame.forEach(this::replace);
+    }
+
+    /**
+     * Swaps the results of a game in the matrix for those of its current scores.
+     */
+    private void replace(Long gameId, List<ArmlGameScoreRow> rows) {
+        GameResult previous = appliedGames.remove(gameId);
+        if (previous != null) {
+            headToHeadMatrix.removeGame(previous.playerIds(), previous.scores());
+        }
+        GameResult current = GameResult.of(rows);
+        if (current.playerIds().length > 1) {
+            headToHeadMatrix.addGame(current.playerIds(), current.scores());
+            appliedGames.put(gameId, current);
+        }
+    }
+
+    /**
+     * The players of a game with their scores, as applied to the matrix.
+     */
+    private record GameResult(long[] playerIds, long[] scores) {
+        static GameResult of(List<ArmlGameScoreRow> rows) {
+            List<ArmlGameScoreRow> scored = rows.stream().filter(row -> row.playerId() != null && row.score() != null).toList();
+            long[] playerIds = new long[scored.size()];
+            long[] scores = new long[scored.size()];
+            for (int i = 0; i < scored.size(); i++) {
+                playerIds[i] = scored.get(i).playerId();
+                scores[i] = scored.get(i).score();
+            }
+            return new GameResult(playerIds, scores);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package net.jakebrennan.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.analytics.Leaderboard;
+import net.jakebrennan.service.analytics.LeaderboardEntry;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining one live {@link Leaderboard} per {@link ArmlLeague}, ranking players by total score.
+ * <p>
+ * The leaderboards are built from one aggregate query once the application is ready, and are then updated
+ * incrementally from committed score and player changes, so that no ranking query ever sorts the players.
+ */
+@Service
+public class LeaderboardService {
+
+    private final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private final Map<ArmlLeague, Leaderboard> leaderboards = new EnumMap<>(ArmlLeague.class);
+
+    private final Map<Long, ArmlLeague> leagueOfPlayer = new HashMap<>();
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    public LeaderboardService(ArmlPlayerRepository armlPlayerRepository) {
+        this.armlPlayerRepository = armlPlayerRepository;
+        for (ArmlLeague league : ArmlLeague.values()) {
+            leaderboards.put(league, new Leaderboard());
+        }
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void load() {
+        leaderboards.values().forEach(Leaderboard::clear);
+        leagueOfPlayer.clear();
+        List<ArmlPlayerRepository.PlayerTotalScore> totals = armlPlayerRepository.findAllTotalScores();
+        for (ArmlPlayerRepository.PlayerTotalScore total : totals) {
+            leagueOfPlayer.put(total.getId(), total.getLeague());
+            leaderboards.get(total.getLeague()).put(total.getId(), total.getTotalScore());
+        }
+        log.info("Loaded {} players into the leaderboards", totals.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        ArmlGameScoreRow previous = event.previous();
+        if (previous != null && previous.playerId() != null && previous.score() != null) {
+            addToTotal(previous.playerId(), -previous.score());
+        }
+        ArmlGameScoreRow current = event.current();
+        if (current != null && current.playerId() != null && current.score() != null) {
+            addToTotal(current.playerId(), current.score());
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        for (ArmlGameScoreRow row : event.rows()) {
+            if (row.playerId() != null && row.score() != null) {
+                addToTotal(row.playerId(), row.score());
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        ArmlLeague previousLeague = event.isDeleted() ? leagueOfPlayer.remove(event.id()) : leagueOfPlayer.get(event.id());
+        ArmlLeague league = event.isDeleted() ? null : event.current().getLeague();
+        if (previousLeague == league) {
+            return;
+        }
+        long totalScore = previousLeague != null ? leaderboards.get(previousLeague).remove(event.id()).orElse(0L) : 0L;
+        if (league != null) {
+            leagueOfPlayer.put(event.id(), league);
+            leaderboards.get(league).put(event.id(), totalScore);
+        }
+    }
+
+    public Optional<LeaderboardEntry> entryOf(ArmlLeague league, Long playerId) {
+        return leaderboards.get(league).entryOf(playerId);
+    }
+
+    public List<LeaderboardEntry> page(ArmlLeague league, int fromRank, int count) {
+        return leaderboards.get(league).page(fromRank, count);
+    }
+
+    /**
+     * @return every entry of the leaderboard of a league, best first.
+     */
+    public List<LeaderboardEntry> standings(ArmlLeague league) {
+        return leaderboards.get(league).top(Integer.MAX_VALUE);
+    }
+
+    public List<LeaderboardEntry> around(ArmlLeague league, Long playerId, int radius) {
+        return leaderboards.get(league).around(playerId, radius);
+    }
+
+    private void addToTotal(Long playerId, long delta) {
+        ArmlLeague league = leagueOfPlayer.get(playerId);
+        if (league == null) {
+            log.warn("Ignoring a score change of unknown player : {}", playerId);
+            return;
+        }
+        leaderboards.get(league).add(playerId, delta);
+    }
+}
@@ -0,0 +1,112 @@
+package net.jakebrennan.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.analytics.SuggestionTrie;
+import net.jakebrennan.service.analytics.TrigramIndex;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service answering searches over the names of {@link ArmlPlayer}s from in-memory indexes: fuzzy searches from a
+ * {@link TrigramIndex}, and prefix autocompletion from a {@link SuggestionTrie}.
+ * <p>
+ * The indexes cover {@code firstName}, {@code lastName} and {@code tenhouName}. They are built once the application
+ * is ready, and are then updated from every committed {@link ArmlPlayerChangedEvent}.
+ */
+@Service
+public class PlayerSearchService {
+
+    /**
+     * Minimum fraction of the trigrams of a query a player must share to be returned: low enough to tolerate a
+     * typo or two in a name, high enough to leave out players only sharing an initial.
+     */
+    private static final double MIN_SIMILARITY = 0.4;
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final Logger log = LoggerFactory.getLogger(PlayerSearchService.class);
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    private final SuggestionTrie suggestionTrie = new SuggestionTrie(MAX_SUGGESTIONS);
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    public PlayerSearchService(ArmlPlayerRepository armlPlayerRepository) {
+        this.armlPlayerRepository = armlPlayerRepository;
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void load() {
+        trigramIndex.clear();
+        suggestionTrie.clear();
+        List<ArmlPlayerRepository.PlayerNames> players = armlPlayerRepository.findAllNames();
+        for (ArmlPlayerRepository.PlayerNames player : players) {
+            index(player.getId(), player.getFirstName(), player.getLastName(), player.getTenhouName());
+        }
+        log.info("Indexed {} players for search", players.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        if (event.isDeleted()) {
+            int id = Math.toIntExact(event.id());
+            trigramIndex.remove(id);
+            suggestionTrie.remove(id);
+        } else {
+            ArmlPlayer armlPlayer = event.current();
+            index(event.id(), armlPlayer.getFirstName(), armlPlayer.getLastName(), armlPlayer.getTenhouName());
+        }
+    }
+
+    /**
+     * Finds the players whose names best match a query.
+     *
+     * @param query the query, e.g. a misspelled name.
+     * @param limit the maximum number of players.
+     * @return the players, best match first.
+     */
+    @Transactional(readOnly = true)
+    public List<ArmlPlayer> search(String query, int limit) {
+        List<TrigramIndex.Hit> hits = trigramIndex.search(query, limit, MIN_SIMILARITY);
+        Map<Long, Integer> rankOfPlayer = new HashMap<>();
+        for (TrigramIndex.Hit hit : hits) {
+            rankOfPlayer.put((long) hit.id(), rankOfPlayer.size());
+        }
+        return armlPlayerRepository
+            .findAllById(rankOfPlayer.keySet())
+            .stream()
+            .sorted(Comparator.comparing(armlPlayer -> rankOfPlayer.get(armlPlayer.getId())))
+            .toList();
+    }
+
+    /**
+     * Completes what a user is typing into player names, from memory only.
+     *
+     * @param prefix the start of a Tenhou name or of a full name, in either order.
+     * @param limit the maximum number of suggestions, at most {@link #MAX_SUGGESTIONS}.
+     * @return the suggestions, shortest name first; their ids are the ids of the players.
+     */
+    public List<SuggestionTrie.Suggestion> suggest(String prefix, int limit) {
+        return suggestionTrie.suggest(prefix, limit);
+    }
+
+    private void index(Long playerId, String firstName, String lastName, String tenhouName) {
+        int id = Math.toIntExact(playerId);
+        trigramIndex.put(id, firstName, lastName, tenhouName);
+        suggestionTrie.put(id, tenhouName, firstName + " " + lastName, lastName + " " + firstName);
+    }
+}
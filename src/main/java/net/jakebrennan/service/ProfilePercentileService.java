@@ -0,0 +1,234 @@
+package net.jakebrennan.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlProfile;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.ProfileMetric;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.ArmlProfileRepository;
+import net.jakebrennan.service.analytics.QuantileSketch;
+import net.jakebrennan.service.dto.ProfileMetricPercentileDTO;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import net.jakebrennan.service.event.ArmlProfileChangedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service maintaining one {@link QuantileSketch} per {@link ArmlLeague} and {@link ProfileMetric}, placing the
+ * metrics of a profile among the profiles of its league.
+ * <p>
+ * The sketches are built from the {@code profiles} table once the application is ready, and are then updated from
+ * committed profile and player changes: a changed metric is removed from the sketch of its league and added again,
+ * and a player moving to another league moves the metrics of its profile. No lookup reads or sorts the profiles of
+ * the league. The last metrics of every profile are kept, so that a sketch worn out by removals can be rebuilt.
+ */
+@Service
+public class ProfilePercentileService {
+
+    private final Logger log = LoggerFactory.getLogger(ProfilePercentileService.class);
+
+    private final Map<ArmlLeague, Map<ProfileMetric, QuantileSketch>> sketches = new EnumMap<>(ArmlLeague.class);
+
+    private final Map<Long, ArmlLeague> leagueOfPlayer = new HashMap<>();
+
+    private final Map<Long, Tracked> profiles = new HashMap<>();
+
+    private final Map<Long, Long> profileOfPlayer = new HashMap<>();
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    private final ArmlProfileRepository armlProfileRepository;
+
+    public ProfilePercentileService(ArmlPlayerRepository armlPlayerRepository, ArmlProfileRepository armlProfileRepository) {
+        this.armlPlayerRepository = armlPlayerRepository;
+        this.armlProfileRepository = armlProfileRepository;
+        for (ArmlLeague league : ArmlLeague.values()) {
+            Map<ProfileMetric, QuantileSketch> byMetric = new EnumMap<>(ProfileMetric.class);
+            for (ProfileMetric metric : ProfileMetric.values()) {
+                byMetric.put(metric, new QuantileSketch());
+            }
+            sketches.put(league, byMetric);
+        }
+    }
+
+    /**
+     * The player of a profile, the league of the player, and the metrics of the profile by {@link ProfileMetric}
+     * ordinal, {@code NaN} when missing.
+     */
+    private record Tracked(Long playerId, ArmlLeague league, double[] values) {
+        Tracked inLeague(ArmlLeague league) {
+            return new Tracked(playerId, league, values);
+        }
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void load() {
+        sketches.values().forEach(byMetric -> byMetric.values().forEach(QuantileSketch::clear));
+        leagueOfPlayer.clear();
+        profiles.clear();
+        profileOfPlayer.clear();
+        armlPlayerRepository.findAllLeagues().forEach(player -> leagueOfPlayer.put(player.getId(), player.getLeague()));
+        List<ArmlProfileRepository.ProfileMetrics> rows = armlProfileRepository.findAllMetrics();
+        for (ArmlProfileRepository.ProfileMetrics row : rows) {
+            double[] values = {
+                valueOf(row.getWinRate()),
+                valueOf(row.getFeedRate()),
+                valueOf(row.getCallRate()),
+                valueOf(row.getRiiRate()),
+                valueOf(row.getFeedEV()),
+            };
+            put(row.getId(), new Tracked(row.getPlayerId(), leagueOf(row.getPlayerId()), values));
+        }
+        log.info("Loaded {} profiles into the percentile sketches", rows.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlProfileChanged(ArmlProfileChangedEvent event) {
+        if (event.isDeleted()) {
+            put(event.id(), null);
+            return;
+        }
+        ArmlProfile armlProfile = event.current();
+        Long playerId = armlProfile.getPlayerID() != null ? armlProfile.getPlayerID().getId() : null;
+        put(armlProfile.getId(), new Tracked(playerId, leagueOf(playerId), valuesOf(armlProfile)));
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        ArmlLeague league = event.isDeleted() ? null : event.current().getLeague();
+        if (league != null) {
+            leagueOfPlayer.put(event.id(), league);
+        } else {
+            leagueOfPlayer.remove(event.id());
+        }
+        Long profileId = profileOfPlayer.get(event.id());
+        if (profileId != null && profiles.get(profileId).league() != league) {
+            put(profileId, profiles.get(profileId).inLeague(league));
+        }
+    }
+
+    /**
+     * @return where a value of a metric falls among the profiles of a league, if any profile of the league has the
+     * metric.
+     */
+    public synchronized Optional<ProfileMetricPercentileDTO> percentileOf(ArmlLeague league, ProfileMetric metric, double value) {
+        QuantileSketch sketch = sketches.get(league).get(metric);
+        if (sketch.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProfileMetricPercentileDTO(league, metric, value, 100.0 * sketch.fractionAtOrBelow(value), sketch.count()));
+    }
+
+    /**
+     * @param percentile a percentile between 0 and 100.
+     * @return the value of a metric at a percentile of the profiles of a league, if any profile of the league has the
+     * metric.
+     */
+    public synchronized Optional<ProfileMetricPercentileDTO> valueAt(ArmlLeague league, ProfileMetric metric, double percentile) {
+        QuantileSketch sketch = sketches.get(league).get(metric);
+        if (sketch.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProfileMetricPercentileDTO(league, metric, sketch.valueAt(percentile / 100.0), percentile, sketch.count()));
+    }
+
+    /**
+     * @return where each metric of a profile falls among the profiles of its league; none if the profile is unknown
+     * or its player is in no league.
+     */
+    public synchronized List<ProfileMetricPercentileDTO> percentilesOfProfile(Long profileId) {
+        Tracked tracked = profiles.get(profileId);
+        List<ProfileMetricPercentileDTO> percentiles = new ArrayList<>();
+        if (tracked == null || tracked.league() == null) {
+            return percentiles;
+        }
+        for (ProfileMetric metric : ProfileMetric.values()) {
+            double value = tracked.values()[metric.ordinal()];
+            if (!Double.isNaN(value)) {
+                percentileOf(tracked.league(), metric, value).ifPresent(percentiles::add);
+            }
+        }
+        return percentiles;
+    }
+
+    /**
+     * Replaces the tracked metrics of a profile, and updates the sketches of the metrics that changed.
+     *
+     * @param next the metrics of the profile, or {@code null} if the profile was deleted.
+     */
+    private void put(Long profileId, Tracked next) {
+        Tracked previous = next != null ? profiles.put(profileId, next) : profiles.remove(profileId);
+        if (previous != null && previous.playerId() != null) {
+            profileOfPlayer.remove(previous.playerId());
+        }
+        if (next != null && next.playerId() != null) {
+            profileOfPlayer.put(next.playerId(), profileId);
+        }
+        for (ProfileMetric metric : ProfileMetric.values()) {
+            double previousValue = previous != null && previous.league() != null ? previous.values()[metric.ordinal()] : Double.NaN;
+            double value = next != null && next.league() != null ? next.values()[metric.ordinal()] : Double.NaN;
+            boolean sameLeague = previous != null && next != null && previous.league() == next.league();
+            if (sameLeague && Double.compare(previousValue, value) == 0) {
+                continue;
+            }
+            if (!Double.isNaN(previousValue)) {
+                QuantileSketch sketch = sketches.get(previous.league()).get(metric);
+                sketch.remove(previousValue);
+                if (sketch.isStale()) {
+                    rebuild(previous.league(), metric, sketch);
+                    if (next != null && next.league() == previous.league()) {
+                        // the rebuilt sketch already holds the new value
+                        continue;
+                    }
+                }
+            }
+            if (!Double.isNaN(value)) {
+                sketches.get(next.league()).get(metric).add(value);
+            }
+        }
+    }
+
+    private void rebuild(ArmlLeague league, ProfileMetric metric, QuantileSketch sketch) {
+        log.debug("Rebuilding the {} sketch of {}", metric, league);
+        sketch.clear();
+        for (Tracked tracked : profiles.values()) {
+            double value = tracked.values()[metric.ordinal()];
+            if (tracked.league() == league && !Double.isNaN(value)) {
+                sketch.add(value);
+            }
+        }
+    }
+
+    private ArmlLeague leagueOf(Long playerId) {
+        return playerId != null ? leagueOfPlayer.get(playerId) : null;
+    }
+
+    private static double[] valuesOf(ArmlProfile armlProfile) {
+        double[] values = new double[ProfileMetric.values().length];
+        for (ProfileMetric metric : ProfileMetric.values()) {
+            values[metric.ordinal()] = switch (metric) {
+                case WIN_RATE -> valueOf(armlProfile.getWinRate());
+                case FEED_RATE -> valueOf(armlProfile.getFeedRate());
+                case CALL_RATE -> valueOf(armlProfile.getCallRate());
+                case RII_RATE -> valueOf(armlProfile.getRiiRate());
+                case FEED_EV -> valueOf(armlProfile.getFeedEV());
+            };
+        }
+        return values;
+    }
+
+    private static double valueOf(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,251 @@
+package net.jakebrennan.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import net.jakebrennan.config.ApplicationProperties;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.ArmlRating;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.ArmlRatingBatchRepository;
+import net.jakebrennan.repository.ArmlRatingRepository;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.rating.MultiplayerElo;
+import net.jakebrennan.service.rating.RatingModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the {@link ArmlRating} of every player, with a {@link MultiplayerElo} model.
+ * <p>
+ * Games are always rated in the order of their ids, so that the incremental ratings are those a replay computes.
+ * Ratings are updated incrementally when a game is finalized, i.e. when a write gives it its
+ * {@value ArmlGame#PLAYERS_PER_GAME}th score: only the ratings of the players of that game are read and
+ * written.
+ * <p>
+ * Writes to a game that is already finalized are not applied incrementally, as Elo updates cannot be undone once
+ * later games depend on them, and neither are games finalized after a later game of one of their players was rated:
+ * {@link #replay()} recomputes every rating from the full history, in game order.
+ */
+@Service
+@Transactional
+public class RatingService {
+
+    private static final int REPLAY_FETCH_SIZE = 1000;
+
+    private static final int REPLAY_BATCH_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(RatingService.class);
+
+    private final ArmlGameScoreRepository armlGameScoreRepository;
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    private final ArmlRatingRepository armlRatingRepository;
+
+    private final ArmlRatingBatchRepository armlRatingBatchRepository;
+
+    private final RatingModel ratingModel;
+
+    public RatingService(
+        ArmlGameScoreRepository armlGameScoreRepository,
+        ArmlGameScoreRowRepository armlGameScoreRowRepository,
+        ArmlPlayerRepository armlPlayerRepository,
+        ArmlRatingRepository armlRatingRepository,
+        ArmlRatingBatchRepository armlRatingBatchRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.armlGameScoreRepository = armlGameScoreRepository;
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlPlayerRepository = armlPlayerRepository;
+        this.armlRatingRepository = armlRatingRepository;
+        this.armlRatingBatchRepository = armlRatingBatchRepository;
+        ApplicationProperties.Rating rating = applicationProperties.getRating();
+        this.ratingModel = new MultiplayerElo(rating.getInitialRating(), rating.getK());
+    }
+
+    /**
+     * Rates the games finalized by a score write.
+     * <p>
+     * Runs synchronously inside the transaction of the write, so the ratings commit or roll back together with the
+     * score. The player rows are locked while their ratings are updated, so concurrent games sharing a player neither
+     * lose updates nor both create its first rating.
+     *
+     * @param event the score write.
+     */
+    @EventListener
+    public void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        SortedMap<Long, List<ArmlGameScoreRow>> finalized = new TreeMap<>();
+        for (Long gameId : event.affectedGameIds()) {
+            List<ArmlGameScoreRow> rowsAfter = armlGameScoreRepository.findRowsByGameId(gameId);
+            if (isFinal(rowsAfter) && !isFinal(event.rowsBefore(gameId, rowsAfter))) {
+                finalized.put(gameId, rowsAfter);
+            }
+        }
+        rateIncrementally(finalized);
+    }
+
+    /**
+     * Rates the imported games, in game order.
+     *
+     * @param event the import.
+     */
+    @EventListener
+    public void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        // imported games are new, so the event holds all of their scores
+        SortedMap<Long, List<ArmlGameScoreRow>> rowsByGame = new TreeMap<>();
+        for (ArmlGameScoreRow row : event.rows()) {
+            if (row.gameId() != null) {
+                rowsByGame.computeIfAbsent(row.gameId(), gameId -> new ArrayList<>()).add(row);
+            }
+        }
+        rowsByGame.values().removeIf(rows -> !isFinal(rows));
+        rateIncrementally(rowsByGame);
+    }
+
+    /**
+     * Recomputes every rating from scratch, replaying the finalized games of the {@code scores} table in game order.
+     *
+     * @return the number of games rated and of players with a rating.
+     */
+    public ReplayResult replay() {
+        return replay(consumer -> armlGameScoreRowRepository.forEachRowInGameOrder(REPLAY_FETCH_SIZE, consumer));
+    }
+
+    /**
+     * Recomputes every rating from scratch, replaying the finalized games of a source in game order.
+     * <p>
+     * The scores are read in a single streaming pass, holding only the scores of the current game and one rating
+     * per player in memory; the ratings table is then rewritten in batches.
+     *
+     * @return the number of games rated and of players with a rating.
+     */
+    public ReplayResult replay(ScoreRowSource source) {
+        long start = System.currentTimeMillis();
+        Map<Long, ArmlRating> ratings = new HashMap<>();
+        Function<Long, ArmlRating> ratingOf = playerId ->
+            ratings.computeIfAbsent(playerId, id -> new ArmlRating().id(id).rating(ratingModel.initialRating()).games(0));
+        int[] rated = { 0 };
+        source.forEachGame(game -> rated[0] += rate(game, ratingOf) ? 1 : 0);
+        armlRatingBatchRepository.replaceAll(ratings.values(), REPLAY_BATCH_SIZE);
+        log.info("Replayed {} games into {} ratings in {} ms", rated[0], ratings.size(), System.currentTimeMillis() - start);
+        return new ReplayResult(rated[0], ratings.size());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ArmlRating> findByPlayerId(Long playerId) {
+        return armlRatingRepository.findById(playerId);
+    }
+
+    /**
+     * @return the highest ratings, best first.
+     */
+    @Transactional(readOnly = true)
+    public List<ArmlRating> top(int size) {
+        return armlRatingRepository.findAllByOrderByRatingDescIdAsc(PageRequest.of(0, size));
+    }
+
+    private void rateIncrementally(SortedMap<Long, List<ArmlGameScoreRow>> rowsByGame) {
+        if (rowsByGame.isEmpty()) {
+            return;
+        }
+        Set<Long> playerIds = new HashSet<>();
+        rowsByGame.values().forEach(rows -> rows.forEach(row -> playerIds.add(row.playerId())));
+        // the player rows are locked first, as the rating rows of players without one yet cannot be
+        Map<Long, ArmlPlayer> players = new HashMap<>();
+        for (ArmlPlayer armlPlayer : armlPlayerRepository.findAllByIdsForUpdate(playerIds)) {
+            players.put(armlPlayer.getId(), armlPlayer);
+        }
+        Map<Long, ArmlRating> ratings = new HashMap<>();
+        for (ArmlRating armlRating : armlRatingRepository.findAllByPlayerIdsForUpdate(playerIds)) {
+            ratings.put(armlRating.getId(), armlRating);
+        }
+        Map<Long, ArmlRating> created = new HashMap<>();
+        Function<Long, ArmlRating> ratingOf = playerId -> {
+            ArmlRating armlRating = ratings.get(playerId);
+            return armlRating != null ? armlRating : created.computeIfAbsent(playerId, id -> newRating(players.get(id)));
+        };
+        log.debug("Rating games : {}", rowsByGame.keySet());
+        rowsByGame.forEach((gameId, rows) -> {
+            if (rows.stream().map(row -> ratings.get(row.playerId())).anyMatch(rating -> isAfter(rating, gameId))) {
+                log.warn("Not rating game {} as a later game of its players is already rated, until the next replay", gameId);
+                return;
+            }
+            rate(rows, ratingOf);
+        });
+        armlRatingRepository.saveAll(created.values());
+    }
+
+    private ArmlRating newRating(ArmlPlayer armlPlayer) {
+        return new ArmlRating().armlPlayer(armlPlayer).rating(ratingModel.initialRating()).games(0);
+    }
+
+    private static boolean isAfter(ArmlRating armlRating, Long gameId) {
+        return armlRating != null && armlRating.getLastGameId() != null && armlRating.getLastGameId() > gameId;
+    }
+
+    /**
+     * Applies a game to the ratings of its players, if it is final.
+     *
+     * @return whether the game was rated.
+     */
+    private boolean rate(List<ArmlGameScoreRow> rows, Function<Long, ArmlRating> ratingOf) {
+        if (!isFinal(rows)) {
+            return false;
+        }
+        int n = rows.size();
+        ArmlRating[] players = new ArmlRating[n];
+        double[] values = new double[n];
+        long[] scores = new long[n];
+        for (int i = 0; i < n; i++) {
+            players[i] = ratingOf.apply(rows.get(i).playerId());
+            values[i] = players[i].getRating();
+            scores[i] = rows.get(i).score();
+        }
+        ratingModel.rate(values, scores);
+        for (int i = 0; i < n; i++) {
+            players[i].rating(values[i]).games(players[i].getGames() + 1).lastGameId(rows.get(i).gameId());
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the scores are those of a finalized game: one score for each of
+     * {@value ArmlGame#PLAYERS_PER_GAME} different players.
+     */
+    private static boolean isFinal(List<ArmlGameScoreRow> rows) {
+        if (rows.size() != ArmlGame.PLAYERS_PER_GAME) {
+            return false;
+        }
+        Set<Long> playerIds = new HashSet<>();
+        for (ArmlGameScoreRow row : rows) {
+            if (row.playerId() == null || row.score() == null || !playerIds.add(row.playerId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The outcome of a {@link #replay()}.
+     */
+    public record ReplayResult(int games, int players) {}
+}
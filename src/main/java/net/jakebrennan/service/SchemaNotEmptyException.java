@@ -0,0 +1,10 @@
+package net.jakebrennan.service;
+
+public class SchemaNotEmptyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SchemaNotEmptyException() {
+        super("The game tables are not empty!");
+    }
+}
@@ -0,0 +1,130 @@
+package net.jakebrennan.service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.analytics.ScoreColumnStore;
+import net.jakebrennan.service.analytics.ScoreSeries;
+import net.jakebrennan.service.analytics.ScoreSummary;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service answering aggregate queries over scores from the off-heap {@link ScoreColumnStore}.
+ * <p>
+ * The store is loaded from the {@code scores} table once the application is ready, and is then kept in sync by
+ * applying every committed {@link ArmlGameScoreChangedEvent}.
+ */
+@Service
+public class ScoreAnalyticsService {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final Logger log = LoggerFactory.getLogger(ScoreAnalyticsService.class);
+
+    private volatile ScoreColumnStore scoreColumnStore = new ScoreColumnStore();
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    public ScoreAnalyticsService(ArmlGameScoreRowRepository armlGameScoreRowRepository, ArmlPlayerRepository armlPlayerRepository) {
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlPlayerRepository = armlPlayerRepository;
+    }
+
+    /**
+     * Loads every score into a new store, which replaces the current one once complete: queries keep reading the
+     * current store in the meantime, rather than a partly loaded one.
+     * <p>
+     * Score changes are applied under the same monitor, so that a change committed while the store is loading is
+     * applied once the load is complete rather than being overwritten by it.
+     */
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public synchronized void load() {
+        long start = System.currentTimeMillis();
+        ScoreColumnStore loaded = new ScoreColumnStore();
+        long rows = armlGameScoreRowRepository.forEachRow(LOAD_BATCH_SIZE, row -> upsert(loaded, row));
+        scoreColumnStore = loaded;
+        log.info(
+            "Loaded {} scores into the column store in {} ms ({} bytes off-heap)",
+            rows,
+            System.currentTimeMillis() - start,
+            loaded.offHeapBytes()
+        );
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        if (event.current() != null) {
+            upsert(scoreColumnStore, event.current());
+        } else if (event.previous() != null) {
+            scoreColumnStore.remove(event.previous().id());
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        event.rows().forEach(row -> upsert(scoreColumnStore, row));
+    }
+
+    public ScoreSummary summarize() {
+        return scoreColumnStore.summarize();
+    }
+
+    /**
+     * Aggregates scores per league of the scoring player, in a single scan of the store.
+     */
+    @Transactional(readOnly = true)
+    public Map<ArmlLeague, ScoreSummary> summarizeByLeague() {
+        List<ArmlPlayerRepository.PlayerLeague> players = armlPlayerRepository.findAllLeagues();
+        int maxPlayerId = players.stream().mapToInt(player -> Math.toIntExact(player.getId())).max().orElse(0);
+        int[] leagueOfPlayer = new int[maxPlayerId + 1];
+        Arrays.fill(leagueOfPlayer, -1);
+        players.forEach(player -> leagueOfPlayer[Math.toIntExact(player.getId())] = player.getLeague().ordinal());
+
+        ArmlLeague[] leagues = ArmlLeague.values();
+        ScoreSummary[] summaries = scoreColumnStore.summarizeGroups(leagueOfPlayer, leagues.length);
+        Map<ArmlLeague, ScoreSummary> result = new EnumMap<>(ArmlLeague.class);
+        for (ArmlLeague league : leagues) {
+            result.put(league, summaries[league.ordinal()]);
+        }
+        return result;
+    }
+
+    public ScoreSeries seriesOf(Long playerId) {
+        return scoreColumnStore.seriesOf(playerId);
+    }
+
+    /**
+     * @return the scores of each player, in the order of {@code playerIds}.
+     */
+    public long[][] scoresOf(long[] playerIds) {
+        return scoreColumnStore.scoresOfPlayers(playerIds);
+    }
+
+    /**
+     * Stores a score, or removes it from the store when it has no value.
+     */
+    private static void upsert(ScoreColumnStore store, ArmlGameScoreRow row) {
+        if (row.score() != null) {
+            store.upsert(row.id(), row.gameId(), row.playerId(), row.score());
+        } else {
+            store.remove(row.id());
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package net.jakebrennan.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import net.jakebrennan.config.Constants;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.analytics.ScoreDistribution;
+import net.jakebrennan.service.analytics.ScoreHistogram;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.DatasetRestoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service maintaining one {@link ScoreHistogram} per player.
+ * <p>
+ * The histograms are built from the {@code scores} table once the application is ready, and every committed score
+ * change then updates the histogram of its player in constant time. The distributions of a league and of all
+ * players are merged from the histograms of their players on demand, so a player moving to another league needs no
+ * update. Scores that are not linked to a player are only part of the distribution of all players.
+ * <p>
+ * The scan of the {@code scores} table runs while scores are written, and may or may not see a score whose change is
+ * applied afterwards. So the histograms are built aside, and only replace the current ones if no score write was
+ * under way or applied during the scan; otherwise the scan starts over once the writes under way are applied.
+ */
+@Service
+public class ScoreHistogramService {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private final Logger log = LoggerFactory.getLogger(ScoreHistogramService.class);
+
+    private Map<Long, ScoreHistogram> histograms = new HashMap<>();
+
+    private ScoreHistogram unassigned = new ScoreHistogram();
+
+    private int writesUnderWay;
+
+    private long writesCompleted;
+
+    private final ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private final ArmlPlayerRepository armlPlayerRepository;
+
+    public ScoreHistogramService(ArmlGameScoreRowRepository armlGameScoreRowRepository, ArmlPlayerRepository armlPlayerRepository) {
+        this.armlGameScoreRowRepository = armlGameScoreRowRepository;
+        this.armlPlayerRepository = armlPlayerRepository;
+    }
+
+    @EventListener(classes = { ApplicationReadyEvent.class, DatasetRestoredEvent.class }, condition = Constants.NOT_IN_COMMAND)
+    public void load() {
+        ScoreRowSource source = consumer -> armlGameScoreRowRepository.forEachRow(LOAD_BATCH_SIZE, consumer);
+        long start = System.currentTimeMillis();
+        while (true) {
+            long writes;
+            synchronized (this) {
+                try {
+                    while (writesUnderWay > 0) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while waiting for the score writes under way, the score histograms are not loaded");
+                    return;
+                }
+                writes = writesCompleted;
+            }
+            Map<Long, ScoreHistogram> loaded = new HashMap<>();
+            ScoreHistogram loadedUnassigned = new ScoreHistogram();
+            long rows = source.forEachRow(row -> add(loaded, loadedUnassigned, row));
+            synchronized (this) {
+                if (writesUnderWay == 0 && writesCompleted == writes) {
+                    histograms = loaded;
+                    unassigned = loadedUnassigned;
+                    long time = System.currentTimeMillis() - start;
+                    log.info("Loaded {} scores into {} player histograms in {} ms", rows, loaded.size(), time);
+                    return;
+                }
+            }
+            log.debug("Scores were written while they were loaded into the histograms, loading them again");
+        }
+    }
+
+    /**
+     * Rebuilds the histograms from the scores of a source that no score write changes while it is read.
+     */
+    public synchronized void load(ScoreRowSource source) {
+        long start = System.currentTimeMillis();
+        histograms.clear();
+        unassigned.clear();
+        long rows = source.forEachRow(this::add);
+        log.info("Loaded {} scores into {} player histograms in {} ms", rows, histograms.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Counts a score write as under way until its committed change has been applied, or its transaction rolled back.
+     */
+    @EventListener({ ArmlGameScoreChangedEvent.class, ArmlGameScoresImportedEvent.class })
+    public synchronized void onScoreWrite() {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            writesUnderWay++;
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        if (event.previous() != null) {
+            remove(event.previous());
+        }
+        if (event.current() != null) {
+            add(event.current());
+        }
+        completeWrite();
+    }
+
+    @TransactionalEventListener
+    public synchronized void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        event.rows().forEach(this::add);
+        completeWrite();
+    }
+
+    @TransactionalEventListener(
+        classes = { ArmlGameScoreChangedEvent.class, ArmlGameScoresImportedEvent.class },
+        phase = TransactionPhase.AFTER_ROLLBACK
+    )
+    public synchronized void onScoreWriteRolledBack() {
+        completeWrite();
+    }
+
+    public synchronized ScoreDistribution distributionOfPlayer(Long playerId) {
+        ScoreHistogram histogram = histograms.get(playerId);
+        return histogram != null ? histogram.toDistribution() : ScoreDistribution.EMPTY;
+    }
+
+    @Transactional(readOnly = true)
+    public ScoreDistribution distributionOfLeague(ArmlLeague league) {
+        return merge(armlPlayerRepository.findIdsByLeague(league));
+    }
+
+    public synchronized ScoreDistribution distribution() {
+        ScoreHistogram merged = new ScoreHistogram();
+        histograms.values().forEach(merged::merge);
+        merged.merge(unassigned);
+        return merged.toDistribution();
+    }
+
+    private synchronized ScoreDistribution merge(Collection<Long> playerIds) {
+        ScoreHistogram merged = new ScoreHistogram();
+        for (Long playerId : playerIds) {
+            ScoreHistogram histogram = histograms.get(playerId);
+            if (histogram != null) {
+                merged.merge(histogram);
+            }
+        }
+        return merged.toDistribution();
+    }
+
+    private void completeWrite() {
+        if (writesUnderWay > 0) {
+            writesUnderWay--;
+        }
+        writesCompleted++;
+        notifyAll();
+    }
+
+    private void add(ArmlGameScoreRow row) {
+        add(histograms, unassigned, row);
+    }
+
+    private static void add(Map<Long, ScoreHistogram> histograms, ScoreHistogram unassigned, ArmlGameScoreRow row) {
+        if (row.score() == null) {
+            return;
+        }
+        ScoreHistogram histogram = row.playerId() != null
+            ? histograms.computeIfAbsent(row.playerId(), id -> new ScoreHistogram())
+            : unassigned;
+        histogram.add(row.score());
+    }
+
+    private void remove(ArmlGameScoreRow row) {
+        if (row.score() == null) {
+            return;
+        }
+        ScoreHistogram histogram = histogramOf(row.playerId());
+        histogram.remove(row.score());
+        if (histogram.isEmpty() && row.playerId() != null) {
+            histograms.remove(row.playerId());
+        }
+    }
+
+    private ScoreHistogram histogramOf(Long playerId) {
+        return playerId != null ? histograms.computeIfAbsent(playerId, id -> new ScoreHistogram()) : unassigned;
+    }
+}
@@ -0,0 +1,41 @@
+package net.jakebrennan.service;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Job rebuilding every score rollup from the raw scores, so that rollups that drifted are repaired.
+ * <p>
+ * Each league and month is rebuilt in its own transaction, so that the job never locks more than one partition
+ * of the rollups at a time. Scheduled by {@code application.rollup.repair-cron}.
+ */
+@Service
+public class ScoreRollupRepairJob {
+
+    static final String DEFAULT_REPAIR_CRON = "0 30 3 * * ?";
+
+    private final Logger log = LoggerFactory.getLogger(ScoreRollupRepairJob.class);
+
+    private final ScoreRollupService scoreRollupService;
+
+    public ScoreRollupRepairJob(ScoreRollupService scoreRollupService) {
+        this.scoreRollupService = scoreRollupService;
+    }
+
+    /**
+     * @return the number of partitions rebuilt.
+     */
+    @Scheduled(cron = "${application.rollup.repair-cron:" + DEFAULT_REPAIR_CRON + "}")
+    public int repairAll() {
+        long start = System.currentTimeMillis();
+        List<ScoreRollupService.Partition> partitions = scoreRollupService.prunePartitions();
+        for (ScoreRollupService.Partition partition : partitions) {
+            scoreRollupService.rebuildPartition(partition.league(), partition.month());
+        }
+        log.info("Repaired the score rollups of {} partitions in {} ms", partitions.size(), System.currentTimeMillis() - start);
+        return partitions.size();
+    }
+}
@@ -0,0 +1,266 @@
+package net.jakebrennan.service;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ScoreRollup;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.RollupMetric;
+import net.jakebrennan.repository.ScoreRollupRepository;
+import net.jakebrennan.service.dto.LeaguePeriodSummaryDTO;
+import net.jakebrennan.service.event.ArmlGameChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service maintaining the {@code score_rollups} table: the count, sum and sum of squares of the scores made by the
+ * players of each {@link ArmlLeague}, per month of play.
+ * <p>
+ * Every score write adds its delta to the rollups it touches, inside the transaction of the write, and a player
+ * moving to another league, or a game to another month, moves its scores between the rollups. Rollups can drift from
+ * the raw scores when games or scores are changed outside of these paths:
+ * {@link #rebuildPartition(ArmlLeague, YearMonth)} recomputes the rollups of one league and month from the raw scores.
+ * <p>
+ * The scores of games with no known time of play belong to no month, and are left out until the game is given one.
+ */
+@Service
+@Transactional
+public class ScoreRollupService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final Logger log = LoggerFactory.getLogger(ScoreRollupService.class);
+
+    private final ScoreRollupRepository scoreRollupRepository;
+
+    public ScoreRollupService(ScoreRollupRepository scoreRollupRepository) {
+        this.scoreRollupRepository = scoreRollupRepository;
+    }
+
+    /**
+     * A league and a month of play, whose rollups are maintained together.
+     */
+    public record Partition(ArmlLeague league, YearMonth month) {}
+
+    @EventListener
+    public void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        Deltas deltas = new Deltas();
+        List<ArmlGameScoreRow> rows = new ArrayList<>(2);
+        if (event.previous() != null) {
+            rows.add(event.previous());
+        }
+        if (event.current() != null) {
+            rows.add(event.current());
+        }
+        Lookup lookup = lookup(rows);
+        if (event.previous() != null) {
+            deltas.add(lookup, event.previous(), -1);
+        }
+        if (event.current() != null) {
+            deltas.add(lookup, event.current(), 1);
+        }
+        apply(deltas);
+    }
+
+    @EventListener
+    public void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        Deltas deltas = new Deltas();
+        Lookup lookup = lookup(event.rows());
+        event.rows().forEach(row -> deltas.add(lookup, row, 1));
+        apply(deltas);
+    }
+
+    /**
+     * Moves the scores of a player between the rollups of its previous and its new league.
+     */
+    @EventListener
+    public void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        if (!event.isLeagueChanged()) {
+            return;
+        }
+        Deltas deltas = new Deltas();
+        ArmlLeague previousLeague = event.previousLeague();
+        ArmlLeague league = event.current().getLeague();
+        scoreRollupRepository.forEachScoreOfPlayer(event.id(), (playedAt, score) -> {
+            int period = ScoreRollup.periodOf(playedAt);
+            deltas.add(previousLeague, period, score, -1);
+            deltas.add(league, period, score, 1);
+        });
+        apply(deltas);
+    }
+
+    /**
+     * Moves the scores of a game between the rollups of its previous and its new month of play, or adds them to the
+     * rollups of its first known month of play.
+     */
+    @EventListener
+    public void onArmlGameChanged(ArmlGameChangedEvent event) {
+        if (!event.isPlayedAtChanged()) {
+            return;
+        }
+        Integer previousPeriod = event.previousPlayedAt() != null ? ScoreRollup.periodOf(event.previousPlayedAt()) : null;
+        int period = ScoreRollup.periodOf(event.current().getPlayedAt());
+        if (previousPeriod != null && previousPeriod == period) {
+            return;
+        }
+        Deltas deltas = new Deltas();
+        scoreRollupRepository.forEachScoreOfGame(event.current().getId(), (league, score) -> {
+            if (previousPeriod != null) {
+                deltas.add(league, previousPeriod, score, -1);
+            }
+            deltas.add(league, period, score, 1);
+        });
+        apply(deltas);
+    }
+
+    /**
+     * Recomputes the rollups of one league and month from the raw scores.
+     *
+     * @return the recomputed rollups.
+     */
+    public List<ScoreRollup> rebuildPartition(ArmlLeague league, YearMonth month) {
+        Instant from = month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        Instant to = month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        List<ScoreRollup> rows = scoreRollupRepository.rebuildPartition(league, ScoreRollup.periodOf(month), from, to);
+        log.debug("Rebuilt the score rollups of {} in {} : {}", league, month, rows);
+        return rows;
+    }
+
+    /**
+     * Deletes the rollups of the months without any game, and lists every league and month in which games were
+     * played.
+     *
+     * @return the partitions to rebuild to repair every rollup.
+     */
+    public List<Partition> prunePartitions() {
+        Instant first = scoreRollupRepository.findFirstPlayedAt().orElse(null);
+        Instant last = scoreRollupRepository.findLastPlayedAt().orElse(null);
+        if (first == null || last == null) {
+            scoreRollupRepository.deleteAll();
+            return List.of();
+        }
+        YearMonth firstMonth = ScoreRollup.monthOf(ScoreRollup.periodOf(first));
+        YearMonth lastMonth = ScoreRollup.monthOf(ScoreRollup.periodOf(last));
+        scoreRollupRepository.deleteOutside(ScoreRollup.periodOf(firstMonth), ScoreRollup.periodOf(lastMonth));
+        List<Partition> partitions = new ArrayList<>();
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            for (ArmlLeague league : ArmlLeague.values()) {
+                partitions.add(new Partition(league, month));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * @return the summary of the scores of each league and month in the range that has any score, ordered by month
+     * and league.
+     */
+    @Transactional(readOnly = true)
+    public List<LeaguePeriodSummaryDTO> summarize(YearMonth from, YearMonth to, ArmlLeague league) {
+        Map<Partition, long[]> amounts = new LinkedHashMap<>();
+        for (ScoreRollup row : scoreRollupRepository.findByPeriodBetween(ScoreRollup.periodOf(from), ScoreRollup.periodOf(to), league)) {
+            amounts.computeIfAbsent(new Partition(row.league(), ScoreRollup.monthOf(row.period())), partition ->
+                new long[RollupMetric.values().length]
+            )[row.metric().ordinal()] = row.amount();
+        }
+        List<LeaguePeriodSummaryDTO> summaries = new ArrayList<>(amounts.size());
+        amounts.forEach((partition, values) -> {
+            long count = values[RollupMetric.SCORE_COUNT.ordinal()];
+            if (count > 0) {
+                summaries.add(
+                    LeaguePeriodSummaryDTO.of(
+                        partition.league(),
+                        partition.month(),
+                        count,
+                        values[RollupMetric.SCORE_SUM.ordinal()],
+                        values[RollupMetric.SCORE_SUM_OF_SQUARES.ordinal()]
+                    )
+                );
+            }
+        });
+        return summaries;
+    }
+
+    private Lookup lookup(List<ArmlGameScoreRow> rows) {
+        Set<Long> playerIds = new HashSet<>();
+        Set<Long> gameIds = new HashSet<>();
+        for (ArmlGameScoreRow row : rows) {
+            if (row.playerId() != null && row.gameId() != null && row.score() != null) {
+                playerIds.add(row.playerId());
+                gameIds.add(row.gameId());
+            }
+        }
+        return new Lookup(scoreRollupRepository.findLeaguesByPlayerIds(playerIds), scoreRollupRepository.findPlayedAtByGameIds(gameIds));
+    }
+
+    private void apply(Deltas deltas) {
+        List<ScoreRollup> changes = deltas.toRollups();
+        if (!changes.isEmpty()) {
+            log.debug("Applying score rollup changes : {}", changes);
+            scoreRollupRepository.add(changes, BATCH_SIZE);
+        }
+    }
+
+    /**
+     * The league of the players and the time of play of the games of some score rows.
+     */
+    private record Lookup(Map<Long, ArmlLeague> leagues, Map<Long, Instant> playedAt) {}
+
+    /**
+     * Changes to the metrics of some partitions, summed before they are written.
+     */
+    private static final class Deltas {
+
+        // ordered so that concurrent writes lock the rollup rows in the same order
+        private final Map<ArmlLeague, Map<Integer, long[]>> byLeague = new EnumMap<>(ArmlLeague.class);
+
+        private void add(Lookup lookup, ArmlGameScoreRow row, int sign) {
+            if (row.playerId() == null || row.gameId() == null || row.score() == null) {
+                return;
+            }
+            ArmlLeague league = lookup.leagues().get(row.playerId());
+            Instant playedAt = lookup.playedAt().get(row.gameId());
+            if (league != null && playedAt != null) {
+                add(league, ScoreRollup.periodOf(playedAt), row.score(), sign);
+            }
+        }
+
+        private void add(ArmlLeague league, int period, long score, int sign) {
+            long[] values = byLeague
+                .computeIfAbsent(league, l -> new TreeMap<>())
+                .computeIfAbsent(period, p -> new long[RollupMetric.values().length]);
+            values[RollupMetric.SCORE_COUNT.ordinal()] += sign;
+            values[RollupMetric.SCORE_SUM.ordinal()] += sign * score;
+            values[RollupMetric.SCORE_SUM_OF_SQUARES.ordinal()] += sign * score * score;
+        }
+
+        private List<ScoreRollup> toRollups() {
+            List<ScoreRollup> rollups = new ArrayList<>();
+            byLeague.forEach((league, byPeriod) ->
+                byPeriod.forEach((period, values) -> {
+                    for (RollupMetric metric : RollupMetric.values()) {
+                        if (values[metric.ordinal()] != 0) {
+                            rollups.add(new ScoreRollup(league, period, metric, values[metric.ordinal()]));
+                        }
+                    }
+                })
+            );
+            return rollups;
+        }
+    }
+}
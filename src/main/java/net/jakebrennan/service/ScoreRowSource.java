@@ -0,0 +1,46 @@
+package net.jakebrennan.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+
+/**
+ * A source of score rows read in a single sequential pass. {@link #forEachGame(Consumer)} needs a source read in game
+ * order, where the scores of each game arrive together.
+ * <p>
+ * Lets the state derived from the scores be rebuilt either from the {@code scores} table or from the game journal.
+ */
+@FunctionalInterface
+public interface ScoreRowSource {
+    /**
+     * @return the number of rows read.
+     */
+    long forEachRow(Consumer<ArmlGameScoreRow> consumer);
+
+    /**
+     * Calls the consumer once with the rows of each game. Rows that are not linked to a game are skipped.
+     *
+     * @return the number of games read.
+     */
+    default long forEachGame(Consumer<List<ArmlGameScoreRow>> consumer) {
+        List<ArmlGameScoreRow> game = new ArrayList<>();
+        long[] games = { 0 };
+        forEachRow(row -> {
+            if (row.gameId() == null) {
+                return;
+            }
+            if (!game.isEmpty() && !game.get(0).gameId().equals(row.gameId())) {
+                consumer.accept(game);
+                game.clear();
+                games[0]++;
+            }
+            game.add(row);
+        });
+        if (!game.isEmpty()) {
+            consumer.accept(game);
+            games[0]++;
+        }
+        return games[0];
+    }
+}
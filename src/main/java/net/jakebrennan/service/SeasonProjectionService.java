@@ -0,0 +1,133 @@
+package net.jakebrennan.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import net.jakebrennan.config.ApplicationProperties;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.service.analytics.LeaderboardEntry;
+import net.jakebrennan.service.analytics.SeasonProjection;
+import net.jakebrennan.service.analytics.SeasonSimulator;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Service projecting the end of season of each {@link ArmlLeague} with a {@link SeasonSimulator}.
+ * <p>
+ * The players of a league start from their standing on the live leaderboard, and play the rest of their
+ * {@link ApplicationProperties.Projection#getSeasonGames()} games with scores drawn from their own history. Players
+ * without any score yet draw from the scores of the whole league.
+ * <p>
+ * Projections run on a dedicated fork-join pool, and are cached until the next committed score or player change.
+ */
+@Service
+public class SeasonProjectionService {
+
+    private final Logger log = LoggerFactory.getLogger(SeasonProjectionService.class);
+
+    private final Map<ArmlLeague, CachedProjection> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final LeaderboardService leaderboardService;
+
+    private final ScoreAnalyticsService scoreAnalyticsService;
+
+    private final ApplicationProperties.Projection properties;
+
+    private final ForkJoinPool forkJoinPool;
+
+    private final SeasonSimulator seasonSimulator;
+
+    public SeasonProjectionService(
+        LeaderboardService leaderboardService,
+        ScoreAnalyticsService scoreAnalyticsService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.leaderboardService = leaderboardService;
+        this.scoreAnalyticsService = scoreAnalyticsService;
+        this.properties = applicationProperties.getProjection();
+        int parallelism = properties.getParallelism() > 0 ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.forkJoinPool = new ForkJoinPool(parallelism);
+        this.seasonSimulator = new SeasonSimulator(forkJoinPool);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    @TransactionalEventListener
+    public void onArmlGameScoreChanged(ArmlGameScoreChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onArmlGameScoresImported(ArmlGameScoresImportedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onArmlPlayerChanged(ArmlPlayerChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return the projection of the league, from the cache if no score or player changed since it was computed.
+     */
+    public SeasonProjection projectionOf(ArmlLeague league) {
+        // read the version first, so that a change during the simulation leaves the result stale
+        long current = version.get();
+        CachedProjection cached = cache.get(league);
+        if (cached != null && cached.version() == current) {
+            return cached.projection();
+        }
+        SeasonProjection projection = simulate(league);
+        cache.put(league, new CachedProjection(current, projection));
+        return projection;
+    }
+
+    private SeasonProjection simulate(ArmlLeague league) {
+        long start = System.currentTimeMillis();
+        List<LeaderboardEntry> standings = leaderboardService.standings(league);
+        long[] playerIds = standings.stream().mapToLong(LeaderboardEntry::playerId).toArray();
+        long[][] scores = scoreAnalyticsService.scoresOf(playerIds);
+        long[] leagueScores = Arrays.stream(scores).flatMapToLong(Arrays::stream).toArray();
+
+        List<SeasonSimulator.Contender> contenders = new ArrayList<>(standings.size());
+        for (int i = 0; i < standings.size(); i++) {
+            LeaderboardEntry entry = standings.get(i);
+            int remainingGames = Math.max(0, properties.getSeasonGames() - scores[i].length);
+            long[] drawn = scores[i].length > 0 ? scores[i] : leagueScores;
+            contenders.add(new SeasonSimulator.Contender(entry.playerId(), entry.totalScore(), remainingGames, drawn));
+        }
+        ArmlLeague[] leagues = ArmlLeague.values();
+        int promotionPlaces = league.ordinal() > 0 ? properties.getPromotionPlaces() : 0;
+        int relegationPlaces = league.ordinal() < leagues.length - 1 ? properties.getRelegationPlaces() : 0;
+        int simulations = Math.max(1, properties.getSimulations());
+
+        SeasonProjection projection = new SeasonProjection(
+            league,
+            simulations,
+            properties.getSeasonGames(),
+            promotionPlaces,
+            relegationPlaces,
+            seasonSimulator.simulate(contenders, promotionPlaces, relegationPlaces, simulations, new SplittableRandom())
+        );
+        log.debug("Simulated {} seasons of {} in {} ms", simulations, league, System.currentTimeMillis() - start);
+        return projection;
+    }
+
+    private record CachedProjection(long version, SeasonProjection projection) {}
+}
@@ -0,0 +1,201 @@
+package net.jakebrennan.service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.stream.XMLStreamException;
+import net.jakebrennan.repository.ArmlGameBatchRepository;
+import net.jakebrennan.service.tenhou.MjlogParser;
+import net.jakebrennan.service.tenhou.TenhouImportResult;
+import net.jakebrennan.service.tenhou.TenhouLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service importing Tenhou mjlogs as {@link net.jakebrennan.domain.ArmlGame}s and
+ * {@link net.jakebrennan.domain.ArmlGameScore}s.
+ * <p>
+ * Logs are streamed one at a time and buffered into batches of games, each written with a handful of JDBC batch
+ * statements. Players are matched by {@code tenhouName}. Accepted inputs are plain or gzipped mjlogs, and zip
+ * archives of those.
+ */
+@Service
+@Transactional
+public class TenhouImportService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final Logger log = LoggerFactory.getLogger(TenhouImportService.class);
+
+    private final MjlogParser mjlogParser = new MjlogParser();
+
+    private final ArmlGameBatchRepository armlGameBatchRepository;
+
+    private final ArmlGameBatchService armlGameBatchService;
+
+    public TenhouImportService(ArmlGameBatchRepository armlGameBatchRepository, ArmlGameBatchService armlGameBatchService) {
+        this.armlGameBatchRepository = armlGameBatchRepository;
+        this.armlGameBatchService = armlGameBatchService;
+    }
+
+    /**
+     * Imports every game of the given files. Games already imported, and games with a player that cannot be
+     * matched, are skipped, the latter reported with the names that match no player; unreadable logs are reported
+     * rather than failing the whole import.
+     *
+     * @param resources the mjlog files or zip archives.
+     * @return the outcome of the import.
+     */
+    public TenhouImportResult importLogs(Iterable<? extends Resource> resources) {
+        long start = System.currentTimeMillis();
+        Import anImport = new Import(armlGameBatchRepository.findPlayerIdsByTenhouName());
+        for (Resource resource : resources) {
+            String filename = Objects.requireNonNullElse(resource.getFilename(), resource.getDescription());
+            try (InputStream in = resource.getInputStream()) {
+                if (filename.toLowerCase().endsWith(".zip")) {
+                    readArchive(in, anImport);
+                } else {
+                    read(filename, in, anImport);
+                }
+            } catch (IOException e) {
+                log.warn("Could not read Tenhou logs from {} : {}", filename, e.getMessage());
+                anImport.failed.add(filename);
+            }
+        }
+        flush(anImport);
+        TenhouImportResult result = anImport.toResult();
+        log.info("Imported Tenhou logs in {} ms : {}", System.currentTimeMillis() - start, result);
+        return result;
+    }
+
+    private void readArchive(InputStream in, Import anImport) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            if (!entry.isDirectory()) {
+                read(entry.getName(), zip, anImport);
+            }
+        }
+    }
+
+    /**
+     * Reads one log, without closing the stream so that it can be an archive entry.
+     */
+    private void read(String filename, InputStream in, Import anImport) throws IOException {
+        String logId = logIdOf(filename);
+        InputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        int magic = buffered.read() | (buffered.read() << 8);
+        buffered.reset();
+        TenhouLog tenhouLog;
+        try {
+            tenhouLog = mjlogParser.parse(logId, magic == GZIP_MAGIC ? new GZIPInputStream(buffered) : buffered);
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            log.warn("Could not read Tenhou log {} : {}", logId, e.getMessage());
+            anImport.failed.add(logId);
+            return;
+        }
+        if (anImport.add(tenhouLog) >= BATCH_SIZE) {
+            flush(anImport);
+        }
+    }
+
+    private void flush(Import anImport) {
+        if (anImport.pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> ids = armlGameBatchService.insertNew(anImport.pending.values(), BATCH_SIZE);
+        anImport.imported += ids.size();
+        anImport.duplicates += anImport.pending.size() - ids.size();
+        anImport.pending.clear();
+    }
+
+    /**
+     * @return the file name without its directories and extensions, e.g. {@code 2024010112gm-0009-0000-0123abcd}.
+     */
+    static String logIdOf(String filename) {
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1);
+        int extension = name.indexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    /**
+     * State of one import.
+     */
+    private static final class Import {
+
+        private final Map<String, Long> playerIdsByTenhouName;
+        private final Map<Long, ArmlGameBatchService.NewGame> pending = new LinkedHashMap<>();
+        private final List<String> failed = new ArrayList<>();
+        private final Set<String> unknownNames = new LinkedHashSet<>();
+        private final Map<String, List<String>> unknownNamesByLog = new LinkedHashMap<>();
+        private int imported;
+        private int duplicates;
+
+        private Import(Map<String, Long> playerIdsByTenhouName) {
+            this.playerIdsByTenhouName = playerIdsByTenhouName;
+        }
+
+        /**
+         * @return the number of pending games.
+         */
+        private int add(TenhouLog tenhouLog) {
+            List<Long> playerIds = new ArrayList<>(tenhouLog.names().size());
+            List<String> missingNames = new ArrayList<>();
+            for (String name : tenhouLog.names()) {
+                Long playerId = playerIdsByTenhouName.get(name);
+                if (playerId != null) {
+                    playerIds.add(playerId);
+                } else {
+                    missingNames.add(name);
+                }
+            }
+            if (!missingNames.isEmpty()) {
+                unknownNames.addAll(missingNames);
+                unknownNamesByLog.put(tenhouLog.logId(), List.copyOf(missingNames));
+                return pending.size();
+            }
+            if (playerIds.stream().distinct().count() < playerIds.size()) {
+                failed.add(tenhouLog.logId());
+                return pending.size();
+            }
+            Instant playedAt = tenhouLog.playedAt().orElse(null);
+            ArmlGameBatchService.NewGame game = new ArmlGameBatchService.NewGame(
+                tenhouLog.gameID(),
+                playedAt,
+                playerIds,
+                tenhouLog.finalScores()
+            );
+            if (pending.putIfAbsent(tenhouLog.gameID(), game) != null) {
+                duplicates++;
+            }
+            return pending.size();
+        }
+
+        private TenhouImportResult toResult() {
+            return new TenhouImportResult(
+                imported,
+                duplicates,
+                List.copyOf(failed),
+                Set.copyOf(unknownNames),
+                Collections.unmodifiableMap(new LinkedHashMap<>(unknownNamesByLog))
+            );
+        }
+    }
+}
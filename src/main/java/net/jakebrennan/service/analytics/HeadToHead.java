@@ -0,0 +1,13 @@
+package net.jakebrennan.service.analytics;
+
+/**
+ * Record of one player against another over the games they both played, seen from the first player.
+ *
+ * @param playerId the id of the player.
+ * @param opponentId the id of the opponent.
+ * @param games the number of games both played.
+ * @param wins the number of those games in which the player finished higher than the opponent.
+ * @param losses the number of those games in which the opponent finished higher than the player.
+ * @param averageScoreDifference the average of the score of the player minus the score of the opponent.
+ */
+public record HeadToHead(long playerId, long opponentId, int games, int wins, int losses, double averageScoreDifference) {}
@@ -0,0 +1,294 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sparse matrix of head-to-head records between players.
+ * <p>
+ * Only pairs of players who shared at least one game are stored, in primitive columns indexed by the two player
+ * ids packed into a {@code long}, lowest id first. Each entry holds the number of shared games, the sum
+ * of the score differences and how often each player finished higher, so that a game is added or removed in
+ * {@code O(k^2)} for its {@code k} players. The opponents of each player are indexed as well, so that the rivals of
+ * a player are listed without scanning the matrix.
+ * <p>
+ * Player ids must be positive {@code int}s.
+ * <p>
+ * This class is thread-safe: reads share a read lock and writes take the write lock.
+ */
+public class HeadToHeadMatrix {
+
+    private static final Comparator<HeadToHead> MOST_GAMES_FIRST = Comparator.comparingInt(HeadToHead::games)
+        .reversed()
+        .thenComparingLong(HeadToHead::opponentId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final PairTable pairs = new PairTable();
+
+    private final Map<Integer, Opponents> opponents = new HashMap<>();
+
+    /**
+     * Adds the results of a game.
+     *
+     * @param playerIds the ids of the players of the game.
+     * @param scores the final scores, in the order of {@code playerIds}.
+     */
+    public void addGame(long[] playerIds, long[] scores) {
+        apply(playerIds, scores, 1);
+    }
+
+    /**
+     * Removes the results of a game previously added with the same arguments.
+     *
+     * @param playerIds the ids of the players of the game.
+     * @param scores the final scores, in the order of {@code playerIds}.
+     */
+    public void removeGame(long[] playerIds, long[] scores) {
+        apply(playerIds, scores, -1);
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            pairs.clear();
+            opponents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of pairs of players who shared at least one game.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return pairs.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the record of a player against an opponent, if they shared at least one game.
+     */
+    public Optional<HeadToHead> between(long playerId, long opponentId) {
+        lock.readLock().lock();
+        try {
+            int slot = pairs.find(key(toId(playerId), toId(opponentId)));
+            return slot < 0 ? Optional.empty() : Optional.of(pairs.headToHead(slot, playerId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the records of a player against every opponent it shared a game with, most shared games first.
+     */
+    public List<HeadToHead> rivalsOf(long playerId) {
+        int id = toId(playerId);
+        lock.readLock().lock();
+        try {
+            Opponents ofPlayer = opponents.get(id);
+            if (ofPlayer == null) {
+                return List.of();
+            }
+            List<HeadToHead> rivals = new ArrayList<>(ofPlayer.size);
+            for (int i = 0; i < ofPlayer.size; i++) {
+                rivals.add(pairs.headToHead(pairs.find(key(id, ofPlayer.ids[i])), playerId));
+            }
+            rivals.sort(MOST_GAMES_FIRST);
+            return rivals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(long[] playerIds, long[] scores, int sign) {
+        if (playerIds.length != scores.length) {
+            throw new IllegalArgumentException("Expected one score per player");
+        }
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < playerIds.length; i++) {
+                for (int j = i + 1; j < playerIds.length; j++) {
+                    int a = toId(playerIds[i]);
+                    int b = toId(playerIds[j]);
+                    if (a == b) {
+                        continue;
+                    }
+                    // orient the pair so that the score difference is that of the lowest id
+                    long difference = a < b ? scores[i] - scores[j] : scores[j] - scores[i];
+                    update(Math.min(a, b), Math.max(a, b), sign, difference);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void update(int low, int high, int sign, long difference) {
+        long key = key(low, high);
+        int slot = pairs.find(key);
+        if (slot < 0) {
+            if (sign < 0) {
+                return;
+            }
+            slot = pairs.insert(key);
+            opponentsOf(low).add(high);
+            opponentsOf(high).add(low);
+        }
+        pairs.games[slot] += sign;
+        pairs.differences[slot] += sign * difference;
+        if (difference > 0) {
+            pairs.lowAhead[slot] += sign;
+        } else if (difference < 0) {
+            pairs.highAhead[slot] += sign;
+        }
+        if (pairs.games[slot] <= 0) {
+            pairs.remove(key);
+            removeOpponent(low, high);
+            removeOpponent(high, low);
+        }
+    }
+
+    private Opponents opponentsOf(int playerId) {
+        return opponents.computeIfAbsent(playerId, id -> new Opponents());
+    }
+
+    private void removeOpponent(int playerId, int opponentId) {
+        Opponents ofPlayer = opponents.get(playerId);
+        if (ofPlayer != null && ofPlayer.remove(opponentId) && ofPlayer.size == 0) {
+            opponents.remove(playerId);
+        }
+    }
+
+    private static long key(int a, int b) {
+        return a < b ? ((long) a << 32) | b : ((long) b << 32) | a;
+    }
+
+    private static int toId(long playerId) {
+        if (playerId <= 0) {
+            throw new IllegalArgumentException("Player ids must be positive: " + playerId);
+        }
+        return Math.toIntExact(playerId);
+    }
+
+    /**
+     * Unordered list of the opponents of one player.
+     */
+    private static final class Opponents {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            ids[size++] = id;
+        }
+
+        private boolean remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Counters of the pairs, one dense primitive column per counter. Removing a pair moves the last pair into its
+     * slot, and a {@link LongIntHashMap} maps the packed pairs of ids to their slots.
+     */
+    static final class PairTable {
+
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private final LongIntHashMap slots = new LongIntHashMap(INITIAL_CAPACITY);
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] games = new int[INITIAL_CAPACITY];
+        private long[] differences = new long[INITIAL_CAPACITY];
+        private int[] lowAhead = new int[INITIAL_CAPACITY];
+        private int[] highAhead = new int[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * @return the slot of the key, or a negative value if it is not present.
+         */
+        int find(long key) {
+            return slots.get(key);
+        }
+
+        /**
+         * Inserts a key that is not present, with zeroed counters.
+         *
+         * @return the slot of the key.
+         */
+        int insert(long key) {
+            if (size == keys.length) {
+                grow(size << 1);
+            }
+            int slot = size++;
+            keys[slot] = key;
+            games[slot] = 0;
+            differences[slot] = 0;
+            lowAhead[slot] = 0;
+            highAhead[slot] = 0;
+            slots.put(key, slot);
+            return slot;
+        }
+
+        void remove(long key) {
+            int slot = slots.remove(key);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                keys[slot] = keys[last];
+                games[slot] = games[last];
+                differences[slot] = differences[last];
+                lowAhead[slot] = lowAhead[last];
+                highAhead[slot] = highAhead[last];
+                slots.put(keys[slot], slot);
+            }
+        }
+
+        void clear() {
+            slots.clear();
+            size = 0;
+        }
+
+        HeadToHead headToHead(int slot, long playerId) {
+            long low = keys[slot] >>> 32;
+            long high = keys[slot] & 0xFFFFFFFFL;
+            boolean isLow = playerId == low;
+            int shared = games[slot];
+            double averageDifference = (double) differences[slot] / shared;
+            return isLow
+                ? new HeadToHead(low, high, shared, lowAhead[slot], highAhead[slot], averageDifference)
+                : new HeadToHead(high, low, shared, highAhead[slot], lowAhead[slot], -averageDifference);
+        }
+
+        private void grow(int newLength) {
+            keys = Arrays.copyOf(keys, newLength);
+            games = Arrays.copyOf(games, newLength);
+            differences = Arrays.copyOf(differences, newLength);
+            lowAhead = Arrays.copyOf(lowAhead, newLength);
+            highAhead = Arrays.copyOf(highAhead, newLength);
+        }
+    }
+}
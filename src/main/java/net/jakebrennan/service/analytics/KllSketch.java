@@ -0,0 +1,165 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * KLL sketch of a stream of values (Karnin, Lang and Liberty), estimating the rank of any value within about
+ * {@code 1.7 / k} of the number of values, in {@code O(k)} memory.
+ * <p>
+ * A value at level {@code h} stands for {@code 2^h} values of the stream. When the sketch is full, the lowest level
+ * over its capacity is sorted and every other value of it, from a random offset, is promoted to the next level. The
+ * capacities shrink by 2/3 from the top level down, so that the sketch never holds much more than {@code 3k} values.
+ * <p>
+ * This class is not thread-safe.
+ */
+class KllSketch {
+
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    private final int k;
+
+    private final SplittableRandom random;
+
+    private double[][] levels = { new double[8] };
+
+    private int[] sizes = new int[1];
+
+    private int retained;
+
+    private int capacity;
+
+    private long count;
+
+    private Weighted sorted;
+
+    KllSketch(int k, SplittableRandom random) {
+        this.k = k;
+        this.random = random;
+        this.capacity = capacityOf(0);
+    }
+
+    void add(double value) {
+        append(0, value);
+        count++;
+        sorted = null;
+        if (retained >= capacity) {
+            compress();
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return the number of values retained, which bounds the memory used by the sketch.
+     */
+    int retained() {
+        return retained;
+    }
+
+    /**
+     * @return the estimated number of values lower than or equal to the given one.
+     */
+    long rank(double value) {
+        long rank = 0;
+        for (int h = 0; h < levels.length; h++) {
+            for (int i = 0; i < sizes[h]; i++) {
+                if (levels[h][i] <= value) {
+                    rank += 1L << h;
+                }
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * @return the retained values in ascending order, with the number of values each stands for, cached until the
+     * next value is added.
+     */
+    Weighted sorted() {
+        if (sorted == null) {
+            double[] values = new double[retained];
+            long[] weights = new long[retained];
+            Integer[] order = new Integer[retained];
+            int n = 0;
+            for (int h = 0; h < levels.length; h++) {
+                for (int i = 0; i < sizes[h]; i++) {
+                    values[n] = levels[h][i];
+                    weights[n] = 1L << h;
+                    order[n] = n;
+                    n++;
+                }
+            }
+            Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+            double[] sortedValues = new double[retained];
+            long[] sortedWeights = new long[retained];
+            for (int i = 0; i < retained; i++) {
+                sortedValues[i] = values[order[i]];
+                sortedWeights[i] = weights[order[i]];
+            }
+            sorted = new Weighted(sortedValues, sortedWeights);
+        }
+        return sorted;
+    }
+
+    /**
+     * Retained values in ascending order, and the number of values each stands for.
+     */
+    record Weighted(double[] values, long[] weights) {
+        int size() {
+            return values.length;
+        }
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.length; h++) {
+            if (sizes[h] >= capacityOf(h)) {
+                if (h + 1 == levels.length) {
+                    grow();
+                }
+                compact(h);
+                if (retained < capacity) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void compact(int h) {
+        double[] level = levels[h];
+        int size = sizes[h];
+        Arrays.sort(level, 0, size);
+        // an odd value out stays at its level, so that every promoted value replaces exactly two
+        int kept = size % 2;
+        for (int i = kept + (random.nextBoolean() ? 1 : 0); i < size; i += 2) {
+            append(h + 1, level[i]);
+        }
+        sizes[h] = kept;
+        retained -= size - kept;
+    }
+
+    private void grow() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        levels[levels.length - 1] = new double[8];
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+        capacity = 0;
+        for (int h = 0; h < levels.length; h++) {
+            capacity += capacityOf(h);
+        }
+    }
+
+    private void append(int h, double value) {
+        if (sizes[h] == levels[h].length) {
+            levels[h] = Arrays.copyOf(levels[h], levels[h].length * 2);
+        }
+        levels[h][sizes[h]++] = value;
+        retained++;
+    }
+
+    private int capacityOf(int h) {
+        int depth = levels.length - h - 1;
+        return (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)) + 1;
+    }
+}
@@ -0,0 +1,145 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live ranking of a set of players by total score, backed by a {@link RankedSkipList}.
+ * <p>
+ * Ties are broken by player id. Every operation is {@code O(log n)}, plus the size of the returned page.
+ * <p>
+ * This class is thread-safe.
+ */
+public class Leaderboard {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RankedSkipList ranking = new RankedSkipList();
+
+    private final Map<Long, Long> totals = new HashMap<>();
+
+    /**
+     * Sets the total score of a player, adding the player if needed.
+     */
+    public void put(long playerId, long totalScore) {
+        lock.writeLock().lock();
+        try {
+            Long previous = totals.put(playerId, totalScore);
+            if (previous != null) {
+                ranking.remove(previous, playerId);
+            }
+            ranking.insert(totalScore, playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds to the total score of a player, adding the player if needed.
+     */
+    public void add(long playerId, long delta) {
+        lock.writeLock().lock();
+        try {
+            long previous = totals.getOrDefault(playerId, 0L);
+            if (totals.containsKey(playerId)) {
+                ranking.remove(previous, playerId);
+            }
+            totals.put(playerId, previous + delta);
+            ranking.insert(previous + delta, playerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a player.
+     *
+     * @return the total score the player had, if the player was ranked.
+     */
+    public Optional<Long> remove(long playerId) {
+        lock.writeLock().lock();
+        try {
+            Long previous = totals.remove(playerId);
+            if (previous != null) {
+                ranking.remove(previous, playerId);
+            }
+            return Optional.ofNullable(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            totals.keySet().forEach(playerId -> ranking.remove(totals.get(playerId), playerId));
+            totals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntry> entryOf(long playerId) {
+        lock.readLock().lock();
+        try {
+            Long total = totals.get(playerId);
+            if (total == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new LeaderboardEntry(ranking.rank(total, playerId), playerId, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the entries ranked from {@code fromRank} (1-based) to {@code fromRank + count - 1}.
+     */
+    public List<LeaderboardEntry> page(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.max(0, Math.min(count, ranking.size())));
+            ranking.forEachFrom(fromRank, count, (rank, total, playerId) -> entries.add(new LeaderboardEntry(rank, playerId, total)));
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> top(int count) {
+        return page(1, count);
+    }
+
+    /**
+     * @return the entries ranked at most {@code radius} places above or below the player, or an empty list if the
+     * player is not ranked.
+     */
+    public List<LeaderboardEntry> around(long playerId, int radius) {
+        lock.readLock().lock();
+        try {
+            Long total = totals.get(playerId);
+            if (total == null) {
+                return List.of();
+            }
+            int rank = ranking.rank(total, playerId);
+            int fromRank = Math.max(1, rank - radius);
+            return page(fromRank, rank + radius - fromRank + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
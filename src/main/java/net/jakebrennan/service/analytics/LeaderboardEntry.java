@@ -0,0 +1,6 @@
+package net.jakebrennan.service.analytics;
+
+/**
+ * The standing of one player on a leaderboard.
+ */
+public record LeaderboardEntry(int rank, long playerId, long totalScore) {}
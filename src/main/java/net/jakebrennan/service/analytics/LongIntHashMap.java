@@ -0,0 +1,123 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-zero {@code long} keys to {@code int} values, with linear probing and
+ * backward-shift deletion, backed by two primitive arrays.
+ * <p>
+ * Used by the analytics structures to map ids to the slots of their own primitive columns without boxing.
+ * This class is not thread-safe: its owner guards it.
+ */
+final class LongIntHashMap {
+
+    /**
+     * Returned by {@link #get(long)} and {@link #remove(long)} for a missing key.
+     */
+    static final int MISSING = -1;
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * @param initialCapacity the initial number of buckets, a power of two.
+     */
+    LongIntHashMap(int initialCapacity) {
+        if (Integer.bitCount(initialCapacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + initialCapacity);
+        }
+        keys = new long[initialCapacity];
+        values = new int[initialCapacity];
+        mask = initialCapacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(long key) {
+        for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key must not be " + EMPTY);
+        }
+        if ((size + 1) * 4 > keys.length * 3) {
+            rehash(keys.length << 1);
+        }
+        int i = hash(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+    }
+
+    /**
+     * @return the value the key was mapped to, or {@link #MISSING}.
+     */
+    int remove(long key) {
+        if (key == EMPTY) {
+            return MISSING;
+        }
+        int i = hash(key) & mask;
+        while (keys[i] != key) {
+            if (keys[i] == EMPTY) {
+                return MISSING;
+            }
+            i = (i + 1) & mask;
+        }
+        int removed = values[i];
+        // shift back the following entries of the probe sequence so that lookups never stop early
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        keys[i] = EMPTY;
+        size--;
+        return removed;
+    }
+
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void rehash(int newLength) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[newLength];
+        values = new int[newLength];
+        mask = newLength - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
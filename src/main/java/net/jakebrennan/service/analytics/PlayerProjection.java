@@ -0,0 +1,18 @@
+package net.jakebrennan.service.analytics;
+
+/**
+ * The projected end of season of one player, over every simulated season.
+ *
+ * @param rank the current rank of the player in its league.
+ * @param remainingGames the number of games the player has left to play this season.
+ */
+public record PlayerProjection(
+    long playerId,
+    int rank,
+    long totalScore,
+    int remainingGames,
+    double expectedTotalScore,
+    double expectedRank,
+    double promotionProbability,
+    double relegationProbability
+) {}
@@ -0,0 +1,112 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.SplittableRandom;
+
+/**
+ * Quantile sketch of a multiset of values that supports removals, built from two {@link KllSketch}es: one of the
+ * values added and one of the values removed.
+ * <p>
+ * The rank of a value is its rank among the values added minus its rank among the values removed, so that the rank
+ * error grows with both. {@link #isStale()} tells when the values removed outnumber the values left, at which point
+ * the owner should {@link #clear()} the sketch and add the values left again: this keeps the error within about
+ * {@code 5 / k} of the number of values, for a cost of {@code O(1)} additions per removal on average.
+ * <p>
+ * With the default {@code k} of {@value #DEFAULT_K}, a sketch holds at most about 1200 values, whatever the number
+ * of values it sketches.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private final int k;
+
+    private final SplittableRandom random;
+
+    private KllSketch added;
+
+    private KllSketch removed;
+
+    public QuantileSketch() {
+        this(DEFAULT_K, new SplittableRandom());
+    }
+
+    QuantileSketch(int k, SplittableRandom random) {
+        this.k = k;
+        this.random = random;
+        clear();
+    }
+
+    public void add(double value) {
+        added.add(value);
+    }
+
+    /**
+     * Removes a value previously added.
+     */
+    public void remove(double value) {
+        removed.add(value);
+    }
+
+    public void clear() {
+        added = new KllSketch(k, random.split());
+        removed = new KllSketch(k, random.split());
+    }
+
+    public long count() {
+        return added.count() - removed.count();
+    }
+
+    public boolean isEmpty() {
+        return count() <= 0;
+    }
+
+    /**
+     * @return whether more values were removed than are left, so that the sketch should be rebuilt from the values
+     * left.
+     */
+    public boolean isStale() {
+        return removed.count() > Math.max(count(), k);
+    }
+
+    /**
+     * @return the estimated fraction, between 0 and 1, of the values that are lower than or equal to the given one;
+     * {@code NaN} if the sketch is empty.
+     */
+    public double fractionAtOrBelow(double value) {
+        long count = count();
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        long rank = added.rank(value) - removed.rank(value);
+        return Math.min(1.0, Math.max(0.0, (double) rank / count));
+    }
+
+    /**
+     * @param fraction a fraction between 0 and 1.
+     * @return the estimated lowest value such that the given fraction of the values are lower than or equal to it;
+     * {@code NaN} if the sketch is empty.
+     */
+    public double valueAt(double fraction) {
+        long count = count();
+        if (count <= 0) {
+            return Double.NaN;
+        }
+        double target = Math.max(1.0, fraction * count);
+        KllSketch.Weighted values = added.sorted();
+        KllSketch.Weighted removals = removed.sorted();
+        long rank = 0;
+        int j = 0;
+        for (int i = 0; i < values.size(); i++) {
+            rank += values.weights()[i];
+            while (j < removals.size() && removals.values()[j] <= values.values()[i]) {
+                rank -= removals.weights()[j++];
+            }
+            if (rank >= target) {
+                return values.values()[i];
+            }
+        }
+        return values.values()[values.size() - 1];
+    }
+}
@@ -0,0 +1,177 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.SplittableRandom;
+
+/**
+ * Indexed skip list of (score, id) pairs, ordered by descending score and then ascending id.
+ * <p>
+ * Every forward link records how many positions it spans, so that insertion, removal, the rank of an element and
+ * the element at a rank are all found in expected {@code O(log n)}.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    private final Node head = new Node(MAX_LEVEL, 0, 0);
+
+    private int level = 1;
+
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(long score, long id) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && x.next[i].precedes(score, id)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+        Node node = new Node(nodeLevel, score, id);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * @return {@code true} if the pair was present.
+     */
+    public boolean remove(long score, long id) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && x.next[i].precedes(score, id)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+        Node node = x.next[0];
+        if (node == null || node.score != score || node.id != id) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @return the 1-based rank of the pair, or {@code 0} if it is not present.
+     */
+    public int rank(long score, long id) {
+        int rank = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (x.next[i].precedes(score, id) || x.next[i].is(score, id))) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.is(score, id)) {
+                return rank;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Visits up to {@code count} consecutive elements starting at a 1-based rank.
+     *
+     * @return the number of elements visited.
+     */
+    public int forEachFrom(int fromRank, int count, Visitor visitor) {
+        if (fromRank < 1 || fromRank > size || count <= 0) {
+            return 0;
+        }
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= fromRank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == fromRank) {
+                break;
+            }
+        }
+        int visited = 0;
+        for (int rank = fromRank; x != null && visited < count; rank++, visited++) {
+            visitor.visit(rank, x.score, x.id);
+            x = x.next[0];
+        }
+        return visited;
+    }
+
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(int rank, long score, long id);
+    }
+
+    private static final class Node {
+
+        private final long score;
+        private final long id;
+        private final Node[] next;
+        private final int[] span;
+
+        private Node(int level, long score, long id) {
+            this.score = score;
+            this.id = id;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+
+        private boolean precedes(long otherScore, long otherId) {
+            return score > otherScore || (score == otherScore && id < otherId);
+        }
+
+        private boolean is(long otherScore, long otherId) {
+            return score == otherScore && id == otherId;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package net.jakebrennan.service.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar, off-heap copy of the {@code scores} table.
+ * <p>
+ * Each column is a direct buffer holding one primitive per row, so that millions of scores cost 20 bytes each
+ * outside the Java heap, and aggregate scans run over primitives without allocating. Rows are kept densely packed:
+ * removing a row moves the last row into its slot. A {@link LongIntHashMap} maps score ids to slots.
+ * <p>
+ * Ids are stored as {@code int}s; {@link #NONE} marks a score that is not linked to a game or player.
+ * <p>
+ * This class is thread-safe: scans share a read lock and writes take the write lock.
+ */
+public class ScoreColumnStore {
+
+    public static final int NONE = 0;
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private static final int BYTES_PER_ROW = Integer.BYTES * 3 + Long.BYTES;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongIntHashMap slots = new LongIntHashMap(INITIAL_CAPACITY);
+
+    private IntBuffer ids;
+    private IntBuffer gameIds;
+    private IntBuffer playerIds;
+    private LongBuffer scores;
+
+    private int capacity;
+    private int size;
+
+    public ScoreColumnStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Inserts a score, or replaces it if a score with the same id is already stored.
+     */
+    public void upsert(long id, Long gameId, Long playerId, long score) {
+        int key = Math.toIntExact(id);
+        lock.writeLock().lock();
+        try {
+            int slot = slots.get(key);
+            if (slot == LongIntHashMap.MISSING) {
+                if (size == capacity) {
+                    allocate(capacity << 1);
+                }
+                slot = size++;
+                slots.put(key, slot);
+                ids.put(slot, key);
+            }
+            gameIds.put(slot, toColumn(gameId));
+            playerIds.put(slot, toColumn(playerId));
+            scores.put(slot, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a score, if it is stored.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slots.remove(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                ids.put(slot, ids.get(last));
+                gameIds.put(slot, gameIds.get(last));
+                playerIds.put(slot, playerIds.get(last));
+                scores.put(slot, scores.get(last));
+                slots.put(ids.get(slot), slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of bytes held outside the heap by the columns.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) capacity * BYTES_PER_ROW;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aggregates every stored score.
+     */
+    public ScoreSummary summarize() {
+        lock.readLock().lock();
+        try {
+            ScoreSummary.Accumulator accumulator = new ScoreSummary.Accumulator();
+            for (int slot = 0; slot < size; slot++) {
+                accumulator.add(scores.get(slot));
+            }
+            return accumulator.toSummary();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aggregates the stored scores per group of players in a single scan.
+     *
+     * @param groupOfPlayer the group of each player, indexed by player id; negative values, and players outside
+     *                      the array, are not counted.
+     * @param groups the number of groups.
+     * @return the summary of each group, indexed by group.
+     */
+    public ScoreSummary[] summarizeGroups(int[] groupOfPlayer, int groups) {
+        lock.readLock().lock();
+        try {
+            ScoreSummary.Accumulator[] accumulators = new ScoreSummary.Accumulator[groups];
+            for (int group = 0; group < groups; group++) {
+                accumulators[group] = new ScoreSummary.Accumulator();
+            }
+            for (int slot = 0; slot < size; slot++) {
+                int playerId = playerIds.get(slot);
+                if (playerId < groupOfPlayer.length && groupOfPlayer[playerId] >= 0) {
+                    accumulators[groupOfPlayer[playerId]].add(scores.get(slot));
+                }
+            }
+            ScoreSummary[] summaries = new ScoreSummary[groups];
+            for (int group = 0; group < groups; group++) {
+                summaries[group] = accumulators[group].toSummary();
+            }
+            return summaries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the scores of one player, ordered by game id.
+     */
+    public ScoreSeries seriesOf(long playerId) {
+        int key = Math.toIntExact(playerId);
+        lock.readLock().lock();
+        try {
+            // pack (game id, slot) pairs into longs so that sorting them needs no boxing
+            long[] packed = new long[16];
+            int count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (playerIds.get(slot) == key) {
+                    if (count == packed.length) {
+                        packed = Arrays.copyOf(packed, count << 1);
+                    }
+                    packed[count++] = ((long) gameIds.get(slot) << 32) | slot;
+                }
+            }
+            Arrays.sort(packed, 0, count);
+            long[] seriesGameIds = new long[count];
+            long[] seriesScores = new long[count];
+            ScoreSummary.Accumulator accumulator = new ScoreSummary.Accumulator();
+            for (int i = 0; i < count; i++) {
+                int slot = (int) packed[i];
+                seriesGameIds[i] = packed[i] >>> 32;
+                seriesScores[i] = scores.get(slot);
+                accumulator.add(seriesScores[i]);
+            }
+            return new ScoreSeries(playerId, seriesGameIds, seriesScores, accumulator.toSummary());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the scores of several players in a single scan, in no particular order.
+     *
+     * @param playerIds the ids of the players, without duplicates.
+     * @return the scores of each player, in the order of {@code playerIds}.
+     */
+    public long[][] scoresOfPlayers(long[] playerIds) {
+        int n = playerIds.length;
+        // pack (player id, position) pairs into longs, so that players are looked up by binary search
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) Math.toIntExact(playerIds[i]) << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = (int) (packed[i] >>> 32);
+        }
+        long[][] collected = new long[n][16];
+        int[] counts = new int[n];
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                int found = Arrays.binarySearch(keys, this.playerIds.get(slot));
+                if (found >= 0) {
+                    int position = (int) packed[found];
+                    if (counts[position] == collected[position].length) {
+                        collected[position] = Arrays.copyOf(collected[position], counts[position] << 1);
+                    }
+                    collected[position][counts[position]++] = scores.get(slot);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int i = 0; i < n; i++) {
+            collected[i] = Arrays.copyOf(collected[i], counts[i]);
+        }
+        return collected;
+    }
+
+    private static int toColumn(Long id) {
+        return id != null ? Math.toIntExact(id) : NONE;
+    }
+
+    private void allocate(int newCapacity) {
+        IntBuffer newIds = allocateInts(newCapacity);
+        IntBuffer newGameIds = allocateInts(newCapacity);
+        IntBuffer newPlayerIds = allocateInts(newCapacity);
+        LongBuffer newScores = ByteBuffer.allocateDirect(newCapacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        if (size > 0) {
+            newIds.put(0, ids, 0, size);
+            newGameIds.put(0, gameIds, 0, size);
+            newPlayerIds.put(0, playerIds, 0, size);
+            newScores.put(0, scores, 0, size);
+        }
+        ids = newIds;
+        gameIds = newGameIds;
+        playerIds = newPlayerIds;
+        scores = newScores;
+        capacity = newCapacity;
+    }
+
+    private static IntBuffer allocateInts(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
@@ -0,0 +1,20 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.List;
+
+/**
+ * The distribution of a set of scores, as the non-empty buckets of a {@link ScoreHistogram}.
+ *
+ * @param count the number of scores.
+ * @param buckets the non-empty buckets, lowest scores first.
+ */
+public record ScoreDistribution(long count, List<Bucket> buckets) {
+    public static final ScoreDistribution EMPTY = new ScoreDistribution(0, List.of());
+
+    /**
+     * @param from the lowest score of the bucket, inclusive.
+     * @param to the highest score of the bucket, inclusive.
+     * @param count the number of scores in the bucket.
+     */
+    public record Bucket(long from, long to, long count) {}
+}
@@ -0,0 +1,154 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Log-linear histogram of scores, in the style of HdrHistogram.
+ * <p>
+ * Magnitudes below {@code 2^}{@value #SIGNIFICANT_BITS} have one bucket per value. Above that, each power of two is
+ * split into {@code 2^(}{@value #SIGNIFICANT_BITS}{@code - 1)} buckets of equal width, so that a bucket is never wider
+ * than 1/32 of its lower bound. Negative scores are counted by magnitude in a second array. A score is added or
+ * removed in {@code O(1)}, and histograms merge by adding their arrays, as every histogram has the same buckets.
+ * <p>
+ * The arrays only grow up to the highest bucket used, so a histogram of typical scores holds a few hundred counters.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class ScoreHistogram {
+
+    static final int SIGNIFICANT_BITS = 6;
+
+    private static final int SUB_BUCKETS = 1 << SIGNIFICANT_BITS;
+
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+
+    private static final long[] NO_COUNTS = new long[0];
+
+    private long[] positive = NO_COUNTS;
+
+    private long[] negative = NO_COUNTS;
+
+    private long count;
+
+    public void add(long score) {
+        record(score, 1);
+    }
+
+    /**
+     * Removes a score previously added.
+     */
+    public void remove(long score) {
+        record(score, -1);
+    }
+
+    /**
+     * Adds every score of another histogram to this one.
+     */
+    public void merge(ScoreHistogram other) {
+        positive = mergeCounts(positive, other.positive);
+        negative = mergeCounts(negative, other.negative);
+        count += other.count;
+    }
+
+    public void clear() {
+        positive = NO_COUNTS;
+        negative = NO_COUNTS;
+        count = 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return the non-empty buckets, lowest scores first.
+     */
+    public ScoreDistribution toDistribution() {
+        List<ScoreDistribution.Bucket> buckets = new ArrayList<>();
+        for (int index = negative.length - 1; index >= 0; index--) {
+            if (negative[index] != 0) {
+                // magnitudes m stand for the scores -(m + 1)
+                buckets.add(new ScoreDistribution.Bucket(-(upperBound(index) + 1), -(lowerBound(index) + 1), negative[index]));
+            }
+        }
+        for (int index = 0; index < positive.length; index++) {
+            if (positive[index] != 0) {
+                buckets.add(new ScoreDistribution.Bucket(lowerBound(index), upperBound(index), positive[index]));
+            }
+        }
+        return new ScoreDistribution(count, buckets);
+    }
+
+    private void record(long score, int delta) {
+        if (score >= 0) {
+            int index = indexOf(score);
+            positive = ensureLength(positive, index);
+            positive[index] += delta;
+        } else {
+            // -(score + 1) cannot overflow, even for Long.MIN_VALUE
+            int index = indexOf(-(score + 1));
+            negative = ensureLength(negative, index);
+            negative[index] += delta;
+        }
+        count += delta;
+    }
+
+    /**
+     * @return the bucket of a non-negative magnitude.
+     */
+    static int indexOf(long magnitude) {
+        if (magnitude < SUB_BUCKETS) {
+            return (int) magnitude;
+        }
+        // keep the SIGNIFICANT_BITS highest bits of the magnitude
+        int shift = 64 - Long.numberOfLeadingZeros(magnitude) - SIGNIFICANT_BITS;
+        int subBucket = (int) (magnitude >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (subBucket - HALF_SUB_BUCKETS);
+    }
+
+    /**
+     * @return the lowest magnitude of a bucket.
+     */
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    /**
+     * @return the highest magnitude of a bucket.
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        return lowerBound(index) + ((1L << shift) - 1);
+    }
+
+    private static long[] ensureLength(long[] counts, int index) {
+        if (index < counts.length) {
+            return counts;
+        }
+        // grow up to the last bucket of the power of two of the magnitude, so that a few growths cover any score
+        int length = Math.max(SUB_BUCKETS, (index / HALF_SUB_BUCKETS + 1) * HALF_SUB_BUCKETS);
+        return Arrays.copyOf(counts, length);
+    }
+
+    private static long[] mergeCounts(long[] counts, long[] other) {
+        long[] merged = other.length > counts.length ? Arrays.copyOf(counts, other.length) : counts;
+        for (int index = 0; index < other.length; index++) {
+            merged[index] += other[index];
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,6 @@
+package net.jakebrennan.service.analytics;
+
+/**
+ * The scores of one player, ordered by game.
+ */
+public record ScoreSeries(long playerId, long[] gameIds, long[] scores, ScoreSummary summary) {}
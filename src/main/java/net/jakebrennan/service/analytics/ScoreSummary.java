@@ -0,0 +1,41 @@
+package net.jakebrennan.service.analytics;
+
+/**
+ * Aggregate of a set of scores.
+ */
+public record ScoreSummary(long count, long sum, long min, long max, double mean, double standardDeviation) {
+    public static final ScoreSummary EMPTY = new ScoreSummary(0, 0, 0, 0, 0.0, 0.0);
+
+    /**
+     * Mutable accumulator used by column scans, so that a scan allocates nothing per row.
+     */
+    static final class Accumulator {
+
+        private long count;
+        private long sum;
+        private double sumOfSquares;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+
+        void add(long score) {
+            count++;
+            sum += score;
+            sumOfSquares += (double) score * score;
+            if (score < min) {
+                min = score;
+            }
+            if (score > max) {
+                max = score;
+            }
+        }
+
+        ScoreSummary toSummary() {
+            if (count == 0) {
+                return EMPTY;
+            }
+            double mean = (double) sum / count;
+            double variance = Math.max(0.0, sumOfSquares / count - mean * mean);
+            return new ScoreSummary(count, sum, min, max, mean, Math.sqrt(variance));
+        }
+    }
+}
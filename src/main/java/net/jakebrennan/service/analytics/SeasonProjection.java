@@ -0,0 +1,16 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.List;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+
+/**
+ * The projected end of season of a league, with one entry per player in the current order of the league.
+ */
+public record SeasonProjection(
+    ArmlLeague league,
+    int simulations,
+    int seasonGames,
+    int promotionPlaces,
+    int relegationPlaces,
+    List<PlayerProjection> players
+) {}
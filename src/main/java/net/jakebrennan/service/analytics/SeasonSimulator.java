@@ -0,0 +1,207 @@
+package net.jakebrennan.service.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo simulation of the rest of a season.
+ * <p>
+ * Each simulated season completes the season of every player by drawing the score of each of its remaining games,
+ * with replacement, from the scores it has already made, then ranks the players by final total score. Scores are
+ * drawn independently per player: the zero-sum constraint between the players of a same game is not modelled.
+ * <p>
+ * The simulated seasons are split into batches of {@value #BATCH_SIZE}, run as fork-join tasks. Every task owns a
+ * {@link SplittableRandom} split from the one of its parent and its own counters, which are only merged once the
+ * task is joined, so that the tasks share no mutable state. As the task tree only depends on the number of
+ * simulations, a given seed yields the same projection whatever the parallelism of the pool.
+ */
+public class SeasonSimulator {
+
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * Number of low bits of a sort key holding the index of a player, so that the keys of a simulated season sort
+     * in order of final total score and then of current rank.
+     */
+    private static final int INDEX_BITS = 20;
+
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    private static final long MAX_TOTAL_SCORE = 1L << (Long.SIZE - 1 - INDEX_BITS);
+
+    private final ForkJoinPool pool;
+
+    public SeasonSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * A player of the league at the time of the projection.
+     *
+     * @param scores the scores the remaining games are drawn from; they must not be modified during a simulation.
+     */
+    public record Contender(long playerId, long totalScore, int remainingGames, long[] scores) {}
+
+    /**
+     * Simulates the rest of a season.
+     *
+     * @param contenders the players of the league, in their current order.
+     * @param promotionPlaces the number of players promoted at the end of the season, from the top.
+     * @param relegationPlaces the number of players relegated at the end of the season, from the bottom.
+     * @param simulations the number of seasons to simulate.
+     * @param random the source of randomness, owned by the simulation until it returns.
+     * @return the projection of each contender, in the order of {@code contenders}.
+     */
+    public List<PlayerProjection> simulate(
+        List<Contender> contenders,
+        int promotionPlaces,
+        int relegationPlaces,
+        int simulations,
+        SplittableRandom random
+    ) {
+        if (contenders.size() > INDEX_MASK) {
+            throw new IllegalArgumentException("Too many contenders: " + contenders.size());
+        }
+        if (simulations <= 0) {
+            throw new IllegalArgumentException("The number of simulations must be positive: " + simulations);
+        }
+        Season season = new Season(contenders, promotionPlaces, relegationPlaces);
+        Tally tally = contenders.isEmpty() ? new Tally(0) : pool.invoke(new Batch(season, simulations, random));
+
+        List<PlayerProjection> projections = new ArrayList<>(contenders.size());
+        for (int i = 0; i < contenders.size(); i++) {
+            Contender contender = contenders.get(i);
+            projections.add(
+                new PlayerProjection(
+                    contender.playerId(),
+                    i + 1,
+                    contender.totalScore(),
+                    contender.remainingGames(),
+                    (double) tally.totalScores[i] / simulations,
+                    (double) tally.ranks[i] / simulations,
+                    (double) tally.promoted[i] / simulations,
+                    (double) tally.relegated[i] / simulations
+                )
+            );
+        }
+        return projections;
+    }
+
+    /**
+     * The immutable inputs of a simulation, shared by every task.
+     */
+    private static final class Season {
+
+        private final long[] totalScores;
+        private final int[] remainingGames;
+        private final long[][] scores;
+        private final int promotionPlaces;
+        private final int relegationPlaces;
+
+        private Season(List<Contender> contenders, int promotionPlaces, int relegationPlaces) {
+            int n = contenders.size();
+            totalScores = new long[n];
+            remainingGames = new int[n];
+            scores = new long[n][];
+            for (int i = 0; i < n; i++) {
+                Contender contender = contenders.get(i);
+                totalScores[i] = contender.totalScore();
+                remainingGames[i] = contender.scores().length > 0 ? Math.max(0, contender.remainingGames()) : 0;
+                scores[i] = contender.scores();
+                long maxScore = Arrays.stream(scores[i]).map(Math::abs).max().orElse(0);
+                if (Math.abs(totalScores[i]) + (double) remainingGames[i] * maxScore >= MAX_TOTAL_SCORE) {
+                    throw new IllegalArgumentException("Total score out of range for player " + contender.playerId());
+                }
+            }
+            this.promotionPlaces = Math.min(Math.max(0, promotionPlaces), n);
+            this.relegationPlaces = Math.min(Math.max(0, relegationPlaces), n);
+        }
+
+        private Tally run(int simulations, SplittableRandom random) {
+            int n = totalScores.length;
+            Tally tally = new Tally(n);
+            long[] keys = new long[n];
+            for (int simulation = 0; simulation < simulations; simulation++) {
+                for (int i = 0; i < n; i++) {
+                    long total = totalScores[i];
+                    long[] drawn = scores[i];
+                    for (int game = 0; game < remainingGames[i]; game++) {
+                        total += drawn[random.nextInt(drawn.length)];
+                    }
+                    tally.totalScores[i] += total;
+                    // a higher total sorts later, and so does a better current rank on equal totals
+                    keys[i] = (total << INDEX_BITS) | (INDEX_MASK - i);
+                }
+                Arrays.sort(keys);
+                for (int place = 0; place < n; place++) {
+                    int i = (int) (INDEX_MASK - (keys[n - 1 - place] & INDEX_MASK));
+                    tally.ranks[i] += place + 1;
+                    if (place < promotionPlaces) {
+                        tally.promoted[i]++;
+                    }
+                    if (place >= n - relegationPlaces) {
+                        tally.relegated[i]++;
+                    }
+                }
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * Counters of a batch of simulated seasons, per contender.
+     */
+    private static final class Tally {
+
+        private final long[] totalScores;
+        private final long[] ranks;
+        private final long[] promoted;
+        private final long[] relegated;
+
+        private Tally(int n) {
+            totalScores = new long[n];
+            ranks = new long[n];
+            promoted = new long[n];
+            relegated = new long[n];
+        }
+
+        private Tally plus(Tally other) {
+            for (int i = 0; i < totalScores.length; i++) {
+                totalScores[i] += other.totalScores[i];
+                ranks[i] += other.ranks[i];
+                promoted[i] += other.promoted[i];
+                relegated[i] += other.relegated[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class Batch extends RecursiveTask<Tally> {
+
+        private final Season season;
+        private final int simulations;
+        private final SplittableRandom random;
+
+        private Batch(Season season, int simulations, SplittableRandom random) {
+            this.season = season;
+            this.simulations = simulations;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (simulations <= BATCH_SIZE) {
+                return season.run(simulations, random);
+            }
+            int half = simulations / 2;
+            Batch left = new Batch(season, half, random.split());
+            left.fork();
+            Tally right = new Batch(season, simulations - half, random).compute();
+            return right.plus(left.join());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package net.jakebrennan.service.analytics;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Radix trie from normalized texts to documents, for prefix autocompletion.
+ * <p>
+ * Edges are labelled with whole substrings, so the trie has at most two nodes per text. Every node caches the
+ * best {@code k} completions found below it, shortest text first, so that a lookup walks the prefix once and reads
+ * the cached completions: its cost depends on the length of the prefix, not on the number of texts. Updates
+ * recompute the cached completions of the nodes on the path of the text only.
+ * <p>
+ * Texts are lower-cased, stripped of diacritics and have their whitespace collapsed.
+ * <p>
+ * This class is thread-safe: lookups share a read lock and updates take the write lock.
+ */
+public class SuggestionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private static final Comparator<Entry> BEST_FIRST = Comparator.comparingInt((Entry entry) -> entry.key().length())
+        .thenComparing(Entry::key)
+        .thenComparingInt(Entry::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final int k;
+
+    private final Node root = new Node("");
+
+    private final Map<Integer, List<Entry>> entriesOfDocument = new HashMap<>();
+
+    /**
+     * A completion of a prefix.
+     *
+     * @param id the id of the document.
+     * @param text the text of the document that completes the prefix, as it was indexed.
+     */
+    public record Suggestion(int id, String text) {}
+
+    /**
+     * @param k the number of completions cached per node, which bounds the number of suggestions per lookup.
+     */
+    public SuggestionTrie(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Indexes the texts of a document, replacing its previous texts if it is already indexed.
+     *
+     * @param id the id of the document.
+     * @param texts the texts of the document; {@code null} and blank texts are ignored.
+     */
+    public void put(int id, String... texts) {
+        List<Entry> entries = new ArrayList<>(texts.length);
+        Set<String> keys = new HashSet<>();
+        for (String text : texts) {
+            String key = text != null ? normalize(text).strip() : "";
+            if (!key.isEmpty() && keys.add(key)) {
+                entries.add(new Entry(key, id, text.strip()));
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            List<Entry> previous = entriesOfDocument.remove(id);
+            if (previous != null) {
+                previous.forEach(this::delete);
+            }
+            if (!entries.isEmpty()) {
+                entriesOfDocument.put(id, entries);
+                entries.forEach(this::insert);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code true} if the document was indexed.
+     */
+    public boolean remove(int id) {
+        lock.writeLock().lock();
+        try {
+            List<Entry> previous = entriesOfDocument.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            previous.forEach(this::delete);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entriesOfDocument.clear();
+            root.children = NO_CHILDREN;
+            root.terminals = NO_ENTRIES;
+            root.top = NO_ENTRIES;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesOfDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Completes a prefix. Each document is suggested at most once, with its best completing text.
+     *
+     * @param prefix the prefix.
+     * @param limit the maximum number of suggestions, at most {@code k}.
+     * @return the suggestions, shortest text first.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix).stripLeading();
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < key.length()) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefixLength(child.label, key, i);
+                if (i + common < key.length() && common < child.label.length()) {
+                    return List.of();
+                }
+                i += common;
+                node = child;
+            }
+            return Arrays.stream(node.top)
+                .limit(Math.max(0, limit))
+                .map(entry -> new Suggestion(entry.id(), entry.text()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Entry entry) {
+        String key = entry.key();
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.addChild(child);
+                i = key.length();
+            } else {
+                int common = commonPrefixLength(child.label, key, i);
+                if (common < child.label.length()) {
+                    // split the edge where the key leaves it
+                    Node middle = new Node(child.label.substring(0, common));
+                    node.replaceChild(child, middle);
+                    child.label = child.label.substring(common);
+                    middle.addChild(child);
+                    child = middle;
+                }
+                i += common;
+            }
+            path.add(child);
+            node = child;
+        }
+        node.terminals = append(node.terminals, entry);
+        recomputeTop(path);
+    }
+
+    private void delete(Entry entry) {
+        String key = entry.key();
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) {
+                return;
+            }
+            i += node.label.length();
+            path.add(node);
+        }
+        node.terminals = Arrays.stream(node.terminals).filter(terminal -> terminal.id() != entry.id()).toArray(Entry[]::new);
+
+        // keep the trie compact: drop the node if it is now empty, and merge a node left with a single child into it
+        if (node != root && node.terminals.length == 0 && node.children.length == 0) {
+            Node parent = path.get(path.size() - 2);
+            parent.removeChild(node);
+            path.remove(path.size() - 1);
+            node = parent;
+        }
+        if (node != root && node.terminals.length == 0 && node.children.length == 1) {
+            Node child = node.children[0];
+            node.label = node.label + child.label;
+            node.children = child.children;
+            node.terminals = child.terminals;
+        }
+        recomputeTop(path);
+    }
+
+    /**
+     * Recomputes the cached completions of the nodes of a path, deepest first.
+     */
+    private void recomputeTop(List<Node> path) {
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node node = path.get(p);
+            List<Entry> candidates = new ArrayList<>(Arrays.asList(node.terminals));
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BEST_FIRST);
+            Set<Integer> ids = new HashSet<>();
+            node.top = candidates.stream().filter(candidate -> ids.add(candidate.id())).limit(k).toArray(Entry[]::new);
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Entry[] append(Entry[] entries, Entry entry) {
+        Entry[] appended = Arrays.copyOf(entries, entries.length + 1);
+        appended[entries.length] = entry;
+        return appended;
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKD).replaceAll("\\p{M}+", "").replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(String key, int id, String text) {}
+
+    /**
+     * Node of the trie; its children are sorted by the first character of their label, which is unique among them.
+     */
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] terminals = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private void addChild(Node child) {
+            int index = -indexOf(child.label.charAt(0)) - 1;
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        private void replaceChild(Node child, Node replacement) {
+            children[indexOf(child.label.charAt(0))] = replacement;
+        }
+
+        private void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char c = children[middle].label.charAt(0);
+                if (c < first) {
+                    low = middle + 1;
+                } else if (c > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package net.jakebrennan.service.analytics;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from character trigrams to documents, for typo-tolerant search over short texts such as names.
+ * <p>
+ * Texts are lower-cased, stripped of diacritics and split into words; each word is padded with two leading spaces
+ * and one trailing space before being cut into trigrams, so that word starts weigh more than word ends. Each trigram
+ * is packed into a {@code long} and maps to a sorted {@code int[]} posting list of document ids.
+ * <p>
+ * A query matches the documents sharing at least a given fraction of its trigrams. Counting the shared trigrams
+ * merges the posting lists of the query trigrams by sorting them together, without any per-document map.
+ * <p>
+ * This class is thread-safe: searches share a read lock and updates take the write lock.
+ */
+public class TrigramIndex {
+
+    private static final int INITIAL_POSTINGS_CAPACITY = 4;
+
+    private static final long[] NO_TRIGRAMS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    private final Map<Integer, long[]> trigramsOfDocument = new HashMap<>();
+
+    /**
+     * A document matching a query.
+     *
+     * @param id the id of the document.
+     * @param similarity the fraction of the trigrams of the query found in the document, in {@code (0, 1]}.
+     */
+    public record Hit(int id, double similarity) {}
+
+    /**
+     * Indexes a document, replacing its previous texts if it is already indexed.
+     *
+     * @param id the id of the document.
+     * @param texts the texts of the document; {@code null} texts are ignored.
+     */
+    public void put(int id, String... texts) {
+        long[] trigrams = trigrams(texts);
+        lock.writeLock().lock();
+        try {
+            long[] previous = trigramsOfDocument.put(id, trigrams);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            for (long trigram : trigrams) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code true} if the document was indexed.
+     */
+    public boolean remove(int id) {
+        lock.writeLock().lock();
+        try {
+            long[] previous = trigramsOfDocument.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            unindex(id, previous);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            trigramsOfDocument.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trigramsOfDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the documents most similar to a query.
+     * <p>
+     * Hits are ranked by similarity, then by how little else the document contains, then by id.
+     *
+     * @param query the query.
+     * @param limit the maximum number of hits.
+     * @param minSimilarity the minimum similarity of a hit.
+     * @return the hits, best first.
+     */
+    public List<Hit> search(String query, int limit, double minSimilarity) {
+        long[] queryTrigrams = trigrams(query);
+        if (queryTrigrams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int total = 0;
+            Postings[] lists = new Postings[queryTrigrams.length];
+            for (int i = 0; i < queryTrigrams.length; i++) {
+                lists[i] = postings.get(queryTrigrams[i]);
+                total += lists[i] != null ? lists[i].size : 0;
+            }
+            int[] matches = new int[total];
+            int offset = 0;
+            for (Postings list : lists) {
+                if (list != null) {
+                    System.arraycopy(list.ids, 0, matches, offset, list.size);
+                    offset += list.size;
+                }
+            }
+            // after sorting, the number of times a document appears is the number of query trigrams it shares
+            Arrays.sort(matches);
+            List<Candidate> candidates = new ArrayList<>();
+            for (int start = 0, end; start < matches.length; start = end) {
+                end = start + 1;
+                while (end < matches.length && matches[end] == matches[start]) {
+                    end++;
+                }
+                double similarity = (double) (end - start) / queryTrigrams.length;
+                if (similarity >= minSimilarity) {
+                    candidates.add(new Candidate(matches[start], similarity, trigramsOfDocument.get(matches[start]).length));
+                }
+            }
+            return candidates
+                .stream()
+                .sorted(
+                    Comparator.comparingDouble(Candidate::similarity)
+                        .reversed()
+                        .thenComparingInt(Candidate::trigrams)
+                        .thenComparingInt(Candidate::id)
+                )
+                .limit(limit)
+                .map(candidate -> new Hit(candidate.id(), candidate.similarity()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int id, long[] trigrams) {
+        for (long trigram : trigrams) {
+            Postings list = postings.get(trigram);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * @return the distinct trigrams of the texts, sorted.
+     */
+    static long[] trigrams(String... texts) {
+        long[] trigrams = NO_TRIGRAMS;
+        int count = 0;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                String padded = "  " + word + " ";
+                if (count + padded.length() > trigrams.length) {
+                    trigrams = Arrays.copyOf(trigrams, Math.max(16, (count + padded.length()) * 2));
+                }
+                for (int i = 0; i + 3 <= padded.length(); i++) {
+                    trigrams[count++] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+                }
+            }
+        }
+        if (count == 0) {
+            return NO_TRIGRAMS;
+        }
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (trigrams[i] != trigrams[distinct - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKD).replaceAll("\\p{M}+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(int id, double similarity, int trigrams) {}
+
+    /**
+     * Sorted, growable array of document ids.
+     */
+    private static final class Postings {
+
+        private int[] ids = new int[INITIAL_POSTINGS_CAPACITY];
+        private int size;
+
+        private void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
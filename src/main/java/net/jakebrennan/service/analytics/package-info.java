@@ -0,0 +1,4 @@
+/**
+ * In-memory data structures backing the analytics services.
+ */
+package net.jakebrennan.service.analytics;
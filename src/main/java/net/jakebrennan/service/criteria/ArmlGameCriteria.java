@@ -0,0 +1,203 @@
+package net.jakebrennan.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link net.jakebrennan.domain.ArmlGame} entity. This class is used
+ * in {@link net.jakebrennan.web.rest.ArmlGameResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /arml-games?playedAt.greaterThanOrEqual=2024-01-01T00:00:00Z&playersId.equals=1500}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ArmlGameCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private LongFilter gameID;
+
+    private InstantFilter playedAt;
+
+    private LongFilter armlGameScoresId;
+
+    private LongFilter playersId;
+
+    private Boolean distinct;
+
+    public ArmlGameCriteria() {}
+
+    public ArmlGameCriteria(ArmlGameCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.gameID = other.optionalGameID().map(LongFilter::copy).orElse(null);
+        this.playedAt = other.optionalPlayedAt().map(InstantFilter::copy).orElse(null);
+        this.armlGameScoresId = other.optionalArmlGameScoresId().map(LongFilter::copy).orElse(null);
+        this.playersId = other.optionalPlayersId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ArmlGameCriteria copy() {
+        return new ArmlGameCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public LongFilter getGameID() {
+        return gameID;
+    }
+
+    public Optional<LongFilter> optionalGameID() {
+        return Optional.ofNullable(gameID);
+    }
+
+    public LongFilter gameID() {
+        if (gameID == null) {
+            setGameID(new LongFilter());
+        }
+        return gameID;
+    }
+
+    public void setGameID(LongFilter gameID) {
+        this.gameID = gameID;
+    }
+
+    public InstantFilter getPlayedAt() {
+        return playedAt;
+    }
+
+    public Optional<InstantFilter> optionalPlayedAt() {
+        return Optional.ofNullable(playedAt);
+    }
+
+    public InstantFilter playedAt() {
+        if (playedAt == null) {
+            setPlayedAt(new InstantFilter());
+        }
+        return playedAt;
+    }
+
+    public void setPlayedAt(InstantFilter playedAt) {
+        this.playedAt = playedAt;
+    }
+
+    public LongFilter getArmlGameScoresId() {
+        return armlGameScoresId;
+    }
+
+    public Optional<LongFilter> optionalArmlGameScoresId() {
+        return Optional.ofNullable(armlGameScoresId);
+    }
+
+    public LongFilter armlGameScoresId() {
+        if (armlGameScoresId == null) {
+            setArmlGameScoresId(new LongFilter());
+        }
+        return armlGameScoresId;
+    }
+
+    public void setArmlGameScoresId(LongFilter armlGameScoresId) {
+        this.armlGameScoresId = armlGameScoresId;
+    }
+
+    public LongFilter getPlayersId() {
+        return playersId;
+    }
+
+    public Optional<LongFilter> optionalPlayersId() {
+        return Optional.ofNullable(playersId);
+    }
+
+    public LongFilter playersId() {
+        if (playersId == null) {
+            setPlayersId(new LongFilter());
+        }
+        return playersId;
+    }
+
+    public void setPlayersId(LongFilter playersId) {
+        this.playersId = playersId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ArmlGameCriteria that = (ArmlGameCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(gameID, that.gameID) &&
+            Objects.equals(playedAt, that.playedAt) &&
+            Objects.equals(armlGameScoresId, that.armlGameScoresId) &&
+            Objects.equals(playersId, that.playersId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, gameID, playedAt, armlGameScoresId, playersId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ArmlGameCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalGameID().map(f -> "gameID=" + f + ", ").orElse("") +
+            optionalPlayedAt().map(f -> "playedAt=" + f + ", ").orElse("") +
+            optionalArmlGameScoresId().map(f -> "armlGameScoresId=" + f + ", ").orElse("") +
+            optionalPlayersId().map(f -> "playersId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,206 @@
+package net.jakebrennan.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link net.jakebrennan.domain.ArmlGameScore} entity. This class is used
+ * in {@link net.jakebrennan.web.rest.ArmlGameScoreResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /arml-game-scores?score.greaterThan=30000&armlPlayerId.equals=1500}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ArmlGameScoreCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private LongFilter score;
+
+    private LongFilter armlGameId;
+
+    /**
+     * Filters on when the game of the score was played.
+     */
+    private InstantFilter armlGamePlayedAt;
+
+    private LongFilter armlPlayerId;
+
+    private Boolean distinct;
+
+    public ArmlGameScoreCriteria() {}
+
+    public ArmlGameScoreCriteria(ArmlGameScoreCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.score = other.optionalScore().map(LongFilter::copy).orElse(null);
+        this.armlGameId = other.optionalArmlGameId().map(LongFilter::copy).orElse(null);
+        this.armlGamePlayedAt = other.optionalArmlGamePlayedAt().map(InstantFilter::copy).orElse(null);
+        this.armlPlayerId = other.optionalArmlPlayerId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ArmlGameScoreCriteria copy() {
+        return new ArmlGameScoreCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public LongFilter getScore() {
+        return score;
+    }
+
+    public Optional<LongFilter> optionalScore() {
+        return Optional.ofNullable(score);
+    }
+
+    public LongFilter score() {
+        if (score == null) {
+            setScore(new LongFilter());
+        }
+        return score;
+    }
+
+    public void setScore(LongFilter score) {
+        this.score = score;
+    }
+
+    public LongFilter getArmlGameId() {
+        return armlGameId;
+    }
+
+    public Optional<LongFilter> optionalArmlGameId() {
+        return Optional.ofNullable(armlGameId);
+    }
+
+    public LongFilter armlGameId() {
+        if (armlGameId == null) {
+            setArmlGameId(new LongFilter());
+        }
+        return armlGameId;
+    }
+
+    public void setArmlGameId(LongFilter armlGameId) {
+        this.armlGameId = armlGameId;
+    }
+
+    public InstantFilter getArmlGamePlayedAt() {
+        return armlGamePlayedAt;
+    }
+
+    public Optional<InstantFilter> optionalArmlGamePlayedAt() {
+        return Optional.ofNullable(armlGamePlayedAt);
+    }
+
+    public InstantFilter armlGamePlayedAt() {
+        if (armlGamePlayedAt == null) {
+            setArmlGamePlayedAt(new InstantFilter());
+        }
+        return armlGamePlayedAt;
+    }
+
+    public void setArmlGamePlayedAt(InstantFilter armlGamePlayedAt) {
+        this.armlGamePlayedAt = armlGamePlayedAt;
+    }
+
+    public LongFilter getArmlPlayerId() {
+        return armlPlayerId;
+    }
+
+    public Optional<LongFilter> optionalArmlPlayerId() {
+        return Optional.ofNullable(armlPlayerId);
+    }
+
+    public LongFilter armlPlayerId() {
+        if (armlPlayerId == null) {
+            setArmlPlayerId(new LongFilter());
+        }
+        return armlPlayerId;
+    }
+
+    public void setArmlPlayerId(LongFilter armlPlayerId) {
+        this.armlPlayerId = armlPlayerId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ArmlGameScoreCriteria that = (ArmlGameScoreCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(score, that.score) &&
+            Objects.equals(armlGameId, that.armlGameId) &&
+            Objects.equals(armlGamePlayedAt, that.armlGamePlayedAt) &&
+            Objects.equals(armlPlayerId, that.armlPlayerId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, score, armlGameId, armlGamePlayedAt, armlPlayerId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ArmlGameScoreCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalScore().map(f -> "score=" + f + ", ").orElse("") +
+            optionalArmlGameId().map(f -> "armlGameId=" + f + ", ").orElse("") +
+            optionalArmlGamePlayedAt().map(f -> "armlGamePlayedAt=" + f + ", ").orElse("") +
+            optionalArmlPlayerId().map(f -> "armlPlayerId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
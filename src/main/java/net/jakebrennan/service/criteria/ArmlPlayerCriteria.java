@@ -0,0 +1,317 @@
+package net.jakebrennan.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link net.jakebrennan.domain.ArmlPlayer} entity. This class is used
+ * in {@link net.jakebrennan.web.rest.ArmlPlayerResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /arml-players?league.in=A1,A2&tenhouName.contains=abc&armlProfileId.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ArmlPlayerCriteria implements Serializable, Criteria {
+
+    /**
+     * Class for filtering ArmlLeague
+     */
+    public static class ArmlLeagueFilter extends Filter<ArmlLeague> {
+
+        public ArmlLeagueFilter() {}
+
+        public ArmlLeagueFilter(ArmlLeagueFilter filter) {
+            super(filter);
+        }
+
+        @Override
+        public ArmlLeagueFilter copy() {
+            return new ArmlLeagueFilter(this);
+        }
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private LongFilter playerID;
+
+    private StringFilter firstName;
+
+    private StringFilter lastName;
+
+    private StringFilter tenhouName;
+
+    private ArmlLeagueFilter league;
+
+    private LongFilter armlGameScoresId;
+
+    private LongFilter gamesId;
+
+    private LongFilter armlProfileId;
+
+    private Boolean distinct;
+
+    public ArmlPlayerCriteria() {}
+
+    public ArmlPlayerCriteria(ArmlPlayerCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.playerID = other.optionalPlayerID().map(LongFilter::copy).orElse(null);
+        this.firstName = other.optionalFirstName().map(StringFilter::copy).orElse(null);
+        this.lastName = other.optionalLastName().map(StringFilter::copy).orElse(null);
+        this.tenhouName = other.optionalTenhouName().map(StringFilter::copy).orElse(null);
+        this.league = other.optionalLeague().map(ArmlLeagueFilter::copy).orElse(null);
+        this.armlGameScoresId = other.optionalArmlGameScoresId().map(LongFilter::copy).orElse(null);
+        this.gamesId = other.optionalGamesId().map(LongFilter::copy).orElse(null);
+        this.armlProfileId = other.optionalArmlProfileId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ArmlPlayerCriteria copy() {
+        return new ArmlPlayerCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public LongFilter getPlayerID() {
+        return playerID;
+    }
+
+    public Optional<LongFilter> optionalPlayerID() {
+        return Optional.ofNullable(playerID);
+    }
+
+    public LongFilter playerID() {
+        if (playerID == null) {
+            setPlayerID(new LongFilter());
+        }
+        return playerID;
+    }
+
+    public void setPlayerID(LongFilter playerID) {
+        this.playerID = playerID;
+    }
+
+    public StringFilter getFirstName() {
+        return firstName;
+    }
+
+    public Optional<StringFilter> optionalFirstName() {
+        return Optional.ofNullable(firstName);
+    }
+
+    public StringFilter firstName() {
+        if (firstName == null) {
+            setFirstName(new StringFilter());
+        }
+        return firstName;
+    }
+
+    public void setFirstName(StringFilter firstName) {
+        this.firstName = firstName;
+    }
+
+    public StringFilter getLastName() {
+        return lastName;
+    }
+
+    public Optional<StringFilter> optionalLastName() {
+        return Optional.ofNullable(lastName);
+    }
+
+    public StringFilter lastName() {
+        if (lastName == null) {
+            setLastName(new StringFilter());
+        }
+        return lastName;
+    }
+
+    public void setLastName(StringFilter lastName) {
+        this.lastName = lastName;
+    }
+
+    public StringFilter getTenhouName() {
+        return tenhouName;
+    }
+
+    public Optional<StringFilter> optionalTenhouName() {
+        return Optional.ofNullable(tenhouName);
+    }
+
+    public StringFilter tenhouName() {
+        if (tenhouName == null) {
+            setTenhouName(new StringFilter());
+        }
+        return tenhouName;
+    }
+
+    public void setTenhouName(StringFilter tenhouName) {
+        this.tenhouName = tenhouName;
+    }
+
+    public ArmlLeagueFilter getLeague() {
+        return league;
+    }
+
+    public Optional<ArmlLeagueFilter> optionalLeague() {
+        return Optional.ofNullable(league);
+    }
+
+    public ArmlLeagueFilter league() {
+        if (league == null) {
+            setLeague(new ArmlLeagueFilter());
+        }
+        return league;
+    }
+
+    public void setLeague(ArmlLeagueFilter league) {
+        this.league = league;
+    }
+
+    public LongFilter getArmlGameScoresId() {
+        return armlGameScoresId;
+    }
+
+    public Optional<LongFilter> optionalArmlGameScoresId() {
+        return Optional.ofNullable(armlGameScoresId);
+    }
+
+    public LongFilter armlGameScoresId() {
+        if (armlGameScoresId == null) {
+            setArmlGameScoresId(new LongFilter());
+        }
+        return armlGameScoresId;
+    }
+
+    public void setArmlGameScoresId(LongFilter armlGameScoresId) {
+        this.armlGameScoresId = armlGameScoresId;
+    }
+
+    public LongFilter getGamesId() {
+        return gamesId;
+    }
+
+    public Optional<LongFilter> optionalGamesId() {
+        return Optional.ofNullable(gamesId);
+    }
+
+    public LongFilter gamesId() {
+        if (gamesId == null) {
+            setGamesId(new LongFilter());
+        }
+        return gamesId;
+    }
+
+    public void setGamesId(LongFilter gamesId) {
+        this.gamesId = gamesId;
+    }
+
+    public LongFilter getArmlProfileId() {
+        return armlProfileId;
+    }
+
+    public Optional<LongFilter> optionalArmlProfileId() {
+        return Optional.ofNullable(armlProfileId);
+    }
+
+    public LongFilter armlProfileId() {
+        if (armlProfileId == null) {
+            setArmlProfileId(new LongFilter());
+        }
+        return armlProfileId;
+    }
+
+    public void setArmlProfileId(LongFilter armlProfileId) {
+        this.armlProfileId = armlProfileId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ArmlPlayerCriteria that = (ArmlPlayerCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(playerID, that.playerID) &&
+            Objects.equals(firstName, that.firstName) &&
+            Objects.equals(lastName, that.lastName) &&
+            Objects.equals(tenhouName, that.tenhouName) &&
+            Objects.equals(league, that.league) &&
+            Objects.equals(armlGameScoresId, that.armlGameScoresId) &&
+            Objects.equals(gamesId, that.gamesId) &&
+            Objects.equals(armlProfileId, that.armlProfileId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, playerID, firstName, lastName, tenhouName, league, armlGameScoresId, gamesId, armlProfileId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ArmlPlayerCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalPlayerID().map(f -> "playerID=" + f + ", ").orElse("") +
+            optionalFirstName().map(f -> "firstName=" + f + ", ").orElse("") +
+            optionalLastName().map(f -> "lastName=" + f + ", ").orElse("") +
+            optionalTenhouName().map(f -> "tenhouName=" + f + ", ").orElse("") +
+            optionalLeague().map(f -> "league=" + f + ", ").orElse("") +
+            optionalArmlGameScoresId().map(f -> "armlGameScoresId=" + f + ", ").orElse("") +
+            optionalGamesId().map(f -> "gamesId=" + f + ", ").orElse("") +
+            optionalArmlProfileId().map(f -> "armlProfileId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
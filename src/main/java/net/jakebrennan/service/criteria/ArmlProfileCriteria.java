@@ -0,0 +1,323 @@
+package net.jakebrennan.service.criteria;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import org.springdoc.core.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.*;
+
+/**
+ * Criteria class for the {@link net.jakebrennan.domain.ArmlProfile} entity. This class is used
+ * in {@link net.jakebrennan.web.rest.ArmlProfileResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /arml-profiles?gamesPlayed.greaterThanOrEqual=10&winRate.greaterThan=25}
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ArmlProfileCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private DoubleFilter winRate;
+
+    private DoubleFilter feedRate;
+
+    private DoubleFilter callRate;
+
+    private DoubleFilter riiRate;
+
+    private LongFilter feedEV;
+
+    private IntegerFilter gamesPlayed;
+
+    private IntegerFilter firstPlaces;
+
+    private LongFilter userId;
+
+    private LongFilter playerIDId;
+
+    private Boolean distinct;
+
+    public ArmlProfileCriteria() {}
+
+    public ArmlProfileCriteria(ArmlProfileCriteria other) {
+        this.id = other.optionalId().map(LongFilter::copy).orElse(null);
+        this.winRate = other.optionalWinRate().map(DoubleFilter::copy).orElse(null);
+        this.feedRate = other.optionalFeedRate().map(DoubleFilter::copy).orElse(null);
+        this.callRate = other.optionalCallRate().map(DoubleFilter::copy).orElse(null);
+        this.riiRate = other.optionalRiiRate().map(DoubleFilter::copy).orElse(null);
+        this.feedEV = other.optionalFeedEV().map(LongFilter::copy).orElse(null);
+        this.gamesPlayed = other.optionalGamesPlayed().map(IntegerFilter::copy).orElse(null);
+        this.firstPlaces = other.optionalFirstPlaces().map(IntegerFilter::copy).orElse(null);
+        this.userId = other.optionalUserId().map(LongFilter::copy).orElse(null);
+        this.playerIDId = other.optionalPlayerIDId().map(LongFilter::copy).orElse(null);
+        this.distinct = other.distinct;
+    }
+
+    @Override
+    public ArmlProfileCriteria copy() {
+        return new ArmlProfileCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public Optional<LongFilter> optionalId() {
+        return Optional.ofNullable(id);
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            setId(new LongFilter());
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public DoubleFilter getWinRate() {
+        return winRate;
+    }
+
+    public Optional<DoubleFilter> optionalWinRate() {
+        return Optional.ofNullable(winRate);
+    }
+
+    public DoubleFilter winRate() {
+        if (winRate == null) {
+            setWinRate(new DoubleFilter());
+        }
+        return winRate;
+    }
+
+    public void setWinRate(DoubleFilter winRate) {
+        this.winRate = winRate;
+    }
+
+    public DoubleFilter getFeedRate() {
+        return feedRate;
+    }
+
+    public Optional<DoubleFilter> optionalFeedRate() {
+        return Optional.ofNullable(feedRate);
+    }
+
+    public DoubleFilter feedRate() {
+        if (feedRate == null) {
+            setFeedRate(new DoubleFilter());
+        }
+        return feedRate;
+    }
+
+    public void setFeedRate(DoubleFilter feedRate) {
+        this.feedRate = feedRate;
+    }
+
+    public DoubleFilter getCallRate() {
+        return callRate;
+    }
+
+    public Optional<DoubleFilter> optionalCallRate() {
+        return Optional.ofNullable(callRate);
+    }
+
+    public DoubleFilter callRate() {
+        if (callRate == null) {
+            setCallRate(new DoubleFilter());
+        }
+        return callRate;
+    }
+
+    public void setCallRate(DoubleFilter callRate) {
+        this.callRate = callRate;
+    }
+
+    public DoubleFilter getRiiRate() {
+        return riiRate;
+    }
+
+    public Optional<DoubleFilter> optionalRiiRate() {
+        return Optional.ofNullable(riiRate);
+    }
+
+    public DoubleFilter riiRate() {
+        if (riiRate == null) {
+            setRiiRate(new DoubleFilter());
+        }
+        return riiRate;
+    }
+
+    public void setRiiRate(DoubleFilter riiRate) {
+        this.riiRate = riiRate;
+    }
+
+    public LongFilter getFeedEV() {
+        return feedEV;
+    }
+
+    public Optional<LongFilter> optionalFeedEV() {
+        return Optional.ofNullable(feedEV);
+    }
+
+    public LongFilter feedEV() {
+        if (feedEV == null) {
+            setFeedEV(new LongFilter());
+        }
+        return feedEV;
+    }
+
+    public void setFeedEV(LongFilter feedEV) {
+        this.feedEV = feedEV;
+    }
+
+    public IntegerFilter getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public Optional<IntegerFilter> optionalGamesPlayed() {
+        return Optional.ofNullable(gamesPlayed);
+    }
+
+    public IntegerFilter gamesPlayed() {
+        if (gamesPlayed == null) {
+            setGamesPlayed(new IntegerFilter());
+        }
+        return gamesPlayed;
+    }
+
+    public void setGamesPlayed(IntegerFilter gamesPlayed) {
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    public IntegerFilter getFirstPlaces() {
+        return firstPlaces;
+    }
+
+    public Optional<IntegerFilter> optionalFirstPlaces() {
+        return Optional.ofNullable(firstPlaces);
+    }
+
+    public IntegerFilter firstPlaces() {
+        if (firstPlaces == null) {
+            setFirstPlaces(new IntegerFilter());
+        }
+        return firstPlaces;
+    }
+
+    public void setFirstPlaces(IntegerFilter firstPlaces) {
+        this.firstPlaces = firstPlaces;
+    }
+
+    public LongFilter getUserId() {
+        return userId;
+    }
+
+    public Optional<LongFilter> optionalUserId() {
+        return Optional.ofNullable(userId);
+    }
+
+    public LongFilter userId() {
+        if (userId == null) {
+            setUserId(new LongFilter());
+        }
+        return userId;
+    }
+
+    public void setUserId(LongFilter userId) {
+        this.userId = userId;
+    }
+
+    public LongFilter getPlayerIDId() {
+        return playerIDId;
+    }
+
+    public Optional<LongFilter> optionalPlayerIDId() {
+        return Optional.ofNullable(playerIDId);
+    }
+
+    public LongFilter playerIDId() {
+        if (playerIDId == null) {
+            setPlayerIDId(new LongFilter());
+        }
+        return playerIDId;
+    }
+
+    public void setPlayerIDId(LongFilter playerIDId) {
+        this.playerIDId = playerIDId;
+    }
+
+    public Boolean getDistinct() {
+        return distinct;
+    }
+
+    public Optional<Boolean> optionalDistinct() {
+        return Optional.ofNullable(distinct);
+    }
+
+    public Boolean distinct() {
+        if (distinct == null) {
+            setDistinct(true);
+        }
+        return distinct;
+    }
+
+    public void setDistinct(Boolean distinct) {
+        this.distinct = distinct;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ArmlProfileCriteria that = (ArmlProfileCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(winRate, that.winRate) &&
+            Objects.equals(feedRate, that.feedRate) &&
+            Objects.equals(callRate, that.callRate) &&
+            Objects.equals(riiRate, that.riiRate) &&
+            Objects.equals(feedEV, that.feedEV) &&
+            Objects.equals(gamesPlayed, that.gamesPlayed) &&
+            Objects.equals(firstPlaces, that.firstPlaces) &&
+            Objects.equals(userId, that.userId) &&
+            Objects.equals(playerIDId, that.playerIDId) &&
+            Objects.equals(distinct, that.distinct)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, winRate, feedRate, callRate, riiRate, feedEV, gamesPlayed, firstPlaces, userId, playerIDId, distinct);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ArmlProfileCriteria{" +
+            optionalId().map(f -> "id=" + f + ", ").orElse("") +
+            optionalWinRate().map(f -> "winRate=" + f + ", ").orElse("") +
+            optionalFeedRate().map(f -> "feedRate=" + f + ", ").orElse("") +
+            optionalCallRate().map(f -> "callRate=" + f + ", ").orElse("") +
+            optionalRiiRate().map(f -> "riiRate=" + f + ", ").orElse("") +
+            optionalFeedEV().map(f -> "feedEV=" + f + ", ").orElse("") +
+            optionalGamesPlayed().map(f -> "gamesPlayed=" + f + ", ").orElse("") +
+            optionalFirstPlaces().map(f -> "firstPlaces=" + f + ", ").orElse("") +
+            optionalUserId().map(f -> "userId=" + f + ", ").orElse("") +
+            optionalPlayerIDId().map(f -> "playerIDId=" + f + ", ").orElse("") +
+            optionalDistinct().map(f -> "distinct=" + f + ", ").orElse("") +
+        "}";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Criteria for filtering entities from request parameters.
+ */
+package net.jakebrennan.service.criteria;
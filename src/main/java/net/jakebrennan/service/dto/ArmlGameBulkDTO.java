@@ -0,0 +1,20 @@
+package net.jakebrennan.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing one line of a bulk game upload: a game with the scores of its players.
+ *
+ * @param gameID the {@code gameID} of the game.
+ * @param playedAt when the game was played; optional, defaults to the time of the upload.
+ * @param scores the scores of the game.
+ */
+public record ArmlGameBulkDTO(Long gameID, Instant playedAt, List<Score> scores) implements Serializable {
+    /**
+     * @param playerId the id of the {@link net.jakebrennan.domain.ArmlPlayer}.
+     * @param score the final score of the player.
+     */
+    public record Score(Long playerId, Long score) implements Serializable {}
+}
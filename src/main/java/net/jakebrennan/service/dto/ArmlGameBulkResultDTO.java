@@ -0,0 +1,23 @@
+package net.jakebrennan.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+
+/**
+ * A DTO representing the outcome of one line of a bulk game upload.
+ *
+ * @param line the 1-based line number in the upload.
+ * @param gameID the {@code gameID} of the line, if it could be read.
+ * @param id the id of the created {@link net.jakebrennan.domain.ArmlGame}, if the line was imported.
+ * @param error why the line was rejected, if it was.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ArmlGameBulkResultDTO(int line, Long gameID, Long id, String error) implements Serializable {
+    public static ArmlGameBulkResultDTO created(int line, Long gameID, Long id) {
+        return new ArmlGameBulkResultDTO(line, gameID, id, null);
+    }
+
+    public static ArmlGameBulkResultDTO rejected(int line, Long gameID, String error) {
+        return new ArmlGameBulkResultDTO(line, gameID, null, error);
+    }
+}
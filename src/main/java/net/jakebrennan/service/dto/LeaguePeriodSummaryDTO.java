@@ -0,0 +1,26 @@
+package net.jakebrennan.service.dto;
+
+import java.io.Serializable;
+import java.time.YearMonth;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+
+/**
+ * A DTO summarizing the scores made by the players of a league in a month.
+ *
+ * @param month the month of play, in UTC.
+ * @param scores the number of scores.
+ */
+public record LeaguePeriodSummaryDTO(
+    ArmlLeague league,
+    YearMonth month,
+    long scores,
+    long totalScore,
+    double averageScore,
+    double standardDeviation
+) implements Serializable {
+    public static LeaguePeriodSummaryDTO of(ArmlLeague league, YearMonth month, long scores, long totalScore, long sumOfSquares) {
+        double mean = (double) totalScore / scores;
+        double variance = Math.max(0.0, (double) sumOfSquares / scores - mean * mean);
+        return new LeaguePeriodSummaryDTO(league, month, scores, totalScore, mean, Math.sqrt(variance));
+    }
+}
@@ -0,0 +1,15 @@
+package net.jakebrennan.service.dto;
+
+import java.io.Serializable;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.ProfileMetric;
+
+/**
+ * A DTO placing a value of a profile metric among the profiles of a league.
+ *
+ * @param percentile the estimated share of the profiles of the league whose metric is lower than or equal to the
+ * value, between 0 and 100.
+ * @param profiles the number of profiles of the league with a value for the metric.
+ */
+public record ProfileMetricPercentileDTO(ArmlLeague league, ProfileMetric metric, double value, double percentile, long profiles)
+    implements Serializable {}
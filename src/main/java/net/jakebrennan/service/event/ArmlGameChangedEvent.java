@@ -0,0 +1,23 @@
+package net.jakebrennan.service.event;
+
+import java.time.Instant;
+import net.jakebrennan.domain.ArmlGame;
+
+/**
+ * Published whenever an {@link ArmlGame} is updated.
+ * <p>
+ * {@code previousPlayedAt} is when the game was played before the update, {@code null} if unknown, and {@code current}
+ * the game as saved.
+ */
+public record ArmlGameChangedEvent(Instant previousPlayedAt, ArmlGame current) {
+    public static ArmlGameChangedEvent updated(Instant previousPlayedAt, ArmlGame armlGame) {
+        return new ArmlGameChangedEvent(previousPlayedAt, armlGame);
+    }
+
+    /**
+     * @return whether the update changed when the game was played, or recorded it for the first time.
+     */
+    public boolean isPlayedAtChanged() {
+        return current.getPlayedAt() != null && !current.getPlayedAt().equals(previousPlayedAt);
+    }
+}
@@ -0,0 +1,62 @@
+package net.jakebrennan.service.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+
+/**
+ * Published whenever an {@link ArmlGameScore} is created, updated or deleted.
+ * <p>
+ * {@code previous} is the row as it was before the write ({@code null} on creation) and {@code current} is the
+ * row as it is after the write ({@code null} on deletion), so that listeners can apply the change as a delta.
+ */
+public record ArmlGameScoreChangedEvent(ArmlGameScoreRow previous, ArmlGameScoreRow current) {
+    public static ArmlGameScoreChangedEvent created(ArmlGameScore armlGameScore) {
+        return new ArmlGameScoreChangedEvent(null, ArmlGameScoreRow.of(armlGameScore));
+    }
+
+    public static ArmlGameScoreChangedEvent updated(ArmlGameScoreRow previous, ArmlGameScore armlGameScore) {
+        return new ArmlGameScoreChangedEvent(previous, ArmlGameScoreRow.of(armlGameScore));
+    }
+
+    public static ArmlGameScoreChangedEvent deleted(ArmlGameScoreRow previous) {
+        return new ArmlGameScoreChangedEvent(previous, null);
+    }
+
+    /**
+     * @return the ids of the games whose set of scores is changed by this event.
+     */
+    public Set<Long> affectedGameIds() {
+        Set<Long> gameIds = new LinkedHashSet<>();
+        if (previous != null && previous.gameId() != null) {
+            gameIds.add(previous.gameId());
+        }
+        if (current != null && current.gameId() != null) {
+            gameIds.add(current.gameId());
+        }
+        return gameIds;
+    }
+
+    /**
+     * Rebuilds the scores a game had before this event from the scores it has after it.
+     *
+     * @param gameId the id of the game.
+     * @param rowsAfter the scores of the game once this event has been applied.
+     * @return the scores of the game before this event was applied.
+     */
+    public List<ArmlGameScoreRow> rowsBefore(Long gameId, Collection<ArmlGameScoreRow> rowsAfter) {
+        List<ArmlGameScoreRow> rowsBefore = new ArrayList<>(rowsAfter);
+        if (current != null) {
+            rowsBefore.removeIf(row -> Objects.equals(row.id(), current.id()));
+        }
+        if (previous != null && Objects.equals(previous.gameId(), gameId)) {
+            rowsBefore.add(previous);
+        }
+        return rowsBefore;
+    }
+}
@@ -0,0 +1,23 @@
+package net.jakebrennan.service.event;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+
+/**
+ * Published when scores are written in bulk, bypassing the per-entity write path.
+ * <p>
+ * {@code rows} are the new scores, as stored, so that listeners can apply them incrementally instead of reloading.
+ */
+public record ArmlGameScoresImportedEvent(List<ArmlGameScoreRow> rows) {
+    public Set<Long> playerIds() {
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (ArmlGameScoreRow row : rows) {
+            if (row.playerId() != null) {
+                playerIds.add(row.playerId());
+            }
+        }
+        return playerIds;
+    }
+}
@@ -0,0 +1,35 @@
+package net.jakebrennan.service.event;
+
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+
+/**
+ * Published whenever an {@link ArmlPlayer} is created, updated or deleted.
+ * <p>
+ * {@code current} is the player as saved, or {@code null} when the player with id {@code id} was deleted.
+ * {@code previousLeague} is the league of the player before an update, and {@code null} otherwise.
+ */
+public record ArmlPlayerChangedEvent(Long id, ArmlLeague previousLeague, ArmlPlayer current) {
+    public static ArmlPlayerChangedEvent created(ArmlPlayer armlPlayer) {
+        return new ArmlPlayerChangedEvent(armlPlayer.getId(), null, armlPlayer);
+    }
+
+    public static ArmlPlayerChangedEvent updated(ArmlLeague previousLeague, ArmlPlayer armlPlayer) {
+        return new ArmlPlayerChangedEvent(armlPlayer.getId(), previousLeague, armlPlayer);
+    }
+
+    public static ArmlPlayerChangedEvent deleted(Long id) {
+        return new ArmlPlayerChangedEvent(id, null, null);
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+
+    /**
+     * @return whether an update moved the player to another league.
+     */
+    public boolean isLeagueChanged() {
+        return previousLeague != null && current != null && previousLeague != current.getLeague();
+    }
+}
@@ -0,0 +1,22 @@
+package net.jakebrennan.service.event;
+
+import net.jakebrennan.domain.ArmlProfile;
+
+/**
+ * Published whenever an {@link ArmlProfile} is created, updated or deleted.
+ * <p>
+ * {@code current} is the profile as saved, or {@code null} when the profile with id {@code id} was deleted.
+ */
+public record ArmlProfileChangedEvent(Long id, ArmlProfile current) {
+    public static ArmlProfileChangedEvent saved(ArmlProfile armlProfile) {
+        return new ArmlProfileChangedEvent(armlProfile.getId(), armlProfile);
+    }
+
+    public static ArmlProfileChangedEvent deleted(Long id) {
+        return new ArmlProfileChangedEvent(id, null);
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
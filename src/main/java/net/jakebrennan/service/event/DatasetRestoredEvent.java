@@ -0,0 +1,10 @@
+package net.jakebrennan.service.event;
+
+/**
+ * Published once a snapshot has been restored into the game tables, or the tables seeded from CSV files, outside of
+ * any transaction.
+ * <p>
+ * None of the rows restored goes through the other events: listeners keeping state derived from the tables rebuild it
+ * from scratch, as they do when the application starts.
+ */
+public record DatasetRestoredEvent() {}
@@ -0,0 +1,4 @@
+/**
+ * Application events published by the web and service layers.
+ */
+package net.jakebrennan.service.event;
@@ -0,0 +1,268 @@
+package net.jakebrennan.service.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of {@link JournalEntry}s, in memory-mapped segment files of a fixed size.
+ * <p>
+ * Each entry is written as its length, the CRC32C of its bytes and its bytes: the game id, the number of scores and a
+ * (player id, score) pair per score. Segments are zero-filled when created, so that a length of 0 marks the end of
+ * the entries of a segment; an entry that does not fit in the rest of the active segment starts the next one. Every
+ * {@link #append(Collection)} is forced to disk before it returns.
+ * <p>
+ * On {@link #open(Path, int)}, the active segment is scanned up to its first missing or damaged entry, which is
+ * where an interrupted append stopped, and anything after it is erased. A damaged entry in an older segment is
+ * reported by {@link #replay(Consumer)}, as it cannot come from an interrupted append.
+ * <p>
+ * Segments are never unmapped explicitly, as Java has no API for it: their mappings are released when collected.
+ */
+public class GameJournal implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+
+    private static final int SCORE_SIZE = Long.BYTES * 2;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private long segmentIndex;
+
+    private FileChannel channel;
+
+    private MappedByteBuffer segment;
+
+    private GameJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the journal in a directory, creating the directory and the first segment if needed.
+     *
+     * @param segmentSize the size of each segment file, in bytes.
+     */
+    public static GameJournal open(Path directory, int segmentSize) throws IOException {
+        Files.createDirectories(directory);
+        GameJournal journal = new GameJournal(directory, segmentSize);
+        List<Long> indexes = journal.segmentIndexes();
+        if (indexes.isEmpty()) {
+            journal.startSegment(0);
+        } else {
+            journal.resumeSegment(indexes.get(indexes.size() - 1));
+        }
+        return journal;
+    }
+
+    /**
+     * @return the largest number of scores an entry can hold.
+     */
+    public int maxScores() {
+        return (segmentSize - HEADER_SIZE - Long.BYTES - Integer.BYTES) / SCORE_SIZE;
+    }
+
+    public synchronized boolean isEmpty() {
+        return segmentIndex == 0 && segment.position() == 0;
+    }
+
+    /**
+     * Appends the entries, and forces them to disk.
+     */
+    public synchronized void append(Collection<JournalEntry> entries) {
+        int start = segment.position();
+        for (JournalEntry entry : entries) {
+            if (entry.size() > maxScores()) {
+                throw new IllegalArgumentException("A journal entry holds at most " + maxScores() + " scores");
+            }
+            int length = Long.BYTES + Integer.BYTES + entry.size() * SCORE_SIZE;
+            if (segment.remaining() < HEADER_SIZE + length) {
+                segment.force(start, segment.position() - start);
+                startSegment(segmentIndex + 1);
+                start = 0;
+            }
+            write(entry, length);
+        }
+        segment.force(start, segment.position() - start);
+    }
+
+    /**
+     * Reads every entry, oldest first, one segment after the other.
+     *
+     * @return the number of entries read.
+     */
+    public synchronized long replay(Consumer<JournalEntry> consumer) {
+        long entries = 0;
+        try {
+            for (long index : segmentIndexes()) {
+                if (index == segmentIndex) {
+                    ByteBuffer active = segment.duplicate().flip();
+                    entries += readEntries(active, consumer, index);
+                } else {
+                    try (FileChannel sealed = FileChannel.open(segmentPath(index), StandardOpenOption.READ)) {
+                        entries += readEntries(sealed.map(FileChannel.MapMode.READ_ONLY, 0, sealed.size()), consumer, index);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return entries;
+    }
+
+    /**
+     * Deletes every entry, leaving an empty journal.
+     */
+    public synchronized void clear() throws IOException {
+        channel.close();
+        for (long index : segmentIndexes()) {
+            Files.delete(segmentPath(index));
+        }
+        channel = null;
+        startSegment(0);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        segment.force();
+        channel.close();
+    }
+
+    private void write(JournalEntry entry, int length) {
+        int headerAt = segment.position();
+        segment.position(headerAt + HEADER_SIZE);
+        segment.putLong(entry.gameId());
+        segment.putInt(entry.size());
+        for (int i = 0; i < entry.size(); i++) {
+            segment.putLong(entry.playerIds()[i]);
+            segment.putLong(entry.scores()[i]);
+        }
+        // the length goes last, so that an entry interrupted midway reads as the end of the segment
+        segment.putInt(headerAt + Integer.BYTES, checksum(segment, headerAt + HEADER_SIZE, length));
+        segment.putInt(headerAt, length);
+    }
+
+    /**
+     * Reads the entries of a segment until its end or its first missing entry.
+     *
+     * @throws IllegalStateException if an entry is damaged.
+     */
+    private static long readEntries(ByteBuffer buffer, Consumer<JournalEntry> consumer, long index) {
+        long entries = 0;
+        while (true) {
+            int at = buffer.position();
+            int length = validLength(buffer, at);
+            if (length == 0) {
+                return entries;
+            }
+            if (length < 0) {
+                throw new IllegalStateException("Damaged journal entry at " + at + " of segment " + index);
+            }
+            buffer.position(at + HEADER_SIZE);
+            long gameId = buffer.getLong();
+            int size = buffer.getInt();
+            long[] playerIds = new long[size];
+            long[] scores = new long[size];
+            for (int i = 0; i < size; i++) {
+                playerIds[i] = buffer.getLong();
+                scores[i] = buffer.getLong();
+            }
+            consumer.accept(new JournalEntry(gameId, playerIds, scores));
+            entries++;
+        }
+    }
+
+    /**
+     * @return the length of the entry at a position, 0 at the end of the entries, or -1 if the entry is damaged.
+     */
+    private static int validLength(ByteBuffer buffer, int at) {
+        if (buffer.limit() - at < HEADER_SIZE) {
+            return 0;
+        }
+        int length = buffer.getInt(at);
+        if (length == 0) {
+            return 0;
+        }
+        if (length < Long.BYTES + Integer.BYTES || length > buffer.limit() - at - HEADER_SIZE) {
+            return -1;
+        }
+        int size = buffer.getInt(at + HEADER_SIZE + Long.BYTES);
+        if (size < 0 || length != Long.BYTES + Integer.BYTES + (long) size * SCORE_SIZE) {
+            return -1;
+        }
+        return buffer.getInt(at + Integer.BYTES) == checksum(buffer, at + HEADER_SIZE, length) ? length : -1;
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(from, length));
+        return (int) crc.getValue();
+    }
+
+    private void startSegment(long index) {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            channel = FileChannel.open(
+                segmentPath(index),
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            segmentIndex = index;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void resumeSegment(long index) throws IOException {
+        channel = FileChannel.open(segmentPath(index), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        segmentIndex = index;
+        int end = 0;
+        for (int length = validLength(segment, end); length > 0; length = validLength(segment, end)) {
+            end += HEADER_SIZE + length;
+        }
+        // erase what an interrupted append left behind, so that no stale byte can pass for a later entry
+        for (int i = end; i < segment.limit(); i++) {
+            if (segment.get(i) != 0) {
+                segment.put(i, (byte) 0);
+            }
+        }
+        segment.position(end);
+        segment.force();
+    }
+
+    private List<Long> segmentIndexes() throws IOException {
+        List<Long> indexes = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files
+                .map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                .forEach(name -> indexes.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        indexes.sort(null);
+        return indexes;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%016d%s", index, SEGMENT_SUFFIX));
+    }
+}
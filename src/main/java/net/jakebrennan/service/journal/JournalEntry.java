@@ -0,0 +1,50 @@
+package net.jakebrennan.service.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+
+/**
+ * The scores of a game, as journaled after a committed write: a later entry of the same game replaces every score of
+ * the earlier ones, and an entry without scores means that the game has none left.
+ *
+ * @param gameId the id of the game.
+ * @param playerIds the id of the player of each score.
+ * @param scores the scores, in the same order.
+ */
+public record JournalEntry(long gameId, long[] playerIds, long[] scores) {
+    public JournalEntry {
+        if (playerIds.length != scores.length) {
+            throw new IllegalArgumentException("Every score needs a player");
+        }
+    }
+
+    /**
+     * @return the entry of the scores of a game that have both a player and a score.
+     */
+    public static JournalEntry of(long gameId, List<ArmlGameScoreRow> rows) {
+        List<ArmlGameScoreRow> results = rows.stream().filter(row -> row.playerId() != null && row.score() != null).toList();
+        long[] playerIds = new long[results.size()];
+        long[] scores = new long[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            playerIds[i] = results.get(i).playerId();
+            scores[i] = results.get(i).score();
+        }
+        return new JournalEntry(gameId, playerIds, scores);
+    }
+
+    public int size() {
+        return scores.length;
+    }
+
+    /**
+     * @return the scores as rows, without row ids.
+     */
+    public List<ArmlGameScoreRow> rows() {
+        List<ArmlGameScoreRow> rows = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            rows.add(new ArmlGameScoreRow(null, gameId, playerIds[i], scores[i]));
+        }
+        return rows;
+    }
+}
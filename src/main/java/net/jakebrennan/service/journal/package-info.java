@@ -0,0 +1,4 @@
+/**
+ * Append-only journal of the committed game results.
+ */
+package net.jakebrennan.service.journal;
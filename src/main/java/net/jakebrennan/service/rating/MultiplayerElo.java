@@ -0,0 +1,60 @@
+package net.jakebrennan.service.rating;
+
+/**
+ * Elo rating generalized to games of more than two players.
+ * <p>
+ * A game of {@code n} players is scored as the {@code n(n-1)/2} duels between each pair of its players: a player
+ * wins a duel by finishing with the higher score, and a tie counts as half a win. Each duel moves the ratings of its
+ * two players by the usual Elo update, scaled by {@code 1/(n-1)} so that a game moves a rating by at most {@code k},
+ * as a single two-player game would. Ratings are updated from their values before the game, and the total of the
+ * ratings of a game is left unchanged.
+ */
+public class MultiplayerElo implements RatingModel {
+
+    /**
+     * Rating difference at which the stronger player is expected to win ten duels for every one it loses.
+     */
+    private static final double SCALE = 400;
+
+    private final double initialRating;
+
+    private final double k;
+
+    public MultiplayerElo(double initialRating, double k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        this.initialRating = initialRating;
+        this.k = k;
+    }
+
+    @Override
+    public double initialRating() {
+        return initialRating;
+    }
+
+    @Override
+    public void rate(double[] ratings, long[] scores) {
+        int n = ratings.length;
+        if (n != scores.length) {
+            throw new IllegalArgumentException("Expected one score per player");
+        }
+        if (n < 2) {
+            return;
+        }
+        double duelK = k / (n - 1);
+        double[] changes = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double expected = 1 / (1 + Math.pow(10, (ratings[j] - ratings[i]) / SCALE));
+                double actual = scores[i] > scores[j] ? 1 : scores[i] < scores[j] ? 0 : 0.5;
+                double change = duelK * (actual - expected);
+                changes[i] += change;
+                changes[j] -= change;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            ratings[i] += changes[i];
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package net.jakebrennan.service.rating;
+
+/**
+ * A skill rating model for games of several players, updating the ratings of the players of a game from its final
+ * scores.
+ */
+public interface RatingModel {
+    /**
+     * @return the rating of a player before its first game.
+     */
+    double initialRating();
+
+    /**
+     * Updates the ratings of the players of a game.
+     *
+     * @param ratings the ratings of the players before the game, replaced in place by their ratings after it.
+     * @param scores the final scores of the players, in the order of {@code ratings}.
+     */
+    void rate(double[] ratings, long[] scores);
+}
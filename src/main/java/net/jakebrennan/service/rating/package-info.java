@@ -0,0 +1,4 @@
+/**
+ * Skill rating models for multiplayer games.
+ */
+package net.jakebrennan.service.rating;
@@ -0,0 +1,121 @@
+package net.jakebrennan.service.seed;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the records of a CSV file in the format of the Liquibase {@code loadData} files: fields are separated by a
+ * separator character, and may be quoted with {@code "}, a quote within a quoted field being doubled.
+ * <p>
+ * An empty field that is not quoted is read as {@code null}, so that it can be told apart from an empty string.
+ */
+public class CsvReader {
+
+    private static final char QUOTE = '"';
+
+    private final Reader in;
+
+    private final char separator;
+
+    private final char[] buffer = new char[1 << 16];
+
+    private int position;
+
+    private int limit;
+
+    private long line = 1;
+
+    public CsvReader(Reader in, char separator) {
+        this.in = in;
+        this.separator = separator;
+    }
+
+    /**
+     * @return the line the next record starts on.
+     */
+    public long line() {
+        return line;
+    }
+
+    /**
+     * @return the fields of the next record, or {@code null} at the end of the file.
+     * @throws EOFException if the file ends within a quoted field.
+     */
+    public String[] next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == QUOTE && field.isEmpty() && !quoted) {
+                quoted = true;
+                readQuoted(field);
+                c = read();
+                continue;
+            }
+            if (c == -1 || c == '\n' || c == '\r' || c == separator) {
+                fields.add(quoted || !field.isEmpty() ? field.toString() : null);
+                if (c != separator) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    line++;
+                    return fields.toArray(String[]::new);
+                }
+                field.setLength(0);
+                quoted = false;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                throw new EOFException("Unterminated quoted field starting on line " + line);
+            }
+            if (c == QUOTE) {
+                if (peek() != QUOTE) {
+                    return;
+                }
+                read();
+            } else if (c == '\n') {
+                line++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
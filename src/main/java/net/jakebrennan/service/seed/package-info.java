@@ -0,0 +1,4 @@
+/**
+ * Bulk seeding of the game tables from CSV files.
+ */
+package net.jakebrennan.service.seed;
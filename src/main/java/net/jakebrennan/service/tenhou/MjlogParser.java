@@ -0,0 +1,104 @@
+package net.jakebrennan.service.tenhou;
+
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming reader of Tenhou mjlog XML.
+ * <p>
+ * Only the {@code <UN>} element naming the players and the {@code owari} attribute carrying the final scores are
+ * read; every other element is skipped by the StAX cursor without being materialized.
+ * <p>
+ * This class is thread-safe.
+ */
+public class MjlogParser {
+
+    private static final int MAX_PLAYERS = 4;
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public MjlogParser() {
+        xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Reads one mjlog. The stream is not closed.
+     *
+     * @param logId the Tenhou log id.
+     * @param in the mjlog XML.
+     * @return the result of the game.
+     * @throws XMLStreamException if the XML is malformed.
+     * @throws IllegalArgumentException if the log has no player names or no final scores.
+     */
+    public TenhouLog parse(String logId, InputStream in) throws XMLStreamException {
+        List<String> names = null;
+        String owari = null;
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                String element = reader.getLocalName();
+                // later <UN> elements only announce reconnections
+                if (names == null && "UN".equals(element)) {
+                    names = readNames(reader);
+                } else if ("AGARI".equals(element) || "RYUUKYOKU".equals(element)) {
+                    String value = reader.getAttributeValue(null, "owari");
+                    if (value != null) {
+                        owari = value;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        if (names == null || names.isEmpty()) {
+            throw new IllegalArgumentException("No players in Tenhou log " + logId);
+        }
+        if (owari == null) {
+            throw new IllegalArgumentException("No final scores in Tenhou log " + logId);
+        }
+        return new TenhouLog(logId, names, readFinalScores(logId, owari, names.size()));
+    }
+
+    private static List<String> readNames(XMLStreamReader reader) {
+        List<String> names = new ArrayList<>(MAX_PLAYERS);
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            String name = reader.getAttributeValue(null, "n" + seat);
+            if (name == null || name.isEmpty()) {
+                break;
+            }
+            names.add(URLDecoder.decode(name, StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    /**
+     * {@code owari} alternates the final score of each seat, in hundreds of points, with its uma.
+     */
+    private static List<Long> readFinalScores(String logId, String owari, int players) {
+        String[] values = owari.split(",");
+        if (values.length < players * 2) {
+            throw new IllegalArgumentException("Incomplete final scores in Tenhou log " + logId + " : " + owari);
+        }
+        List<Long> scores = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            try {
+                scores.add(Long.parseLong(values[seat * 2].trim()) * 100);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid final score in Tenhou log " + logId + " : " + owari, e);
+            }
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,23 @@
+package net.jakebrennan.service.tenhou;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of an import of Tenhou logs.
+ *
+ * @param imported the number of games imported.
+ * @param duplicates the number of games skipped because they had already been imported.
+ * @param failed the logs that could not be read.
+ * @param unknownNames the Tenhou names not matching the {@code tenhouName} of any player; games with such a player
+ *                     are skipped.
+ * @param unknownNamesByLog the unknown names of each log skipped for them, by log.
+ */
+public record TenhouImportResult(
+    int imported,
+    int duplicates,
+    List<String> failed,
+    Set<String> unknownNames,
+    Map<String, List<String>> unknownNamesByLog
+) {}
@@ -0,0 +1,65 @@
+package net.jakebrennan.service.tenhou;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The result of one Tenhou game, as read from its mjlog.
+ *
+ * @param logId the Tenhou log id, e.g. {@code 2024010112gm-0009-0000-0123abcd}.
+ * @param names the names of the players, in seat order.
+ * @param finalScores the final scores of the players, in points and in seat order.
+ */
+public record TenhouLog(String logId, List<String> names, List<Long> finalScores) {
+    private static final DateTimeFormatter LOG_HOUR = DateTimeFormatter.ofPattern("uuuuMMddHH").withResolverStyle(ResolverStyle.STRICT);
+
+    private static final ZoneId TENHOU_ZONE = ZoneId.of("Asia/Tokyo");
+
+    /**
+     * Derives when the game was played from the log id, whose {@code yyyyMMddHH} prefix is the hour the game started
+     * at, in Japan time.
+     *
+     * @return the start of that hour, or nothing if the log id has no such prefix.
+     */
+    public Optional<Instant> playedAt() {
+        if (logId.length() < 12 || !logId.startsWith("gm", 10)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDateTime.parse(logId.substring(0, 10), LOG_HOUR).atZone(TENHOU_ZONE).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Derives the {@code gameID} of an {@link net.jakebrennan.domain.ArmlGame} from the log id.
+     * <p>
+     * A numeric log id is used as is. Any other log id is hashed into a stable positive number, so that importing
+     * the same log twice is always detected.
+     */
+    public long gameID() {
+        if (!logId.isEmpty() && logId.chars().allMatch(Character::isDigit) && logId.length() < 19) {
+            return Long.parseLong(logId);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(logId.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xff);
+            }
+            return hash & Long.MAX_VALUE;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
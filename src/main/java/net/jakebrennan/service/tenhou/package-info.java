@@ -0,0 +1,4 @@
+/**
+ * Import of Tenhou game logs.
+ */
+package net.jakebrennan.service.tenhou;
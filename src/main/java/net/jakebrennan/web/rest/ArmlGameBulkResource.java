@@ -0,0 +1,64 @@
+package net.jakebrennan.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.service.ArmlGameBulkService;
+import net.jakebrennan.service.dto.ArmlGameBulkResultDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for creating {@link net.jakebrennan.domain.ArmlGame}s in bulk.
+ */
+@RestController
+@RequestMapping("/api/arml-games")
+public class ArmlGameBulkResource {
+
+    private final Logger log = LoggerFactory.getLogger(ArmlGameBulkResource.class);
+
+    private final ArmlGameBulkService armlGameBulkService;
+
+    private final ObjectMapper objectMapper;
+
+    public ArmlGameBulkResource(ArmlGameBulkService armlGameBulkService, ObjectMapper objectMapper) {
+        this.armlGameBulkService = armlGameBulkService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@code POST  /arml-games/bulk} : create games with their scores from newline-delimited JSON.
+     * <p>
+     * Each line is a game such as {@code {"gameID":1,"scores":[{"playerId":1500,"score":25000},...]}} with the
+     * scores of its {@value ArmlGame#PLAYERS_PER_GAME} players, and optionally a {@code "playedAt"} instant
+     * that defaults to the time of the upload. The response is streamed back as one {@link ArmlGameBulkResultDTO} per
+     * line, each chunk of lines being written once it is committed.
+     *
+     * @param request the request, whose body is read as a stream.
+     * @param response the response, written as newline-delimited JSON.
+     * @throws IOException if the request cannot be read or the response cannot be written.
+     */
+    @PostMapping("/bulk")
+    public void bulkCreateArmlGames(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("REST request to create ArmlGames in bulk");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        armlGameBulkService.importGames(request.getInputStream(), results -> {
+            try {
+                for (ArmlGameBulkResultDTO result : results) {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
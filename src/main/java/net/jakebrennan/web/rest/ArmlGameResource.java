@@ -4,18 +4,34 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.jakebrennan.domain.ArmlGame;
 import net.jakebrennan.repository.ArmlGameRepository;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.ArmlExportService;
+import net.jakebrennan.service.ArmlGameQueryService;
+import net.jakebrennan.service.criteria.ArmlGameCriteria;
+import net.jakebrennan.service.event.ArmlGameChangedEvent;
 import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import net.jakebrennan.web.rest.util.Keyset;
+import net.jakebrennan.web.rest.util.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -31,13 +47,31 @@ public class ArmlGameResource {
 
     private static final String ENTITY_NAME = "armlGame";
 
+    private static final Keyset<ArmlGame> KEYSET = Keyset.of(ENTITY_NAME, ArmlGame::getId)
+        .sortableBy("gameID", Long.class, ArmlGame::getGameID)
+        .sortableByNullable("playedAt", Instant.class, ArmlGame::getPlayedAt);
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ArmlGameRepository armlGameRepository;
 
-    public ArmlGameResource(ArmlGameRepository armlGameRepository) {
+    private final ArmlExportService armlExportService;
+
+    private final ArmlGameQueryService armlGameQueryService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ArmlGameResource(
+        ArmlGameRepository armlGameRepository,
+        ArmlExportService armlExportService,
+        ArmlGameQueryService armlGameQueryService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.armlGameRepository = armlGameRepository;
+        this.armlExportService = armlExportService;
+        this.armlGameQueryService = armlGameQueryService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -82,11 +116,16 @@ public class ArmlGameResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!armlGameRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        Instant previousPlayedAt = armlGameRepository
+            .findById(id)
+            .map(ArmlGame::getPlayedAt)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (armlGame.getPlayedAt() == null) {
+            armlGame.setPlayedAt(previousPlayedAt);
         }
 
         armlGame = armlGameRepository.save(armlGame);
+        applicationEventPublisher.publishEvent(ArmlGameChangedEvent.updated(previousPlayedAt, armlGame));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, armlGame.getId().toString()))
             .body(armlGame);
@@ -123,13 +162,18 @@ public class ArmlGameResource {
         Optional<ArmlGame> result = armlGameRepository
             .findById(armlGame.getId())
             .map(existingArmlGame -> {
+                Instant previousPlayedAt = existingArmlGame.getPlayedAt();
                 if (armlGame.getGameID() != null) {
                     existingArmlGame.setGameID(armlGame.getGameID());
                 }
+                if (armlGame.getPlayedAt() != null) {
+                    existingArmlGame.setPlayedAt(armlGame.getPlayedAt());
+                }
 
+                existingArmlGame = armlGameRepository.save(existingArmlGame);
+                applicationEventPublisher.publishEvent(ArmlGameChangedEvent.updated(previousPlayedAt, existingArmlGame));
                 return existingArmlGame;
-            })
-            .map(armlGameRepository::save);
+            });
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -138,14 +182,64 @@ public class ArmlGameResource {
     }
 
     /**
-     * {@code GET  /arml-games} : get all the armlGames.
+     * {@code GET  /arml-games} : get a page of the armlGames.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of armlGames in body.
+     * @param criteria the criteria which the requested entities should match.
+     * @param sort the sort, by {@code id}, {@code gameID} or {@code playedAt}, ascending unless followed by {@code ,desc}.
+     * @param cursor the cursor of the page, from the {@code Link} header of the previous page; none for the first page.
+     * @param size the size of the page, at most 100.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of armlGames in body.
      */
     @GetMapping("")
-    public List<ArmlGame> getAllArmlGames() {
-        log.debug("REST request to get all ArmlGames");
-        return armlGameRepository.findAll();
+    public ResponseEntity<List<ArmlGame>> getAllArmlGames(
+        ArmlGameCriteria criteria,
+        @RequestParam(name = "sort", required = false, defaultValue = "id") String sort,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get a page of ArmlGames by criteria: {}", criteria);
+        Specification<ArmlGame> specification = armlGameQueryService.createSpecification(criteria);
+        KeysetPage<ArmlGame> page = KEYSET.fetch(armlGameRepository, specification, sort, cursor, size);
+        HttpHeaders headers = page.generateLinkHeader(ServletUriComponentsBuilder.fromCurrentRequest());
+        return ResponseEntity.ok().headers(headers).body(page.content());
+    }
+
+    /**
+     * {@code GET  /arml-games/count} : count all the armlGames.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countArmlGames(ArmlGameCriteria criteria) {
+        log.debug("REST request to count ArmlGames by criteria: {}", criteria);
+        return ResponseEntity.ok().body(armlGameQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /arml-games/export} : get all the armlGames as a JSON array streamed from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the armlGames in body, written as they are read.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> exportArmlGames() {
+        log.debug("REST request to export all ArmlGames");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(armlExportService::exportArmlGames);
+    }
+
+    /**
+     * {@code GET  /arml-games/by-game-id/:gameID} : get the armlGame with the given gameID.
+     *
+     * @param gameID the gameID of the armlGame to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the armlGame, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/by-game-id/{gameID}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ArmlGame> getArmlGameByGameID(@PathVariable("gameID") Long gameID) {
+        log.debug("REST request to get ArmlGame by gameID : {}", gameID);
+        return ResponseUtil.wrapOrNotFound(armlGameRepository.findOneByGameID(gameID));
     }
 
     /**
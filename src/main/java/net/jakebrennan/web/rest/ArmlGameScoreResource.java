@@ -8,14 +8,30 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlGameScoreRow;
 import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.ArmlExportService;
+import net.jakebrennan.service.ArmlGameScoreQueryService;
+import net.jakebrennan.service.criteria.ArmlGameScoreCriteria;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
 import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import net.jakebrennan.web.rest.util.Keyset;
+import net.jakebrennan.web.rest.util.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -31,13 +47,33 @@ public class ArmlGameScoreResource {
 
     private static final String ENTITY_NAME = "armlGameScore";
 
+    private static final Keyset<ArmlGameScore> KEYSET = Keyset.of(ENTITY_NAME, ArmlGameScore::getId).sortableBy(
+        "score",
+        Long.class,
+        ArmlGameScore::getScore
+    );
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ArmlGameScoreRepository armlGameScoreRepository;
 
-    public ArmlGameScoreResource(ArmlGameScoreRepository armlGameScoreRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ArmlExportService armlExportService;
+
+    private final ArmlGameScoreQueryService armlGameScoreQueryService;
+
+    public ArmlGameScoreResource(
+        ArmlGameScoreRepository armlGameScoreRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        ArmlExportService armlExportService,
+        ArmlGameScoreQueryService armlGameScoreQueryService
+    ) {
         this.armlGameScoreRepository = armlGameScoreRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.armlExportService = armlExportService;
+        this.armlGameScoreQueryService = armlGameScoreQueryService;
     }
 
     /**
@@ -54,6 +90,7 @@ public class ArmlGameScoreResource {
             throw new BadRequestAlertException("A new armlGameScore cannot already have an ID", ENTITY_NAME, "idexists");
         }
         armlGameScore = armlGameScoreRepository.save(armlGameScore);
+        applicationEventPublisher.publishEvent(ArmlGameScoreChangedEvent.created(armlGameScore));
         return ResponseEntity.created(new URI("/api/arml-game-scores/" + armlGameScore.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, armlGameScore.getId().toString()))
             .body(armlGameScore);
@@ -82,11 +119,13 @@ public class ArmlGameScoreResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!armlGameScoreRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        ArmlGameScoreRow previous = armlGameScoreRepository
+            .findById(id)
+            .map(ArmlGameScoreRow::of)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
         armlGameScore = armlGameScoreRepository.save(armlGameScore);
+        applicationEventPublisher.publishEvent(ArmlGameScoreChangedEvent.updated(previous, armlGameScore));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, armlGameScore.getId().toString()))
             .body(armlGameScore);
@@ -123,13 +162,15 @@ public class ArmlGameScoreResource {
         Optional<ArmlGameScore> result = armlGameScoreRepository
             .findById(armlGameScore.getId())
             .map(existingArmlGameScore -> {
+                ArmlGameScoreRow previous = ArmlGameScoreRow.of(existingArmlGameScore);
                 if (armlGameScore.getScore() != null) {
                     existingArmlGameScore.setScore(armlGameScore.getScore());
                 }
 
+                existingArmlGameScore = armlGameScoreRepository.save(existingArmlGameScore);
+                applicationEventPublisher.publishEvent(ArmlGameScoreChangedEvent.updated(previous, existingArmlGameScore));
                 return existingArmlGameScore;
-            })
-            .map(armlGameScoreRepository::save);
+            });
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -138,14 +179,53 @@ public class ArmlGameScoreResource {
     }
 
     /**
-     * {@code GET  /arml-game-scores} : get all the armlGameScores.
+     * {@code GET  /arml-game-scores} : get a page of the armlGameScores.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of armlGameScores in body.
+     * @param criteria the criteria which the requested entities should match.
+     * @param sort the sort, by {@code id} or {@code score}, ascending unless followed by {@code ,desc}.
+     * @param cursor the cursor of the page, from the {@code Link} header of the previous page; none for the first page.
+     * @param size the size of the page, at most 100.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of armlGameScores in body.
      */
     @GetMapping("")
-    public List<ArmlGameScore> getAllArmlGameScores() {
-        log.debug("REST request to get all ArmlGameScores");
-        return armlGameScoreRepository.findAll();
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ArmlGameScore>> getAllArmlGameScores(
+        ArmlGameScoreCriteria criteria,
+        @RequestParam(name = "sort", required = false, defaultValue = "id") String sort,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get a page of ArmlGameScores by criteria: {}", criteria);
+        Specification<ArmlGameScore> specification = armlGameScoreQueryService.createSpecification(criteria);
+        KeysetPage<ArmlGameScore> page = KEYSET.fetch(armlGameScoreRepository, specification, sort, cursor, size);
+        HttpHeaders headers = page.generateLinkHeader(ServletUriComponentsBuilder.fromCurrentRequest());
+        return ResponseEntity.ok().headers(headers).body(page.content());
+    }
+
+    /**
+     * {@code GET  /arml-game-scores/count} : count all the armlGameScores.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countArmlGameScores(ArmlGameScoreCriteria criteria) {
+        log.debug("REST request to count ArmlGameScores by criteria: {}", criteria);
+        return ResponseEntity.ok().body(armlGameScoreQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /arml-game-scores/export} : get all the armlGameScores as a JSON array streamed from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the armlGameScores in body, written as they are read.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> exportArmlGameScores() {
+        log.debug("REST request to export all ArmlGameScores");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(armlExportService::exportArmlGameScores);
     }
 
     /**
@@ -155,6 +235,7 @@ public class ArmlGameScoreResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the armlGameScore, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<ArmlGameScore> getArmlGameScore(@PathVariable("id") Long id) {
         log.debug("REST request to get ArmlGameScore : {}", id);
         Optional<ArmlGameScore> armlGameScore = armlGameScoreRepository.findById(id);
@@ -170,7 +251,13 @@ public class ArmlGameScoreResource {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteArmlGameScore(@PathVariable("id") Long id) {
         log.debug("REST request to delete ArmlGameScore : {}", id);
-        armlGameScoreRepository.deleteById(id);
+        armlGameScoreRepository
+            .findById(id)
+            .ifPresent(armlGameScore -> {
+                ArmlGameScoreRow previous = ArmlGameScoreRow.of(armlGameScore);
+                armlGameScoreRepository.delete(armlGameScore);
+                applicationEventPublisher.publishEvent(ArmlGameScoreChangedEvent.deleted(previous));
+            });
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
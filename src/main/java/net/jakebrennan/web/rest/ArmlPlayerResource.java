@@ -7,16 +7,38 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.ArmlRating;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
 import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.ArmlExportService;
+import net.jakebrennan.service.ArmlPlayerQueryService;
+import net.jakebrennan.service.DistinctPlayerService;
+import net.jakebrennan.service.HeadToHeadService;
+import net.jakebrennan.service.PlayerSearchService;
+import net.jakebrennan.service.RatingService;
+import net.jakebrennan.service.analytics.HeadToHead;
+import net.jakebrennan.service.analytics.SuggestionTrie;
+import net.jakebrennan.service.criteria.ArmlPlayerCriteria;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
 import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import net.jakebrennan.web.rest.util.Keyset;
+import net.jakebrennan.web.rest.util.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -32,13 +54,51 @@ public class ArmlPlayerResource {
 
     private static final String ENTITY_NAME = "armlPlayer";
 
+    private static final Keyset<ArmlPlayer> KEYSET = Keyset.of(ENTITY_NAME, ArmlPlayer::getId)
+        .sortableBy("playerID", Long.class, ArmlPlayer::getPlayerID)
+        .sortableBy("lastName", String.class, ArmlPlayer::getLastName);
+
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private static final int MAX_RIVALS_SIZE = 100;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ArmlPlayerRepository armlPlayerRepository;
 
-    public ArmlPlayerResource(ArmlPlayerRepository armlPlayerRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final PlayerSearchService playerSearchService;
+
+    private final ArmlExportService armlExportService;
+
+    private final ArmlPlayerQueryService armlPlayerQueryService;
+
+    private final HeadToHeadService headToHeadService;
+
+    private final RatingService ratingService;
+
+    private final DistinctPlayerService distinctPlayerService;
+
+    public ArmlPlayerResource(
+        ArmlPlayerRepository armlPlayerRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlayerSearchService playerSearchService,
+        ArmlExportService armlExportService,
+        ArmlPlayerQueryService armlPlayerQueryService,
+        HeadToHeadService headToHeadService,
+        RatingService ratingService,
+        DistinctPlayerService distinctPlayerService
+    ) {
         this.armlPlayerRepository = armlPlayerRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.playerSearchService = playerSearchService;
+        this.armlExportService = armlExportService;
+        this.armlPlayerQueryService = armlPlayerQueryService;
+        this.headToHeadService = headToHeadService;
+        this.ratingService = ratingService;
+        this.distinctPlayerService = distinctPlayerService;
     }
 
     /**
@@ -55,6 +115,7 @@ public class ArmlPlayerResource {
             throw new BadRequestAlertException("A new armlPlayer cannot already have an ID", ENTITY_NAME, "idexists");
         }
         armlPlayer = armlPlayerRepository.save(armlPlayer);
+        applicationEventPublisher.publishEvent(ArmlPlayerChangedEvent.created(armlPlayer));
         return ResponseEntity.created(new URI("/api/arml-players/" + armlPlayer.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, armlPlayer.getId().toString()))
             .body(armlPlayer);
@@ -83,11 +144,13 @@ public class ArmlPlayerResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!armlPlayerRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
+        ArmlLeague previousLeague = armlPlayerRepository
+            .findById(id)
+            .map(ArmlPlayer::getLeague)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
 
         armlPlayer = armlPlayerRepository.save(armlPlayer);
+        applicationEventPublisher.publishEvent(ArmlPlayerChangedEvent.updated(previousLeague, armlPlayer));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, armlPlayer.getId().toString()))
             .body(armlPlayer);
@@ -121,9 +184,11 @@ public class ArmlPlayerResource {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
+        ArmlLeague[] previousLeague = { null };
         Optional<ArmlPlayer> result = armlPlayerRepository
             .findById(armlPlayer.getId())
             .map(existingArmlPlayer -> {
+                previousLeague[0] = existingArmlPlayer.getLeague();
                 if (armlPlayer.getPlayerID() != null) {
                     existingArmlPlayer.setPlayerID(armlPlayer.getPlayerID());
                 }
@@ -142,7 +207,11 @@ public class ArmlPlayerResource {
 
                 return existingArmlPlayer;
             })
-            .map(armlPlayerRepository::save);
+            .map(armlPlayerRepository::save)
+            .map(savedArmlPlayer -> {
+                applicationEventPublisher.publishEvent(ArmlPlayerChangedEvent.updated(previousLeague[0], savedArmlPlayer));
+                return savedArmlPlayer;
+            });
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -151,29 +220,187 @@ public class ArmlPlayerResource {
     }
 
     /**
-     * {@code GET  /arml-players} : get all the armlPlayers.
+     * {@code GET  /arml-players} : get a page of the armlPlayers.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param sort the sort, by {@code id}, {@code playerID} or {@code lastName}, ascending unless followed by {@code ,desc}.
+     * @param cursor the cursor of the page, from the {@code Link} header of the previous page; none for the first page.
+     * @param size the size of the page, at most 100.
      * @param eagerload flag to eager load entities from relationships (This is applicable for many-to-many).
-     * @param filter the filter of the request.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of armlPlayers in body.
+     * @param filter the legacy filter of the request; {@code armlprofile-is-null} is the same as {@code armlProfileId.specified=false}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of armlPlayers in body.
      */
     @GetMapping("")
-    public List<ArmlPlayer> getAllArmlPlayers(
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ArmlPlayer>> getAllArmlPlayers(
+        ArmlPlayerCriteria criteria,
+        @RequestParam(name = "sort", required = false, defaultValue = "id") String sort,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size,
         @RequestParam(name = "filter", required = false) String filter,
         @RequestParam(name = "eagerload", required = false, defaultValue = "true") boolean eagerload
     ) {
         if ("armlprofile-is-null".equals(filter)) {
-            log.debug("REST request to get all ArmlPlayers where armlProfile is null");
-            return StreamSupport.stream(armlPlayerRepository.findAll().spliterator(), false)
-                .filter(armlPlayer -> armlPlayer.getArmlProfile() == null)
-                .toList();
+            criteria.armlProfileId().setSpecified(false);
         }
-        log.debug("REST request to get all ArmlPlayers");
-        if (eagerload) {
-            return armlPlayerRepository.findAllWithEagerRelationships();
-        } else {
-            return armlPlayerRepository.findAll();
+        log.debug("REST request to get a page of ArmlPlayers by criteria: {}", criteria);
+        Specification<ArmlPlayer> specification = armlPlayerQueryService.createSpecification(criteria);
+        KeysetPage<ArmlPlayer> page = KEYSET.fetch(armlPlayerRepository, specification, sort, cursor, size);
+        HttpHeaders headers = page.generateLinkHeader(ServletUriComponentsBuilder.fromCurrentRequest());
+        List<ArmlPlayer> armlPlayers = eagerload && !page.content().isEmpty()
+            ? armlPlayerRepository.fetchBagRelationships(page.content())
+            : page.content();
+        return ResponseEntity.ok().headers(headers).body(armlPlayers);
+    }
+
+    /**
+     * {@code GET  /arml-players/count} : count all the armlPlayers.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @param filter the legacy filter of the request; {@code armlprofile-is-null} is the same as {@code armlProfileId.specified=false}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countArmlPlayers(
+        ArmlPlayerCriteria criteria,
+        @RequestParam(name = "filter", required = false) String filter
+    ) {
+        if ("armlprofile-is-null".equals(filter)) {
+            criteria.armlProfileId().setSpecified(false);
         }
+        log.debug("REST request to count ArmlPlayers by criteria: {}", criteria);
+        return ResponseEntity.ok().body(armlPlayerQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /arml-players/export} : get all the armlPlayers as a JSON array streamed from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the armlPlayers in body, written as they are read.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> exportArmlPlayers() {
+        log.debug("REST request to export all ArmlPlayers");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(armlExportService::exportArmlPlayers);
+    }
+
+    /**
+     * {@code GET  /arml-players/search?q=} : search the armlPlayers by name, tolerating typos.
+     *
+     * @param q the query, matched against the first, last and Tenhou names.
+     * @param size the maximum number of armlPlayers, at most 50.
+     * @return the matching armlPlayers, best match first.
+     */
+    @GetMapping("/search")
+    public List<ArmlPlayer> searchArmlPlayers(
+        @RequestParam(name = "q") String q,
+        @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        log.debug("REST request to search ArmlPlayers : {}", q);
+        return playerSearchService.search(q, Math.min(size, MAX_SEARCH_SIZE));
+    }
+
+    /**
+     * {@code GET  /arml-players/suggest?prefix=} : suggest armlPlayers while their name is being typed.
+     *
+     * @param prefix the start of a Tenhou name or of a full name.
+     * @param size the maximum number of suggestions, at most 10.
+     * @return the suggestions, shortest name first.
+     */
+    @GetMapping("/suggest")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SuggestionTrie.Suggestion> suggestArmlPlayers(
+        @RequestParam(name = "prefix") String prefix,
+        @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        log.debug("REST request to suggest ArmlPlayers : {}", prefix);
+        return playerSearchService.suggest(prefix, Math.min(size, PlayerSearchService.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * {@code GET  /arml-players/by-player-id/:playerID} : get the armlPlayer with the given playerID.
+     *
+     * @param playerID the playerID of the armlPlayer to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the armlPlayer, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/by-player-id/{playerID}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ArmlPlayer> getArmlPlayerByPlayerID(@PathVariable("playerID") Long playerID) {
+        log.debug("REST request to get ArmlPlayer by playerID : {}", playerID);
+        return ResponseUtil.wrapOrNotFound(armlPlayerRepository.findOneWithEagerRelationshipsByPlayerID(playerID));
+    }
+
+    /**
+     * {@code GET  /arml-players/by-tenhou/:name} : get the armlPlayer with the given Tenhou name.
+     *
+     * @param name the Tenhou name of the armlPlayer to retrieve.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the armlPlayer, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/by-tenhou/{name}")
+    @Transactional(readOnly = true)
+    public ResponseEntity<ArmlPlayer> getArmlPlayerByTenhouName(@PathVariable("name") String name) {
+        log.debug("REST request to get ArmlPlayer by Tenhou name : {}", name);
+        return ResponseUtil.wrapOrNotFound(armlPlayerRepository.findOneWithEagerRelationshipsByTenhouName(name));
+    }
+
+    /**
+     * {@code GET  /arml-players/:id/rivals} : get the head-to-head records of the "id" armlPlayer.
+     *
+     * @param id the id of the armlPlayer.
+     * @param size the maximum number of rivals, at most 100.
+     * @return the records against the opponents the armlPlayer shared games with, most shared games first.
+     */
+    @GetMapping("/{id}/rivals")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<HeadToHead> getArmlPlayerRivals(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get the rivals of ArmlPlayer : {}", id);
+        return headToHeadService.rivalsOf(id).stream().limit(Math.max(0, Math.min(size, MAX_RIVALS_SIZE))).toList();
+    }
+
+    /**
+     * {@code GET  /arml-players/:id/distinct-opponents} : get the number of distinct players the "id" armlPlayer shared
+     * games with.
+     *
+     * @param id the id of the armlPlayer.
+     * @return the estimated number of distinct opponents, within about 3%.
+     */
+    @GetMapping("/{id}/distinct-opponents")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getArmlPlayerDistinctOpponents(@PathVariable("id") Long id) {
+        log.debug("REST request to get the distinct opponents of ArmlPlayer : {}", id);
+        return distinctPlayerService.distinctOpponentsOf(id);
+    }
+
+    /**
+     * {@code GET  /arml-players/:id/rivals/:opponentId} : get the head-to-head record of the "id" armlPlayer against another.
+     *
+     * @param id the id of the armlPlayer.
+     * @param opponentId the id of the opponent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the record, or with status {@code 404 (Not Found)} if they never shared a game.
+     */
+    @GetMapping("/{id}/rivals/{opponentId}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<HeadToHead> getArmlPlayerHeadToHead(@PathVariable("id") Long id, @PathVariable("opponentId") Long opponentId) {
+        log.debug("REST request to get the head-to-head record of ArmlPlayer : {} against : {}", id, opponentId);
+        return ResponseUtil.wrapOrNotFound(headToHeadService.between(id, opponentId));
+    }
+
+    /**
+     * {@code GET  /arml-players/:id/rating} : get the rating of the "id" armlPlayer.
+     *
+     * @param id the id of the armlPlayer.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the rating, or with status {@code 404 (Not Found)} if the armlPlayer has no rated game.
+     */
+    @GetMapping("/{id}/rating")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ArmlRating> getArmlPlayerRating(@PathVariable("id") Long id) {
+        log.debug("REST request to get the rating of ArmlPlayer : {}", id);
+        return ResponseUtil.wrapOrNotFound(ratingService.findByPlayerId(id));
     }
 
     /**
@@ -183,6 +410,7 @@ public class ArmlPlayerResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the armlPlayer, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<ArmlPlayer> getArmlPlayer(@PathVariable("id") Long id) {
         log.debug("REST request to get ArmlPlayer : {}", id);
         Optional<ArmlPlayer> armlPlayer = armlPlayerRepository.findOneWithEagerRelationships(id);
@@ -199,6 +427,7 @@ public class ArmlPlayerResource {
     public ResponseEntity<Void> deleteArmlPlayer(@PathVariable("id") Long id) {
         log.debug("REST request to delete ArmlPlayer : {}", id);
         armlPlayerRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(ArmlPlayerChangedEvent.deleted(id));
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
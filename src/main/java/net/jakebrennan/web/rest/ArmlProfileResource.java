@@ -8,14 +8,34 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import net.jakebrennan.domain.ArmlProfile;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.domain.enumeration.ProfileMetric;
 import net.jakebrennan.repository.ArmlProfileRepository;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.ArmlExportService;
+import net.jakebrennan.service.ArmlProfileQueryService;
+import net.jakebrennan.service.ArmlProfileStatisticsService;
+import net.jakebrennan.service.ProfilePercentileService;
+import net.jakebrennan.service.criteria.ArmlProfileCriteria;
+import net.jakebrennan.service.dto.ProfileMetricPercentileDTO;
+import net.jakebrennan.service.event.ArmlProfileChangedEvent;
 import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import net.jakebrennan.web.rest.util.Keyset;
+import net.jakebrennan.web.rest.util.KeysetPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
@@ -31,13 +51,37 @@ public class ArmlProfileResource {
 
     private static final String ENTITY_NAME = "armlProfile";
 
+    private static final Keyset<ArmlProfile> KEYSET = Keyset.of(ENTITY_NAME, ArmlProfile::getId);
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ArmlProfileRepository armlProfileRepository;
 
-    public ArmlProfileResource(ArmlProfileRepository armlProfileRepository) {
+    private final ArmlProfileStatisticsService armlProfileStatisticsService;
+
+    private final ArmlExportService armlExportService;
+
+    private final ArmlProfileQueryService armlProfileQueryService;
+
+    private final ProfilePercentileService profilePercentileService;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ArmlProfileResource(
+        ArmlProfileRepository armlProfileRepository,
+        ArmlProfileStatisticsService armlProfileStatisticsService,
+        ArmlExportService armlExportService,
+        ArmlProfileQueryService armlProfileQueryService,
+        ProfilePercentileService profilePercentileService,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.armlProfileRepository = armlProfileRepository;
+        this.armlProfileStatisticsService = armlProfileStatisticsService;
+        this.armlExportService = armlExportService;
+        this.armlProfileQueryService = armlProfileQueryService;
+        this.profilePercentileService = profilePercentileService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -53,7 +97,9 @@ public class ArmlProfileResource {
         if (armlProfile.getId() != null) {
             throw new BadRequestAlertException("A new armlProfile cannot already have an ID", ENTITY_NAME, "idexists");
         }
+        armlProfileStatisticsService.recompute(armlProfile);
         armlProfile = armlProfileRepository.save(armlProfile);
+        applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.saved(armlProfile));
         return ResponseEntity.created(new URI("/api/arml-profiles/" + armlProfile.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, armlProfile.getId().toString()))
             .body(armlProfile);
@@ -82,11 +128,12 @@ public class ArmlProfileResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!armlProfileRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
+        ArmlProfile stored = armlProfileRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        armlProfileStatisticsService.keepCounters(stored, armlProfile);
         armlProfile = armlProfileRepository.save(armlProfile);
+        applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.saved(armlProfile));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, armlProfile.getId().toString()))
             .body(armlProfile);
@@ -123,9 +170,6 @@ public class ArmlProfileResource {
         Optional<ArmlProfile> result = armlProfileRepository
             .findById(armlProfile.getId())
             .map(existingArmlProfile -> {
-                if (armlProfile.getWinRate() != null) {
-                    existingArmlProfile.setWinRate(armlProfile.getWinRate());
-                }
                 if (armlProfile.getFeedRate() != null) {
                     existingArmlProfile.setFeedRate(armlProfile.getFeedRate());
                 }
@@ -141,7 +185,11 @@ public class ArmlProfileResource {
 
                 return existingArmlProfile;
             })
-            .map(armlProfileRepository::save);
+            .map(armlProfileRepository::save)
+            .map(savedArmlProfile -> {
+                applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.saved(savedArmlProfile));
+                return savedArmlProfile;
+            });
 
         return ResponseUtil.wrapOrNotFound(
             result,
@@ -150,14 +198,98 @@ public class ArmlProfileResource {
     }
 
     /**
-     * {@code GET  /arml-profiles} : get all the armlProfiles.
+     * {@code GET  /arml-profiles} : get a page of the armlProfiles.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of armlProfiles in body.
+     * @param criteria the criteria which the requested entities should match.
+     * @param sort the sort, by {@code id}, ascending unless followed by {@code ,desc}.
+     * @param cursor the cursor of the page, from the {@code Link} header of the previous page; none for the first page.
+     * @param size the size of the page, at most 100.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of armlProfiles in body.
      */
     @GetMapping("")
-    public List<ArmlProfile> getAllArmlProfiles() {
-        log.debug("REST request to get all ArmlProfiles");
-        return armlProfileRepository.findAll();
+    public ResponseEntity<List<ArmlProfile>> getAllArmlProfiles(
+        ArmlProfileCriteria criteria,
+        @RequestParam(name = "sort", required = false, defaultValue = "id") String sort,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get a page of ArmlProfiles by criteria: {}", criteria);
+        Specification<ArmlProfile> specification = armlProfileQueryService.createSpecification(criteria);
+        KeysetPage<ArmlProfile> page = KEYSET.fetch(armlProfileRepository, specification, sort, cursor, size);
+        HttpHeaders headers = page.generateLinkHeader(ServletUriComponentsBuilder.fromCurrentRequest());
+        return ResponseEntity.ok().headers(headers).body(page.content());
+    }
+
+    /**
+     * {@code GET  /arml-profiles/count} : count all the armlProfiles.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> countArmlProfiles(ArmlProfileCriteria criteria) {
+        log.debug("REST request to count ArmlProfiles by criteria: {}", criteria);
+        return ResponseEntity.ok().body(armlProfileQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /arml-profiles/export} : get all the armlProfiles as a JSON array streamed from the database.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the armlProfiles in body, written as they are read.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<StreamingResponseBody> exportArmlProfiles() {
+        log.debug("REST request to export all ArmlProfiles");
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(armlExportService::exportArmlProfiles);
+    }
+
+    /**
+     * {@code GET  /arml-profiles/percentiles} : place a value of a metric among the armlProfiles of a league, or get the
+     * value of the metric at a percentile of them. Exactly one of {@code value} and {@code percentile} must be given.
+     *
+     * @param league the league.
+     * @param metric the metric.
+     * @param value the value to place.
+     * @param percentile the percentile, between 0 and 100.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the estimated value and percentile in body, or with
+     * status {@code 404 (Not Found)} if no armlProfile of the league has the metric.
+     */
+    @GetMapping("/percentiles")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ProfileMetricPercentileDTO> getArmlProfilePercentile(
+        @RequestParam(name = "league") ArmlLeague league,
+        @RequestParam(name = "metric") ProfileMetric metric,
+        @RequestParam(name = "value", required = false) Double value,
+        @RequestParam(name = "percentile", required = false) Double percentile
+    ) {
+        log.debug("REST request to get the {} percentile of {} : value {}, percentile {}", metric, league, value, percentile);
+        if ((value == null) == (percentile == null)) {
+            throw new BadRequestAlertException("Give either a value or a percentile", ENTITY_NAME, "invalidpercentile");
+        }
+        if (value != null) {
+            return ResponseUtil.wrapOrNotFound(profilePercentileService.percentileOf(league, metric, value));
+        }
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new BadRequestAlertException("The percentile must be between 0 and 100", ENTITY_NAME, "invalidpercentile");
+        }
+        return ResponseUtil.wrapOrNotFound(profilePercentileService.valueAt(league, metric, percentile));
+    }
+
+    /**
+     * {@code GET  /arml-profiles/:id/percentiles} : place each metric of the "id" armlProfile among the armlProfiles of its
+     * league.
+     *
+     * @param id the id of the armlProfile.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the percentile of each metric of the armlProfile in
+     * body; none if the armlProfile is unknown or its player is in no league.
+     */
+    @GetMapping("/{id}/percentiles")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<ProfileMetricPercentileDTO>> getArmlProfilePercentiles(@PathVariable("id") Long id) {
+        log.debug("REST request to get the percentiles of ArmlProfile : {}", id);
+        return ResponseEntity.ok().body(profilePercentileService.percentilesOfProfile(id));
     }
 
     /**
@@ -183,6 +315,7 @@ public class ArmlProfileResource {
     public ResponseEntity<Void> deleteArmlProfile(@PathVariable("id") Long id) {
         log.debug("REST request to delete ArmlProfile : {}", id);
         armlProfileRepository.deleteById(id);
+        applicationEventPublisher.publishEvent(ArmlProfileChangedEvent.deleted(id));
         return ResponseEntity.noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id.toString()))
             .build();
@@ -0,0 +1,52 @@
+package net.jakebrennan.web.rest;
+
+import java.util.List;
+import net.jakebrennan.domain.ArmlRating;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.RatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the {@link ArmlRating}s of the players.
+ */
+@RestController
+@RequestMapping("/api/arml-ratings")
+public class ArmlRatingResource {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final Logger log = LoggerFactory.getLogger(ArmlRatingResource.class);
+
+    private final RatingService ratingService;
+
+    public ArmlRatingResource(RatingService ratingService) {
+        this.ratingService = ratingService;
+    }
+
+    /**
+     * {@code GET  /arml-ratings} : get the highest ratings.
+     *
+     * @param size the number of ratings, at most 100.
+     * @return the ratings, best first.
+     */
+    @GetMapping("")
+    public List<ArmlRating> getTopArmlRatings(@RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        log.debug("REST request to get the {} highest ArmlRatings", size);
+        return ratingService.top(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * {@code POST  /arml-ratings/replay} : recompute every rating from the full game history.
+     *
+     * @return the number of games rated and of players with a rating.
+     */
+    @PostMapping("/replay")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public RatingService.ReplayResult replayArmlRatings() {
+        log.debug("REST request to replay the ArmlRatings");
+        return ratingService.replay();
+    }
+}
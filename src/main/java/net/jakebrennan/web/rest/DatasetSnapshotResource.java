@@ -0,0 +1,89 @@
+package net.jakebrennan.web.rest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.DatasetSnapshotService;
+import net.jakebrennan.service.SchemaNotEmptyException;
+import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for the binary snapshots of the players, games, scores and profiles.
+ */
+@RestController
+@RequestMapping("/api/snapshot")
+public class DatasetSnapshotResource {
+
+    private static final String ENTITY_NAME = "datasetSnapshot";
+
+    private final Logger log = LoggerFactory.getLogger(DatasetSnapshotResource.class);
+
+    private final DatasetSnapshotService datasetSnapshotService;
+
+    public DatasetSnapshotResource(DatasetSnapshotService datasetSnapshotService) {
+        this.datasetSnapshotService = datasetSnapshotService;
+    }
+
+    /**
+     * {@code GET  /snapshot} : get a consistent snapshot of the players, games, scores, profiles and player links.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the snapshot in body, written as it is read.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<StreamingResponseBody> exportDatasetSnapshot() {
+        log.debug("REST request to export a dataset snapshot");
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("majprof.snapshot").build().toString())
+            .body(datasetSnapshotService::export);
+    }
+
+    /**
+     * {@code GET  /snapshot/parquet} : get the players, games, scores and profiles as Parquet files.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and a zip archive of one {@code <table>.parquet}
+     * file per table in body, written as it is read.
+     */
+    @GetMapping(value = "/parquet", produces = "application/zip")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<StreamingResponseBody> exportDatasetParquet() {
+        log.debug("REST request to export the dataset as Parquet");
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("application/zip"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("majprof-parquet.zip").build().toString())
+            .body(datasetSnapshotService::exportParquet);
+    }
+
+    /**
+     * {@code POST  /snapshot} : restore a snapshot into empty game tables.
+     *
+     * @param body the snapshot, as returned by {@code GET  /snapshot}.
+     * @return the number of rows restored.
+     * @throws BadRequestAlertException {@code 400 (Bad Request)} if the tables are not empty, or if the body is not a
+     * snapshot.
+     */
+    @PostMapping(value = "", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public long restoreDatasetSnapshot(InputStream body) throws IOException {
+        log.debug("REST request to restore a dataset snapshot");
+        try {
+            return datasetSnapshotService.restore(body);
+        } catch (SchemaNotEmptyException e) {
+            throw new BadRequestAlertException("A snapshot can only be restored into empty tables", ENTITY_NAME, "schemanotempty");
+        } catch (StreamCorruptedException | EOFException e) {
+            throw new BadRequestAlertException("Invalid snapshot: " + e.getMessage(), ENTITY_NAME, "invalidsnapshot");
+        }
+    }
+}
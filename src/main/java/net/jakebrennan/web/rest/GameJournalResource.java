@@ -0,0 +1,43 @@
+package net.jakebrennan.web.rest;
+
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.GameJournalService;
+import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the game result journal.
+ */
+@RestController
+@RequestMapping("/api/journal")
+public class GameJournalResource {
+
+    private static final String ENTITY_NAME = "gameJournal";
+
+    private final Logger log = LoggerFactory.getLogger(GameJournalResource.class);
+
+    private final GameJournalService gameJournalService;
+
+    public GameJournalResource(GameJournalService gameJournalService) {
+        this.gameJournalService = gameJournalService;
+    }
+
+    /**
+     * {@code POST  /journal/replay} : rebuild the head-to-head records and score histograms from the journal.
+     *
+     * @return the number of entries read and of games replayed.
+     * @throws BadRequestAlertException {@code 400 (Bad Request)} if the journal is disabled.
+     */
+    @PostMapping("/replay")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public GameJournalService.ReplayResult replayGameJournal() {
+        log.debug("REST request to replay the game journal");
+        if (!gameJournalService.isEnabled()) {
+            throw new BadRequestAlertException("The game journal is disabled", ENTITY_NAME, "journaldisabled");
+        }
+        return gameJournalService.replay();
+    }
+}
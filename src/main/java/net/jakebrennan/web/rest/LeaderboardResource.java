@@ -0,0 +1,81 @@
+package net.jakebrennan.web.rest;
+
+import java.util.List;
+import java.util.Optional;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.service.LeaderboardService;
+import net.jakebrennan.service.analytics.LeaderboardEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller for the per-league leaderboards.
+ */
+@RestController
+@RequestMapping("/api/leaderboards")
+public class LeaderboardResource {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final Logger log = LoggerFactory.getLogger(LeaderboardResource.class);
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardResource(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * {@code GET  /leaderboards/:league} : get a page of the leaderboard of a league.
+     *
+     * @param league the league.
+     * @param from the 1-based rank of the first entry.
+     * @param size the number of entries, at most 100.
+     * @return the entries, best first.
+     */
+    @GetMapping("/{league}")
+    public List<LeaderboardEntry> getLeaderboard(
+        @PathVariable("league") ArmlLeague league,
+        @RequestParam(name = "from", required = false, defaultValue = "1") int from,
+        @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        log.debug("REST request to get the {} leaderboard from rank {}", league, from);
+        return leaderboardService.page(league, Math.max(1, from), Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * {@code GET  /leaderboards/:league/players/:playerId} : get the standing of a player.
+     *
+     * @param league the league.
+     * @param playerId the id of the armlPlayer.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the entry, or with status {@code 404 (Not Found)}
+     * if the player is not in the league.
+     */
+    @GetMapping("/{league}/players/{playerId}")
+    public ResponseEntity<LeaderboardEntry> getLeaderboardEntry(@PathVariable("league") ArmlLeague league, @PathVariable("playerId") Long playerId) {
+        log.debug("REST request to get the {} leaderboard entry of ArmlPlayer : {}", league, playerId);
+        Optional<LeaderboardEntry> entry = leaderboardService.entryOf(league, playerId);
+        return ResponseUtil.wrapOrNotFound(entry);
+    }
+
+    /**
+     * {@code GET  /leaderboards/:league/players/:playerId/around} : get the players ranked around a player.
+     *
+     * @param league the league.
+     * @param playerId the id of the armlPlayer.
+     * @param radius the number of places above and below the player, at most 50.
+     * @return the entries, best first, or an empty list if the player is not in the league.
+     */
+    @GetMapping("/{league}/players/{playerId}/around")
+    public List<LeaderboardEntry> getLeaderboardAround(
+        @PathVariable("league") ArmlLeague league,
+        @PathVariable("playerId") Long playerId,
+        @RequestParam(name = "radius", required = false, defaultValue = "5") int radius
+    ) {
+        log.debug("REST request to get the {} leaderboard around ArmlPlayer : {}", league, playerId);
+        return leaderboardService.around(league, playerId, Math.max(0, Math.min(radius, MAX_PAGE_SIZE / 2)));
+    }
+}
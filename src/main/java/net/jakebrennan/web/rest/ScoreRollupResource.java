@@ -0,0 +1,125 @@
+package net.jakebrennan.web.rest;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.DistinctPlayerService;
+import net.jakebrennan.service.ScoreRollupRepairJob;
+import net.jakebrennan.service.ScoreRollupService;
+import net.jakebrennan.service.dto.LeaguePeriodSummaryDTO;
+import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the monthly score rollups of the leagues.
+ */
+@RestController
+@RequestMapping("/api/rollups")
+public class ScoreRollupResource {
+
+    private static final String ENTITY_NAME = "scoreRollup";
+
+    private static final int MAX_MONTHS = 120;
+
+    private final Logger log = LoggerFactory.getLogger(ScoreRollupResource.class);
+
+    private final ScoreRollupService scoreRollupService;
+
+    private final ScoreRollupRepairJob scoreRollupRepairJob;
+
+    private final DistinctPlayerService distinctPlayerService;
+
+    public ScoreRollupResource(
+        ScoreRollupService scoreRollupService,
+        ScoreRollupRepairJob scoreRollupRepairJob,
+        DistinctPlayerService distinctPlayerService
+    ) {
+        this.scoreRollupService = scoreRollupService;
+        this.scoreRollupRepairJob = scoreRollupRepairJob;
+        this.distinctPlayerService = distinctPlayerService;
+    }
+
+    /**
+     * {@code GET  /rollups/leagues} : get the summary of the scores of each league per month.
+     *
+     * @param from the first month, {@code yyyy-MM}; 11 months before {@code to} if omitted.
+     * @param to the last month, {@code yyyy-MM}; the current month if omitted.
+     * @param league the league to summarize; every league if omitted.
+     * @return the summaries of the months with scores, ordered by month and league.
+     */
+    @GetMapping("/leagues")
+    public List<LeaguePeriodSummaryDTO> getLeagueSummaries(
+        @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+        @RequestParam(name = "league", required = false) ArmlLeague league
+    ) {
+        YearMonth last = lastMonth(to);
+        YearMonth first = firstMonth(from, last);
+        log.debug("REST request to get the score rollups of {} from {} to {}", league != null ? league : "every league", first, last);
+        return scoreRollupService.summarize(first, last, league);
+    }
+
+    /**
+     * {@code GET  /rollups/distinct-players} : get the number of distinct players who played in a range of months.
+     *
+     * @param from the first month, {@code yyyy-MM}; 11 months before {@code to} if omitted.
+     * @param to the last month, {@code yyyy-MM}; the current month if omitted.
+     * @param league the league to count the players of; every league if omitted.
+     * @return the estimated number of distinct players, each counted once however many months and leagues they played
+     * in.
+     */
+    @GetMapping("/distinct-players")
+    public long getDistinctPlayers(
+        @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+        @RequestParam(name = "league", required = false) ArmlLeague league
+    ) {
+        YearMonth last = lastMonth(to);
+        YearMonth first = firstMonth(from, last);
+        log.debug("REST request to count the distinct players of {} from {} to {}", league != null ? league : "every league", first, last);
+        return distinctPlayerService.distinctPlayers(first, last, league);
+    }
+
+    /**
+     * {@code POST  /rollups/repair} : rebuild the rollups from the raw scores.
+     *
+     * @param league the league of the partition to rebuild; with {@code month}, only that partition is rebuilt.
+     * @param month the month of the partition to rebuild, {@code yyyy-MM}.
+     * @return the number of partitions rebuilt.
+     */
+    @PostMapping("/repair")
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public int repairScoreRollups(
+        @RequestParam(name = "league", required = false) ArmlLeague league,
+        @RequestParam(name = "month", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+    ) {
+        if (league == null && month == null) {
+            log.debug("REST request to repair every score rollup");
+            return scoreRollupRepairJob.repairAll();
+        }
+        if (league == null || month == null) {
+            throw new BadRequestAlertException("A partition needs both a league and a month", ENTITY_NAME, "invalidpartition");
+        }
+        log.debug("REST request to repair the score rollups of {} in {}", league, month);
+        scoreRollupService.rebuildPartition(league, month);
+        return 1;
+    }
+
+    private static YearMonth lastMonth(YearMonth to) {
+        return to != null ? to : YearMonth.now(ZoneOffset.UTC);
+    }
+
+    private static YearMonth firstMonth(YearMonth from, YearMonth last) {
+        YearMonth first = from != null ? from : last.minusMonths(11);
+        if (first.isAfter(last) || first.plusMonths(MAX_MONTHS).isBefore(last)) {
+            throw new BadRequestAlertException("The range must span 1 to " + MAX_MONTHS + " months", ENTITY_NAME, "invalidrange");
+        }
+        return first;
+    }
+}
@@ -0,0 +1,94 @@
+package net.jakebrennan.web.rest;
+
+import java.util.Map;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.service.ScoreAnalyticsService;
+import net.jakebrennan.service.ScoreHistogramService;
+import net.jakebrennan.service.analytics.ScoreDistribution;
+import net.jakebrennan.service.analytics.ScoreSeries;
+import net.jakebrennan.service.analytics.ScoreSummary;
+import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for aggregate statistics over {@link net.jakebrennan.domain.ArmlGameScore}s.
+ */
+@RestController
+@RequestMapping("/api/stats")
+public class ScoreStatisticsResource {
+
+    private static final String ENTITY_NAME = "scoreHistogram";
+
+    private final Logger log = LoggerFactory.getLogger(ScoreStatisticsResource.class);
+
+    private final ScoreAnalyticsService scoreAnalyticsService;
+
+    private final ScoreHistogramService scoreHistogramService;
+
+    public ScoreStatisticsResource(ScoreAnalyticsService scoreAnalyticsService, ScoreHistogramService scoreHistogramService) {
+        this.scoreAnalyticsService = scoreAnalyticsService;
+        this.scoreHistogramService = scoreHistogramService;
+    }
+
+    /**
+     * {@code GET  /stats/scores} : get the summary of all the scores.
+     *
+     * @return the summary of all the scores.
+     */
+    @GetMapping("/scores")
+    public ScoreSummary getScoreSummary() {
+        log.debug("REST request to get the summary of all scores");
+        return scoreAnalyticsService.summarize();
+    }
+
+    /**
+     * {@code GET  /stats/scores/leagues} : get the summary of the scores of each league.
+     *
+     * @return the summary of the scores of each league.
+     */
+    @GetMapping("/scores/leagues")
+    public Map<ArmlLeague, ScoreSummary> getScoreSummariesByLeague() {
+        log.debug("REST request to get the summary of scores by league");
+        return scoreAnalyticsService.summarizeByLeague();
+    }
+
+    /**
+     * {@code GET  /stats/scores/players/:id} : get the scores of the "id" armlPlayer, ordered by game.
+     *
+     * @param id the id of the armlPlayer.
+     * @return the scores of the armlPlayer.
+     */
+    @GetMapping("/scores/players/{id}")
+    public ScoreSeries getPlayerScoreSeries(@PathVariable("id") Long id) {
+        log.debug("REST request to get the scores of ArmlPlayer : {}", id);
+        return scoreAnalyticsService.seriesOf(id);
+    }
+
+    /**
+     * {@code GET  /stats/score-histogram} : get the distribution of the scores of a player, of a league, or of all
+     * players if neither is given.
+     *
+     * @param playerId the id of the armlPlayer.
+     * @param league the league.
+     * @return the non-empty buckets of the distribution, lowest scores first.
+     */
+    @GetMapping("/score-histogram")
+    public ScoreDistribution getScoreHistogram(
+        @RequestParam(name = "playerId", required = false) Long playerId,
+        @RequestParam(name = "league", required = false) ArmlLeague league
+    ) {
+        log.debug("REST request to get the score histogram of player {}, league {}", playerId, league);
+        if (playerId != null && league != null) {
+            throw new BadRequestAlertException("Give either a playerId or a league", ENTITY_NAME, "invalidscope");
+        }
+        if (playerId != null) {
+            return scoreHistogramService.distributionOfPlayer(playerId);
+        }
+        if (league != null) {
+            return scoreHistogramService.distributionOfLeague(league);
+        }
+        return scoreHistogramService.distribution();
+    }
+}
@@ -0,0 +1,36 @@
+package net.jakebrennan.web.rest;
+
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.service.SeasonProjectionService;
+import net.jakebrennan.service.analytics.SeasonProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the end-of-season projections of the leagues.
+ */
+@RestController
+@RequestMapping("/api/leagues")
+public class SeasonProjectionResource {
+
+    private final Logger log = LoggerFactory.getLogger(SeasonProjectionResource.class);
+
+    private final SeasonProjectionService seasonProjectionService;
+
+    public SeasonProjectionResource(SeasonProjectionService seasonProjectionService) {
+        this.seasonProjectionService = seasonProjectionService;
+    }
+
+    /**
+     * {@code GET  /leagues/:league/projection} : get the projected end of season of a league.
+     *
+     * @param league the league.
+     * @return the projection of each player of the league, in the current order of the league.
+     */
+    @GetMapping("/{league}/projection")
+    public SeasonProjection getSeasonProjection(@PathVariable("league") ArmlLeague league) {
+        log.debug("REST request to get the season projection of {}", league);
+        return seasonProjectionService.projectionOf(league);
+    }
+}
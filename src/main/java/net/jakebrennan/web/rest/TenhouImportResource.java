@@ -0,0 +1,44 @@
+package net.jakebrennan.web.rest;
+
+import java.util.Arrays;
+import java.util.List;
+import net.jakebrennan.security.AuthoritiesConstants;
+import net.jakebrennan.service.TenhouImportService;
+import net.jakebrennan.service.tenhou.TenhouImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * REST controller for importing {@link net.jakebrennan.domain.ArmlGame}s from Tenhou logs.
+ */
+@RestController
+@RequestMapping("/api/arml-games")
+public class TenhouImportResource {
+
+    private final Logger log = LoggerFactory.getLogger(TenhouImportResource.class);
+
+    private final TenhouImportService tenhouImportService;
+
+    public TenhouImportResource(TenhouImportService tenhouImportService) {
+        this.tenhouImportService = tenhouImportService;
+    }
+
+    /**
+     * {@code POST  /arml-games/import/tenhou} : import games from Tenhou mjlogs.
+     *
+     * @param files the mjlogs, plain or gzipped, or zip archives of mjlogs.
+     * @return the outcome of the import.
+     */
+    @PostMapping(value = "/import/tenhou", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public TenhouImportResult importTenhouLogs(@RequestParam("files") MultipartFile[] files) {
+        log.debug("REST request to import {} Tenhou log file(s)", files.length);
+        List<Resource> resources = Arrays.stream(files).map(MultipartFile::getResource).toList();
+        return tenhouImportService.importLogs(resources);
+    }
+}
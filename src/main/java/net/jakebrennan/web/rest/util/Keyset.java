@@ -0,0 +1,177 @@
+package net.jakebrennan.web.rest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import net.jakebrennan.repository.KeysetSpecifications;
+import net.jakebrennan.web.rest.errors.BadRequestAlertException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Keyset pagination of the list of an entity.
+ * <p>
+ * Rows are ordered by one of a few sort keys, with the id as tie-breaker. Each page ends with an opaque cursor
+ * holding the sort, and the sort key and id of its last row; the next page is read from there with an index seek
+ * rather than skipping an offset, so deep pages cost the same as the first one.
+ * <p>
+ * Sort keys must be columns backed by an index. Null values of a nullable sort key come first in ascending order and
+ * last in descending order, as MySQL and H2 sort them.
+ *
+ * @param <T> the type of the entity.
+ */
+public final class Keyset<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String ID = "id";
+
+    private static final char SEPARATOR = ':';
+
+    private final String entityName;
+
+    private final Function<T, Long> id;
+
+    private final Map<String, SortKey<T>> sortKeys = new LinkedHashMap<>();
+
+    private Keyset(String entityName, Function<T, Long> id) {
+        this.entityName = entityName;
+        this.id = id;
+        sortKeys.put(ID, new SortKey<>(ID, Long.class, id, false));
+    }
+
+    /**
+     * @param entityName the name of the entity, for error messages.
+     * @param id the id getter.
+     * @param <T> the type of the entity.
+     * @return a keyset sortable by id.
+     */
+    public static <T> Keyset<T> of(String entityName, Function<T, Long> id) {
+        return new Keyset<>(entityName, id);
+    }
+
+    /**
+     * Allows sorting by another property.
+     *
+     * @param property the name of the property.
+     * @param type the type of the property: a {@link Long}, {@link Integer}, {@link String}, {@link Instant} or enum.
+     * @param getter the property getter.
+     * @return this keyset.
+     */
+    public <V extends Comparable<? super V>> Keyset<T> sortableBy(String property, Class<V> type, Function<T, V> getter) {
+        sortKeys.put(property, new SortKey<>(property, type, getter, false));
+        return this;
+    }
+
+    /**
+     * Allows sorting by another property, which may be null.
+     *
+     * @param property the name of the property.
+     * @param type the type of the property: a {@link Long}, {@link Integer}, {@link String}, {@link Instant} or enum.
+     * @param getter the property getter.
+     * @return this keyset.
+     */
+    public <V extends Comparable<? super V>> Keyset<T> sortableByNullable(String property, Class<V> type, Function<T, V> getter) {
+        sortKeys.put(property, new SortKey<>(property, type, getter, true));
+        return this;
+    }
+
+    /**
+     * Reads one page.
+     *
+     * @param repository the repository of the entity.
+     * @param filter the rows to page through, or {@code null} for all rows.
+     * @param sort the sort, as {@code property} or {@code property,asc|desc}.
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page.
+     * @param size the page size, at most {@link #MAX_SIZE}.
+     * @return the page.
+     * @throws BadRequestAlertException if the sort, cursor or size are invalid.
+     */
+    public KeysetPage<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> filter, String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestAlertException("Page size must be between 1 and " + MAX_SIZE, entityName, "invalidpagesize");
+        }
+        String[] sortParts = sort.split(",", -1);
+        SortKey<T> sortKey = sortKeys.get(sortParts[0]);
+        if (sortKey == null || sortParts.length > 2) {
+            throw new BadRequestAlertException("Cannot sort by " + sort + ", only by " + sortKeys.keySet(), entityName, "invalidsort");
+        }
+        Sort.Direction direction = sortParts.length == 2
+            ? Sort.Direction.fromOptionalString(sortParts[1]).orElseThrow(() ->
+                new BadRequestAlertException("Invalid sort direction " + sortParts[1], entityName, "invalidsort")
+            )
+            : Sort.Direction.ASC;
+
+        Specification<T> specification = Specification.where(filter);
+        if (cursor != null && !cursor.isEmpty()) {
+            specification = specification.and(after(sortKey, direction, cursor));
+        }
+        // a filter on a to-many relationship joins it, which would repeat rows and cut pages short
+        specification = specification.and(KeysetSpecifications.distinctRows());
+        Sort order = ID.equals(sortKey.property())
+            ? Sort.by(direction, ID)
+            : Sort.by(new Sort.Order(direction, sortKey.property()), new Sort.Order(direction, ID));
+        List<T> rows = new ArrayList<>(repository.findBy(specification, query -> query.sortBy(order).limit(size + 1).all()));
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows.remove(size);
+            T last = rows.get(size - 1);
+            nextCursor = encode(sortKey, direction, sortKey.getter().apply(last), id.apply(last));
+        }
+        return new KeysetPage<>(rows, size, nextCursor);
+    }
+
+    private Specification<T> after(SortKey<T> sortKey, Sort.Direction direction, String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // sort:direction:id:value, the value last as it may contain the separator, and left out when null
+            String[] parts = decoded.split(String.valueOf(SEPARATOR), 4);
+            boolean valid = parts.length == 4 || (parts.length == 3 && sortKey.nullable());
+            if (!valid || !parts[0].equals(sortKey.property()) || !parts[1].equals(direction.name())) {
+                throw new BadRequestAlertException("The cursor does not match the sort " + sortKey.property(), entityName, "invalidcursor");
+            }
+            Comparable<?> value = parts.length == 4 ? parse(sortKey.type(), parts[3]) : null;
+            return KeysetSpecifications.after(sortKey.property(), value, Long.valueOf(parts[2]), direction, sortKey.nullable());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestAlertException("Invalid cursor", entityName, "invalidcursor");
+        }
+    }
+
+    private static String encode(SortKey<?> sortKey, Sort.Direction direction, Object value, Long id) {
+        String decoded = sortKey.property() + SEPARATOR + direction.name() + SEPARATOR + id;
+        if (value != null) {
+            decoded += SEPARATOR + (value instanceof Enum<?> constant ? constant.name() : String.valueOf(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Comparable parse(Class<?> type, String text) {
+        if (type == Long.class) {
+            return Long.valueOf(text);
+        }
+        if (type == Integer.class) {
+            return Integer.valueOf(text);
+        }
+        if (type == String.class) {
+            return text;
+        }
+        if (type == Instant.class) {
+            return Instant.parse(text);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, text);
+        }
+        throw new IllegalStateException("Unsupported sort key type " + type);
+    }
+
+    private record SortKey<T>(String property, Class<?> type, Function<T, ?> getter, boolean nullable) {}
+}
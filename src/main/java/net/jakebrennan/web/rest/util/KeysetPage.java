@@ -0,0 +1,46 @@
+package net.jakebrennan.web.rest.util;
+
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * A page read with keyset pagination.
+ *
+ * @param content the rows of the page.
+ * @param size the requested page size.
+ * @param nextCursor the opaque cursor of the next page, or {@code null} if this is the last page.
+ * @param <T> the type of the rows.
+ */
+public record KeysetPage<T>(List<T> content, int size, String nextCursor) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Generates the {@code Link} header pointing to the first and next pages, in the format of
+     * {@link tech.jhipster.web.util.PaginationUtil}.
+     *
+     * @param uriBuilder the builder of the URI of the current request.
+     * @return the headers.
+     */
+    public HttpHeaders generateLinkHeader(UriComponentsBuilder uriBuilder) {
+        StringBuilder link = new StringBuilder();
+        if (hasNext()) {
+            link.append(linkTo(uriBuilder, nextCursor, "next")).append(',');
+        }
+        link.append(linkTo(uriBuilder, null, "first"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, link.toString());
+        return headers;
+    }
+
+    private String linkTo(UriComponentsBuilder uriBuilder, String cursor, String relType) {
+        String uri = uriBuilder
+            .cloneBuilder()
+            .replaceQueryParam("cursor", cursor != null ? new Object[] { cursor } : new Object[0])
+            .replaceQueryParam("size", size)
+            .toUriString();
+        return "<" + uri + ">; rel=\"" + relType + "\"";
+    }
+}
@@ -8,6 +8,7 @@ import { IArmlGameScore, defaultValue } from 'app/shared/model/arml-game-score.m
 import reducer, {
   createEntity,
   deleteEntity,
+  getAllEntities,
   getEntities,
   getEntity,
   updateEntity,
@@ -29,6 +30,7 @@ describe('Entities reducer tests', () => {
     errorMessage: null,
     entities: [],
     entity: defaultValue,
+    links: { next: undefined },
     updating: false,
     updateSuccess: false,
   };
@@ -58,7 +60,7 @@ describe('Entities reducer tests', () => {
 
   describe('Requests', () => {
     it('should set state to loading', () => {
-      testMultipleTypes([getEntities.pending.type, getEntity.pending.type], {}, state => {
+      testMultipleTypes([getEntities.pending.type, getAllEntities.pending.type, getEntity.pending.type], {}, state => {
         expect(state).toMatchObject({
           errorMessage: null,
           updateSuccess: false,
@@ -129,6 +131,42 @@ describe('Entities reducer tests', () => {
       });
     });
 
+    it('should append the next page of entities and keep its cursor', () => {
+      const payload = {
+        data: [{ 2: 'fake2' }],
+        headers: { link: '<api/x?cursor=abc%3D&size=20>; rel="next",<api/x?size=20>; rel="first"' },
+      };
+      expect(
+        reducer(
+          { ...initialState, entities: [{ 1: 'fake1' }] },
+          {
+            type: getEntities.fulfilled.type,
+            payload,
+            meta: { arg: { cursor: 'xyz' } },
+          },
+        ),
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        entities: [{ 1: 'fake1' }, { 2: 'fake2' }],
+        links: { next: 'abc=' },
+      });
+    });
+
+    it('should fetch every page of entities', () => {
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }] };
+      expect(
+        reducer(undefined, {
+          type: getAllEntities.fulfilled.type,
+          payload,
+        }),
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        entities: payload.data,
+      });
+    });
+
     it('should fetch a single entity', () => {
       const payload = { data: { 1: 'fake1' } };
       expect(
@@ -199,6 +237,14 @@ describe('Entities reducer tests', () => {
       expect(getEntities.fulfilled.match(result)).toBe(true);
     });
 
+    it('dispatches FETCH_ALL_ARMLGAMESCORE actions', async () => {
+      const result = await getAllEntities()(dispatch, getState, extra);
+
+      const pendingAction = dispatch.mock.calls[0][0];
+      expect(pendingAction.meta.requestStatus).toBe('pending');
+      expect(getAllEntities.fulfilled.match(result)).toBe(true);
+    });
+
     it('dispatches FETCH_ARMLGAMESCORE actions', async () => {
       const arg = 42666;
 
@@ -9,9 +9,9 @@ import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IArmlGame } from 'app/shared/model/arml-game.model';
-import { getEntities as getArmlGames } from 'app/entities/arml-game/arml-game.reducer';
+import { getAllEntities as getArmlGames } from 'app/entities/arml-game/arml-game.reducer';
 import { IArmlPlayer } from 'app/shared/model/arml-player.model';
-import { getEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
+import { getAllEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
 import { IArmlGameScore } from 'app/shared/model/arml-game-score.model';
 import { getEntity, updateEntity, createEntity, reset } from './arml-game-score.reducer';
 
@@ -41,8 +41,8 @@ export const ArmlGameScoreUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getArmlGames({}));
-    dispatch(getArmlPlayers({}));
+    dispatch(getArmlGames());
+    dispatch(getArmlPlayers());
   }, []);
 
   useEffect(() => {
@@ -20,6 +20,7 @@ export const ArmlGameScore = () => {
 
   const armlGameScoreList = useAppSelector(state => state.armlGameScore.entities);
   const loading = useAppSelector(state => state.armlGameScore.loading);
+  const links = useAppSelector(state => state.armlGameScore.links);
 
   const getAllEntities = () => {
     dispatch(
@@ -53,6 +54,15 @@ export const ArmlGameScore = () => {
     sortEntities();
   };
 
+  const handleLoadMore = () => {
+    dispatch(
+      getEntities({
+        sort: `${sortState.sort},${sortState.order}`,
+        cursor: links.next,
+      }),
+    );
+  };
+
   const getSortIconByFieldName = (fieldName: string) => {
     const sortFieldName = sortState.sort;
     const order = sortState.order;
@@ -164,6 +174,13 @@ export const ArmlGameScore = () => {
           )
         )}
       </div>
+      {links.next ? (
+        <div className="d-flex justify-content-center">
+          <Button color="info" onClick={handleLoadMore} disabled={loading} data-cy="entityLoadMoreButton">
+            <Translate contentKey="majProfApp.armlGameScore.home.loadMoreLabel">Load more</Translate>
+          </Button>
+        </div>
+      ) : null}
     </div>
   );
 };
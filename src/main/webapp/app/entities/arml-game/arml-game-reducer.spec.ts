@@ -21,6 +21,7 @@ describe('Entities reducer tests', () => {
     errorMessage: null,
     entities: [],
     entity: defaultValue,
+    links: { next: undefined },
     updating: false,
     updateSuccess: false,
   };
@@ -50,7 +51,7 @@ describe('Entities reducer tests', () => {
 
   describe('Requests', () => {
     it('should set state to loading', () => {
-      testMultipleTypes([getEntities.pending.type, getEntity.pending.type], {}, state => {
+      testMultipleTypes([getEntities.pending.type, getAllEntities.pending.type, getEntity.pending.type], {}, state => {
         expect(state).toMatchObject({
           errorMessage: null,
           updateSuccess: false,
@@ -121,6 +122,42 @@ describe('Entities reducer tests', () => {
       });
     });
 
+    it('should append the next page of entities and keep its cursor', () => {
+      const payload = {
+        data: [{ 2: 'fake2' }],
+        headers: { link: '<api/x?cursor=abc%3D&size=20>; rel="next",<api/x?size=20>; rel="first"' },
+      };
+      expect(
+        reducer(
+          { ...initialState, entities: [{ 1: 'fake1' }] },
+          {
+            type: getEntities.fulfilled.type,
+            payload,
+            meta: { arg: { cursor: 'xyz' } },
+          },
+        ),
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        entities: [{ 1: 'fake1' }, { 2: 'fake2' }],
+        links: { next: 'abc=' },
+      });
+    });
+
+    it('should fetch every page of entities', () => {
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }] };
+      expect(
+        reducer(undefined, {
+          type: getAllEntities.fulfilled.type,
+          payload,
+        }),
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        entities: payload.data,
+      });
+    });
+
     it('should fetch a single entity', () => {
       const payload = { data: { 1: 'fake1' } };
       expect(
@@ -191,6 +228,14 @@ describe('Entities reducer tests', () => {
       expect(getEntities.fulfilled.match(result)).toBe(true);
     });
 
+    it('dispatches FETCH_ALL_ARMLGAME actions', async () => {
+      const result = await getAllEntities()(dispatch, getState, extra);
+
+      const pendingAction = dispatch.mock.calls[0][0];
+      expect(pendingAction.meta.requestStatus).toBe('pending');
+      expect(getAllEntities.fulfilled.match(result)).toBe(true);
+    });
+
     it('dispatches FETCH_ARMLGAME actions', async () => {
       const arg = 42666;
 
@@ -9,7 +9,7 @@ import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IArmlPlayer } from 'app/shared/model/arml-player.model';
-import { getEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
+import { getAllEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
 import { IArmlGame } from 'app/shared/model/arml-game.model';
 import { getEntity, updateEntity, createEntity, reset } from './arml-game.reducer';
 
@@ -38,7 +38,7 @@ export const ArmlGameUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getArmlPlayers({}));
+    dispatch(getArmlPlayers());
   }, []);
 
   useEffect(() => {
@@ -1,7 +1,7 @@
 import axios from 'axios';
 import { createAsyncThunk, isFulfilled, isPending } from '@reduxjs/toolkit';
-import { ASC } from 'app/shared/util/pagination.constants';
 import { cleanEntity } from 'app/shared/util/entity-utils';
+import { getAllPages, getNextCursor } from 'app/shared/util/keyset-utils';
 import { IQueryParams, createEntitySlice, EntityState, serializeAxiosError } from 'app/shared/reducers/reducer.utils';
 import { IArmlGame, defaultValue } from 'app/shared/model/arml-game.model';
 
@@ -10,6 +10,7 @@ const initialState: EntityState<IArmlGame> = {
   errorMessage: null,
   entities: [],
   entity: defaultValue,
+  links: { next: undefined },
   updating: false,
   updateSuccess: false,
 };
@@ -18,11 +19,16 @@ const apiUrl = 'api/arml-games';
 
 // Actions
 
-export const getEntities = createAsyncThunk('armlGame/fetch_entity_list', async ({ sort }: IQueryParams) => {
-  const requestUrl = `${apiUrl}?${sort ? `sort=${sort}&` : ''}cacheBuster=${new Date().getTime()}`;
+export const getEntities = createAsyncThunk('armlGame/fetch_entity_list', async ({ sort, cursor }: IQueryParams) => {
+  const cursorParam = cursor ? `cursor=${encodeURIComponent(cursor)}&` : '';
+  const requestUrl = `${apiUrl}?${sort ? `sort=${sort}&` : ''}${cursorParam}cacheBuster=${new Date().getTime()}`;
   return axios.get<IArmlGame[]>(requestUrl);
 });
 
+export const getAllEntities = createAsyncThunk('armlGame/fetch_all_entities', async () => ({
+  data: await getAllPages<IArmlGame>(`${apiUrl}`),
+}));
+
 export const getEntity = createAsyncThunk(
   'armlGame/fetch_entity',
   async (id: string | number) => {
@@ -90,28 +96,27 @@ export const ArmlGameSlice = createEntitySlice({
         state.entity = {};
       })
       .addMatcher(isFulfilled(getEntities), (state, action) => {
-        const { data } = action.payload;
+        const { data, headers } = action.payload;
 
         return {
           ...state,
           loading: false,
-          entities: data.sort((a, b) => {
-            if (!action.meta?.arg?.sort) {
-              return 1;
-            }
-            const order = action.meta.arg.sort.split(',')[1];
-            const predicate = action.meta.arg.sort.split(',')[0];
-            return order === ASC ? (a[predicate] < b[predicate] ? -1 : 1) : b[predicate] < a[predicate] ? -1 : 1;
-          }),
+          entities: action.meta?.arg?.cursor ? [...state.entities, ...data] : data,
+          links: { next: getNextCursor(headers?.link) },
         };
       })
+      .addMatcher(isFulfilled(getAllEntities), (state, action) => {
+        state.loading = false;
+        state.entities = action.payload.data;
+        state.links = { next: undefined };
+      })
       .addMatcher(isFulfilled(createEntity, updateEntity, partialUpdateEntity), (state, action) => {
         state.updating = false;
         state.loading = false;
         state.updateSuccess = true;
         state.entity = action.payload.data;
       })
-      .addMatcher(isPending(getEntities, getEntity), state => {
+      .addMatcher(isPending(getEntities, getAllEntities, getEntity), state => {
         state.errorMessage = null;
         state.updateSuccess = false;
         state.loading = true;
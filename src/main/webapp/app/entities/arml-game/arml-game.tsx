@@ -20,6 +20,7 @@ export const ArmlGame = () => {
 
   const armlGameList = useAppSelector(state => state.armlGame.entities);
   const loading = useAppSelector(state => state.armlGame.loading);
+  const links = useAppSelector(state => state.armlGame.links);
 
   const getAllEntities = () => {
     dispatch(
@@ -53,6 +54,15 @@ export const ArmlGame = () => {
     sortEntities();
   };
 
+  const handleLoadMore = () => {
+    dispatch(
+      getEntities({
+        sort: `${sortState.sort},${sortState.order}`,
+        cursor: links.next,
+      }),
+    );
+  };
+
   const getSortIconByFieldName = (fieldName: string) => {
     const sortFieldName = sortState.sort;
     const order = sortState.order;
@@ -155,6 +165,13 @@ export const ArmlGame = () => {
           )
         )}
       </div>
+      {links.next ? (
+        <div className="d-flex justify-content-center">
+          <Button color="info" onClick={handleLoadMore} disabled={loading} data-cy="entityLoadMoreButton">
+            <Translate contentKey="majProfApp.armlGame.home.loadMoreLabel">Load more</Translate>
+          </Button>
+        </div>
+      ) : null}
     </div>
   );
 };
@@ -9,7 +9,7 @@ import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IArmlGame } from 'app/shared/model/arml-game.model';
-import { getEntities as getArmlGames } from 'app/entities/arml-game/arml-game.reducer';
+import { getAllEntities as getArmlGames } from 'app/entities/arml-game/arml-game.reducer';
 import { IArmlPlayer } from 'app/shared/model/arml-player.model';
 import { ArmlLeague } from 'app/shared/model/enumerations/arml-league.model';
 import { getEntity, updateEntity, createEntity, reset } from './arml-player.reducer';
@@ -40,7 +40,7 @@ export const ArmlPlayerUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getArmlGames({}));
+    dispatch(getArmlGames());
   }, []);
 
   useEffect(() => {
@@ -20,6 +20,7 @@ export const ArmlPlayer = () => {
 
   const armlPlayerList = useAppSelector(state => state.armlPlayer.entities);
   const loading = useAppSelector(state => state.armlPlayer.loading);
+  const links = useAppSelector(state => state.armlPlayer.links);
 
   const getAllEntities = () => {
     dispatch(
@@ -53,6 +54,15 @@ export const ArmlPlayer = () => {
     sortEntities();
   };
 
+  const handleLoadMore = () => {
+    dispatch(
+      getEntities({
+        sort: `${sortState.sort},${sortState.order}`,
+        cursor: links.next,
+      }),
+    );
+  };
+
   const getSortIconByFieldName = (fieldName: string) => {
     const sortFieldName = sortState.sort;
     const order = sortState.order;
@@ -91,21 +101,18 @@ export const ArmlPlayer = () => {
                   <Translate contentKey="majProfApp.armlPlayer.playerID">Player ID</Translate>{' '}
                   <FontAwesomeIcon icon={getSortIconByFieldName('playerID')} />
                 </th>
-                <th className="hand" onClick={sort('firstName')}>
-                  <Translate contentKey="majProfApp.armlPlayer.firstName">First Name</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('firstName')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlPlayer.firstName">First Name</Translate>
                 </th>
                 <th className="hand" onClick={sort('lastName')}>
                   <Translate contentKey="majProfApp.armlPlayer.lastName">Last Name</Translate>{' '}
                   <FontAwesomeIcon icon={getSortIconByFieldName('lastName')} />
                 </th>
-                <th className="hand" onClick={sort('tenhouName')}>
-                  <Translate contentKey="majProfApp.armlPlayer.tenhouName">Tenhou Name</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('tenhouName')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlPlayer.tenhouName">Tenhou Name</Translate>
                 </th>
-                <th className="hand" onClick={sort('league')}>
-                  <Translate contentKey="majProfApp.armlPlayer.league">League</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('league')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlPlayer.league">League</Translate>
                 </th>
                 <th>
                   <Translate contentKey="majProfApp.armlPlayer.games">Games</Translate> <FontAwesomeIcon icon="sort" />
@@ -177,6 +184,13 @@ export const ArmlPlayer = () => {
           )
         )}
       </div>
+      {links.next ? (
+        <div className="d-flex justify-content-center">
+          <Button color="info" onClick={handleLoadMore} disabled={loading} data-cy="entityLoadMoreButton">
+            <Translate contentKey="majProfApp.armlPlayer.home.loadMoreLabel">Load more</Translate>
+          </Button>
+        </div>
+      ) : null}
     </div>
   );
 };
@@ -11,7 +11,7 @@ import { useAppDispatch, useAppSelector } from 'app/config/store';
 import { IUser } from 'app/shared/model/user.model';
 import { getUsers } from 'app/modules/administration/user-management/user-management.reducer';
 import { IArmlPlayer } from 'app/shared/model/arml-player.model';
-import { getEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
+import { getAllEntities as getArmlPlayers } from 'app/entities/arml-player/arml-player.reducer';
 import { IArmlProfile } from 'app/shared/model/arml-profile.model';
 import { getEntity, updateEntity, createEntity, reset } from './arml-profile.reducer';
 
@@ -42,7 +42,7 @@ export const ArmlProfileUpdate = () => {
     }
 
     dispatch(getUsers({}));
-    dispatch(getArmlPlayers({}));
+    dispatch(getArmlPlayers());
   }, []);
 
   useEffect(() => {
@@ -20,6 +20,7 @@ export const ArmlProfile = () => {
 
   const armlProfileList = useAppSelector(state => state.armlProfile.entities);
   const loading = useAppSelector(state => state.armlProfile.loading);
+  const links = useAppSelector(state => state.armlProfile.links);
 
   const getAllEntities = () => {
     dispatch(
@@ -53,6 +54,15 @@ export const ArmlProfile = () => {
     sortEntities();
   };
 
+  const handleLoadMore = () => {
+    dispatch(
+      getEntities({
+        sort: `${sortState.sort},${sortState.order}`,
+        cursor: links.next,
+      }),
+    );
+  };
+
   const getSortIconByFieldName = (fieldName: string) => {
     const sortFieldName = sortState.sort;
     const order = sortState.order;
@@ -87,25 +97,20 @@ export const ArmlProfile = () => {
                 <th className="hand" onClick={sort('id')}>
                   <Translate contentKey="majProfApp.armlProfile.id">ID</Translate> <FontAwesomeIcon icon={getSortIconByFieldName('id')} />
                 </th>
-                <th className="hand" onClick={sort('winRate')}>
-                  <Translate contentKey="majProfApp.armlProfile.winRate">Win Rate</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('winRate')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlProfile.winRate">Win Rate</Translate>
                 </th>
-                <th className="hand" onClick={sort('feedRate')}>
-                  <Translate contentKey="majProfApp.armlProfile.feedRate">Feed Rate</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('feedRate')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlProfile.feedRate">Feed Rate</Translate>
                 </th>
-                <th className="hand" onClick={sort('callRate')}>
-                  <Translate contentKey="majProfApp.armlProfile.callRate">Call Rate</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('callRate')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlProfile.callRate">Call Rate</Translate>
                 </th>
-                <th className="hand" onClick={sort('riiRate')}>
-                  <Translate contentKey="majProfApp.armlProfile.riiRate">Rii Rate</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('riiRate')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlProfile.riiRate">Rii Rate</Translate>
                 </th>
-                <th className="hand" onClick={sort('feedEV')}>
-                  <Translate contentKey="majProfApp.armlProfile.feedEV">Feed EV</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('feedEV')} />
+                <th>
+                  <Translate contentKey="majProfApp.armlProfile.feedEV">Feed EV</Translate>
                 </th>
                 <th>
                   <Translate contentKey="majProfApp.armlProfile.user">User</Translate> <FontAwesomeIcon icon="sort" />
@@ -172,6 +177,13 @@ export const ArmlProfile = () => {
           )
         )}
       </div>
+      {links.next ? (
+        <div className="d-flex justify-content-center">
+          <Button color="info" onClick={handleLoadMore} disabled={loading} data-cy="entityLoadMoreButton">
+            <Translate contentKey="majProfApp.armlProfile.home.loadMoreLabel">Load more</Translate>
+          </Button>
+        </div>
+      ) : null}
     </div>
   );
 };
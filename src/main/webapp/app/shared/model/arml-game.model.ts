@@ -1,8 +1,10 @@
+import dayjs from 'dayjs';
 import { IArmlPlayer } from 'app/shared/model/arml-player.model';
 
 export interface IArmlGame {
   id?: number;
   gameID?: number;
+  playedAt?: dayjs.Dayjs | null;
   players?: IArmlPlayer[] | null;
 }
 
@@ -8,6 +8,8 @@ export interface IArmlProfile {
   callRate?: number | null;
   riiRate?: number | null;
   feedEV?: number | null;
+  gamesPlayed?: number | null;
+  firstPlaces?: number | null;
   user?: IUser | null;
   playerID?: IArmlPlayer | null;
 }
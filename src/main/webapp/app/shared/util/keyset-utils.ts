@@ -0,0 +1,33 @@
+import axios from 'axios';
+
+/**
+ * The largest page size of the keyset-paginated lists.
+ */
+export const KEYSET_MAX_SIZE = 100;
+
+/**
+ * Reads the cursor of the next page from the Link header of a keyset-paginated list.
+ *
+ * @returns the cursor, or undefined on the last page.
+ */
+export const getNextCursor = (linkHeader?: string): string | undefined => {
+  const next = linkHeader && /<([^>]*)>;\s*rel="next"/.exec(linkHeader);
+  const cursor = next && /[?&]cursor=([^&]*)/.exec(next[1]);
+  return cursor ? decodeURIComponent(cursor[1]) : undefined;
+};
+
+/**
+ * Reads every page of a keyset-paginated list, for the lists that must be complete such as the choices of a relationship.
+ */
+export const getAllPages = async <T>(url: string): Promise<T[]> => {
+  const separator = url.includes('?') ? '&' : '?';
+  const entities: T[] = [];
+  let cursor: string | undefined;
+  do {
+    const cursorParam = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+    const response = await axios.get<T[]>(`${url}${separator}size=${KEYSET_MAX_SIZE}${cursorParam}&cacheBuster=${new Date().getTime()}`);
+    entities.push(...(response.data ?? []));
+    cursor = getNextCursor(response.headers?.link);
+  } while (cursor);
+  return entities;
+};
@@ -0,0 +1,163 @@
+package net.jakebrennan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.User;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.util.unit.DataSize;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Unit tests for the {@link CacheConfiguration} class.
+ */
+class CacheConfigurationTest {
+
+    private JHipsterProperties jHipsterProperties;
+
+    private ApplicationProperties applicationProperties;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setup() {
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        jHipsterProperties.getCache().getEhcache().setTimeToLiveSeconds(3600);
+        applicationProperties = new ApplicationProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    void regionsWithoutSettingsShouldUseTheJHipsterDefaults() {
+        createCacheManager();
+
+        CacheRuntimeConfiguration<Object, Object> configuration = configurationOf(User.class.getName());
+        ResourcePools resourcePools = configuration.getResourcePools();
+        assertThat(resourcePools.getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+        SizedResourcePool heap = resourcePools.getPoolForResource(ResourceType.Core.HEAP);
+        assertThat(heap.getSize()).isEqualTo(100);
+        assertThat(heap.getUnit()).isEqualTo(EntryUnit.ENTRIES);
+        assertThat(configuration.getExpiryPolicy().getExpiryForCreation("key", "value")).isEqualTo(Duration.ofHours(1));
+        assertThat(configuration.getExpiryPolicy().getExpiryForAccess("key", () -> "value")).isNull();
+    }
+
+    @Test
+    void regionSettingsShouldOverrideTheDefaults() {
+        ApplicationProperties.Cache.Region region = new ApplicationProperties.Cache.Region();
+        region.setHeapEntries(10L);
+        region.setOffHeap(DataSize.ofMegabytes(2));
+        region.setTimeToIdle(Duration.ofMinutes(5));
+        applicationProperties.getCache().getRegions().put(ArmlGameScore.class.getName(), region);
+        createCacheManager();
+
+        CacheRuntimeConfiguration<Object, Object> configuration = configurationOf(ArmlGameScore.class.getName());
+        ResourcePools resourcePools = configuration.getResourcePools();
+        SizedResourcePool heap = resourcePools.getPoolForResource(ResourceType.Core.HEAP);
+        assertThat(heap.getSize()).isEqualTo(10);
+        SizedResourcePool offHeap = resourcePools.getPoolForResource(ResourceType.Core.OFFHEAP);
+        assertThat(offHeap.getSize()).isEqualTo(2 * 1024 * 1024);
+        assertThat(offHeap.getUnit()).isEqualTo(MemoryUnit.B);
+        assertThat(configuration.getExpiryPolicy().getExpiryForAccess("key", () -> "value")).isEqualTo(Duration.ofMinutes(5));
+        assertThat(configurationOf(User.class.getName()).getResourcePools().getResourceTypeSet()).containsExactly(ResourceType.Core.HEAP);
+    }
+
+    @Test
+    void offHeapAndDiskRegionsShouldRoundTripTheirEntities(@TempDir Path storageDirectory) {
+        ApplicationProperties.Cache.Region offHeapRegion = new ApplicationProperties.Cache.Region();
+        offHeapRegion.setHeapEntries(1L);
+        offHeapRegion.setOffHeap(DataSize.ofMegabytes(1));
+        applicationProperties.getCache().getRegions().put(ArmlPlayer.class.getName(), offHeapRegion);
+        ApplicationProperties.Cache.Region diskRegion = new ApplicationProperties.Cache.Region();
+        diskRegion.setHeapEntries(1L);
+        diskRegion.setDisk(DataSize.ofMegabytes(4));
+        applicationProperties.getCache().getRegions().put(ArmlGame.class.getName(), diskRegion);
+        applicationProperties.getCache().setStorageDirectory(storageDirectory.toString());
+        createCacheManager();
+
+        assertThat(configurationOf(ArmlPlayer.class.getName()).getResourcePools().getResourceTypeSet()).containsExactlyInAnyOrder(
+            ResourceType.Core.HEAP,
+            ResourceType.Core.OFFHEAP
+        );
+        assertThat(configurationOf(ArmlGame.class.getName()).getResourcePools().getResourceTypeSet()).containsExactlyInAnyOrder(
+            ResourceType.Core.HEAP,
+            ResourceType.Core.DISK
+        );
+
+        // The entities are stored in the lower tier, so they are read back as serialized copies
+        Cache<Object, Object> players = cacheManager.getCache(ArmlPlayer.class.getName());
+        Cache<Object, Object> games = cacheManager.getCache(ArmlGame.class.getName());
+        Map<Long, ArmlPlayer> cachedPlayers = new HashMap<>();
+        Map<Long, ArmlGame> cachedGames = new HashMap<>();
+        for (long id = 1; id <= 3; id++) {
+            cachedPlayers.put(
+                id,
+                new ArmlPlayer().id(id).playerID(id).firstName("First" + id).tenhouName("tenhou" + id).league(ArmlLeague.A1)
+            );
+            cachedGames.put(id, new ArmlGame().id(id).gameID(id).playedAt(Instant.ofEpochSecond(id)));
+        }
+        players.putAll(cachedPlayers);
+        games.putAll(cachedGames);
+        for (long id = 1; id <= 3; id++) {
+            assertThat(players.get(id)).isNotSameAs(cachedPlayers.get(id));
+            assertThat(games.get(id)).isNotSameAs(cachedGames.get(id));
+            assertThat(players.get(id)).isInstanceOfSatisfying(ArmlPlayer.class, armlPlayer -> {
+                assertThat(armlPlayer.getPlayerID()).isEqualTo(armlPlayer.getId());
+                assertThat(armlPlayer.getFirstName()).isEqualTo("First" + armlPlayer.getId());
+                assertThat(armlPlayer.getTenhouName()).isEqualTo("tenhou" + armlPlayer.getId());
+                assertThat(armlPlayer.getLeague()).isEqualTo(ArmlLeague.A1);
+            });
+            assertThat(games.get(id)).isInstanceOfSatisfying(ArmlGame.class, armlGame -> {
+                assertThat(armlGame.getGameID()).isEqualTo(armlGame.getId());
+                assertThat(armlGame.getPlayedAt()).isEqualTo(Instant.ofEpochSecond(armlGame.getId()));
+            });
+        }
+        assertThat(storageDirectory).isNotEmptyDirectory();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void createCacheManager() {
+        CacheConfiguration cacheConfiguration = new CacheConfiguration(jHipsterProperties, applicationProperties);
+        ObjectProvider<JCacheManagerCustomizer> customizers = mock(ObjectProvider.class);
+        when(customizers.orderedStream()).thenAnswer(invocation -> Stream.of(cacheConfiguration.cacheManagerCustomizer()));
+        cacheManager = cacheConfiguration.jCacheCacheManager(customizers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheRuntimeConfiguration<Object, Object> configurationOf(String cacheName) {
+        return (CacheRuntimeConfiguration<Object, Object>) cacheManager
+            .getCache(cacheName)
+            .getConfiguration(Eh107Configuration.class)
+            .unwrap(CacheRuntimeConfiguration.class);
+    }
+}
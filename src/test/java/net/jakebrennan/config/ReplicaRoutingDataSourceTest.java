@@ -0,0 +1,122 @@
+package net.jakebrennan.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource}.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Test
+    void replicasShouldNotBeUsedBeforeTheirLagIsKnown() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica(0)), MAX_LAG, WINDOW);
+
+        assertThat(dataSource.chooseReplica()).isEqualTo(-1);
+    }
+
+    @Test
+    void leastLaggingReplicaWithinTheMaxLagShouldBeChosen() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            mock(DataSource.class),
+            List.of(replica(3), replica(1), replica(10)),
+            MAX_LAG,
+            WINDOW
+        );
+        dataSource.checkLag();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(dataSource.chooseReplica()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void replicasWithTheSameLagShouldTakeTurns() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            mock(DataSource.class),
+            List.of(replica(0), replica(0)),
+            MAX_LAG,
+            WINDOW
+        );
+        dataSource.checkLag();
+
+        Set<Integer> chosen = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            chosen.add(dataSource.chooseReplica());
+        }
+        assertThat(chosen).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    void primaryShouldBeReadFromWhenNoReplicaIsWithinTheMaxLag() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        DataSource unavailable = mock(DataSource.class);
+        when(unavailable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica(10), unavailable), MAX_LAG, WINDOW);
+        dataSource.checkLag();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void replicaNotReplicatingFromAnySourceShouldNotBeReadFrom() throws SQLException {
+        ResultSet noStatus = mock(ResultSet.class);
+        when(noStatus.next()).thenReturn(false);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            mock(DataSource.class),
+            List.of(replica(noStatus), replica(3)),
+            MAX_LAG,
+            WINDOW
+        );
+        dataSource.checkLag();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(dataSource.chooseReplica()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void readsShouldStayOnThePrimaryAfterAWrite() throws SQLException {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(mock(DataSource.class), List.of(replica(0)), MAX_LAG, WINDOW);
+        dataSource.checkLag();
+        assertThat(dataSource.chooseReplica()).isZero();
+
+        dataSource.recordWrite();
+
+        assertThat(dataSource.chooseReplica()).isEqualTo(-1);
+    }
+
+    private static DataSource replica(long lagSeconds) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds);
+        return replica(rs);
+    }
+
+    private static DataSource replica(ResultSet rs) throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(rs);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(connection);
+        return replica;
+    }
+}
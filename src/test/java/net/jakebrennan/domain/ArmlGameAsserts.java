@@ -47,7 +47,8 @@ public class ArmlGameAsserts {
     public static void assertArmlGameUpdatableFieldsEquals(ArmlGame expected, ArmlGame actual) {
         assertThat(expected)
             .as("Verify ArmlGame relevant properties")
-            .satisfies(e -> assertThat(e.getGameID()).as("check gameID").isEqualTo(actual.getGameID()));
+            .satisfies(e -> assertThat(e.getGameID()).as("check gameID").isEqualTo(actual.getGameID()))
+            .satisfies(e -> assertThat(e.getPlayedAt()).as("check playedAt").isEqualTo(actual.getPlayedAt()));
     }
 
     /**
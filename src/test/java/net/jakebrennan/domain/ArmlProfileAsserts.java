@@ -47,7 +47,6 @@ public class ArmlProfileAsserts {
     public static void assertArmlProfileUpdatableFieldsEquals(ArmlProfile expected, ArmlProfile actual) {
         assertThat(expected)
             .as("Verify ArmlProfile relevant properties")
-            .satisfies(e -> assertThat(e.getWinRate()).as("check winRate").isEqualTo(actual.getWinRate()))
             .satisfies(e -> assertThat(e.getFeedRate()).as("check feedRate").isEqualTo(actual.getFeedRate()))
             .satisfies(e -> assertThat(e.getCallRate()).as("check callRate").isEqualTo(actual.getCallRate()))
             .satisfies(e -> assertThat(e.getRiiRate()).as("check riiRate").isEqualTo(actual.getRiiRate()))
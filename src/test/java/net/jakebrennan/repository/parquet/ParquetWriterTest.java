@@ -0,0 +1,145 @@
+package net.jakebrennan.repository.parquet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import net.jakebrennan.repository.snapshot.ColumnType;
+import net.jakebrennan.repository.snapshot.SnapshotColumn;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParquetWriter}.
+ */
+class ParquetWriterTest {
+
+    private static final byte[] MAGIC = "PAR1".getBytes(StandardCharsets.US_ASCII);
+
+    private static final List<SnapshotColumn> COLUMNS = List.of(
+        new SnapshotColumn("id", ColumnType.ID),
+        new SnapshotColumn("league", ColumnType.STRING),
+        new SnapshotColumn("win_rate", ColumnType.NULLABLE_DOUBLE),
+        new SnapshotColumn("played_at", ColumnType.INSTANT)
+    );
+
+    @Test
+    void fileShouldBeFramedByTheMagicAndItsMetadata() throws IOException {
+        byte[] file = write(10, 4);
+
+        assertThat(Arrays.copyOfRange(file, 0, 4)).isEqualTo(MAGIC);
+        assertThat(Arrays.copyOfRange(file, file.length - 4, file.length)).isEqualTo(MAGIC);
+        int footerLength = ByteBuffer.wrap(file, file.length - 8, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        assertThat(footerLength).isPositive().isLessThan(file.length - 12);
+        String footer = new String(file, file.length - 8 - footerLength, footerLength, StandardCharsets.ISO_8859_1);
+        assertThat(footer).contains("schema", "id", "league", "win_rate", "played_at", "majProf");
+    }
+
+    @Test
+    void firstPageShouldHoldTheIdsOfTheFirstRowGroup() throws IOException {
+        byte[] file = write(10, 4);
+
+        // page header: type, uncompressed size, compressed size, then the data page header struct
+        ThriftCompactReader header = new ThriftCompactReader(file, 4);
+        assertThat(header.i32(1)).isZero();
+        int uncompressedSize = header.i32(2);
+        int compressedSize = header.i32(3);
+        header.skipStruct(5);
+        int pageStart = header.position();
+
+        byte[] page;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(file, pageStart, compressedSize))) {
+            page = gzip.readAllBytes();
+        }
+        assertThat(page).hasSize(uncompressedSize).hasSize(4 * Long.BYTES);
+        ByteBuffer ids = ByteBuffer.wrap(page).order(ByteOrder.LITTLE_ENDIAN);
+        for (int row = 0; row < 4; row++) {
+            assertThat(ids.getLong()).isEqualTo(100L + row);
+        }
+    }
+
+    @Test
+    void emptyTableShouldHaveNoRowGroup() throws IOException {
+        byte[] file = write(0, 4);
+
+        int footerLength = ByteBuffer.wrap(file, file.length - 8, 4).order(ByteOrder.LITTLE_ENDIAN).getInt();
+        assertThat(file).hasSize(4 + footerLength + 8);
+    }
+
+    private static byte[] write(int rows, int rowGroupSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ParquetWriter writer = new ParquetWriter(out, COLUMNS, rowGroupSize);
+        for (int row = 0; row < rows; row++) {
+            writer.column(0).putId(100L + row);
+            writer.column(1).putString(row % 3 == 0 ? null : "league " + row % 2);
+            writer.column(2).putNullableDouble(row % 4 == 0 ? null : row / 10.0);
+            writer.column(3).putInstant(Instant.ofEpochSecond(1_700_000_000L + row, 1_000));
+            writer.endRow();
+        }
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the few fields of a page header the tests look at.
+     */
+    private static final class ThriftCompactReader {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        private int lastFieldId;
+
+        ThriftCompactReader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        int i32(int expectedId) {
+            fieldHeader(expectedId, ThriftCompactWriter.TYPE_I32);
+            long zigZag = varLong();
+            return (int) ((zigZag >>> 1) ^ -(zigZag & 1));
+        }
+
+        /**
+         * Skips a struct of integer fields, and the stop byte of the enclosing struct.
+         */
+        void skipStruct(int expectedId) {
+            fieldHeader(expectedId, ThriftCompactWriter.TYPE_STRUCT);
+            while (bytes[position++] != 0) {
+                varLong();
+            }
+            assertThat(bytes[position++]).isZero();
+        }
+
+        private void fieldHeader(int expectedId, int expectedType) {
+            int header = bytes[position++] & 0xFF;
+            assertThat(header & 0x0F).isEqualTo(expectedType);
+            assertThat(header >>> 4).isEqualTo(expectedId - lastFieldId);
+            lastFieldId = expectedId;
+        }
+
+        private long varLong() {
+            long value = 0;
+            for (int shift = 0;; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package net.jakebrennan.repository.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SnapshotWriter} and {@link SnapshotReader}.
+ */
+class SnapshotFormatTest {
+
+    private static final List<SnapshotColumn> COLUMNS = List.of(
+        new SnapshotColumn("id", ColumnType.ID),
+        new SnapshotColumn("other_id", ColumnType.NULLABLE_ID),
+        new SnapshotColumn("score", ColumnType.LONG),
+        new SnapshotColumn("feed_ev", ColumnType.NULLABLE_LONG),
+        new SnapshotColumn("win_rate", ColumnType.NULLABLE_DOUBLE),
+        new SnapshotColumn("name", ColumnType.STRING),
+        new SnapshotColumn("played_at", ColumnType.INSTANT),
+        new SnapshotColumn("rated_at", ColumnType.NULLABLE_INSTANT)
+    );
+
+    private static final int ROWS = 10;
+
+    @Test
+    void tablesShouldBeReadAsWritten() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(out, 4);
+        writer.startTable("rows", COLUMNS);
+        for (int row = 0; row < ROWS; row++) {
+            writer.column(0).putId(1500 + row * 3);
+            writer.column(1).putNullableId(row % 3 == 0 ? null : 2000L - row);
+            writer.column(2).putLong(row % 2 == 0 ? -row * 1000L : Long.MAX_VALUE - row);
+            writer.column(3).putNullableLong(row == 1 ? null : Long.MIN_VALUE + 1 + row);
+            writer.column(4).putNullableDouble(row == 2 ? null : row / 7.0);
+            writer.column(5).putString(row == 3 ? null : "player " + row + " \u00e9");
+            writer.column(6).putInstant(Instant.ofEpochSecond(1_700_000_000L - row * 60, row * 1000));
+            writer.column(7).putNullableInstant(row == 4 ? null : Instant.ofEpochSecond(1_600_000_000L + row));
+            writer.endRow();
+        }
+        writer.endTable();
+        writer.startTable("empty", List.of(new SnapshotColumn("id", ColumnType.ID)));
+        writer.endTable();
+        writer.finish();
+
+        SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(reader.nextTable()).isEqualTo("rows");
+        assertThat(reader.columns()).isEqualTo(COLUMNS);
+        int row = 0;
+        for (int rows = reader.nextRowGroup(); rows > 0; rows = reader.nextRowGroup()) {
+            assertThat(rows).isLessThanOrEqualTo(4);
+            for (int i = 0; i < rows; i++, row++) {
+                assertThat(reader.column(0).getId()).isEqualTo(1500 + row * 3);
+                assertThat(reader.column(1).getNullableId()).isEqualTo(row % 3 == 0 ? null : 2000L - row);
+                assertThat(reader.column(2).getLong()).isEqualTo(row % 2 == 0 ? -row * 1000L : Long.MAX_VALUE - row);
+                assertThat(reader.column(3).getNullableLong()).isEqualTo(row == 1 ? null : Long.MIN_VALUE + 1 + row);
+                assertThat(reader.column(4).getNullableDouble()).isEqualTo(row == 2 ? null : row / 7.0);
+                assertThat(reader.column(5).getString()).isEqualTo(row == 3 ? null : "player " + row + " \u00e9");
+                assertThat(reader.column(6).getInstant()).isEqualTo(Instant.ofEpochSecond(1_700_000_000L - row * 60, row * 1000));
+                assertThat(reader.column(7).getNullableInstant()).isEqualTo(row == 4 ? null : Instant.ofEpochSecond(1_600_000_000L + row));
+            }
+        }
+        assertThat(row).isEqualTo(ROWS);
+        assertThat(reader.nextTable()).isEqualTo("empty");
+        assertThat(reader.nextRowGroup()).isZero();
+        assertThat(reader.nextTable()).isNull();
+    }
+
+    @Test
+    void sortedIdsShouldTakeOneByteEach() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(out, 1000);
+        writer.startTable("ids", List.of(new SnapshotColumn("id", ColumnType.ID)));
+        for (long id = 1_000_000_000L; id < 1_000_001_000L; id++) {
+            writer.column(0).putId(id);
+            writer.endRow();
+        }
+        writer.endTable();
+        writer.finish();
+
+        assertThat(out.size()).isLessThan(1000 + 32);
+    }
+
+    @Test
+    void otherStreamsShouldBeRejected() {
+        assertThatThrownBy(() -> new SnapshotReader(new ByteArrayInputStream("id;name\n".getBytes()))).isInstanceOf(
+            StreamCorruptedException.class
+        );
+    }
+
+    @Test
+    void truncatedSnapshotShouldBeRejected() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(out, 4);
+        writer.startTable("ids", List.of(new SnapshotColumn("id", ColumnType.ID)));
+        for (long id = 1; id <= 10; id++) {
+            writer.column(0).putId(id);
+            writer.endRow();
+        }
+        writer.endTable();
+        writer.finish();
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 6);
+
+        SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(truncated));
+        reader.nextTable();
+        assertThatThrownBy(() -> {
+            for (int rows = reader.nextRowGroup(); rows > 0; rows = reader.nextRowGroup()) {
+                for (int i = 0; i < rows; i++) {
+                    reader.column(0).getId();
+                }
+            }
+        }).isInstanceOf(EOFException.class);
+    }
+}
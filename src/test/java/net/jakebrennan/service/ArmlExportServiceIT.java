@@ -0,0 +1,80 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link ArmlExportService}.
+ */
+@IntegrationTest
+@Transactional
+class ArmlExportServiceIT {
+
+    private static final long FIRST_PLAYER_ID = 900_000L;
+
+    @Autowired
+    private ArmlExportService armlExportService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportArmlPlayersAcrossSeveralBatches() throws Exception {
+        int count = ArmlExportService.CLEAR_INTERVAL + 2;
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ArmlPlayer armlPlayer = new ArmlPlayer()
+                .playerID(FIRST_PLAYER_ID + i)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .league(ArmlLeague.A1);
+            em.persist(armlPlayer);
+            ids.add(armlPlayer.getId());
+        }
+        em.flush();
+        em.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        armlExportService.exportArmlPlayers(out);
+
+        JsonNode exported = objectMapper.readTree(out.toByteArray());
+        assertThat(exported.isArray()).isTrue();
+        List<Long> exportedIds = new ArrayList<>();
+        exported.forEach(armlPlayer -> {
+            if (armlPlayer.get("playerID").asLong() >= FIRST_PLAYER_ID) {
+                exportedIds.add(armlPlayer.get("id").asLong());
+            }
+        });
+        assertThat(exportedIds).containsExactlyElementsOf(ids);
+        // the persistence context was cleared while exporting, so it only holds the last partial batch
+        assertThat(em.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities()).isLessThan(
+            ArmlExportService.CLEAR_INTERVAL
+        );
+    }
+
+    @Test
+    void exportEmptyTableAsEmptyArray() throws Exception {
+        em.createQuery("delete from ArmlGameScore").executeUpdate();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        armlExportService.exportArmlGameScores(out);
+
+        assertThat(out.toString()).isEqualTo("[]");
+    }
+}
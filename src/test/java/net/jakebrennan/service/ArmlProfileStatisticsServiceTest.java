@@ -0,0 +1,123 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.ArmlProfile;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.repository.ArmlProfileRepository;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for {@link ArmlProfileStatisticsService}.
+ */
+class ArmlProfileStatisticsServiceTest {
+
+    private static final Long GAME_ID = 10L;
+
+    private ArmlGameScoreRepository armlGameScoreRepository;
+
+    private ArmlProfileRepository armlProfileRepository;
+
+    private ArmlProfileStatisticsService armlProfileStatisticsService;
+
+    private ArmlProfile first;
+
+    private ArmlProfile second;
+
+    @BeforeEach
+    public void init() {
+        armlGameScoreRepository = mock(ArmlGameScoreRepository.class);
+        armlProfileRepository = mock(ArmlProfileRepository.class);
+        armlProfileStatisticsService = new ArmlProfileStatisticsService(
+            armlGameScoreRepository,
+            armlProfileRepository,
+            mock(ApplicationEventPublisher.class)
+        );
+
+        first = new ArmlProfile().playerID(new ArmlPlayer().id(1L)).gamesPlayed(3).firstPlaces(1);
+        second = new ArmlProfile().playerID(new ArmlPlayer().id(2L)).gamesPlayed(4).firstPlaces(2);
+        when(armlProfileRepository.findAllByPlayerIdsForUpdate(anyCollection())).thenReturn(List.of(first, second));
+    }
+
+    @Test
+    void creatingTheWinningScoreShouldMoveTheFirstPlace() {
+        ArmlGameScoreRow existing = new ArmlGameScoreRow(100L, GAME_ID, 1L, 30000L);
+        ArmlGameScoreRow created = new ArmlGameScoreRow(101L, GAME_ID, 2L, 40000L);
+        when(armlGameScoreRepository.findRowsByGameId(GAME_ID)).thenReturn(List.of(existing, created));
+
+        armlProfileStatisticsService.onArmlGameScoreChanged(new ArmlGameScoreChangedEvent(null, created));
+
+        assertThat(first.getGamesPlayed()).isEqualTo(3);
+        assertThat(first.getFirstPlaces()).isZero();
+        assertThat(first.getWinRate()).isZero();
+        assertThat(second.getGamesPlayed()).isEqualTo(5);
+        assertThat(second.getFirstPlaces()).isEqualTo(3);
+        assertThat(second.getWinRate()).isEqualTo(60.0);
+    }
+
+    @Test
+    void updatingALosingScoreShouldOnlyTouchPlacements() {
+        ArmlGameScoreRow winner = new ArmlGameScoreRow(100L, GAME_ID, 1L, 30000L);
+        ArmlGameScoreRow before = new ArmlGameScoreRow(101L, GAME_ID, 2L, 20000L);
+        ArmlGameScoreRow after = new ArmlGameScoreRow(101L, GAME_ID, 2L, 30000L);
+        when(armlGameScoreRepository.findRowsByGameId(GAME_ID)).thenReturn(List.of(winner, after));
+
+        armlProfileStatisticsService.onArmlGameScoreChanged(new ArmlGameScoreChangedEvent(before, after));
+
+        assertThat(first.getGamesPlayed()).isEqualTo(3);
+        assertThat(first.getFirstPlaces()).isEqualTo(1);
+        assertThat(second.getGamesPlayed()).isEqualTo(4);
+        assertThat(second.getFirstPlaces()).isEqualTo(3);
+    }
+
+    @Test
+    void deletingAScoreShouldRemoveTheGame() {
+        ArmlGameScoreRow deleted = new ArmlGameScoreRow(101L, GAME_ID, 2L, 40000L);
+        ArmlGameScoreRow remaining = new ArmlGameScoreRow(100L, GAME_ID, 1L, 30000L);
+        when(armlGameScoreRepository.findRowsByGameId(GAME_ID)).thenReturn(List.of(remaining));
+
+        armlProfileStatisticsService.onArmlGameScoreChanged(ArmlGameScoreChangedEvent.deleted(deleted));
+
+        assertThat(first.getGamesPlayed()).isEqualTo(3);
+        assertThat(first.getFirstPlaces()).isEqualTo(2);
+        assertThat(second.getGamesPlayed()).isEqualTo(3);
+        assertThat(second.getFirstPlaces()).isEqualTo(1);
+    }
+
+    @Test
+    void scoresWithoutGameShouldNotTouchProfiles() {
+        armlProfileStatisticsService.onArmlGameScoreChanged(
+            new ArmlGameScoreChangedEvent(null, new ArmlGameScoreRow(101L, null, 2L, 40000L))
+        );
+
+        verify(armlGameScoreRepository, never()).findRowsByGameId(any());
+        verify(armlProfileRepository, never()).findAllByPlayerIdsForUpdate(anyCollection());
+    }
+
+    @Test
+    void tiedTopScoresShouldShareTheFirstPlace() {
+        var outcomes = ArmlProfileStatisticsService.outcomes(
+            List.of(
+                new ArmlGameScoreRow(1L, GAME_ID, 1L, 35000L),
+                new ArmlGameScoreRow(2L, GAME_ID, 2L, 35000L),
+                new ArmlGameScoreRow(3L, GAME_ID, 3L, 20000L),
+                new ArmlGameScoreRow(4L, GAME_ID, 4L, 10000L)
+            )
+        );
+
+        assertThat(outcomes).hasSize(4);
+        assertThat(outcomes.get(1L).won()).isEqualTo(1);
+        assertThat(outcomes.get(2L).won()).isEqualTo(1);
+        assertThat(outcomes.get(3L).won()).isZero();
+        assertThat(outcomes.get(4L).played()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,164 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.DatasetSnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link DatasetSeedService}.
+ * <p>
+ * A seed commits in transactions of its own, so these tests empty the game tables and the state derived from them
+ * once done.
+ */
+@IntegrationTest
+class DatasetSeedServiceIT {
+
+    private static final long FIRST_ID = 960_000L;
+
+    private static final List<String> TABLES = List.of(
+        "players",
+        "games",
+        "profiles",
+        "scores",
+        "rel_players__games",
+        "ratings",
+        "score_rollups"
+    );
+
+    @Autowired
+    private DatasetSeedService datasetSeedService;
+
+    @Autowired
+    private DatasetSnapshotService datasetSnapshotService;
+
+    @Autowired
+    private DatasetSnapshotRepository datasetSnapshotRepository;
+
+    @Autowired
+    private ArmlPlayerRepository armlPlayerRepository;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    @AfterEach
+    public void clearGameTables() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = TABLES.size() - 1; i >= 0; i--) {
+                jdbcTemplate.update("delete from " + TABLES.get(i));
+            }
+        });
+        datasetSnapshotService.rebuildDerivedState();
+    }
+
+    @Test
+    void seedShouldLoadTheFilesAndRebuildTheDerivedState() throws IOException {
+        writeGames();
+
+        long rows = datasetSeedService.seed(directory);
+
+        // 4 players, 2 games, 1 profile, 8 scores and the 8 links of the players to the games they have a score in
+        assertThat(rows).isEqualTo(23);
+        assertThat(count("players")).isEqualTo(4);
+        assertThat(count("games")).isEqualTo(2);
+        assertThat(count("profiles")).isEqualTo(1);
+        assertThat(count("scores")).isEqualTo(8);
+        assertThat(count("rel_players__games")).isEqualTo(8);
+        assertThat(jdbcTemplate.queryForObject("select played_at from games where id = ?", Object.class, FIRST_ID)).isNotNull();
+        assertThat(jdbcTemplate.queryForObject("select played_at from games where id = ?", Object.class, FIRST_ID + 1)).isNull();
+
+        // The profile counters, the ratings and the in-memory indexes are rebuilt from the seeded rows
+        Map<String, Object> profile = jdbcTemplate.queryForMap("select games_played, first_places, win_rate from profiles");
+        assertThat(((Number) profile.get("games_played")).intValue()).isEqualTo(2);
+        assertThat(((Number) profile.get("first_places")).intValue()).isEqualTo(1);
+        assertThat(((Number) profile.get("win_rate")).doubleValue()).isEqualTo(50.0);
+        assertThat(count("ratings")).isEqualTo(4);
+        assertThat(headToHeadService.between(FIRST_ID, FIRST_ID + 1)).hasValueSatisfying(record ->
+            assertThat(record.games()).isEqualTo(2)
+        );
+
+        // The ids of new rows follow the seeded ones
+        ArmlPlayer armlPlayer = armlPlayerRepository.saveAndFlush(
+            new ArmlPlayer().playerID(FIRST_ID + 10).firstName("New").lastName("Player").league(ArmlLeague.A1)
+        );
+        assertThat(armlPlayer.getId()).isGreaterThan(FIRST_ID + 3);
+    }
+
+    @Test
+    void seedOfTablesHoldingRowsShouldBeRefused() throws IOException {
+        writeGames();
+        datasetSeedService.seed(directory);
+
+        assertThatThrownBy(() -> datasetSeedService.seed(directory)).isInstanceOf(SchemaNotEmptyException.class);
+        assertThat(count("players")).isEqualTo(4);
+    }
+
+    @Test
+    void seedOfAMalformedValueShouldSeedNothing() throws IOException {
+        writeGames();
+        Files.writeString(directory.resolve("scores.csv"), "id;arml_game_id;arml_player_id;score\n" + FIRST_ID + ";" + FIRST_ID + ";x;1\n");
+
+        assertThatThrownBy(() -> datasetSeedService.seed(directory))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("scores.csv line 2");
+        assertThat(datasetSnapshotRepository.isEmpty()).isTrue();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    /**
+     * Writes 4 players who played 2 games together, the second with no known time of play, and the profile of the
+     * first player, leaving the links of the players to the games to the seed.
+     */
+    private void writeGames() throws IOException {
+        StringBuilder players = new StringBuilder("id;player_id;first_name;last_name;tenhou_name;league\n");
+        for (long i = 0; i < 4; i++) {
+            players.append(FIRST_ID + i).append(';').append(FIRST_ID + i).append(";First").append(i).append(";Last").append(i);
+            players.append(i == 0 ? ";" : ";tenhou" + i).append(";A1\n");
+        }
+        Files.writeString(directory.resolve("players.csv"), players);
+        Files.writeString(
+            directory.resolve("games.csv"),
+            "id;game_id;played_at\n" + FIRST_ID + ";" + FIRST_ID + ";2026-09-01T20:00:00Z\n" + (FIRST_ID + 1) + ";" + (FIRST_ID + 1) + ";\n"
+        );
+        Files.writeString(directory.resolve("profiles.csv"), "id;playerid_id\n" + FIRST_ID + ";" + FIRST_ID + "\n");
+        StringBuilder scores = new StringBuilder("id;arml_game_id;arml_player_id;score\n");
+        long scoreId = FIRST_ID;
+        for (long game = 0; game < 2; game++) {
+            for (long player = 0; player < 4; player++) {
+                long score = game == player ? 45_000L : 25_000L - player * 1_000L;
+                scores.append(scoreId++).append(';').append(FIRST_ID + game).append(';').append(FIRST_ID + player).append(';');
+                scores.append(score).append('\n');
+            }
+        }
+        Files.writeString(directory.resolve("scores.csv"), scores);
+    }
+}
@@ -0,0 +1,203 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.repository.DatasetSnapshotRepository;
+import net.jakebrennan.repository.snapshot.SnapshotWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link DatasetSnapshotService}.
+ * <p>
+ * A restore commits in transactions of its own, so these tests commit their rows and empty the game tables and the
+ * state derived from them once done.
+ */
+@IntegrationTest
+class DatasetSnapshotServiceIT {
+
+    private static final long FIRST_ID = 950_000L;
+
+    /** The tables holding the game data and the state derived from it, each with its key. */
+    private static final Map<String, String> TABLES = new LinkedHashMap<>();
+
+    static {
+        TABLES.put("players", "id");
+        TABLES.put("games", "id");
+        TABLES.put("profiles", "id");
+        TABLES.put("scores", "id");
+        TABLES.put("rel_players__games", "games_id, players_id");
+        TABLES.put("ratings", "arml_player_id");
+        TABLES.put("score_rollups", "league, period, metric");
+    }
+
+    @Autowired
+    private DatasetSnapshotService datasetSnapshotService;
+
+    @Autowired
+    private DatasetSnapshotRepository datasetSnapshotRepository;
+
+    @Autowired
+    private ArmlPlayerRepository armlPlayerRepository;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    @AfterEach
+    public void clearGameTables() {
+        List<String> tables = List.copyOf(TABLES.keySet());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                jdbcTemplate.update("delete from " + tables.get(i));
+            }
+        });
+        datasetSnapshotService.rebuildDerivedState();
+    }
+
+    @Test
+    void restoreShouldRecreateTheExportedTablesAndTheirDerivedState() throws IOException {
+        transactionTemplate.executeWithoutResult(status -> insertGames());
+        datasetSnapshotService.rebuildDerivedState();
+        Map<String, List<Map<String, Object>>> exported = readTables();
+        List<DatasetSnapshotRepository.Index> deferredIndexes = datasetSnapshotRepository.findDeferredIndexes();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        datasetSnapshotService.export(snapshot);
+
+        clearGameTables();
+        assertThat(headToHeadService.between(FIRST_ID, FIRST_ID + 1)).isEmpty();
+        long rows = datasetSnapshotService.restore(new ByteArrayInputStream(snapshot.toByteArray()));
+
+        // 4 players, 2 games, 1 profile, 8 scores and 8 links
+        assertThat(rows).isEqualTo(23);
+        assertThat(readTables()).isEqualTo(exported);
+        assertThat(headToHeadService.between(FIRST_ID, FIRST_ID + 1)).hasValueSatisfying(record ->
+            assertThat(record.games()).isEqualTo(2)
+        );
+        assertThat(datasetSnapshotRepository.findDeferredIndexes()).isEqualTo(deferredIndexes);
+
+        // The ids of new rows follow the restored ones
+        ArmlPlayer armlPlayer = armlPlayerRepository.saveAndFlush(
+            new ArmlPlayer().playerID(FIRST_ID + 10).firstName("New").lastName("Player").league(ArmlLeague.A1)
+        );
+        assertThat(armlPlayer.getId()).isGreaterThan(FIRST_ID + 3);
+    }
+
+    @Test
+    void deferredIndexesShouldBeTheSecondaryIndexesNoForeignKeyNeeds() {
+        assertThat(datasetSnapshotRepository.findDeferredIndexes())
+            .extracting(DatasetSnapshotRepository.Index::name)
+            .containsExactlyInAnyOrder("idx_players_last_name_id", "idx_games_played_at_id", "idx_scores_score_id");
+        assertThat(datasetSnapshotRepository.findDeferredIndexes())
+            .filteredOn(index -> index.name().equals("idx_games_played_at_id"))
+            .extracting(DatasetSnapshotRepository.Index::columns)
+            .containsExactly(List.of("played_at", "id"));
+    }
+
+    @Test
+    void restoreOfARowReferencingAMissingOneShouldRestoreNothing() throws IOException {
+        List<DatasetSnapshotRepository.Index> deferredIndexes = datasetSnapshotRepository.findDeferredIndexes();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(snapshot, SnapshotWriter.DEFAULT_ROW_GROUP_SIZE);
+        for (DatasetSnapshotRepository.Table table : DatasetSnapshotRepository.Table.values()) {
+            writer.startTable(table.tableName(), table.columns());
+            if (table == DatasetSnapshotRepository.Table.GAMES) {
+                writer.column(0).putId(FIRST_ID);
+                writer.column(1).putLong(FIRST_ID);
+                writer.column(2).putNullableInstant(null);
+                writer.endRow();
+            } else if (table == DatasetSnapshotRepository.Table.SCORES) {
+                writer.column(0).putId(FIRST_ID);
+                writer.column(1).putNullableId(FIRST_ID);
+                writer.column(2).putNullableId(FIRST_ID);
+                writer.column(3).putLong(25_000L);
+                writer.endRow();
+            }
+            writer.endTable();
+        }
+        writer.finish();
+
+        assertThatThrownBy(() -> datasetSnapshotService.restore(new ByteArrayInputStream(snapshot.toByteArray()))).isInstanceOf(
+            DataIntegrityViolationException.class
+        );
+        assertThat(datasetSnapshotRepository.isEmpty()).isTrue();
+        assertThat(datasetSnapshotRepository.findDeferredIndexes()).isEqualTo(deferredIndexes);
+    }
+
+    /**
+     * Inserts 4 players who played 2 games together, one of them with no known time of play, and the profile of the
+     * first player.
+     */
+    private void insertGames() {
+        for (long i = 0; i < 4; i++) {
+            jdbcTemplate.update(
+                "insert into players (id, player_id, first_name, last_name, tenhou_name, league) values (?, ?, ?, ?, ?, ?)",
+                FIRST_ID + i,
+                FIRST_ID + i,
+                "First" + i,
+                "Last" + i,
+                i == 0 ? null : "tenhou" + i,
+                ArmlLeague.A1.name()
+            );
+        }
+        LocalDateTime playedAt = LocalDateTime.of(2026, 9, 1, 20, 0);
+        jdbcTemplate.update("insert into games (id, game_id, played_at) values (?, ?, ?)", FIRST_ID, FIRST_ID, playedAt);
+        jdbcTemplate.update("insert into games (id, game_id, played_at) values (?, ?, null)", FIRST_ID + 1, FIRST_ID + 1);
+        jdbcTemplate.update(
+            "insert into profiles (id, playerid_id, win_rate, feed_ev, games_played, first_places) values (?, ?, ?, ?, ?, ?)",
+            FIRST_ID,
+            FIRST_ID,
+            50.0,
+            -1200L,
+            2,
+            1
+        );
+        long scoreId = FIRST_ID;
+        for (long game = 0; game < 2; game++) {
+            for (long player = 0; player < 4; player++) {
+                long score = game == player ? 45_000L : 25_000L - player * 1_000L;
+                jdbcTemplate.update(
+                    "insert into scores (id, arml_game_id, arml_player_id, score) values (?, ?, ?, ?)",
+                    scoreId++,
+                    FIRST_ID + game,
+                    FIRST_ID + player,
+                    score
+                );
+                jdbcTemplate.update(
+                    "insert into rel_players__games (games_id, players_id) values (?, ?)",
+                    FIRST_ID + game,
+                    FIRST_ID + player
+                );
+            }
+        }
+    }
+
+    private Map<String, List<Map<String, Object>>> readTables() {
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        TABLES.forEach((table, key) -> rows.put(table, jdbcTemplate.queryForList("select * from " + table + " order by " + key)));
+        return rows;
+    }
+}
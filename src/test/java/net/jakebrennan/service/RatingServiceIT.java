@@ -0,0 +1,136 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.ArmlRating;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlRatingRepository;
+import net.jakebrennan.service.event.ArmlGameScoresImportedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link RatingService}.
+ */
+@IntegrationTest
+@Transactional
+class RatingServiceIT {
+
+    private static final long FIRST_PLAYER_ID = 910_000L;
+
+    private static final long FIRST_GAME_ID = 910_000L;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private ArmlGameBatchService armlGameBatchService;
+
+    @Autowired
+    private ArmlRatingRepository armlRatingRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        for (int i = 0; i < 5; i++) {
+            ArmlPlayer armlPlayer = new ArmlPlayer()
+                .playerID(FIRST_PLAYER_ID + i)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .league(ArmlLeague.A1);
+            em.persist(armlPlayer);
+            playerIds.add(armlPlayer.getId());
+        }
+        em.flush();
+    }
+
+    @Test
+    void importedGamesShouldBeRatedInGameOrder() {
+        importGames();
+
+        ArmlRating first = armlRatingRepository.findById(playerIds.get(0)).orElseThrow();
+        assertThat(first.getGames()).isEqualTo(2);
+        ArmlRating last = armlRatingRepository.findById(playerIds.get(4)).orElseThrow();
+        assertThat(last.getGames()).isEqualTo(1);
+        assertThat(last.getRating()).isGreaterThan(1500);
+    }
+
+    @Test
+    void gameFinalizedAfterALaterGameOfItsPlayersShouldBeLeftToTheReplay() {
+        ratingService.onArmlGameScoresImported(new ArmlGameScoresImportedEvent(rows(2L, playerIds.subList(0, 4))));
+        ratingService.onArmlGameScoresImported(new ArmlGameScoresImportedEvent(rows(1L, playerIds.subList(1, 5))));
+
+        ArmlRating shared = armlRatingRepository.findById(playerIds.get(1)).orElseThrow();
+        assertThat(shared.getGames()).isEqualTo(1);
+        assertThat(shared.getLastGameId()).isEqualTo(2L);
+        assertThat(armlRatingRepository.findById(playerIds.get(4))).isEmpty();
+    }
+
+    @Test
+    void replayShouldMatchIncrementalRatings() {
+        importGames();
+        em.flush();
+        Map<Long, ArmlRating> incremental = new HashMap<>();
+        for (Long playerId : playerIds) {
+            ArmlRating armlRating = armlRatingRepository.findById(playerId).orElseThrow();
+            incremental.put(
+                playerId,
+                new ArmlRating().rating(armlRating.getRating()).games(armlRating.getGames()).lastGameId(armlRating.getLastGameId())
+            );
+        }
+        em.clear();
+
+        RatingService.ReplayResult result = ratingService.replay();
+
+        assertThat(result.games()).isGreaterThanOrEqualTo(2);
+        for (Long playerId : playerIds) {
+            ArmlRating replayed = armlRatingRepository.findById(playerId).orElseThrow();
+            assertThat(replayed.getRating()).isCloseTo(incremental.get(playerId).getRating(), within(1e-9));
+            assertThat(replayed.getGames()).isEqualTo(incremental.get(playerId).getGames());
+            assertThat(replayed.getLastGameId()).isEqualTo(incremental.get(playerId).getLastGameId());
+        }
+    }
+
+    private static List<ArmlGameScoreRow> rows(Long gameId, List<Long> playerIds) {
+        List<ArmlGameScoreRow> rows = new ArrayList<>();
+        for (int i = 0; i < playerIds.size(); i++) {
+            rows.add(new ArmlGameScoreRow(null, gameId, playerIds.get(i), 40000L - i * 10000L));
+        }
+        return rows;
+    }
+
+    private void importGames() {
+        armlGameBatchService.insertNew(
+            List.of(
+                new ArmlGameBatchService.NewGame(
+                    FIRST_GAME_ID,
+                    null,
+                    List.of(playerIds.get(0), playerIds.get(1), playerIds.get(2), playerIds.get(3)),
+                    List.of(40000L, 30000L, 20000L, 10000L)
+                ),
+                new ArmlGameBatchService.NewGame(
+                    FIRST_GAME_ID + 1,
+                    null,
+                    List.of(playerIds.get(0), playerIds.get(1), playerIds.get(2), playerIds.get(4)),
+                    List.of(10000L, 20000L, 30000L, 40000L)
+                )
+            ),
+            100
+        );
+    }
+}
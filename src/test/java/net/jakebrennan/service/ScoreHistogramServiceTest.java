@@ -0,0 +1,121 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import net.jakebrennan.repository.ArmlGameScoreRowRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import net.jakebrennan.service.event.ArmlGameScoreChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ScoreHistogramService}.
+ */
+class ScoreHistogramServiceTest {
+
+    private static final Long PLAYER_ID = 1L;
+
+    private ArmlGameScoreRowRepository armlGameScoreRowRepository;
+
+    private ScoreHistogramService scoreHistogramService;
+
+    private final List<ArmlGameScoreRow> table = new ArrayList<>();
+
+    private int scans;
+
+    @BeforeEach
+    public void init() {
+        armlGameScoreRowRepository = mock(ArmlGameScoreRowRepository.class);
+        scoreHistogramService = new ScoreHistogramService(armlGameScoreRowRepository, mock(ArmlPlayerRepository.class));
+        table.add(new ArmlGameScoreRow(100L, 10L, PLAYER_ID, 30000L));
+        table.add(new ArmlGameScoreRow(101L, 10L, 2L, 20000L));
+    }
+
+    @AfterEach
+    public void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void loadShouldCountEveryScoreOnce() {
+        scanTable(scan -> {});
+
+        scoreHistogramService.load();
+
+        assertThat(scans).isEqualTo(1);
+        assertThat(scoreHistogramService.distribution().count()).isEqualTo(2);
+        assertThat(scoreHistogramService.distributionOfPlayer(PLAYER_ID).count()).isEqualTo(1);
+    }
+
+    @Test
+    void aScoreCommittedDuringTheScanShouldNotBeCountedTwice() {
+        ArmlGameScoreRow created = new ArmlGameScoreRow(102L, 11L, PLAYER_ID, 40000L);
+        scanTable(scan -> {
+            if (scan == 1) {
+                // the score is written and committed while the first scan reads the table, and the scan sees it
+                ArmlGameScoreChangedEvent event = new ArmlGameScoreChangedEvent(null, created);
+                inTransaction(() -> scoreHistogramService.onScoreWrite());
+                table.add(created);
+                scoreHistogramService.onArmlGameScoreChanged(event);
+            }
+        });
+
+        scoreHistogramService.load();
+
+        assertThat(scans).isEqualTo(2);
+        assertThat(scoreHistogramService.distribution().count()).isEqualTo(3);
+        assertThat(scoreHistogramService.distributionOfPlayer(PLAYER_ID).count()).isEqualTo(2);
+    }
+
+    @Test
+    void aScoreWriteRolledBackDuringTheScanShouldBeScannedAgain() {
+        scanTable(scan -> {
+            if (scan == 1) {
+                inTransaction(() -> scoreHistogramService.onScoreWrite());
+                scoreHistogramService.onScoreWriteRolledBack();
+            }
+        });
+
+        scoreHistogramService.load();
+
+        assertThat(scans).isEqualTo(2);
+        assertThat(scoreHistogramService.distribution().count()).isEqualTo(2);
+    }
+
+    /**
+     * Makes each scan of the table run the action, with the number of the scan, after reading half of the rows.
+     */
+    @SuppressWarnings("unchecked")
+    private void scanTable(Consumer<Integer> action) {
+        when(armlGameScoreRowRepository.forEachRow(anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<ArmlGameScoreRow> consumer = invocation.getArgument(1);
+            int scan = ++scans;
+            consumer.accept(table.get(0));
+            action.accept(scan);
+            table.subList(1, table.size()).forEach(consumer);
+            return (long) table.size();
+        });
+    }
+
+    private void inTransaction(Runnable runnable) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            runnable.run();
+        } finally {
+            clearTransaction();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.service.dto.LeaguePeriodSummaryDTO;
+import net.jakebrennan.service.event.ArmlGameChangedEvent;
+import net.jakebrennan.service.event.ArmlPlayerChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link ScoreRollupService}.
+ */
+@IntegrationTest
+@Transactional
+class ScoreRollupServiceIT {
+
+    private static final long FIRST_PLAYER_ID = 920_000L;
+
+    private static final long FIRST_GAME_ID = 920_000L;
+
+    @Autowired
+    private ScoreRollupService scoreRollupService;
+
+    @Autowired
+    private ArmlGameBatchService armlGameBatchService;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<ArmlPlayer> players = new ArrayList<>();
+
+    private YearMonth month;
+
+    @BeforeEach
+    public void initTest() {
+        for (int i = 0; i < 4; i++) {
+            ArmlPlayer armlPlayer = new ArmlPlayer()
+                .playerID(FIRST_PLAYER_ID + i)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .league(ArmlLeague.C1);
+            em.persist(armlPlayer);
+            players.add(armlPlayer);
+        }
+        em.flush();
+        month = YearMonth.now(ZoneOffset.UTC);
+        // start from rollups that match the raw scores
+        scoreRollupService.rebuildPartition(ArmlLeague.C1, month);
+        scoreRollupService.rebuildPartition(ArmlLeague.B3, month);
+    }
+
+    @Test
+    void importedScoresShouldBeRolledUp() {
+        LeaguePeriodSummaryDTO before = summaryOf(ArmlLeague.C1);
+
+        importGame();
+
+        LeaguePeriodSummaryDTO after = summaryOf(ArmlLeague.C1);
+        assertThat(after.scores() - before.scores()).isEqualTo(4);
+        assertThat(after.totalScore() - before.totalScore()).isEqualTo(100_000);
+    }
+
+    @Test
+    void leagueChangeShouldMoveTheScoresOfThePlayer() {
+        importGame();
+        LeaguePeriodSummaryDTO before = summaryOf(ArmlLeague.B3);
+
+        ArmlPlayer armlPlayer = players.get(0);
+        armlPlayer.setLeague(ArmlLeague.B3);
+        applicationEventPublisher.publishEvent(ArmlPlayerChangedEvent.updated(ArmlLeague.C1, armlPlayer));
+
+        LeaguePeriodSummaryDTO after = summaryOf(ArmlLeague.B3);
+        assertThat(after.scores() - before.scores()).isEqualTo(1);
+        assertThat(after.totalScore() - before.totalScore()).isEqualTo(40_000);
+    }
+
+    @Test
+    void playedAtChangeShouldMoveTheScoresOfTheGame() {
+        ArmlGame armlGame = em.find(ArmlGame.class, importGame());
+        LeaguePeriodSummaryDTO before = summaryOf(ArmlLeague.C1);
+
+        Instant previousPlayedAt = armlGame.getPlayedAt();
+        armlGame.setPlayedAt(month.minusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        applicationEventPublisher.publishEvent(ArmlGameChangedEvent.updated(previousPlayedAt, armlGame));
+
+        LeaguePeriodSummaryDTO after = summaryOf(ArmlLeague.C1);
+        assertThat(before.scores() - after.scores()).isEqualTo(4);
+        assertThat(before.totalScore() - after.totalScore()).isEqualTo(100_000);
+    }
+
+    @Test
+    void firstPlayedAtShouldAddTheScoresOfTheGame() {
+        Long gameId = importGame();
+        // a game recorded before times of play were is in no month
+        em.createNativeQuery("update games set played_at = null where id = :id").setParameter("id", gameId).executeUpdate();
+        scoreRollupService.rebuildPartition(ArmlLeague.C1, month);
+        LeaguePeriodSummaryDTO before = summaryOf(ArmlLeague.C1);
+
+        ArmlGame armlGame = em.find(ArmlGame.class, gameId);
+        armlGame.setPlayedAt(month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        applicationEventPublisher.publishEvent(ArmlGameChangedEvent.updated(null, armlGame));
+
+        LeaguePeriodSummaryDTO after = summaryOf(ArmlLeague.C1);
+        assertThat(after.scores() - before.scores()).isEqualTo(4);
+        assertThat(after.totalScore() - before.totalScore()).isEqualTo(100_000);
+    }
+
+    @Test
+    void rebuildShouldMatchIncrementalRollups() {
+        importGame();
+        LeaguePeriodSummaryDTO incremental = summaryOf(ArmlLeague.C1);
+
+        scoreRollupService.rebuildPartition(ArmlLeague.C1, month);
+
+        assertThat(summaryOf(ArmlLeague.C1)).isEqualTo(incremental);
+    }
+
+    private Long importGame() {
+        Map<Long, Long> ids = armlGameBatchService.insertNew(
+            List.of(
+                new ArmlGameBatchService.NewGame(
+                    FIRST_GAME_ID,
+                    null,
+                    players.stream().map(ArmlPlayer::getId).toList(),
+                    List.of(40_000L, 30_000L, 20_000L, 10_000L)
+                )
+            ),
+            100
+        );
+        return ids.get(FIRST_GAME_ID);
+    }
+
+    private LeaguePeriodSummaryDTO summaryOf(ArmlLeague league) {
+        return scoreRollupService
+            .summarize(month, month, league)
+            .stream()
+            .findFirst()
+            .orElse(new LeaguePeriodSummaryDTO(league, month, 0, 0, 0.0, 0.0));
+    }
+}
@@ -0,0 +1,52 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.jakebrennan.domain.ArmlGameScoreRow;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScoreRowSource}.
+ */
+class ScoreRowSourceTest {
+
+    @Test
+    void forEachGameShouldGroupTheRowsOfEachGame() {
+        List<ArmlGameScoreRow> rows = List.of(
+            new ArmlGameScoreRow(1L, 10L, 1L, 30000L),
+            new ArmlGameScoreRow(2L, 10L, 2L, 20000L),
+            new ArmlGameScoreRow(3L, 11L, 1L, 25000L)
+        );
+
+        List<List<ArmlGameScoreRow>> games = new ArrayList<>();
+        long count = source(rows).forEachGame(game -> games.add(List.copyOf(game)));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(games).containsExactly(rows.subList(0, 2), rows.subList(2, 3));
+    }
+
+    @Test
+    void forEachGameShouldSkipTheRowsWithNoGame() {
+        List<ArmlGameScoreRow> rows = List.of(
+            new ArmlGameScoreRow(1L, null, 1L, 30000L),
+            new ArmlGameScoreRow(2L, 10L, 1L, 30000L),
+            new ArmlGameScoreRow(3L, null, 2L, 20000L),
+            new ArmlGameScoreRow(4L, 10L, 2L, 20000L)
+        );
+
+        List<List<ArmlGameScoreRow>> games = new ArrayList<>();
+        long count = source(rows).forEachGame(game -> games.add(List.copyOf(game)));
+
+        assertThat(count).isEqualTo(1);
+        assertThat(games).containsExactly(List.of(rows.get(1), rows.get(3)));
+    }
+
+    private static ScoreRowSource source(List<ArmlGameScoreRow> rows) {
+        return consumer -> {
+            rows.forEach(consumer);
+            return rows.size();
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package net.jakebrennan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.jakebrennan.repository.ArmlGameBatchRepository;
+import net.jakebrennan.service.tenhou.TenhouImportResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * Unit tests for {@link TenhouImportService}.
+ */
+class TenhouImportServiceTest {
+
+    private TenhouImportService tenhouImportService;
+
+    private final List<ArmlGameBatchService.NewGame> inserted = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void init() {
+        ArmlGameBatchRepository armlGameBatchRepository = mock(ArmlGameBatchRepository.class);
+        when(armlGameBatchRepository.findPlayerIdsByTenhouName()).thenReturn(
+            new HashMap<>(Map.of("Alice", 1L, "Bob", 2L, "Carol", 3L, "Dave", 4L))
+        );
+        ArmlGameBatchService armlGameBatchService = mock(ArmlGameBatchService.class);
+        when(armlGameBatchService.insertNew(anyCollection(), anyInt())).thenAnswer(invocation -> {
+            Map<Long, Long> ids = new HashMap<>();
+            for (ArmlGameBatchService.NewGame game : (Collection<ArmlGameBatchService.NewGame>) invocation.getArgument(0)) {
+                inserted.add(game);
+                ids.put(game.gameID(), (long) inserted.size());
+            }
+            return ids;
+        });
+        tenhouImportService = new TenhouImportService(armlGameBatchRepository, armlGameBatchService);
+    }
+
+    @Test
+    void logsWithUnknownNamesShouldBeSkippedAndReportedWithTheirNames() {
+        TenhouImportResult result = tenhouImportService.importLogs(
+            List.of(
+                log("1", "Alice", "Bob", "Carol", "Dave"),
+                log("2", "Alice", "Erin", "Carol", "Frank"),
+                log("3", "Erin", "Bob", "Carol", "Dave")
+            )
+        );
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(inserted).singleElement().satisfies(game -> assertThat(game.playerIds()).containsExactly(1L, 2L, 3L, 4L));
+        assertThat(result.failed()).isEmpty();
+        assertThat(result.unknownNames()).containsExactlyInAnyOrder("Erin", "Frank");
+        assertThat(result.unknownNamesByLog()).containsExactly(
+            Map.entry("2", List.of("Erin", "Frank")),
+            Map.entry("3", List.of("Erin"))
+        );
+    }
+
+    @Test
+    void logsWithAPlayerInTwoSeatsShouldFail() {
+        TenhouImportResult result = tenhouImportService.importLogs(List.of(log("1", "Alice", "Bob", "Alice", "Dave")));
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.failed()).containsExactly("1");
+        assertThat(result.unknownNamesByLog()).isEmpty();
+    }
+
+    private static Resource log(String logId, String... names) {
+        String mjlog =
+            "<mjloggm ver=\"2.3\"><UN n0=\"" +
+            names[0] +
+            "\" n1=\"" +
+            names[1] +
+            "\" n2=\"" +
+            names[2] +
+            "\" n3=\"" +
+            names[3] +
+            "\" dan=\"16,16,16,16\"/>" +
+            "<RYUUKYOKU ba=\"0,0\" owari=\"170,-33.0,330,43.0,250,5.0,250,-15.0\"/></mjloggm>";
+        return new ByteArrayResource(mjlog.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return logId + ".mjlog";
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HeadToHeadMatrix}.
+ */
+class HeadToHeadMatrixTest {
+
+    private HeadToHeadMatrix matrix;
+
+    @BeforeEach
+    public void init() {
+        matrix = new HeadToHeadMatrix();
+    }
+
+    @Test
+    void shouldRecordEveryPairOfAGame() {
+        matrix.addGame(new long[] { 1, 2, 3, 4 }, new long[] { 40000, 30000, 20000, 10000 });
+
+        assertThat(matrix.size()).isEqualTo(6);
+        assertThat(matrix.between(1L, 4L)).contains(new HeadToHead(1, 4, 1, 1, 0, 30000));
+        assertThat(matrix.between(4L, 1L)).contains(new HeadToHead(4, 1, 1, 0, 1, -30000));
+    }
+
+    @Test
+    void shouldAccumulateAcrossGames() {
+        matrix.addGame(new long[] { 2, 1 }, new long[] { 30000, 20000 });
+        matrix.addGame(new long[] { 1, 2 }, new long[] { 35000, 25000 });
+        matrix.addGame(new long[] { 1, 2 }, new long[] { 25000, 25000 });
+
+        HeadToHead headToHead = matrix.between(1L, 2L).orElseThrow();
+        assertThat(headToHead.games()).isEqualTo(3);
+        assertThat(headToHead.wins()).isEqualTo(1);
+        assertThat(headToHead.losses()).isEqualTo(1);
+        assertThat(headToHead.averageScoreDifference()).isEqualTo(0.0);
+    }
+
+    @Test
+    void removeGameShouldForgetPairsWithoutGames() {
+        long[] players = { 1, 2, 3 };
+        long[] scores = { 30000, 20000, 10000 };
+        matrix.addGame(players, scores);
+        matrix.addGame(new long[] { 1, 2 }, new long[] { 10000, 20000 });
+
+        matrix.removeGame(players, scores);
+
+        assertThat(matrix.size()).isEqualTo(1);
+        assertThat(matrix.between(1L, 3L)).isEmpty();
+        assertThat(matrix.rivalsOf(3L)).isEmpty();
+        assertThat(matrix.between(1L, 2L)).contains(new HeadToHead(1, 2, 1, 0, 1, -10000));
+    }
+
+    @Test
+    void rivalsShouldBeOrderedByMostSharedGames() {
+        matrix.addGame(new long[] { 1, 2, 3 }, new long[] { 3, 2, 1 });
+        matrix.addGame(new long[] { 1, 3 }, new long[] { 1, 2 });
+        matrix.addGame(new long[] { 1, 4 }, new long[] { 1, 2 });
+
+        assertThat(matrix.rivalsOf(1L)).extracting(HeadToHead::opponentId).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    void shouldMatchBruteForceOverRandomGames() {
+        Random random = new Random(42);
+        int players = 60;
+        List<long[][]> games = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            long[][] game = randomGame(random, players);
+            games.add(game);
+            matrix.addGame(game[0], game[1]);
+        }
+        // remove a third of the games again, to exercise deletion in the hash table
+        for (int i = 0; i < 1000; i++) {
+            long[][] game = games.remove(random.nextInt(games.size()));
+            matrix.removeGame(game[0], game[1]);
+        }
+
+        for (long a = 1; a <= players; a++) {
+            int rivals = 0;
+            for (long b = 1; b <= players; b++) {
+                if (a == b) {
+                    continue;
+                }
+                int shared = 0, wins = 0, losses = 0;
+                long difference = 0;
+                for (long[][] game : games) {
+                    int i = indexOf(game[0], a);
+                    int j = indexOf(game[0], b);
+                    if (i >= 0 && j >= 0) {
+                        shared++;
+                        difference += game[1][i] - game[1][j];
+                        wins += game[1][i] > game[1][j] ? 1 : 0;
+                        losses += game[1][i] < game[1][j] ? 1 : 0;
+                    }
+                }
+                if (shared == 0) {
+                    assertThat(matrix.between(a, b)).isEmpty();
+                    continue;
+                }
+                rivals++;
+                HeadToHead headToHead = matrix.between(a, b).orElseThrow();
+                assertThat(headToHead.games()).isEqualTo(shared);
+                assertThat(headToHead.wins()).isEqualTo(wins);
+                assertThat(headToHead.losses()).isEqualTo(losses);
+                assertThat(headToHead.averageScoreDifference()).isCloseTo((double) difference / shared, within(1e-9));
+            }
+            assertThat(matrix.rivalsOf(a)).hasSize(rivals);
+        }
+    }
+
+    private static long[][] randomGame(Random random, int players) {
+        long[] playerIds = random.ints(1, players + 1).distinct().limit(4).asLongStream().toArray();
+        long[] scores = new long[4];
+        for (int i = 0; i < 4; i++) {
+            scores[i] = random.nextInt(8) * 5000L;
+        }
+        return new long[][] { playerIds, scores };
+    }
+
+    private static int indexOf(long[] playerIds, long playerId) {
+        for (int i = 0; i < playerIds.length; i++) {
+            if (playerIds[i] == playerId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,62 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HyperLogLog}.
+ */
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchShouldCountNothing() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.estimate()).isZero();
+    }
+
+    @Test
+    void smallCardinalitiesShouldBeCountedAlmostExactly() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        for (long id = 1; id <= 40; id++) {
+            sketch.add(id);
+            sketch.add(id);
+        }
+
+        assertThat(sketch.estimate()).isBetween(39L, 41L);
+    }
+
+    @Test
+    void largeCardinalitiesShouldBeWithinTheStandardError() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (long id = 1; id <= 1_000_000; id++) {
+            sketch.add(id);
+        }
+
+        // 3 standard errors of 1.04 / sqrt(4096)
+        assertThat((double) sketch.estimate()).isCloseTo(1_000_000.0, within(50_000.0));
+    }
+
+    @Test
+    void mergeShouldEstimateTheUnion() {
+        HyperLogLog first = new HyperLogLog(12);
+        HyperLogLog second = new HyperLogLog(12);
+        for (long id = 0; id < 30_000; id++) {
+            first.add(id);
+            second.add(id + 20_000);
+        }
+
+        first.merge(second);
+
+        assertThat((double) first.estimate()).isCloseTo(50_000.0, within(2_500.0));
+    }
+
+    @Test
+    void sketchesOfDifferentPrecisionsShouldNotMerge() {
+        assertThatThrownBy(() -> new HyperLogLog(10).merge(new HyperLogLog(12))).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link Leaderboard} and {@link RankedSkipList}.
+ */
+class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    public void init() {
+        leaderboard = new Leaderboard();
+    }
+
+    @Test
+    void shouldRankByTotalScoreThenPlayerId() {
+        leaderboard.put(1L, 100L);
+        leaderboard.put(2L, 300L);
+        leaderboard.put(3L, 100L);
+
+        assertThat(leaderboard.top(10)).containsExactly(
+            new LeaderboardEntry(1, 2L, 300L),
+            new LeaderboardEntry(2, 1L, 100L),
+            new LeaderboardEntry(3, 3L, 100L)
+        );
+    }
+
+    @Test
+    void addShouldMovePlayer() {
+        leaderboard.put(1L, 100L);
+        leaderboard.put(2L, 200L);
+
+        leaderboard.add(1L, 150L);
+
+        assertThat(leaderboard.entryOf(1L)).contains(new LeaderboardEntry(1, 1L, 250L));
+        assertThat(leaderboard.entryOf(2L)).contains(new LeaderboardEntry(2, 2L, 200L));
+    }
+
+    @Test
+    void removeShouldReturnTotalAndUnrankPlayer() {
+        leaderboard.put(1L, 100L);
+        leaderboard.put(2L, 200L);
+
+        assertThat(leaderboard.remove(2L)).contains(200L);
+        assertThat(leaderboard.remove(2L)).isEmpty();
+        assertThat(leaderboard.entryOf(2L)).isEmpty();
+        assertThat(leaderboard.entryOf(1L)).contains(new LeaderboardEntry(1, 1L, 100L));
+    }
+
+    @Test
+    void aroundShouldBeClampedToTheBoard() {
+        for (long playerId = 1; playerId <= 5; playerId++) {
+            leaderboard.put(playerId, 1000L - playerId);
+        }
+
+        assertThat(leaderboard.around(2L, 2)).extracting(LeaderboardEntry::playerId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(leaderboard.around(42L, 2)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchSortedOrderAfterRandomUpdates() {
+        Random random = new Random(42);
+        Map<Long, Long> totals = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long playerId = 1 + random.nextInt(300);
+            if (random.nextInt(10) == 0) {
+                leaderboard.remove(playerId);
+                totals.remove(playerId);
+            } else {
+                long delta = random.nextInt(20_000) - 10_000;
+                leaderboard.add(playerId, delta);
+                totals.merge(playerId, delta, Long::sum);
+            }
+        }
+
+        List<Map.Entry<Long, Long>> expected = new ArrayList<>(totals.entrySet());
+        expected.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()));
+        List<LeaderboardEntry> actual = leaderboard.page(1, expected.size() + 1);
+        assertThat(actual).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            LeaderboardEntry entry = new LeaderboardEntry(i + 1, expected.get(i).getKey(), expected.get(i).getValue());
+            assertThat(actual.get(i)).isEqualTo(entry);
+            assertThat(leaderboard.entryOf(entry.playerId())).contains(entry);
+        }
+    }
+}
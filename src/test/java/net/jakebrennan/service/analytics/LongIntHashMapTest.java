@@ -0,0 +1,65 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LongIntHashMap}.
+ */
+class LongIntHashMapTest {
+
+    private LongIntHashMap map;
+
+    @BeforeEach
+    public void init() {
+        map = new LongIntHashMap(4);
+    }
+
+    @Test
+    void putShouldReplaceExistingValue() {
+        map.put(7L, 1);
+        map.put(7L, 2);
+
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(7L)).isEqualTo(2);
+        assertThat(map.get(8L)).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    void emptyKeyShouldBeRejected() {
+        assertThatThrownBy(() -> map.put(0L, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.remove(0L)).isEqualTo(LongIntHashMap.MISSING);
+    }
+
+    @Test
+    void shouldMatchAHashMapThroughRandomWrites() {
+        Random random = new Random(42);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            // few distinct keys, some packing two ids, so that probe sequences collide and wrap around
+            long key = random.nextBoolean()
+                ? 1 + random.nextInt(500)
+                : ((long) (1 + random.nextInt(20)) << 32) | (1 + random.nextInt(20));
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed != null ? removed : LongIntHashMap.MISSING);
+            } else {
+                expected.put(key, i);
+                map.put(key, i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+
+        map.clear();
+        assertThat(map.size()).isZero();
+        expected.keySet().forEach(key -> assertThat(map.get(key)).isEqualTo(LongIntHashMap.MISSING));
+    }
+}
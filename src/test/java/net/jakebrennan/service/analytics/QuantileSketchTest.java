@@ -0,0 +1,104 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QuantileSketch}.
+ */
+class QuantileSketchTest {
+
+    private static final double TOLERANCE = 0.02;
+
+    @Test
+    void emptySketchShouldHaveNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.fractionAtOrBelow(1.0)).isNaN();
+        assertThat(sketch.valueAt(0.5)).isNaN();
+    }
+
+    @Test
+    void smallSketchShouldBeExact() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value = 1; value <= 10; value++) {
+            sketch.add(value);
+        }
+
+        assertThat(sketch.fractionAtOrBelow(8.0)).isEqualTo(0.8);
+        assertThat(sketch.fractionAtOrBelow(0.5)).isZero();
+        assertThat(sketch.valueAt(0.8)).isEqualTo(8.0);
+        assertThat(sketch.valueAt(0.0)).isEqualTo(1.0);
+        assertThat(sketch.valueAt(1.0)).isEqualTo(10.0);
+    }
+
+    @Test
+    void largeSketchShouldStayWithinItsErrorAndSize() {
+        SplittableRandom random = new SplittableRandom(42);
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.DEFAULT_K, random.split());
+        KllSketch bare = new KllSketch(QuantileSketch.DEFAULT_K, random.split());
+        double[] values = new double[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 100.0;
+            sketch.add(values[i]);
+            bare.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertThat(bare.retained()).isLessThan(4 * QuantileSketch.DEFAULT_K);
+        for (double fraction = 0.05; fraction < 1.0; fraction += 0.05) {
+            double exact = values[(int) (fraction * values.length)];
+            assertThat(sketch.fractionAtOrBelow(exact)).isCloseTo(fraction, within(TOLERANCE));
+            double estimate = sketch.valueAt(fraction);
+            assertThat((double) Arrays.binarySearch(values, estimate) / values.length).isCloseTo(fraction, within(TOLERANCE));
+        }
+    }
+
+    @Test
+    void removedValuesShouldNotCount() {
+        SplittableRandom random = new SplittableRandom(7);
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.DEFAULT_K, random.split());
+        List<Double> left = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            double value = random.nextDouble() * 100.0;
+            sketch.add(value);
+            // the values below 50 are all removed again
+            if (value < 50.0) {
+                sketch.remove(value);
+            } else {
+                left.add(value);
+            }
+        }
+
+        assertThat(sketch.count()).isEqualTo(left.size());
+        assertThat(sketch.fractionAtOrBelow(50.0)).isCloseTo(0.0, within(TOLERANCE));
+        assertThat(sketch.fractionAtOrBelow(75.0)).isCloseTo(0.5, within(2 * TOLERANCE));
+        assertThat(sketch.valueAt(0.5)).isCloseTo(75.0, within(4 * TOLERANCE * 50.0));
+    }
+
+    @Test
+    void sketchShouldBeStaleOnceMostValuesAreRemoved() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(i);
+        }
+        for (int i = 0; i < 500; i++) {
+            sketch.remove(i);
+        }
+        assertThat(sketch.isStale()).isFalse();
+
+        sketch.remove(500);
+
+        assertThat(sketch.isStale()).isTrue();
+        sketch.clear();
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.isStale()).isFalse();
+    }
+}
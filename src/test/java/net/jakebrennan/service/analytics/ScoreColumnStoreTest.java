@@ -0,0 +1,97 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScoreColumnStore}.
+ */
+class ScoreColumnStoreTest {
+
+    private ScoreColumnStore scoreColumnStore;
+
+    @BeforeEach
+    public void init() {
+        scoreColumnStore = new ScoreColumnStore();
+    }
+
+    @Test
+    void upsertShouldReplaceExistingScore() {
+        scoreColumnStore.upsert(1L, 10L, 100L, 25000L);
+        scoreColumnStore.upsert(1L, 10L, 100L, 32000L);
+
+        assertThat(scoreColumnStore.size()).isEqualTo(1);
+        assertThat(scoreColumnStore.summarize().sum()).isEqualTo(32000L);
+    }
+
+    @Test
+    void removeShouldKeepOtherRowsAddressable() {
+        scoreColumnStore.upsert(1L, 10L, 100L, 1000L);
+        scoreColumnStore.upsert(2L, 10L, 101L, 2000L);
+        scoreColumnStore.upsert(3L, 10L, 102L, 3000L);
+
+        scoreColumnStore.remove(1L);
+        scoreColumnStore.upsert(3L, 10L, 102L, 4000L);
+
+        assertThat(scoreColumnStore.size()).isEqualTo(2);
+        assertThat(scoreColumnStore.summarize().sum()).isEqualTo(6000L);
+    }
+
+    @Test
+    void seriesShouldBeOrderedByGame() {
+        scoreColumnStore.upsert(1L, 30L, 100L, 3000L);
+        scoreColumnStore.upsert(2L, 10L, 100L, 1000L);
+        scoreColumnStore.upsert(3L, 20L, 101L, 9000L);
+        scoreColumnStore.upsert(4L, 20L, 100L, 2000L);
+
+        ScoreSeries series = scoreColumnStore.seriesOf(100L);
+
+        assertThat(series.gameIds()).containsExactly(10L, 20L, 30L);
+        assertThat(series.scores()).containsExactly(1000L, 2000L, 3000L);
+        assertThat(series.summary().mean()).isEqualTo(2000.0);
+    }
+
+    @Test
+    void summarizeGroupsShouldSkipUngroupedPlayers() {
+        scoreColumnStore.upsert(1L, 10L, 1L, 1000L);
+        scoreColumnStore.upsert(2L, 10L, 2L, 2000L);
+        scoreColumnStore.upsert(3L, 10L, 3L, 4000L);
+        scoreColumnStore.upsert(4L, 10L, null, 8000L);
+
+        ScoreSummary[] summaries = scoreColumnStore.summarizeGroups(new int[] { -1, 0, 1, 1 }, 2);
+
+        assertThat(summaries[0].count()).isEqualTo(1);
+        assertThat(summaries[1].sum()).isEqualTo(6000L);
+        assertThat(summaries[1].min()).isEqualTo(2000L);
+        assertThat(summaries[1].max()).isEqualTo(4000L);
+    }
+
+    @Test
+    void shouldMatchReferenceMapUnderRandomWrites() {
+        Random random = new Random(42);
+        Map<Long, Long> reference = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            long id = 1 + random.nextInt(10_000);
+            if (random.nextInt(3) == 0) {
+                scoreColumnStore.remove(id);
+                reference.remove(id);
+            } else {
+                long score = random.nextInt(80_000) - 20_000;
+                scoreColumnStore.upsert(id, 1L + random.nextInt(100), 1L + random.nextInt(20), score);
+                reference.put(id, score);
+            }
+        }
+
+        assertThat(scoreColumnStore.size()).isEqualTo(reference.size());
+        assertThat(scoreColumnStore.summarize().sum()).isEqualTo(reference.values().stream().mapToLong(Long::longValue).sum());
+        int[] allPlayers = new int[21];
+        Arrays.fill(allPlayers, 0);
+        assertThat(scoreColumnStore.summarizeGroups(allPlayers, 1)[0].count()).isEqualTo(reference.size());
+    }
+}
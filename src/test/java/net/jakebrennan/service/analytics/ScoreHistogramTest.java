@@ -0,0 +1,92 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScoreHistogram}.
+ */
+class ScoreHistogramTest {
+
+    @Test
+    void bucketsShouldCoverEveryMagnitudeOnce() {
+        long previousUpperBound = -1;
+        for (int index = 0; index <= ScoreHistogram.indexOf(Long.MAX_VALUE); index++) {
+            assertThat(ScoreHistogram.lowerBound(index)).isEqualTo(previousUpperBound + 1);
+            assertThat(ScoreHistogram.indexOf(ScoreHistogram.lowerBound(index))).isEqualTo(index);
+            assertThat(ScoreHistogram.indexOf(ScoreHistogram.upperBound(index))).isEqualTo(index);
+            previousUpperBound = ScoreHistogram.upperBound(index);
+        }
+        assertThat(previousUpperBound).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void bucketsShouldBeNarrowRelativeToTheirScores() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            long magnitude = random.nextLong(1, 1_000_000_000L);
+            int index = ScoreHistogram.indexOf(magnitude);
+            assertThat(ScoreHistogram.lowerBound(index)).isLessThanOrEqualTo(magnitude);
+            assertThat(ScoreHistogram.upperBound(index)).isGreaterThanOrEqualTo(magnitude);
+            assertThat(ScoreHistogram.upperBound(index) - ScoreHistogram.lowerBound(index)).isLessThanOrEqualTo(magnitude / 32);
+        }
+    }
+
+    @Test
+    void distributionShouldListScoresInOrder() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(25_000);
+        histogram.add(-3);
+        histogram.add(0);
+        histogram.add(25_050);
+        histogram.add(Long.MIN_VALUE);
+
+        ScoreDistribution distribution = histogram.toDistribution();
+
+        assertThat(distribution.count()).isEqualTo(5);
+        assertThat(distribution.buckets()).hasSize(4);
+        assertThat(distribution.buckets().get(0).from()).isEqualTo(Long.MIN_VALUE);
+        assertThat(distribution.buckets().get(1)).isEqualTo(new ScoreDistribution.Bucket(-3, -3, 1));
+        assertThat(distribution.buckets().get(2)).isEqualTo(new ScoreDistribution.Bucket(0, 0, 1));
+        ScoreDistribution.Bucket last = distribution.buckets().get(3);
+        assertThat(last.count()).isEqualTo(2);
+        assertThat(last.from()).isLessThanOrEqualTo(25_000);
+        assertThat(last.to()).isGreaterThanOrEqualTo(25_050);
+    }
+
+    @Test
+    void removeShouldUndoAdd() {
+        ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(12_300);
+        histogram.add(-4_500);
+        histogram.remove(12_300);
+
+        assertThat(histogram.count()).isEqualTo(1);
+        assertThat(histogram.toDistribution().buckets()).singleElement().satisfies(bucket -> {
+            assertThat(bucket.from()).isLessThanOrEqualTo(-4_500);
+            assertThat(bucket.to()).isGreaterThanOrEqualTo(-4_500);
+        });
+    }
+
+    @Test
+    void mergeShouldMatchAddingEveryScore() {
+        Random random = new Random(7);
+        ScoreHistogram first = new ScoreHistogram();
+        ScoreHistogram second = new ScoreHistogram();
+        ScoreHistogram all = new ScoreHistogram();
+        for (int i = 0; i < 1_000; i++) {
+            long score = random.nextLong(-60_000, 120_000);
+            (i % 2 == 0 ? first : second).add(score);
+            all.add(score);
+        }
+
+        ScoreHistogram merged = new ScoreHistogram();
+        merged.merge(first);
+        merged.merge(second);
+
+        assertThat(merged.toDistribution()).isEqualTo(all.toDistribution());
+        assertThat(first.count()).isEqualTo(500);
+    }
+}
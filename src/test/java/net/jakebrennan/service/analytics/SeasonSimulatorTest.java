@@ -0,0 +1,101 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SeasonSimulator}.
+ */
+class SeasonSimulatorTest {
+
+    private ForkJoinPool pool;
+
+    private SeasonSimulator simulator;
+
+    @BeforeEach
+    public void init() {
+        pool = new ForkJoinPool(4);
+        simulator = new SeasonSimulator(pool);
+    }
+
+    @AfterEach
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void finishedSeasonShouldBeCertain() {
+        List<SeasonSimulator.Contender> contenders = List.of(
+            new SeasonSimulator.Contender(1, 300, 0, new long[] { 10 }),
+            new SeasonSimulator.Contender(2, 200, 0, new long[] { 10 }),
+            new SeasonSimulator.Contender(3, 100, 0, new long[] { 10 })
+        );
+
+        List<PlayerProjection> projections = simulator.simulate(contenders, 1, 1, 1000, new SplittableRandom(1));
+
+        assertThat(projections).containsExactly(
+            new PlayerProjection(1, 1, 300, 0, 300, 1, 1, 0),
+            new PlayerProjection(2, 2, 200, 0, 200, 2, 0, 0),
+            new PlayerProjection(3, 3, 100, 0, 100, 3, 0, 1)
+        );
+    }
+
+    @Test
+    void equalPlayersShouldHaveEqualOdds() {
+        long[] scores = { -20000, 0, 10000, 30000, 50000 };
+        List<SeasonSimulator.Contender> contenders = List.of(
+            new SeasonSimulator.Contender(1, 0, 10, scores),
+            new SeasonSimulator.Contender(2, 0, 10, scores),
+            new SeasonSimulator.Contender(3, 0, 10, scores),
+            new SeasonSimulator.Contender(4, 0, 10, scores)
+        );
+
+        List<PlayerProjection> projections = simulator.simulate(contenders, 1, 1, 40_000, new SplittableRandom(7));
+
+        // equal totals are ranked in current order, hence the tolerance
+        for (PlayerProjection projection : projections) {
+            assertThat(projection.promotionProbability()).isCloseTo(0.25, within(0.03));
+            assertThat(projection.relegationProbability()).isCloseTo(0.25, within(0.03));
+            assertThat(projection.expectedRank()).isCloseTo(2.5, within(0.1));
+            assertThat(projection.expectedTotalScore()).isCloseTo(140_000, within(2_000.0));
+        }
+    }
+
+    @Test
+    void strongerPlayerShouldBeMoreLikelyPromoted() {
+        List<SeasonSimulator.Contender> contenders = List.of(
+            new SeasonSimulator.Contender(1, 0, 20, new long[] { 20000, 40000 }),
+            new SeasonSimulator.Contender(2, 0, 20, new long[] { 10000, 30000 })
+        );
+
+        List<PlayerProjection> projections = simulator.simulate(contenders, 1, 1, 5000, new SplittableRandom(3));
+
+        assertThat(projections.get(0).promotionProbability()).isGreaterThan(0.99);
+        assertThat(projections.get(1).relegationProbability()).isGreaterThan(0.99);
+    }
+
+    @Test
+    void sameSeedShouldGiveSameProjectionWhateverTheParallelism() {
+        List<SeasonSimulator.Contender> contenders = List.of(
+            new SeasonSimulator.Contender(1, 10000, 5, new long[] { -10000, 25000, 45000 }),
+            new SeasonSimulator.Contender(2, 0, 8, new long[] { 0, 30000 }),
+            new SeasonSimulator.Contender(3, -5000, 6, new long[] { 15000, 20000, 35000 })
+        );
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            List<PlayerProjection> sequential = new SeasonSimulator(single).simulate(contenders, 1, 1, 3000, new SplittableRandom(11));
+            List<PlayerProjection> parallel = simulator.simulate(contenders, 1, 1, 3000, new SplittableRandom(11));
+
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            single.shutdownNow();
+        }
+    }
+}
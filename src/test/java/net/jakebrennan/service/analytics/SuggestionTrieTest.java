@@ -0,0 +1,91 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SuggestionTrie}.
+ */
+class SuggestionTrieTest {
+
+    private SuggestionTrie suggestionTrie;
+
+    @BeforeEach
+    public void init() {
+        suggestionTrie = new SuggestionTrie(3);
+    }
+
+    @Test
+    void shouldSuggestShortestCompletionsFirst() {
+        suggestionTrie.put(1, "Takeshi", "Takeshi Sato");
+        suggestionTrie.put(2, "Taro");
+        suggestionTrie.put(3, "Tanaka Ichiro");
+
+        assertThat(suggestionTrie.suggest("ta", 3)).containsExactly(
+            new SuggestionTrie.Suggestion(2, "Taro"),
+            new SuggestionTrie.Suggestion(1, "Takeshi"),
+            new SuggestionTrie.Suggestion(3, "Tanaka Ichiro")
+        );
+        assertThat(suggestionTrie.suggest("takeshi s", 3)).containsExactly(new SuggestionTrie.Suggestion(1, "Takeshi Sato"));
+    }
+
+    @Test
+    void shouldNormalizePrefixes() {
+        suggestionTrie.put(1, "Zoë  Müller");
+
+        assertThat(suggestionTrie.suggest("ZOE MU", 3)).extracting(SuggestionTrie.Suggestion::id).containsExactly(1);
+        assertThat(suggestionTrie.suggest("zoex", 3)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchBruteForceUnderUpdates() {
+        Random random = new Random(42);
+        Map<Integer, List<String>> texts = new HashMap<>();
+        for (int operation = 0; operation < 2_000; operation++) {
+            int id = random.nextInt(50);
+            if (random.nextInt(5) == 0) {
+                suggestionTrie.remove(id);
+                texts.remove(id);
+            } else {
+                List<String> documentTexts = List.of(randomText(random), randomText(random));
+                suggestionTrie.put(id, documentTexts.toArray(String[]::new));
+                texts.put(id, documentTexts);
+            }
+
+            String prefix = randomText(random).substring(0, random.nextInt(2));
+            assertThat(suggestionTrie.suggest(prefix, 3)).isEqualTo(bruteForce(texts, prefix, 3));
+        }
+    }
+
+    private static List<SuggestionTrie.Suggestion> bruteForce(Map<Integer, List<String>> texts, String prefix, int limit) {
+        List<SuggestionTrie.Suggestion> candidates = new ArrayList<>();
+        texts.forEach((id, documentTexts) ->
+            documentTexts.stream().filter(text -> text.startsWith(prefix)).forEach(text -> candidates.add(new SuggestionTrie.Suggestion(id, text)))
+        );
+        candidates.sort(
+            Comparator.comparingInt((SuggestionTrie.Suggestion suggestion) -> suggestion.text().length())
+                .thenComparing(SuggestionTrie.Suggestion::text)
+                .thenComparingInt(SuggestionTrie.Suggestion::id)
+        );
+        Set<Integer> suggested = new HashSet<>();
+        return candidates.stream().filter(suggestion -> suggested.add(suggestion.id())).limit(limit).toList();
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0, length = 1 + random.nextInt(5); i < length; i++) {
+            text.append((char) ('a' + random.nextInt(3)));
+        }
+        return text.toString();
+    }
+}
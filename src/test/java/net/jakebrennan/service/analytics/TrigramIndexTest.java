@@ -0,0 +1,53 @@
+package net.jakebrennan.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TrigramIndex}.
+ */
+class TrigramIndexTest {
+
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    public void init() {
+        trigramIndex = new TrigramIndex();
+        trigramIndex.put(1, "Jonathan", "Smith", "jsmith");
+        trigramIndex.put(2, "John", "Smithers", null);
+        trigramIndex.put(3, "Zoë", "Müller", "pikachu");
+    }
+
+    @Test
+    void shouldTolerateTypos() {
+        assertThat(trigramIndex.search("jonathon", 10, 0.4)).extracting(TrigramIndex.Hit::id).containsExactly(1);
+    }
+
+    @Test
+    void shouldIgnoreCaseAndDiacritics() {
+        assertThat(trigramIndex.search("ZOE MULLER", 10, 0.4)).extracting(TrigramIndex.Hit::id).containsExactly(3);
+        assertThat(trigramIndex.search("ZOE MULLER", 10, 0.4).get(0).similarity()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRankCloserDocumentsFirst() {
+        assertThat(trigramIndex.search("smith", 10, 0.4)).extracting(TrigramIndex.Hit::id).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndRemovals() {
+        trigramIndex.put(1, "Bob", "Stone", null);
+        trigramIndex.remove(2);
+
+        assertThat(trigramIndex.search("smith", 10, 0.4)).isEmpty();
+        assertThat(trigramIndex.search("bob stone", 10, 0.4)).extracting(TrigramIndex.Hit::id).containsExactly(1);
+        assertThat(trigramIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    void blankQueryShouldMatchNothing() {
+        assertThat(trigramIndex.search("  -- ", 10, 0.0)).isEmpty();
+    }
+}
@@ -0,0 +1,137 @@
+package net.jakebrennan.service.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link GameJournal}.
+ */
+class GameJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void entriesShouldBeReplayedInOrder() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.isEmpty()).isTrue();
+            journal.append(List.of(entry(1, 100), entry(2, 200)));
+            journal.append(List.of(entry(1, 150), new JournalEntry(3, new long[0], new long[0])));
+
+            List<JournalEntry> entries = replay(journal);
+
+            assertThat(journal.isEmpty()).isFalse();
+            assertThat(entries).extracting(JournalEntry::gameId).containsExactly(1L, 2L, 1L, 3L);
+            assertThat(entries.get(2).scores()).containsExactly(150, 151, 152, 153);
+            assertThat(entries.get(2).playerIds()).containsExactly(10, 11, 12, 13);
+            assertThat(entries.get(3).size()).isZero();
+        }
+    }
+
+    @Test
+    void entriesShouldRollOverToNewSegments() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            for (long gameId = 1; gameId <= 20; gameId++) {
+                journal.append(List.of(entry(gameId, gameId * 10)));
+            }
+
+            assertThat(segments()).hasSizeGreaterThan(5);
+            assertThat(replay(journal)).extracting(JournalEntry::gameId).hasSize(20).isSorted();
+        }
+    }
+
+    @Test
+    void reopenedJournalShouldAppendAfterItsEntries() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(entry(1, 100)));
+        }
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(entry(2, 200)));
+
+            assertThat(replay(journal)).extracting(JournalEntry::gameId).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    void clearedJournalShouldBeEmpty() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            for (long gameId = 1; gameId <= 10; gameId++) {
+                journal.append(List.of(entry(gameId, gameId * 10)));
+            }
+            journal.clear();
+            journal.append(List.of(entry(11, 110)));
+
+            assertThat(segments()).hasSize(1);
+            assertThat(replay(journal)).extracting(JournalEntry::gameId).containsExactly(11L);
+        }
+    }
+
+    @Test
+    void interruptedAppendShouldBeErasedOnOpen() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(List.of(entry(1, 100)));
+        }
+        // an entry whose length was written without its bytes
+        overwrite(segments().get(0), 8 + 8 + 4 + 4 * 16, new byte[] { 0, 0, 0, 44, 1, 2, 3, 4, 5, 6, 7, 8 });
+
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(replay(journal)).extracting(JournalEntry::gameId).containsExactly(1L);
+            journal.append(List.of(new JournalEntry(2, new long[] { 10 }, new long[] { 5 })));
+
+            assertThat(replay(journal)).extracting(JournalEntry::gameId).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    void damagedSealedSegmentShouldFailTheReplay() throws IOException {
+        try (GameJournal journal = GameJournal.open(directory, SEGMENT_SIZE)) {
+            for (long gameId = 1; gameId <= 10; gameId++) {
+                journal.append(List.of(entry(gameId, gameId * 10)));
+            }
+            // flip a byte of the first score of the first entry
+            overwrite(segments().get(0), 8 + 8 + 4 + 8, new byte[] { 42 });
+
+            assertThatThrownBy(() -> replay(journal)).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static JournalEntry entry(long gameId, long firstScore) {
+        return new JournalEntry(
+            gameId,
+            new long[] { 10, 11, 12, 13 },
+            new long[] { firstScore, firstScore + 1, firstScore + 2, firstScore + 3 }
+        );
+    }
+
+    private static List<JournalEntry> replay(GameJournal journal) {
+        List<JournalEntry> entries = new ArrayList<>();
+        journal.replay(entries::add);
+        return entries;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static void overwrite(Path segment, int at, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), at);
+        }
+    }
+}
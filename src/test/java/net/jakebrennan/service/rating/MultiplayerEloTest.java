@@ -0,0 +1,65 @@
+package net.jakebrennan.service.rating;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MultiplayerElo}.
+ */
+class MultiplayerEloTest {
+
+    private final MultiplayerElo elo = new MultiplayerElo(1500, 32);
+
+    @Test
+    void equalRatingsShouldMoveByPlacement() {
+        double[] ratings = { 1500, 1500, 1500, 1500 };
+
+        elo.rate(ratings, new long[] { 40000, 30000, 20000, 10000 });
+
+        // each duel moves both ratings by k / 3 * 0.5
+        assertThat(ratings[0]).isCloseTo(1516, within(1e-9));
+        assertThat(ratings[1]).isCloseTo(1500 + 16.0 / 3, within(1e-9));
+        assertThat(ratings[2]).isCloseTo(1500 - 16.0 / 3, within(1e-9));
+        assertThat(ratings[3]).isCloseTo(1484, within(1e-9));
+    }
+
+    @Test
+    void tiesShouldCountAsHalfAWin() {
+        double[] ratings = { 1500, 1500, 1500, 1500 };
+
+        elo.rate(ratings, new long[] { 25000, 25000, 25000, 25000 });
+
+        assertThat(ratings).containsExactly(1500, 1500, 1500, 1500);
+    }
+
+    @Test
+    void shouldPreserveTheTotalOfTheRatings() {
+        double[] ratings = { 1720, 1480, 1390, 1610 };
+        double total = Arrays.stream(ratings).sum();
+
+        elo.rate(ratings, new long[] { 12000, 41000, 25000, 22000 });
+
+        assertThat(Arrays.stream(ratings).sum()).isCloseTo(total, within(1e-9));
+    }
+
+    @Test
+    void upsetShouldMoveRatingsMoreThanExpectedResult() {
+        double[] expected = { 1800, 1400 };
+        double[] upset = { 1800, 1400 };
+
+        elo.rate(expected, new long[] { 30000, 20000 });
+        elo.rate(upset, new long[] { 20000, 30000 });
+
+        assertThat(1800 - upset[0]).isGreaterThan(expected[0] - 1800);
+        assertThat(upset[0] - 1800).isGreaterThan(-32);
+    }
+
+    @Test
+    void shouldRejectMismatchedScores() {
+        assertThatThrownBy(() -> elo.rate(new double[] { 1500, 1500 }, new long[] { 1 })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package net.jakebrennan.service.seed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CsvReader}.
+ */
+class CsvReaderTest {
+
+    @Test
+    void recordsShouldBeSplitOnTheSeparator() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("id;player_id;league\n1;25349;B1\r\n2;12335;A2"), ';');
+
+        assertThat(reader.next()).containsExactly("id", "player_id", "league");
+        assertThat(reader.next()).containsExactly("1", "25349", "B1");
+        assertThat(reader.line()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("2", "12335", "A2");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void quotedFieldsShouldKeepSeparatorsQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1;\"2@\";\"a;b\";\"say \"\"hi\"\"\";\"two\nlines\"\n2;x;y;z;w\n"), ';');
+
+        assertThat(reader.next()).containsExactly("1", "2@", "a;b", "say \"hi\"", "two\nlines");
+        assertThat(reader.line()).isEqualTo(3);
+        assertThat(reader.next()).containsExactly("2", "x", "y", "z", "w");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void emptyFieldsShouldBeNullUnlessQuoted() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1;;\"\";\n"), ';');
+
+        assertThat(reader.next()).containsExactly("1", null, "", null);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void unterminatedQuoteShouldBeRejected() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("1;\"open\n"), ';');
+
+        assertThatThrownBy(reader::next).isInstanceOf(EOFException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package net.jakebrennan.service.tenhou;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MjlogParser}.
+ */
+class MjlogParserTest {
+
+    private static final String LOG =
+        "<mjloggm ver=\"2.3\"><SHUFFLE seed=\"mt19937ar-sha512-n288-base64,abc\" ref=\"\"/><GO type=\"169\" lobby=\"0\"/>" +
+        "<UN n0=\"%E3%81%82\" n1=\"Bob\" n2=\"Carol\" n3=\"Dave\" dan=\"16,16,16,16\" rate=\"2000,2000,2000,2000\" sx=\"M,M,M,M\"/>" +
+        "<TAIKYOKU oya=\"0\"/><INIT seed=\"0,0,0,1,2,3\" ten=\"250,250,250,250\" oya=\"0\"/><T12/><D12/>" +
+        "<AGARI ba=\"0,0\" hai=\"1,2,3\" who=\"1\" fromWho=\"0\" sc=\"250,-80,250,80,250,0,250,0\"/>" +
+        "<UN n1=\"Bob\"/><BYE who=\"2\"/>" +
+        "<RYUUKYOKU ba=\"0,0\" sc=\"170,0,330,0,250,0,250,0\" owari=\"170,-33.0,330,43.0,250,5.0,-50,-15.0\"/>" +
+        "</mjloggm>";
+
+    private final MjlogParser mjlogParser = new MjlogParser();
+
+    @Test
+    void shouldReadNamesAndFinalScores() throws Exception {
+        TenhouLog tenhouLog = mjlogParser.parse("2024010112gm-0009-0000-0123abcd", stream(LOG));
+
+        assertThat(tenhouLog.names()).containsExactly("あ", "Bob", "Carol", "Dave");
+        assertThat(tenhouLog.finalScores()).containsExactly(17000L, 33000L, 25000L, -5000L);
+    }
+
+    @Test
+    void shouldReadThreePlayerGames() throws Exception {
+        String sanma =
+            "<mjloggm ver=\"2.3\"><UN n0=\"A\" n1=\"B\" n2=\"C\" n3=\"\" dan=\"0,0,0,0\"/>" +
+            "<AGARI who=\"0\" fromWho=\"1\" owari=\"450,55.0,300,0.0,300,-55.0\"/></mjloggm>";
+
+        TenhouLog tenhouLog = mjlogParser.parse("1", stream(sanma));
+
+        assertThat(tenhouLog.names()).containsExactly("A", "B", "C");
+        assertThat(tenhouLog.finalScores()).containsExactly(45000L, 30000L, 30000L);
+    }
+
+    @Test
+    void shouldRejectUnfinishedGames() {
+        String unfinished = "<mjloggm ver=\"2.3\"><UN n0=\"A\" n1=\"B\" n2=\"C\" n3=\"D\"/><AGARI who=\"0\"/></mjloggm>";
+
+        assertThatThrownBy(() -> mjlogParser.parse("1", stream(unfinished))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void gameIDShouldBeStable() {
+        TenhouLog numeric = new TenhouLog("12345", List.of(), List.of());
+        TenhouLog first = new TenhouLog("2024010112gm-0009-0000-0123abcd", List.of(), List.of());
+        TenhouLog second = new TenhouLog("2024010112gm-0009-0000-0123abcd", List.of(), List.of());
+
+        assertThat(numeric.gameID()).isEqualTo(12345L);
+        assertThat(first.gameID()).isEqualTo(second.gameID()).isPositive();
+    }
+
+    @Test
+    void playedAtShouldBeReadFromTheLogId() {
+        TenhouLog tenhouLog = new TenhouLog("2024010112gm-0009-0000-0123abcd", List.of(), List.of());
+
+        assertThat(tenhouLog.playedAt()).contains(Instant.parse("2024-01-01T03:00:00Z"));
+        assertThat(new TenhouLog("12345", List.of(), List.of()).playedAt()).isEmpty();
+        assertThat(new TenhouLog("2024023112gm-0009-0000-0123abcd", List.of(), List.of()).playedAt()).isEmpty();
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
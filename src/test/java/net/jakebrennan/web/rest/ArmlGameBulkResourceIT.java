@@ -0,0 +1,116 @@
+package net.jakebrennan.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.enumeration.ArmlLeague;
+import net.jakebrennan.repository.ArmlGameRepository;
+import net.jakebrennan.repository.ArmlGameScoreRepository;
+import net.jakebrennan.repository.ArmlPlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link ArmlGameBulkResource} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ArmlGameBulkResourceIT {
+
+    private static final String BULK_API_URL = "/api/arml-games/bulk";
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private ArmlPlayerRepository armlPlayerRepository;
+
+    @Autowired
+    private ArmlGameRepository armlGameRepository;
+
+    @Autowired
+    private ArmlGameScoreRepository armlGameScoreRepository;
+
+    @Autowired
+    private MockMvc restArmlGameBulkMockMvc;
+
+    private final List<Long> playerIds = new ArrayList<>();
+
+    @BeforeEach
+    public void initTest() {
+        playerIds.clear();
+        for (long i = 0; i < 4; i++) {
+            ArmlPlayer armlPlayer = new ArmlPlayer()
+                .playerID(900_000L + i)
+                .firstName("AAAAAAAAAA")
+                .lastName("BBBBBBBBBB")
+                .league(ArmlLeague.A1);
+            playerIds.add(armlPlayerRepository.saveAndFlush(armlPlayer).getId());
+        }
+    }
+
+    @Test
+    @Transactional
+    void bulkCreateArmlGames() throws Exception {
+        long gamesBefore = armlGameRepository.count();
+        long scoresBefore = armlGameScoreRepository.count();
+        String body =
+            line(800_001L, playerIds.get(0), playerIds.get(1), playerIds.get(2), playerIds.get(3)) +
+            line(800_002L, playerIds.get(0), playerIds.get(1), playerIds.get(2), Long.MAX_VALUE) +
+            line(800_001L, playerIds.get(0), playerIds.get(1), playerIds.get(2), playerIds.get(3)) +
+            "{\"gameID\": 800003, \"scores\": []}\n" +
+            "{not json\n";
+
+        String response = restArmlGameBulkMockMvc
+            .perform(post(BULK_API_URL).contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<JsonNode> results = response.lines().map(this::readTree).toList();
+        assertThat(results).hasSize(5);
+        assertThat(results).extracting(result -> result.get("line").asInt()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(results.get(0).has("id")).isTrue();
+        assertThat(results.get(0).has("error")).isFalse();
+        assertThat(results.get(1).get("error").asText()).contains("Unknown playerId");
+        assertThat(results.get(2).get("error").asText()).contains("Duplicate gameID");
+        assertThat(results.get(3).get("error").asText()).contains("4 scores");
+        assertThat(results.get(4).get("error").asText()).startsWith("Malformed line");
+
+        assertThat(armlGameRepository.count()).isEqualTo(gamesBefore + 1);
+        assertThat(armlGameScoreRepository.count()).isEqualTo(scoresBefore + 4);
+    }
+
+    private static String line(long gameID, long... players) {
+        StringBuilder line = new StringBuilder("{\"gameID\":").append(gameID).append(",\"scores\":[");
+        for (int seat = 0; seat < players.length; seat++) {
+            line.append(seat > 0 ? "," : "").append("{\"playerId\":").append(players[seat]).append(",\"score\":").append(25_000 + seat);
+            line.append('}');
+        }
+        return line.append("]}\n").toString();
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return om.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
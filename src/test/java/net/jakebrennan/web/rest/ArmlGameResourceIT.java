@@ -3,12 +3,18 @@ package net.jakebrennan.web.rest;
 import static net.jakebrennan.domain.ArmlGameAsserts.*;
 import static net.jakebrennan.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import net.jakebrennan.IntegrationTest;
@@ -18,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -34,6 +41,9 @@ class ArmlGameResourceIT {
     private static final Long DEFAULT_GAME_ID = 1L;
     private static final Long UPDATED_GAME_ID = 2L;
 
+    private static final Instant DEFAULT_PLAYED_AT = Instant.ofEpochMilli(0L);
+    private static final Instant UPDATED_PLAYED_AT = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
     private static final String ENTITY_API_URL = "/api/arml-games";
     private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
 
@@ -61,7 +71,7 @@ class ArmlGameResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static ArmlGame createEntity(EntityManager em) {
-        ArmlGame armlGame = new ArmlGame().gameID(DEFAULT_GAME_ID);
+        ArmlGame armlGame = new ArmlGame().gameID(DEFAULT_GAME_ID).playedAt(DEFAULT_PLAYED_AT);
         return armlGame;
     }
 
@@ -72,7 +82,7 @@ class ArmlGameResourceIT {
      * if they test an entity which requires the current entity.
      */
     public static ArmlGame createUpdatedEntity(EntityManager em) {
-        ArmlGame armlGame = new ArmlGame().gameID(UPDATED_GAME_ID);
+        ArmlGame armlGame = new ArmlGame().gameID(UPDATED_GAME_ID).playedAt(UPDATED_PLAYED_AT);
         return armlGame;
     }
 
@@ -146,7 +156,85 @@ class ArmlGameResourceIT {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(armlGame.getId().intValue())))
-            .andExpect(jsonPath("$.[*].gameID").value(hasItem(DEFAULT_GAME_ID.intValue())));
+            .andExpect(jsonPath("$.[*].gameID").value(hasItem(DEFAULT_GAME_ID.intValue())))
+            .andExpect(jsonPath("$.[*].playedAt").value(hasItem(DEFAULT_PLAYED_AT.toString())));
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlGamesByKeysetPages() throws Exception {
+        // Initialize the database
+        ArmlGame first = armlGameRepository.saveAndFlush(new ArmlGame().gameID(DEFAULT_GAME_ID));
+        ArmlGame second = armlGameRepository.saveAndFlush(new ArmlGame().gameID(UPDATED_GAME_ID));
+        ArmlGame third = armlGameRepository.saveAndFlush(new ArmlGame().gameID(3L));
+
+        // Get the first page, newest first
+        String link = restArmlGameMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue(), second.getId().intValue())))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.LINK);
+
+        // Follow the cursor of the next page
+        String next = link.substring(link.indexOf('<') + 1, link.indexOf(">; rel=\"next\""));
+        restArmlGameMockMvc
+            .perform(get(next))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(first.getId().intValue()));
+
+        // A cursor cannot be reused with another sort
+        String cursor = next.substring(next.indexOf("cursor=") + "cursor=".length()).replaceAll("&.*", "");
+        restArmlGameMockMvc.perform(get(ENTITY_API_URL + "?sort=gameID&cursor=" + cursor)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlGamesInATimeWindow() throws Exception {
+        // Initialize the database
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        armlGameRepository.saveAndFlush(new ArmlGame().gameID(DEFAULT_GAME_ID).playedAt(start.minusSeconds(1)));
+        ArmlGame second = armlGameRepository.saveAndFlush(new ArmlGame().gameID(UPDATED_GAME_ID).playedAt(start.plusSeconds(60)));
+        ArmlGame first = armlGameRepository.saveAndFlush(new ArmlGame().gameID(3L).playedAt(start));
+
+        // Get the games played in the window, earliest first
+        String window = "playedAt.greaterThanOrEqual=" + start + "&playedAt.lessThan=" + start.plusSeconds(3600);
+        restArmlGameMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=playedAt&" + window))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlGamesByKeysetPagesOfPlayedAtIncludingUnknownTimes() throws Exception {
+        // Initialize the database, with a game recorded before times of play were
+        ArmlGame unknown = armlGameRepository.saveAndFlush(new ArmlGame().gameID(DEFAULT_GAME_ID));
+        em.createNativeQuery("update games set played_at = null where id = :id").setParameter("id", unknown.getId()).executeUpdate();
+        ArmlGame known = armlGameRepository.saveAndFlush(new ArmlGame().gameID(UPDATED_GAME_ID).playedAt(DEFAULT_PLAYED_AT));
+        em.clear();
+        String games = "&size=1&id.in=" + unknown.getId() + "," + known.getId();
+
+        // Unknown times come first in ascending order, and last in descending order
+        for (String sort : List.of("playedAt,asc", "playedAt,desc")) {
+            List<ArmlGame> expected = sort.endsWith("asc") ? List.of(unknown, known) : List.of(known, unknown);
+            String link = restArmlGameMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=" + sort + games))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(contains(expected.get(0).getId().intValue())))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.LINK);
+
+            String next = link.substring(link.indexOf('<') + 1, link.indexOf(">; rel=\"next\""));
+            restArmlGameMockMvc
+                .perform(get(next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(contains(expected.get(1).getId().intValue())))
+                .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))));
+        }
     }
 
     @Test
@@ -161,7 +249,8 @@ class ArmlGameResourceIT {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(armlGame.getId().intValue()))
-            .andExpect(jsonPath("$.gameID").value(DEFAULT_GAME_ID.intValue()));
+            .andExpect(jsonPath("$.gameID").value(DEFAULT_GAME_ID.intValue()))
+            .andExpect(jsonPath("$.playedAt").value(DEFAULT_PLAYED_AT.toString()));
     }
 
     @Test
@@ -171,6 +260,28 @@ class ArmlGameResourceIT {
         restArmlGameMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getArmlGameByGameID() throws Exception {
+        // Initialize the database
+        armlGameRepository.saveAndFlush(armlGame);
+
+        // Get the armlGame
+        restArmlGameMockMvc
+            .perform(get(ENTITY_API_URL + "/by-game-id/{gameID}", DEFAULT_GAME_ID))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(armlGame.getId().intValue()))
+            .andExpect(jsonPath("$.gameID").value(DEFAULT_GAME_ID.intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingArmlGameByGameID() throws Exception {
+        // Get the armlGame
+        restArmlGameMockMvc.perform(get(ENTITY_API_URL + "/by-game-id/{gameID}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingArmlGame() throws Exception {
@@ -183,7 +294,7 @@ class ArmlGameResourceIT {
         ArmlGame updatedArmlGame = armlGameRepository.findById(armlGame.getId()).orElseThrow();
         // Disconnect from session so that the updates on updatedArmlGame are not directly saved in db
         em.detach(updatedArmlGame);
-        updatedArmlGame.gameID(UPDATED_GAME_ID);
+        updatedArmlGame.gameID(UPDATED_GAME_ID).playedAt(UPDATED_PLAYED_AT);
 
         restArmlGameMockMvc
             .perform(
@@ -289,7 +400,7 @@ class ArmlGameResourceIT {
         ArmlGame partialUpdatedArmlGame = new ArmlGame();
         partialUpdatedArmlGame.setId(armlGame.getId());
 
-        partialUpdatedArmlGame.gameID(UPDATED_GAME_ID);
+        partialUpdatedArmlGame.gameID(UPDATED_GAME_ID).playedAt(UPDATED_PLAYED_AT);
 
         restArmlGameMockMvc
             .perform(
@@ -9,10 +9,13 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlGame;
 import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlPlayer;
 import net.jakebrennan.repository.ArmlGameScoreRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -164,6 +167,85 @@ class ArmlGameScoreResourceIT {
             .andExpect(jsonPath("$.score").value(DEFAULT_SCORE.intValue()));
     }
 
+    @Test
+    @Transactional
+    void getAllArmlGameScoresByScoreIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        armlGameScoreRepository.saveAndFlush(armlGameScore);
+
+        defaultArmlGameScoreFiltering("score.greaterThan=" + (DEFAULT_SCORE - 1), "score.greaterThan=" + DEFAULT_SCORE);
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlGameScoresByArmlPlayerIsEqualToSomething() throws Exception {
+        ArmlPlayer armlPlayer = ArmlPlayerResourceIT.createEntity(em);
+        em.persist(armlPlayer);
+        armlGameScore.setArmlPlayer(armlPlayer);
+        armlGameScoreRepository.saveAndFlush(armlGameScore);
+        Long armlPlayerId = armlPlayer.getId();
+
+        defaultArmlGameScoreFiltering("armlPlayerId.equals=" + armlPlayerId, "armlPlayerId.equals=" + (armlPlayerId + 1));
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlGameScoresByArmlGamePlayedAtIsGreaterThanOrEqualToSomething() throws Exception {
+        ArmlGame armlGame = ArmlGameResourceIT.createEntity(em);
+        em.persist(armlGame);
+        armlGameScore.setArmlGame(armlGame);
+        armlGameScoreRepository.saveAndFlush(armlGameScore);
+        Instant playedAt = armlGame.getPlayedAt();
+
+        defaultArmlGameScoreFiltering("armlGamePlayedAt.greaterThanOrEqual=" + playedAt, "armlGamePlayedAt.greaterThan=" + playedAt);
+    }
+
+    private void defaultArmlGameScoreFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultArmlGameScoreShouldBeFound(shouldBeFound);
+        defaultArmlGameScoreShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     * The search is narrowed to the default entity, as other tests may have left armlGameScores behind.
+     */
+    private void defaultArmlGameScoreShouldBeFound(String filter) throws Exception {
+        String query = "?sort=id,desc&id.equals=" + armlGameScore.getId() + "&" + filter;
+        restArmlGameScoreMockMvc
+            .perform(get(ENTITY_API_URL + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(armlGameScore.getId().intValue())))
+            .andExpect(jsonPath("$.[*].score").value(hasItem(DEFAULT_SCORE.intValue())));
+
+        // Check, that the count call also returns 1
+        restArmlGameScoreMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultArmlGameScoreShouldNotBeFound(String filter) throws Exception {
+        String query = "?sort=id,desc&id.equals=" + armlGameScore.getId() + "&" + filter;
+        restArmlGameScoreMockMvc
+            .perform(get(ENTITY_API_URL + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restArmlGameScoreMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingArmlGameScore() throws Exception {
@@ -3,6 +3,7 @@ package net.jakebrennan.web.rest;
 import static net.jakebrennan.domain.ArmlPlayerAsserts.*;
 import static net.jakebrennan.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -11,10 +12,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlGameScore;
 import net.jakebrennan.domain.ArmlPlayer;
+import net.jakebrennan.domain.ArmlProfile;
 import net.jakebrennan.domain.enumeration.ArmlLeague;
 import net.jakebrennan.repository.ArmlPlayerRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -271,6 +276,156 @@ class ArmlPlayerResourceIT {
             .andExpect(jsonPath("$.league").value(DEFAULT_LEAGUE.toString()));
     }
 
+    @Test
+    @Transactional
+    void getArmlPlayersByIdFiltering() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        Long id = armlPlayer.getId();
+
+        defaultArmlPlayerFiltering("id.equals=" + id, "id.notEquals=" + id);
+
+        defaultArmlPlayerFiltering("id.greaterThanOrEqual=" + id, "id.greaterThan=" + id);
+
+        defaultArmlPlayerFiltering("id.lessThanOrEqual=" + id, "id.lessThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlPlayersByPlayerIDIsGreaterThanSomething() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        defaultArmlPlayerFiltering("playerID.greaterThan=" + (DEFAULT_PLAYER_ID - 1), "playerID.greaterThan=" + DEFAULT_PLAYER_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlPlayersByTenhouNameContainsSomething() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        defaultArmlPlayerFiltering("tenhouName.contains=" + DEFAULT_TENHOU_NAME, "tenhouName.contains=" + UPDATED_TENHOU_NAME);
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlPlayersByLeagueIsInShouldWork() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        defaultArmlPlayerFiltering("league.in=" + DEFAULT_LEAGUE + "," + UPDATED_LEAGUE, "league.in=" + UPDATED_LEAGUE);
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlPlayersByArmlProfileIsSpecified() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        defaultArmlPlayerFiltering("armlProfileId.specified=false", "armlProfileId.specified=true");
+        defaultArmlPlayerShouldBeFound("filter=armlprofile-is-null");
+
+        ArmlProfile armlProfile = ArmlProfileResourceIT.createEntity(em);
+        armlProfile.setPlayerID(armlPlayer);
+        em.persist(armlProfile);
+        em.flush();
+        em.clear();
+
+        defaultArmlPlayerFiltering("armlProfileId.specified=true", "armlProfileId.specified=false");
+        defaultArmlPlayerShouldNotBeFound("filter=armlprofile-is-null");
+    }
+
+    @Test
+    @Transactional
+    void getAllArmlPlayersByArmlGameScoresIdPagesThroughEachPlayerOnce() throws Exception {
+        // Initialize the database with two players of two scores each
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+        ArmlPlayer otherArmlPlayer = createEntity(em).playerID(UPDATED_PLAYER_ID);
+        armlPlayerRepository.saveAndFlush(otherArmlPlayer);
+        List<Long> scoreIds = new ArrayList<>();
+        for (ArmlPlayer player : List.of(armlPlayer, otherArmlPlayer, armlPlayer, otherArmlPlayer)) {
+            ArmlGameScore armlGameScore = ArmlGameScoreResourceIT.createEntity(em);
+            armlGameScore.setArmlPlayer(player);
+            em.persist(armlGameScore);
+            scoreIds.add(armlGameScore.getId());
+        }
+        em.flush();
+        String query =
+            "?sort=id,desc&size=1&id.in=" +
+            armlPlayer.getId() +
+            "," +
+            otherArmlPlayer.getId() +
+            "&armlGameScoresId.in=" +
+            scoreIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+        // The first page holds a single player, and links to the second one
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + query))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(otherArmlPlayer.getId().intValue()))
+            .andExpect(header().string("Link", containsString("rel=\"next\"")));
+    }
+
+    private void defaultArmlPlayerFiltering(String shouldBeFound, String shouldNotBeFound) throws Exception {
+        defaultArmlPlayerShouldBeFound(shouldBeFound);
+        defaultArmlPlayerShouldNotBeFound(shouldNotBeFound);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     * The search is narrowed to the default entity, as other tests may have left armlPlayers behind.
+     */
+    private void defaultArmlPlayerShouldBeFound(String filter) throws Exception {
+        String query = narrowedToDefaultEntity(filter);
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(armlPlayer.getId().intValue())))
+            .andExpect(jsonPath("$.[*].playerID").value(hasItem(DEFAULT_PLAYER_ID.intValue())))
+            .andExpect(jsonPath("$.[*].tenhouName").value(hasItem(DEFAULT_TENHOU_NAME)))
+            .andExpect(jsonPath("$.[*].league").value(hasItem(DEFAULT_LEAGUE.toString())));
+
+        // Check, that the count call also returns 1
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Narrows a search to the default entity by its id, or by its unique playerID when the search is on the id: an
+     * {@code equals} filter on a property takes precedence over the other filters on it.
+     */
+    private String narrowedToDefaultEntity(String filter) {
+        String narrowing = filter.startsWith("id.") ? "playerID.equals=" + armlPlayer.getPlayerID() : "id.equals=" + armlPlayer.getId();
+        return "?sort=id,desc&" + narrowing + "&" + filter;
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultArmlPlayerShouldNotBeFound(String filter) throws Exception {
+        String query = narrowedToDefaultEntity(filter);
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/count" + query))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getNonExistingArmlPlayer() throws Exception {
@@ -278,6 +433,75 @@ class ArmlPlayerResourceIT {
         restArmlPlayerMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getArmlPlayerByPlayerID() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        // Get the armlPlayer
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/by-player-id/{playerID}", DEFAULT_PLAYER_ID))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(armlPlayer.getId().intValue()))
+            .andExpect(jsonPath("$.playerID").value(DEFAULT_PLAYER_ID.intValue()))
+            .andExpect(jsonPath("$.tenhouName").value(DEFAULT_TENHOU_NAME));
+        restArmlPlayerMockMvc.perform(get(ENTITY_API_URL + "/by-player-id/{playerID}", UPDATED_PLAYER_ID)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    void getArmlPlayerByTenhouName() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+
+        // Get the armlPlayer
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/by-tenhou/{name}", DEFAULT_TENHOU_NAME))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.id").value(armlPlayer.getId().intValue()))
+            .andExpect(jsonPath("$.tenhouName").value(DEFAULT_TENHOU_NAME));
+
+        // A renamed armlPlayer is no longer found by its previous name
+        armlPlayer.setTenhouName(UPDATED_TENHOU_NAME);
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+        restArmlPlayerMockMvc.perform(get(ENTITY_API_URL + "/by-tenhou/{name}", DEFAULT_TENHOU_NAME)).andExpect(status().isNotFound());
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/by-tenhou/{name}", UPDATED_TENHOU_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(armlPlayer.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    void getArmlPlayerByTenhouNameAfterAPlayerWithALowerIdTakesTheName() throws Exception {
+        // Initialize the database
+        armlPlayerRepository.saveAndFlush(armlPlayer);
+        ArmlPlayer other = armlPlayerRepository.saveAndFlush(createUpdatedEntity(em));
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/by-tenhou/{name}", UPDATED_TENHOU_NAME))
+            .andExpect(jsonPath("$.id").value(other.getId().intValue()));
+
+        // The armlPlayer with the lower id is renamed to the cached name
+        ArmlPlayer renamedArmlPlayer = armlPlayerRepository.findById(armlPlayer.getId()).orElseThrow();
+        em.detach(renamedArmlPlayer);
+        renamedArmlPlayer.setTenhouName(UPDATED_TENHOU_NAME);
+        restArmlPlayerMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, renamedArmlPlayer.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(renamedArmlPlayer))
+            )
+            .andExpect(status().isOk());
+
+        restArmlPlayerMockMvc
+            .perform(get(ENTITY_API_URL + "/by-tenhou/{name}", UPDATED_TENHOU_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(armlPlayer.getId().intValue()));
+    }
+
     @Test
     @Transactional
     void putExistingArmlPlayer() throws Exception {
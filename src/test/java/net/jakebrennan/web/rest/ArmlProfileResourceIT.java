@@ -12,6 +12,9 @@ import jakarta.persistence.EntityManager;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
 import net.jakebrennan.IntegrationTest;
+import net.jakebrennan.domain.ArmlGame;
+import net.jakebrennan.domain.ArmlGameScore;
+import net.jakebrennan.domain.ArmlPlayer;
 import net.jakebrennan.domain.ArmlProfile;
 import net.jakebrennan.repository.ArmlProfileRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -217,6 +220,90 @@ class ArmlProfileResourceIT {
         assertPersistedArmlProfileToMatchAllProperties(updatedArmlProfile);
     }
 
+    @Test
+    @Transactional
+    void putArmlProfileShouldKeepItsCounters() throws Exception {
+        // Initialize the database
+        armlProfileRepository.saveAndFlush(armlProfile.gamesPlayed(3).firstPlaces(1).winRate(100.0 / 3));
+
+        // Update the armlProfile, trying to overwrite its counters
+        ArmlProfile updatedArmlProfile = armlProfileRepository.findById(armlProfile.getId()).orElseThrow();
+        em.detach(updatedArmlProfile);
+        updatedArmlProfile.gamesPlayed(10).firstPlaces(10).winRate(100.0);
+
+        restArmlProfileMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedArmlProfile.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedArmlProfile))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.gamesPlayed").value(3))
+            .andExpect(jsonPath("$.firstPlaces").value(1))
+            .andExpect(jsonPath("$.winRate").value(100.0 / 3));
+    }
+
+    @Test
+    @Transactional
+    void patchArmlProfileShouldKeepItsWinRate() throws Exception {
+        // Initialize the database
+        armlProfileRepository.saveAndFlush(armlProfile.gamesPlayed(3).firstPlaces(1).winRate(100.0 / 3));
+
+        // Update the armlProfile using partial update, trying to overwrite its win rate
+        ArmlProfile partialUpdatedArmlProfile = new ArmlProfile();
+        partialUpdatedArmlProfile.setId(armlProfile.getId());
+        partialUpdatedArmlProfile.winRate(100.0).feedRate(UPDATED_FEED_RATE);
+
+        restArmlProfileMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedArmlProfile.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedArmlProfile))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.winRate").value(100.0 / 3))
+            .andExpect(jsonPath("$.feedRate").value(UPDATED_FEED_RATE));
+    }
+
+    @Test
+    @Transactional
+    void putArmlProfileWithAnotherPlayerShouldRecomputeItsCounters() throws Exception {
+        // Initialize the database, with a player who won one of two games against another player, and won a game whose
+        // highest score has no player
+        armlProfileRepository.saveAndFlush(armlProfile.gamesPlayed(3).firstPlaces(1));
+        ArmlPlayer armlPlayer = ArmlPlayerResourceIT.createEntity(em);
+        em.persist(armlPlayer);
+        ArmlPlayer otherArmlPlayer = ArmlPlayerResourceIT.createUpdatedEntity(em);
+        em.persist(otherArmlPlayer);
+        for (long score : new long[] { 40_000L, 10_000L }) {
+            ArmlGame armlGame = new ArmlGame().gameID(longCount.incrementAndGet());
+            em.persist(armlGame);
+            em.persist(new ArmlGameScore().score(score).armlGame(armlGame).armlPlayer(armlPlayer));
+            em.persist(new ArmlGameScore().score(25_000L).armlGame(armlGame).armlPlayer(otherArmlPlayer));
+        }
+        ArmlGame unclaimedGame = new ArmlGame().gameID(longCount.incrementAndGet());
+        em.persist(unclaimedGame);
+        em.persist(new ArmlGameScore().score(30_000L).armlGame(unclaimedGame).armlPlayer(armlPlayer));
+        em.persist(new ArmlGameScore().score(50_000L).armlGame(unclaimedGame));
+        em.flush();
+
+        // Link the armlProfile to the player
+        ArmlProfile updatedArmlProfile = armlProfileRepository.findById(armlProfile.getId()).orElseThrow();
+        em.detach(updatedArmlProfile);
+        updatedArmlProfile.playerID(armlPlayer);
+
+        restArmlProfileMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedArmlProfile.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedArmlProfile))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.gamesPlayed").value(3))
+            .andExpect(jsonPath("$.firstPlaces").value(2))
+            .andExpect(jsonPath("$.winRate").value(200.0 / 3));
+    }
+
     @Test
     @Transactional
     void putNonExistingArmlProfile() throws Exception {